@@ -0,0 +1,121 @@
+package com.faforever.client.api;
+
+import com.faforever.client.config.JsonApiConfig;
+import com.faforever.commons.api.dto.Player;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.ResourceConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ReactiveHttpInputMessage;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a JSON:API document with {@link JsonApiReader} and with the previous approach of chaining the
+ * received buffers with {@link SequenceInputStream}s. Point {@code payload} to a recorded API response (e.g. the
+ * league season scores of a season at max page size) to measure against real data, otherwise a document of
+ * {@code entities} players is generated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonApiReaderBenchmark {
+
+  /**
+   * Size of the buffers the document is received in, as Reactor Netty emits them.
+   */
+  private static final int CHUNK_SIZE = 8192;
+
+  @Param("")
+  public String payload;
+
+  @Param({"1000", "10000"})
+  public int entities;
+
+  private ResourceConverter resourceConverter;
+  private JsonApiReader jsonApiReader;
+  private List<byte[]> chunks;
+
+  @Setup
+  public void setUp() throws IOException {
+    resourceConverter = new JsonApiConfig().resourceConverter(new ObjectMapper());
+    jsonApiReader = new JsonApiReader(resourceConverter);
+
+    byte[] document = payload.isEmpty() ? generateDocument() : Files.readAllBytes(Path.of(payload));
+    chunks = new ArrayList<>();
+    for (int offset = 0; offset < document.length; offset += CHUNK_SIZE) {
+      chunks.add(Arrays.copyOfRange(document, offset, Math.min(document.length, offset + CHUNK_SIZE)));
+    }
+  }
+
+  @Benchmark
+  public void jsonApiReader(Blackhole blackhole) {
+    jsonApiReader.read(ResolvableType.forClass(Player.class), message(), Map.of())
+        .doOnNext(blackhole::consume)
+        .blockLast();
+  }
+
+  @Benchmark
+  public void sequenceInputStreamChain(Blackhole blackhole) {
+    message().getBody()
+        .map(dataBuffer -> dataBuffer.asInputStream(true))
+        .reduce(SequenceInputStream::new)
+        .map(inputStream -> resourceConverter.readDocumentCollection(inputStream, Object.class).get())
+        .flatMapIterable(entities -> entities)
+        .doOnNext(blackhole::consume)
+        .blockLast();
+  }
+
+  private ReactiveHttpInputMessage message() {
+    return new ReactiveHttpInputMessage() {
+      @Override
+      public Flux<DataBuffer> getBody() {
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+      }
+
+      @Override
+      public HttpHeaders getHeaders() {
+        return HttpHeaders.EMPTY;
+      }
+    };
+  }
+
+  private byte[] generateDocument() {
+    StringBuilder document = new StringBuilder("{\"data\":[");
+    for (int id = 1; id <= entities; id++) {
+      if (id > 1) {
+        document.append(',');
+      }
+      document.append("{\"type\":\"player\",\"id\":\"").append(id)
+          .append("\",\"attributes\":{\"login\":\"Player").append(id).append("\"}}");
+    }
+    return document.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,143 @@
+package com.faforever.client.patch;
+
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.io.FeaturedModFileCacheService;
+import com.faforever.client.io.FileHashManifest;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.preferences.Preferences;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.commons.api.dto.FeaturedModFile;
+import com.google.common.hash.Hashing;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the end-to-end time to bring a featured mod up to date from an empty data directory, downloading all files
+ * from a local HTTP server that adds a fixed latency to every request to stand in for the CDN.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FeaturedModFileSynchronizerBenchmark {
+
+  private static final int FILE_COUNT = 40;
+  private static final int FILE_SIZE = 1024 * 1024;
+  private static final long REQUEST_LATENCY_MILLIS = 30;
+
+  @Param({"1", "4", "8"})
+  public int downloadConcurrency;
+
+  private HttpServer server;
+  private Path directory;
+  private DataPrefs dataPrefs;
+  private FeaturedModFileSynchronizer synchronizer;
+  private List<FeaturedModFile> featuredModFiles;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("featured-mod-benchmark");
+    byte[][] contents = new byte[FILE_COUNT][];
+    Random random = new Random(0);
+    for (int i = 0; i < FILE_COUNT; i++) {
+      contents[i] = new byte[FILE_SIZE];
+      random.nextBytes(contents[i]);
+    }
+
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/", exchange -> {
+      String name = exchange.getRequestURI().getPath().substring(1);
+      byte[] content = contents[Integer.parseInt(name.substring("file".length(), name.indexOf('.')))];
+      try {
+        Thread.sleep(REQUEST_LATENCY_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.sendResponseHeaders(200, content.length);
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(content);
+      }
+    });
+    server.start();
+
+    featuredModFiles = new ArrayList<>();
+    for (int i = 0; i < FILE_COUNT; i++) {
+      FeaturedModFile featuredModFile = new FeaturedModFile();
+      featuredModFile.setName("file" + i + ".nx2");
+      featuredModFile.setGroup("gamedata");
+      featuredModFile.setVersion("1");
+      featuredModFile.setMd5(Hashing.md5().hashBytes(contents[i]).toString());
+      featuredModFile.setCacheableUrl(
+          "http://127.0.0.1:" + server.getAddress().getPort() + "/" + featuredModFile.getName());
+      featuredModFile.setHmacParameter("verify");
+      featuredModFile.setHmacToken("token");
+      featuredModFiles.add(featuredModFile);
+    }
+
+    dataPrefs = new DataPrefs();
+    dataPrefs.setBaseDataDirectory(directory.resolve("data"));
+    synchronizer = new FeaturedModFileSynchronizer(new DownloadService(WebClient.create(), new ClientProperties(), new IoArbiter()),
+                                                   new FeaturedModFileCacheService(dataPrefs, new Preferences(),
+                                                                                   new FileHashManifest(dataPrefs), new IoArbiter()),
+                                                   FeaturedModFileSynchronizer.DEFAULT_HASH_CONCURRENCY,
+                                                   downloadConcurrency);
+  }
+
+  @Setup(Level.Invocation)
+  public void clearDataDirectory() throws IOException {
+    deleteRecursively(dataPrefs.getBaseDataDirectory());
+    Files.createDirectories(dataPrefs.getBaseDataDirectory());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    server.stop(0);
+    deleteRecursively(directory);
+  }
+
+  @Benchmark
+  public void synchronizeFromScratch() {
+    synchronizer.synchronize(featuredModFiles, dataPrefs.getBaseDataDirectory(), _ -> {}, _ -> {});
+  }
+
+  private static void deleteRecursively(Path path) throws IOException {
+    if (Files.notExists(path)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(path)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+}
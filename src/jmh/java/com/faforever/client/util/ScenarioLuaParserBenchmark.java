@@ -0,0 +1,63 @@
+package com.faforever.client.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares reading all scenario files of a map corpus with {@link ScenarioLuaParser} and with {@link LuaUtil}. Point
+ * {@code corpus} to a maps directory (e.g. the game's or the client's) to measure against real-world maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScenarioLuaParserBenchmark {
+
+  @Param("src/test/resources/maps")
+  public String corpus;
+
+  private List<Path> scenarioFiles;
+
+  @Setup
+  public void setUp() throws IOException {
+    try (Stream<Path> files = Files.walk(Path.of(corpus))) {
+      scenarioFiles = files.filter(file -> file.getFileName().toString().endsWith("_scenario.lua")).toList();
+    }
+    if (scenarioFiles.isEmpty()) {
+      throw new IllegalStateException("No scenario files found in " + Path.of(corpus).toAbsolutePath());
+    }
+  }
+
+  @Benchmark
+  public void scenarioLuaParser(Blackhole blackhole) throws IOException {
+    for (Path scenarioFile : scenarioFiles) {
+      blackhole.consume(ScenarioLuaParser.parse(scenarioFile));
+    }
+  }
+
+  @Benchmark
+  public void luaj(Blackhole blackhole) throws IOException {
+    for (Path scenarioFile : scenarioFiles) {
+      blackhole.consume(LuaUtil.loadFile(scenarioFile).get("ScenarioInfo"));
+    }
+  }
+}
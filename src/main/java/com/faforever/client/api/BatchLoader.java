@@ -0,0 +1,195 @@
+package com.faforever.client.api;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Loads entities by key in batches, e.g. players by id. Keys requested within a short window are collected and
+ * fetched with a single request, typically an Elide query filtered with {@code in(...)}. A key which is already being
+ * loaded is not requested again; all its callers receive the same result. Results are not cached beyond that.
+ * <p>
+ * Keys without a matching entity complete empty.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the loaded entities
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(10);
+  /**
+   * Keeps the filter of a batch short enough for the request URL.
+   */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+  private final String name;
+  private final Duration window;
+  private final int maxBatchSize;
+  private final Function<Set<K>, Flux<V>> batchFunction;
+  private final Function<V, K> keyFunction;
+
+  private final Map<K, Sinks.One<V>> inFlight = new ConcurrentHashMap<>();
+  private Set<K> pendingKeys = new LinkedHashSet<>();
+  private boolean flushScheduled;
+
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder deduplicatedLoads = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAccumulator maxObservedBatchSize = new LongAccumulator(Long::max, 0);
+  private volatile long lastLogNanos = System.nanoTime();
+
+  public BatchLoader(String name, Function<Set<K>, Flux<V>> batchFunction, Function<V, K> keyFunction) {
+    this(name, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE, batchFunction, keyFunction);
+  }
+
+  /**
+   * @param name name of the loaded entities, used for logging
+   * @param window how long to wait for more keys after the first key of a batch was requested
+   * @param maxBatchSize number of keys after which a batch is requested without waiting for the window to end
+   * @param batchFunction fetches the entities of the given keys
+   * @param keyFunction returns the key of a fetched entity
+   */
+  public BatchLoader(String name, Duration window, int maxBatchSize, Function<Set<K>, Flux<V>> batchFunction,
+                     Function<V, K> keyFunction) {
+    this.name = name;
+    this.window = window;
+    this.maxBatchSize = maxBatchSize;
+    this.batchFunction = batchFunction;
+    this.keyFunction = keyFunction;
+  }
+
+  public Mono<V> load(K key) {
+    return Mono.defer(() -> {
+      loads.increment();
+      Sinks.One<V> sink = Sinks.one();
+      Sinks.One<V> existingSink = inFlight.putIfAbsent(key, sink);
+      if (existingSink != null) {
+        deduplicatedLoads.increment();
+        return existingSink.asMono();
+      }
+
+      enqueue(key);
+      return sink.asMono();
+    });
+  }
+
+  /**
+   * Loads the entities of all given keys, in the order of the keys.
+   */
+  public Flux<V> loadMany(Collection<K> keys) {
+    if (keys.isEmpty()) {
+      return Flux.empty();
+    }
+    // All keys have to be requested at once to end up in the same batch
+    return Flux.fromIterable(keys).flatMapSequential(this::load, keys.size());
+  }
+
+  public long getLoadCount() {
+    return loads.sum();
+  }
+
+  public long getBatchCount() {
+    return batches.sum();
+  }
+
+  /**
+   * Returns how many requests were saved by batching and deduplication compared to one request per load.
+   */
+  public long getRequestsSaved() {
+    return loads.sum() - batches.sum();
+  }
+
+  public void log() {
+    long batchCount = batches.sum();
+    if (batchCount == 0) {
+      return;
+    }
+    log.debug("{} loader: {} loads ({} deduplicated) in {} batches, average batch size {}, max batch size {}", name,
+              loads.sum(), deduplicatedLoads.sum(), batchCount,
+              (loads.sum() - deduplicatedLoads.sum()) / batchCount, maxObservedBatchSize.get());
+  }
+
+  private void enqueue(K key) {
+    boolean flushNow = false;
+    boolean scheduleFlush = false;
+    synchronized (this) {
+      pendingKeys.add(key);
+      if (pendingKeys.size() >= maxBatchSize) {
+        flushNow = true;
+      } else if (!flushScheduled) {
+        flushScheduled = true;
+        scheduleFlush = true;
+      }
+    }
+
+    if (flushNow) {
+      flush();
+    } else if (scheduleFlush) {
+      Schedulers.parallel().schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void flush() {
+    Set<K> keys;
+    synchronized (this) {
+      keys = pendingKeys;
+      pendingKeys = new LinkedHashSet<>();
+      flushScheduled = false;
+    }
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    batches.increment();
+    maxObservedBatchSize.accumulate(keys.size());
+    logPeriodically();
+
+    Map<K, Sinks.One<V>> sinks = new HashMap<>();
+    keys.forEach(key -> {
+      Sinks.One<V> sink = inFlight.get(key);
+      if (sink != null) {
+        sinks.put(key, sink);
+      }
+    });
+
+    batchFunction.apply(keys).subscribe(value -> {
+      K key = keyFunction.apply(value);
+      Sinks.One<V> sink = sinks.get(key);
+      if (sink != null && inFlight.remove(key, sink)) {
+        sink.tryEmitValue(value);
+      }
+    }, throwable -> sinks.forEach((key, sink) -> {
+      if (inFlight.remove(key, sink)) {
+        sink.tryEmitError(throwable);
+      }
+    }), () -> sinks.forEach((key, sink) -> {
+      if (inFlight.remove(key, sink)) {
+        sink.tryEmitEmpty();
+      }
+    }));
+  }
+
+  private void logPeriodically() {
+    long now = System.nanoTime();
+    if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+      lastLogNanos = now;
+      log();
+    }
+  }
+}
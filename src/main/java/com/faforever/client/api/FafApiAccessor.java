@@ -69,6 +69,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 
@@ -262,17 +263,41 @@ public class FafApiAccessor implements InitializingBean {
   public <T extends ElideEntity> Flux<T> getMany(ElideNavigatorOnCollection<T> navigator, String customFilter) {
     enrichBuilder(navigator);
     enrichCollectionFilter(navigator);
-    String endpointPath;
-    if (!customFilter.isBlank()) {
-      endpointPath = enrichWithCustomFilter(navigator.build(), customFilter);
-    } else {
-      endpointPath = navigator.build();
-    }
+    String endpointPath = buildEndpointPath(navigator, customFilter);
 
     return retrieveFluxWithErrorHandling(navigator.getDtoClass(), apiWebClient.get().uri(endpointPath)).cache()
         .doOnNext(object -> log.trace("Retrieved {} from {}", object, endpointPath));
   }
 
+  /**
+   * Retrieves every entity matching the navigator instead of only the first page like {@link #getMany}. The first
+   * page tells how many pages there are, the remaining pages are then fetched concurrently. Entities are emitted in
+   * page order and pages that have not been requested yet are not fetched anymore once the subscriber cancels.
+   */
+  public <T extends ElideEntity> Flux<T> getAll(ElideNavigatorOnCollection<T> navigator) {
+    return getAll(navigator, "");
+  }
+
+  public <T extends ElideEntity> Flux<T> getAll(ElideNavigatorOnCollection<T> navigator, String customFilter) {
+    enrichBuilder(navigator);
+    enrichCollectionFilter(navigator);
+    navigator.pageNumber(1).pageTotals(true);
+    String firstPagePath = buildEndpointPath(navigator, customFilter);
+
+    return this.<T>getPage(firstPagePath).flatMapMany(firstPage -> {
+      int totalPages = getTotalPages(firstPage);
+      // Only the first page needs to count the records
+      navigator.pageTotals(false);
+      List<String> remainingPagePaths = IntStream.rangeClosed(2, totalPages)
+          .mapToObj(page -> buildEndpointPath(navigator.pageNumber(page), customFilter))
+          .toList();
+
+      Flux<JSONAPIDocument<List<T>>> remainingPages = Flux.fromIterable(remainingPagePaths)
+          .flatMapSequential(this::getPage, clientProperties.getApi().getPageConcurrency(), 1);
+      return Flux.concat(Mono.just(firstPage), remainingPages);
+    }).flatMapIterable(document -> Optional.ofNullable(document.get()).orElse(List.of()));
+  }
+
   public <T extends ElideEntity> Mono<Tuple2<List<T>, Integer>> getManyWithPageCount(
       ElideNavigatorOnCollection<T> navigator) {
     return getManyWithPageCount(navigator, "");
@@ -302,6 +327,29 @@ public class FafApiAccessor implements InitializingBean {
         .doOnNext(tuple -> log.trace("Retrieved {} from {}", tuple.getT1(), endpointPath));
   }
 
+  private <T> Mono<JSONAPIDocument<List<T>>> getPage(String endpointPath) {
+    return retrieveMonoWithErrorHandling(JSONAPIDocument.class, apiWebClient.get().uri(endpointPath))
+        .map(jsonapiDocument -> (JSONAPIDocument<List<T>>) jsonapiDocument)
+        .doOnNext(document -> log.trace("Retrieved {} from {}", document.get(), endpointPath));
+  }
+
+  private static int getTotalPages(JSONAPIDocument<?> document) {
+    java.util.Map<String, ?> meta = document.getMeta();
+    if (meta != null && meta.get("page") instanceof java.util.Map<?, ?> page
+        && page.get("totalPages") instanceof Number totalPages) {
+      return totalPages.intValue();
+    }
+    return 1;
+  }
+
+  private String buildEndpointPath(ElideNavigatorOnCollection<?> navigator, String customFilter) {
+    String endpointPath = navigator.build();
+    if (!customFilter.isBlank()) {
+      return enrichWithCustomFilter(endpointPath, customFilter);
+    }
+    return endpointPath;
+  }
+
   private <T> Mono<T> retrieveMonoWithErrorHandling(Class<T> type, WebClient.RequestHeadersSpec<?> requestSpec) {
     return retrieveWithErrorHandling(requestSpec).bodyToMono(type)
         .retryWhen(apiRetrySpec)
@@ -0,0 +1,393 @@
+package com.faforever.client.api;
+
+import com.faforever.client.cache.PersistentIndex;
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.preferences.DataPrefs;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persistent HTTP cache for API responses, stored in the cache directory so it survives restarts. Successful GET
+ * responses are stored together with their {@code ETag} and {@code Last-Modified} headers. A response is served from
+ * disk without a request for as long as its {@code Cache-Control: max-age} allows, afterwards it is revalidated with a
+ * conditional request and served from disk again if the API answers {@code 304 Not Modified}. Responses marked
+ * {@code no-store} and responses of the current user are never stored.
+ * <p>
+ * The size of all stored bodies is bounded by {@link ClientProperties.Api#getResponseCacheSize()}, the least recently
+ * used responses are evicted first.
+ */
+@Slf4j
+@Lazy
+@Component
+public class HttpResponseCache implements ExchangeFilterFunction, DisposableBean {
+
+  private static final String CACHE_SUB_FOLDER = "api-responses";
+  private static final String INDEX_FILE_NAME = "api-responses-index.json";
+  private static final String BODY_FILE_SUFFIX = ".body";
+  private static final int FORMAT_VERSION = 1;
+  private static final String CURRENT_USER_PATH = "/me";
+  /**
+   * Body files which are younger may be about to be added to the index and must not be deleted as orphans.
+   */
+  private static final Duration ORPHAN_MIN_AGE = Duration.ofMinutes(1);
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+  private final DataPrefs dataPrefs;
+  private final ClientProperties clientProperties;
+  private final ExchangeStrategies exchangeStrategies;
+  private final PersistentIndex<HttpResponseCacheEntry> index;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder revalidations = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile long lastLogNanos = System.nanoTime();
+
+  public HttpResponseCache(DataPrefs dataPrefs, ClientProperties clientProperties, JsonApiReader jsonApiReader,
+                           JsonApiWriter jsonApiWriter) {
+    this.dataPrefs = dataPrefs;
+    this.clientProperties = clientProperties;
+    this.exchangeStrategies = ExchangeStrategies.builder().codecs(clientCodecConfigurer -> {
+      clientCodecConfigurer.customCodecs().register(jsonApiReader);
+      clientCodecConfigurer.customCodecs().register(jsonApiWriter);
+    }).build();
+    this.index = new PersistentIndex<>(this::getIndexFile, HttpResponseCacheEntry.class, FORMAT_VERSION);
+  }
+
+  @Override
+  public @NotNull Mono<ClientResponse> filter(@NotNull ClientRequest request, @NotNull ExchangeFunction next) {
+    if (!isCacheable(request)) {
+      return next.exchange(request);
+    }
+
+    String key = request.url().toString();
+    HttpResponseCacheEntry entry = index.get(key).orElse(null);
+    if (entry == null) {
+      misses.increment();
+      return exchangeAndStore(key, request, next);
+    }
+
+    long now = System.currentTimeMillis();
+    if (entry.isFresh(now)) {
+      return readCachedBody(key, entry).map(body -> {
+        hits.increment();
+        index.put(key, entry.withAccess(now));
+        logPeriodically();
+        return ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                             .headers(headers -> copyHeaders(entry, headers))
+                             .body(Flux.just(body))
+                             .build();
+      }).switchIfEmpty(Mono.defer(() -> {
+        misses.increment();
+        return exchangeAndStore(key, request, next);
+      }));
+    }
+
+    ClientRequest conditionalRequest = ClientRequest.from(request).headers(headers -> {
+      if (entry.etag() != null) {
+        headers.setIfNoneMatch(entry.etag());
+      }
+      if (entry.lastModified() != null) {
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+      }
+    }).build();
+
+    return next.exchange(conditionalRequest).flatMap(response -> {
+      if (response.statusCode().value() != HttpStatus.NOT_MODIFIED.value()) {
+        misses.increment();
+        return store(key, response);
+      }
+
+      return response.releaseBody().then(readCachedBody(key, entry)).map(body -> {
+        revalidations.increment();
+        long revalidatedAt = System.currentTimeMillis();
+        index.put(key, entry.withExpiry(getExpiry(response.headers().asHttpHeaders(), revalidatedAt))
+                            .withAccess(revalidatedAt));
+        logPeriodically();
+        return response.mutate()
+                       .statusCode(HttpStatus.OK)
+                       .headers(headers -> copyHeaders(entry, headers))
+                       .body(Flux.just(body))
+                       .build();
+      }).switchIfEmpty(Mono.defer(() -> {
+        misses.increment();
+        return exchangeAndStore(key, request, next);
+      }));
+    });
+  }
+
+  /**
+   * Marks all stored responses as stale, so they are revalidated before they are used again. Used when the logged in
+   * user changes, as some responses depend on the user.
+   */
+  public void expireAll() {
+    index.getEntries().forEach((key, entry) -> index.put(key, entry.withExpiry(0)));
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getRevalidationCount() {
+    return revalidations.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getSize() {
+    return index.getEntries().values().stream().mapToLong(HttpResponseCacheEntry::size).sum();
+  }
+
+  public void log() {
+    long requests = hits.sum() + revalidations.sum() + misses.sum();
+    if (requests == 0) {
+      return;
+    }
+    log.debug("API response cache: {} requests, {} hits, {} revalidated, {} misses, hit ratio {}%, {} evictions, "
+                  + "{} bytes stored", requests, hits.sum(), revalidations.sum(), misses.sum(),
+              (hits.sum() + revalidations.sum()) * 100 / requests, evictions.sum(), getSize());
+  }
+
+  @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+  public void save() {
+    index.save();
+    deleteOrphanedBodies();
+  }
+
+  @Override
+  public void destroy() {
+    save();
+    log();
+  }
+
+  private boolean isCacheable(ClientRequest request) {
+    return request.method() == HttpMethod.GET && !request.url().getPath().endsWith(CURRENT_USER_PATH);
+  }
+
+  private Mono<ClientResponse> exchangeAndStore(String key, ClientRequest request, ExchangeFunction next) {
+    return next.exchange(request).flatMap(response -> store(key, response));
+  }
+
+  private Mono<ClientResponse> store(String key, ClientResponse response) {
+    HttpHeaders headers = response.headers().asHttpHeaders();
+    if (response.statusCode().value() != HttpStatus.OK.value() || isNoStore(headers)) {
+      return Mono.just(response);
+    }
+    // A response which must always be revalidated but has no validator is of no use
+    long now = System.currentTimeMillis();
+    if (headers.getETag() == null && headers.getFirst(HttpHeaders.LAST_MODIFIED) == null
+        && getExpiry(headers, now) <= now) {
+      return Mono.just(response);
+    }
+
+    return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers())).map(buffer -> {
+      byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      DataBufferUtils.release(buffer);
+      return bytes;
+    }).defaultIfEmpty(new byte[0]).flatMap(bytes -> Mono.fromRunnable(() -> writeBody(key, headers, bytes))
+        .subscribeOn(Schedulers.boundedElastic())
+        .thenReturn(response.mutate().body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes))).build()));
+  }
+
+  private void writeBody(String key, HttpHeaders headers, byte[] bytes) {
+    long now = System.currentTimeMillis();
+    String fileName = toFileName(key);
+    Path bodyDirectory = getBodyDirectory();
+    try {
+      Files.createDirectories(bodyDirectory);
+      Path temporaryFile = Files.createTempFile(bodyDirectory, fileName, null);
+      Files.write(temporaryFile, bytes);
+      Files.move(temporaryFile, bodyDirectory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.debug("Could not store API response of `{}`", key, e);
+      return;
+    }
+
+    String contentType = headers.getContentType() == null ? null : headers.getContentType().toString();
+    index.put(key, new HttpResponseCacheEntry(fileName, bytes.length, contentType, headers.getETag(),
+                                              headers.getFirst(HttpHeaders.LAST_MODIFIED), getExpiry(headers, now),
+                                              now));
+    evictLeastRecentlyUsed();
+  }
+
+  /**
+   * Reads the stored body of the given entry, or completes empty if it is gone, in which case the entry is removed.
+   */
+  private Mono<DataBuffer> readCachedBody(String key, HttpResponseCacheEntry entry) {
+    return Mono.fromCallable(() -> {
+      try {
+        return DefaultDataBufferFactory.sharedInstance.wrap(Files.readAllBytes(getBodyDirectory().resolve(entry.fileName())));
+      } catch (IOException e) {
+        log.debug("Could not read stored API response of `{}`", key, e);
+        index.remove(key);
+        return null;
+      }
+    }).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private void evictLeastRecentlyUsed() {
+    long maxSize = clientProperties.getApi().getResponseCacheSize();
+    long size = getSize();
+    if (size <= maxSize) {
+      return;
+    }
+
+    for (Map.Entry<String, HttpResponseCacheEntry> entry : index.getEntries()
+                                                                .entrySet()
+                                                                .stream()
+                                                                .sorted(Comparator.comparingLong(
+                                                                    e -> e.getValue().lastAccess()))
+                                                                .toList()) {
+      if (size <= maxSize) {
+        break;
+      }
+      index.remove(entry.getKey());
+      size -= entry.getValue().size();
+      evictions.increment();
+      try {
+        Files.deleteIfExists(getBodyDirectory().resolve(entry.getValue().fileName()));
+      } catch (IOException e) {
+        log.debug("Could not delete evicted API response `{}`", entry.getValue().fileName(), e);
+      }
+    }
+  }
+
+  private void deleteOrphanedBodies() {
+    Path bodyDirectory = getBodyDirectory();
+    if (Files.notExists(bodyDirectory)) {
+      return;
+    }
+
+    Set<String> referencedFiles = index.getEntries()
+                                       .values()
+                                       .stream()
+                                       .map(HttpResponseCacheEntry::fileName)
+                                       .collect(Collectors.toSet());
+    FileTime threshold = FileTime.fromMillis(System.currentTimeMillis() - ORPHAN_MIN_AGE.toMillis());
+    try (Stream<Path> files = Files.list(bodyDirectory)) {
+      files.filter(file -> !referencedFiles.contains(file.getFileName().toString())).forEach(file -> {
+        try {
+          if (Files.getLastModifiedTime(file).compareTo(threshold) < 0) {
+            Files.deleteIfExists(file);
+          }
+        } catch (IOException e) {
+          log.debug("Could not delete orphaned API response `{}`", file, e);
+        }
+      });
+    } catch (IOException e) {
+      log.debug("Could not list API responses in `{}`", bodyDirectory, e);
+    }
+  }
+
+  private static void copyHeaders(HttpResponseCacheEntry entry, HttpHeaders headers) {
+    if (entry.contentType() != null) {
+      headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType());
+    }
+    if (entry.etag() != null) {
+      headers.setETag(entry.etag());
+    }
+    if (entry.lastModified() != null) {
+      headers.set(HttpHeaders.LAST_MODIFIED, entry.lastModified());
+    }
+  }
+
+  private static boolean isNoStore(HttpHeaders headers) {
+    return getCacheDirectives(headers).anyMatch("no-store"::equals);
+  }
+
+  /**
+   * Returns until when a response may be used without revalidation. Responses without {@code max-age} or with
+   * {@code no-cache} are revalidated every time.
+   */
+  @VisibleForTesting
+  static long getExpiry(HttpHeaders headers, long now) {
+    long maxAgeSeconds = 0;
+    for (String directive : getCacheDirectives(headers).toList()) {
+      if (directive.equals("no-cache")) {
+        return now;
+      }
+      if (directive.startsWith("max-age=")) {
+        try {
+          maxAgeSeconds = Long.parseLong(directive.substring("max-age=".length()).replace("\"", ""));
+        } catch (NumberFormatException e) {
+          log.debug("Ignoring invalid cache control directive `{}`", directive);
+        }
+      }
+    }
+    return now + TimeUnit.SECONDS.toMillis(Math.max(0, maxAgeSeconds));
+  }
+
+  private static Stream<String> getCacheDirectives(HttpHeaders headers) {
+    return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)
+                  .stream()
+                  .flatMap(value -> Stream.of(value.split(",")))
+                  .map(directive -> directive.trim().toLowerCase());
+  }
+
+  private static String toFileName(String key) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash) + BODY_FILE_SUFFIX;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Path getBodyDirectory() {
+    return dataPrefs.getCacheDirectory().resolve(CACHE_SUB_FOLDER);
+  }
+
+  private Path getIndexFile() {
+    return dataPrefs.getCacheDirectory().resolve(INDEX_FILE_NAME);
+  }
+
+  private void logPeriodically() {
+    long now = System.nanoTime();
+    if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+      lastLogNanos = now;
+      log();
+    }
+  }
+}
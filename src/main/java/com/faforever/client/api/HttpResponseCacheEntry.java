@@ -0,0 +1,30 @@
+package com.faforever.client.api;
+
+/**
+ * An API response stored by the {@link HttpResponseCache}. The body is stored in a separate file.
+ *
+ * @param expiresAt time until which the response may be used without revalidation, in milliseconds since epoch
+ * @param lastAccess time the response was last used, in milliseconds since epoch, for least recently used eviction
+ */
+public record HttpResponseCacheEntry(
+    String fileName,
+    long size,
+    String contentType,
+    String etag,
+    String lastModified,
+    long expiresAt,
+    long lastAccess
+) {
+
+  public boolean isFresh(long now) {
+    return now < expiresAt;
+  }
+
+  public HttpResponseCacheEntry withAccess(long lastAccess) {
+    return new HttpResponseCacheEntry(fileName, size, contentType, etag, lastModified, expiresAt, lastAccess);
+  }
+
+  public HttpResponseCacheEntry withExpiry(long expiresAt) {
+    return new HttpResponseCacheEntry(fileName, size, contentType, etag, lastModified, expiresAt, lastAccess);
+  }
+}
@@ -6,6 +6,7 @@ import com.github.jasminb.jsonapi.ResourceConverter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.ReactiveHttpInputMessage;
 import org.springframework.http.codec.HttpMessageReader;
@@ -13,10 +14,12 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
@@ -41,25 +44,31 @@ public class JsonApiReader implements HttpMessageReader<Object> {
   public Mono<Object> readMono(ResolvableType elementType, ReactiveHttpInputMessage message, Map hints) {
     Class<?> clazz = elementType.toClass();
     if (clazz.equals(JSONAPIDocument.class)) {
-      return getCompleteStream(message)
-          .map(completeStream -> resourceConverter.readDocumentCollection(completeStream, Object.class));
+      return readBody(message, inputStream -> resourceConverter.readDocumentCollection(inputStream, Object.class));
     } else {
-      return getCompleteStream(message)
-          .flatMap(completeStream -> Mono.fromCallable(() -> resourceConverter.readDocument(completeStream, Object.class).get()));
+      return readBody(message, inputStream -> resourceConverter.readDocument(inputStream, Object.class).get());
     }
   }
 
   @Override
   public Flux<Object> read(ResolvableType elementType, ReactiveHttpInputMessage message, Map hints) {
-    return getCompleteStream(message)
-        .flatMap(completeStream -> Mono.fromCallable(() -> resourceConverter.readDocumentCollection(completeStream, Object.class).get()))
-        .flatMapMany(Flux::fromIterable);
+    return readBody(message, inputStream -> resourceConverter.readDocumentCollection(inputStream, Object.class).get())
+        .flatMapIterable(Function.identity());
   }
 
+  /**
+   * Joins the buffers of the body into a single buffer and parses it in one go. Relationships of a JSON:API document
+   * are resolved against the {@code included} resources, which come after {@code data}, so no entity can be produced
+   * before the whole document has been received.
+   */
   @NotNull
-  private Mono<InputStream> getCompleteStream(ReactiveHttpInputMessage message) {
-    return message.getBody()
-        .map(dataBuffer -> dataBuffer.asInputStream(true))
-        .reduce((SequenceInputStream::new));
+  private <T> Mono<T> readBody(ReactiveHttpInputMessage message, Function<InputStream, T> reader) {
+    return DataBufferUtils.join(message.getBody()).mapNotNull(dataBuffer -> {
+      try (InputStream inputStream = dataBuffer.asInputStream(true)) {
+        return reader.apply(inputStream);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
   }
 }
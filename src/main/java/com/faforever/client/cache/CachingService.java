@@ -1,5 +1,6 @@
 package com.faforever.client.cache;
 
+import com.faforever.client.api.HttpResponseCache;
 import com.faforever.client.user.LoginService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,7 @@ import java.util.Objects;
 public class CachingService implements InitializingBean {
   private final CacheManager cacheManager;
   private final LoginService loginService;
+  private final HttpResponseCache httpResponseCache;
 
   @Override
   public void afterPropertiesSet() throws Exception {
@@ -29,5 +31,6 @@ public class CachingService implements InitializingBean {
         .map(cacheManager::getCache)
         .filter(Objects::nonNull)
         .forEach(Cache::clear);
+    httpResponseCache.expireAll();
   }
 }
@@ -0,0 +1,142 @@
+package com.faforever.client.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A string keyed map which is persisted as JSON file, typically in the cache directory. The file is loaded lazily on
+ * first access and only written if entries changed. If the file can't be read or was written with a different format
+ * version it is discarded, so callers must be able to rebuild all entries.
+ */
+@Slf4j
+public class PersistentIndex<V> {
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final Supplier<Path> indexFileSupplier;
+  private final JavaType indexFileType;
+  private final int formatVersion;
+
+  private final Map<String, V> entries = new ConcurrentHashMap<>();
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private volatile boolean loaded;
+
+  public PersistentIndex(Supplier<Path> indexFileSupplier, Class<V> valueType, int formatVersion) {
+    this.indexFileSupplier = indexFileSupplier;
+    this.indexFileType = objectMapper.getTypeFactory().constructParametricType(IndexFile.class, valueType);
+    this.formatVersion = formatVersion;
+  }
+
+  public Optional<V> get(String key) {
+    ensureLoaded();
+    return Optional.ofNullable(entries.get(key));
+  }
+
+  /**
+   * Returns an unmodifiable view of all entries.
+   */
+  public Map<String, V> getEntries() {
+    ensureLoaded();
+    return Collections.unmodifiableMap(entries);
+  }
+
+  public void put(String key, V value) {
+    ensureLoaded();
+    entries.put(key, value);
+    dirty.set(true);
+  }
+
+  public void remove(String key) {
+    ensureLoaded();
+    if (entries.remove(key) != null) {
+      dirty.set(true);
+    }
+  }
+
+  /**
+   * Removes all entries whose key is not contained in the given keys.
+   */
+  public void retainAll(Collection<String> keys) {
+    ensureLoaded();
+    if (entries.keySet().retainAll(Set.copyOf(keys))) {
+      dirty.set(true);
+    }
+  }
+
+  /**
+   * Removes all entries whose key matches the given predicate.
+   */
+  public void removeIf(Predicate<String> keyPredicate) {
+    ensureLoaded();
+    if (entries.keySet().removeIf(keyPredicate)) {
+      dirty.set(true);
+    }
+  }
+
+  /**
+   * Writes the index to disk if it has been modified since it was last loaded or saved. The file is replaced
+   * atomically so a crash never leaves a partially written index behind.
+   */
+  public void save() {
+    if (!dirty.compareAndSet(true, false)) {
+      return;
+    }
+
+    Path indexFile = indexFileSupplier.get();
+    try {
+      Files.createDirectories(indexFile.getParent());
+      Path temporaryIndexFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), null);
+      objectMapper.writeValue(temporaryIndexFile.toFile(), new IndexFile<>(formatVersion, Map.copyOf(entries)));
+      Files.move(temporaryIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("Could not write index to `{}`", indexFile, e);
+      dirty.set(true);
+    }
+  }
+
+  private void ensureLoaded() {
+    if (loaded) {
+      return;
+    }
+
+    synchronized (entries) {
+      if (loaded) {
+        return;
+      }
+
+      Path indexFile = indexFileSupplier.get();
+      if (Files.exists(indexFile)) {
+        try {
+          IndexFile<V> index = objectMapper.readValue(indexFile.toFile(), indexFileType);
+          if (index.version() == formatVersion && index.entries() != null) {
+            entries.putAll(index.entries());
+          } else {
+            log.info("Discarding index `{}` with outdated format version {}", indexFile, index.version());
+          }
+        } catch (IOException e) {
+          log.warn("Could not read index from `{}`, rebuilding it", indexFile, e);
+        }
+      }
+      loaded = true;
+    }
+  }
+
+  record IndexFile<V>(int version, Map<String, V> entries) {}
+}
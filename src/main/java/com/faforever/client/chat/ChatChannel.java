@@ -12,6 +12,7 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
@@ -23,13 +24,19 @@ import lombok.ToString;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(onlyExplicitlyIncluded = true)
 public class ChatChannel {
+
+  private static final Comparator<ChatMessage> MESSAGE_TIME_ORDER = Comparator.comparing(
+      ChatMessage::getTime, Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(ChatMessage::getId);
+
   @Getter
   @EqualsAndHashCode.Include
   @ToString.Include
@@ -49,6 +56,11 @@ public class ChatChannel {
   private final Map<String, Reaction> reactionsById = new ConcurrentHashMap<>();
   private final ObservableSet<ChatMessage> messages = JavaFxUtil.attachSetToMap(
       FXCollections.synchronizedObservableSet(FXCollections.observableSet()), messagesById);
+  /**
+   * The messages of {@link #messagesById} ordered by time, so that the oldest ones can be pruned without sorting.
+   * Guarded by {@link #messagesById}, whose change listener keeps it up to date.
+   */
+  private final NavigableSet<ChatMessage> messagesByTime = new TreeSet<>(MESSAGE_TIME_ORDER);
   private final BooleanProperty open = new SimpleBooleanProperty();
   private final BooleanProperty loaded = new SimpleBooleanProperty();
   private final IntegerProperty maxNumMessages = new SimpleIntegerProperty(Integer.MAX_VALUE);
@@ -56,6 +68,14 @@ public class ChatChannel {
 
   public ChatChannel(String name) {
     this.name = name;
+    messagesById.addListener((MapChangeListener<String, ChatMessage>) change -> {
+      if (change.wasRemoved()) {
+        messagesByTime.remove(change.getValueRemoved());
+      }
+      if (change.wasAdded()) {
+        messagesByTime.add(change.getValueAdded());
+      }
+    });
     maxNumMessages.subscribe(this::pruneMessages);
     open.subscribe(open -> {
       if (open) {
@@ -66,12 +86,10 @@ public class ChatChannel {
 
   private void pruneMessages() {
     int maxNumMessages = getMaxNumMessages();
-    int numMessages = messages.size();
-    if (numMessages > maxNumMessages) {
-      messages.stream()
-              .sorted(Comparator.comparing(ChatMessage::getTime))
-              .limit(numMessages - maxNumMessages)
-              .forEach(message -> messagesById.remove(message.getId()));
+    synchronized (messagesById) {
+      while (messagesByTime.size() > maxNumMessages) {
+        messagesById.remove(messagesByTime.first().getId());
+      }
     }
   }
 
@@ -0,0 +1,115 @@
+package com.faforever.client.chat;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies mutations of the chat model in batches. Mutations are queued from the IRC threads and a single drain is
+ * scheduled on the executor (the JavaFX application thread) for all mutations that queue up until it runs, so that
+ * bursts like the initial NAMES list or a netsplit cost one UI dispatch instead of thousands. A drain stops after
+ * {@value #MAX_BATCH_SIZE} mutations or {@link #MAX_BATCH_DURATION} and schedules another one for the rest, so that a
+ * long flood doesn't block the application thread. Mutations are applied in the order they were dispatched.
+ */
+@Slf4j
+final class ChatModelDispatcher {
+
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+  static final int MAX_BATCH_SIZE = 1000;
+  private static final Duration MAX_BATCH_DURATION = Duration.ofMillis(10);
+
+  private final Executor executor;
+  private final Queue<Mutation> pendingMutations = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder mutations = new LongAdder();
+  private final LongAccumulator maxBatchSize = new LongAccumulator(Long::max, 0);
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0);
+  private volatile long lastLogNanos = System.nanoTime();
+
+  ChatModelDispatcher(Executor executor) {
+    this.executor = executor;
+  }
+
+  void dispatch(Runnable mutation) {
+    pendingMutations.add(new Mutation(mutation, System.nanoTime()));
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    if (drainScheduled.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    long startNanos = System.nanoTime();
+    int batchSize = 0;
+    Mutation mutation;
+    while (batchSize < MAX_BATCH_SIZE && System.nanoTime() - startNanos < MAX_BATCH_DURATION.toNanos()
+        && (mutation = pendingMutations.poll()) != null) {
+      long latencyNanos = System.nanoTime() - mutation.dispatchedNanos();
+      totalLatencyNanos.add(latencyNanos);
+      maxLatencyNanos.accumulate(latencyNanos);
+      batchSize++;
+      try {
+        mutation.runnable().run();
+      } catch (RuntimeException e) {
+        log.warn("Could not apply chat model change", e);
+      }
+    }
+
+    drainScheduled.set(false);
+    if (batchSize > 0) {
+      batches.increment();
+      mutations.add(batchSize);
+      maxBatchSize.accumulate(batchSize);
+    }
+
+    // Mutations may be left over from a capped batch, or have been queued after the queue was found empty but before
+    // the flag was reset
+    if (!pendingMutations.isEmpty()) {
+      scheduleDrain();
+    }
+
+    long now = System.nanoTime();
+    if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+      lastLogNanos = now;
+      log();
+    }
+  }
+
+  long getBatchCount() {
+    return batches.sum();
+  }
+
+  long getMutationCount() {
+    return mutations.sum();
+  }
+
+  long getMaxBatchSize() {
+    return maxBatchSize.get();
+  }
+
+  Duration getMaxLatency() {
+    return Duration.ofNanos(maxLatencyNanos.get());
+  }
+
+  void log() {
+    long batchCount = batches.sum();
+    long mutationCount = mutations.sum();
+    Duration averageLatency = Duration.ofNanos(mutationCount > 0 ? totalLatencyNanos.sum() / mutationCount : 0);
+    log.debug("Applied {} chat model changes in {} batches (max batch size {}), average latency {}, max latency {}",
+              mutationCount, batchCount, maxBatchSize.get(), averageLatency, getMaxLatency());
+  }
+
+  private record Mutation(Runnable runnable, long dispatchedNanos) {}
+}
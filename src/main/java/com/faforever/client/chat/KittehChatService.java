@@ -159,6 +159,11 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
 
   private final Map<ChatChannel, Instant> lastSentActiveMap = new ConcurrentHashMap<>();
   private final Map<ChatChannelUser, Future<?>> stopTypingFutureMap = new ConcurrentHashMap<>();
+  /**
+   * Applies changes of the chat model caused by IRC events in batches on the application thread.
+   */
+  private final ChatModelDispatcher chatModelDispatcher = new ChatModelDispatcher(
+      runnable -> fxApplicationThreadExecutor.execute(runnable));
 
   /**
    * A list of channels the server wants us to join.
@@ -251,20 +256,20 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
 
   @VisibleForTesting
   void onPlayerOnline(PlayerInfo player) {
-    channels.values()
-            .stream()
-            .map(channel -> channel.getUser(player.getUsername()))
-            .flatMap(Optional::stream)
-            .forEach(chatChannelUser -> fxApplicationThreadExecutor.execute(() -> chatChannelUser.setPlayer(player)));
+    chatModelDispatcher.dispatch(() -> channels.values()
+                                               .stream()
+                                               .map(channel -> channel.getUser(player.getUsername()))
+                                               .flatMap(Optional::stream)
+                                               .forEach(chatChannelUser -> chatChannelUser.setPlayer(player)));
   }
 
   @VisibleForTesting
   void onPlayerOffline(PlayerInfo player) {
-    channels.values()
-            .stream()
-            .map(channel -> channel.getUser(player.getUsername()))
-            .flatMap(Optional::stream)
-            .forEach(chatChannelUser -> fxApplicationThreadExecutor.execute(() -> chatChannelUser.setPlayer(null)));
+    chatModelDispatcher.dispatch(() -> channels.values()
+                                               .stream()
+                                               .map(channel -> channel.getUser(player.getUsername()))
+                                               .flatMap(Optional::stream)
+                                               .forEach(chatChannelUser -> chatChannelUser.setPlayer(null)));
   }
 
   @Handler
@@ -274,19 +279,20 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     }
 
     String senderNick = user.getNick();
-    ChatChannel chatChannel = switch (event) {
+    String channelName = switch (event) {
       case PrivateRedactMessageEvent privateRedactMessageEvent ->
-          channels.get(getPrivateMessageTarget(privateRedactMessageEvent, senderNick));
-      case ChannelRedactMessageEvent channelRedactMessageEvent ->
-          channels.get(channelRedactMessageEvent.getChannel().getName());
+          getPrivateMessageTarget(privateRedactMessageEvent, senderNick);
+      case ChannelRedactMessageEvent channelRedactMessageEvent -> channelRedactMessageEvent.getChannel().getName();
       default -> null;
     };
 
-    if (chatChannel == null) {
+    if (channelName == null) {
       return;
     }
 
-    chatChannel.removeMessage(event.getRedactedMessageId());
+    chatModelDispatcher.dispatch(() -> Optional.ofNullable(channels.get(channelName))
+                                               .ifPresent(chatChannel -> chatChannel.removeMessage(
+                                                   event.getRedactedMessageId())));
   }
 
   @Handler
@@ -296,19 +302,21 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     }
 
     String senderNick = user.getNick();
-    switch (event) {
-      case PrivateTagMessageEvent privateTagMessageEvent -> {
-        String target = getPrivateMessageTarget(privateTagMessageEvent, senderNick);
-        Optional.ofNullable(channels.get(target))
-                .flatMap(channel -> channel.getUser(senderNick))
-                .ifPresent(chatUser -> processTagMessage(privateTagMessageEvent, chatUser));
-      }
-      case ChannelTagMessageEvent channelTagMessageEvent -> {
-        ChatChannelUser chatUser = getOrCreateChatUser(user, channelTagMessageEvent.getChannel());
-        processTagMessage(channelTagMessageEvent, chatUser);
+    chatModelDispatcher.dispatch(() -> {
+      switch (event) {
+        case PrivateTagMessageEvent privateTagMessageEvent -> {
+          String target = getPrivateMessageTarget(privateTagMessageEvent, senderNick);
+          Optional.ofNullable(channels.get(target))
+                  .flatMap(channel -> channel.getUser(senderNick))
+                  .ifPresent(chatUser -> processTagMessage(privateTagMessageEvent, chatUser));
+        }
+        case ChannelTagMessageEvent channelTagMessageEvent -> {
+          ChatChannelUser chatUser = getOrCreateChatUser(user, channelTagMessageEvent.getChannel());
+          processTagMessage(channelTagMessageEvent, chatUser);
+        }
+        default -> {}
       }
-      default -> {}
-    }
+    });
   }
 
   private <T extends TagMessageEvent & ServerMessageEvent> void processTagMessage(T event, ChatChannelUser chatUser) {
@@ -326,7 +334,7 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
                                    .flatMap(MessageTag::getValue)
                                    .map(targetMessageId -> new Reaction(messageId, targetMessageId, emoticon,
                                                                         chatUser.getUsername())))
-         .ifPresent(reaction -> fxApplicationThreadExecutor.execute(() -> chatUser.getChannel().addReaction(reaction)));
+         .ifPresent(reaction -> chatUser.getChannel().addReaction(reaction));
   }
 
   @VisibleForTesting
@@ -376,10 +384,10 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
   public void onUserAway(UserAwayMessageEvent event) {
     User user = event.getActor();
     String username = user.getNick();
-    channels.values()
-            .forEach(chatChannel -> chatChannel.getUser(username)
-                                               .ifPresent(chatUser -> fxApplicationThreadExecutor.execute(
-                                                   () -> chatUser.setAway(event.isAway()))));
+    chatModelDispatcher.dispatch(() -> channels.values()
+                                               .forEach(chatChannel -> chatChannel.getUser(username)
+                                                                                  .ifPresent(chatUser -> chatUser.setAway(
+                                                                                      event.isAway()))));
   }
 
   @Handler
@@ -413,29 +421,35 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     }
 
     User user = event.getActor();
-    updateChatUser(user, event.getChannel());
+    chatModelDispatcher.dispatch(() -> updateChatUser(user, event.getChannel()));
   }
 
   @Handler
   public void onChatUserList(ChannelNamesUpdatedEvent event) {
     Channel channel = event.getChannel();
-    channel.getUsers().forEach(user -> updateChatUser(user, channel));
+    List<User> users = channel.getUsers();
+    chatModelDispatcher.dispatch(() -> users.forEach(user -> updateChatUser(user, channel)));
   }
 
   @Handler
   public void onWhoAway(WhoAwayMessageEvent event) {
-    ChatChannel chatChannel = channels.get(event.channel());
-    if (chatChannel != null) {
-      chatChannel.getUser(event.userName()).ifPresent(chatUser -> chatUser.setAway(event.isAway()));
-    }
+    chatModelDispatcher.dispatch(() -> {
+      ChatChannel chatChannel = channels.get(event.channel());
+      if (chatChannel != null) {
+        chatChannel.getUser(event.userName()).ifPresent(chatUser -> chatUser.setAway(event.isAway()));
+      }
+    });
   }
 
   @Handler
   public void onWhoComplete(WhoComplete event) {
-    ChatChannel chatChannel = channels.get(event.getChannel().getName());
-    if (chatChannel != null) {
-      fxApplicationThreadExecutor.execute(() -> chatChannel.setLoaded(true));
-    }
+    String channelName = event.getChannel().getName();
+    chatModelDispatcher.dispatch(() -> {
+      ChatChannel chatChannel = channels.get(channelName);
+      if (chatChannel != null) {
+        chatChannel.setLoaded(true);
+      }
+    });
   }
 
   @Handler
@@ -445,7 +459,8 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     }
 
     User user = event.getActor();
-    onChatUserLeftChannel(event.getChannel().getName(), user.getNick());
+    String channelName = event.getChannel().getName();
+    chatModelDispatcher.dispatch(() -> onChatUserLeftChannel(channelName, user.getNick()));
   }
 
   @Handler
@@ -457,7 +472,8 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     User user = event.getUser();
     String username = user.getNick();
 
-    List.copyOf(channels.keySet()).forEach(channelName -> onChatUserLeftChannel(channelName, username));
+    chatModelDispatcher.dispatch(
+        () -> List.copyOf(channels.keySet()).forEach(channelName -> onChatUserLeftChannel(channelName, username)));
   }
 
   @Handler
@@ -468,8 +484,11 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
                          .map(name -> name.replaceFirst("!.*", ""))
                          .orElse("");
     String content = event.getNewTopic().getValue().orElse("");
-    ChatChannelUser chatChannelUser = getOrCreateChatUser(author, event.getChannel().getName());
-    chatChannelUser.getChannel().setTopic(new ChannelTopic(chatChannelUser, content));
+    String channelName = event.getChannel().getName();
+    chatModelDispatcher.dispatch(() -> {
+      ChatChannelUser chatChannelUser = getOrCreateChatUser(author, channelName);
+      chatChannelUser.getChannel().setTopic(new ChannelTopic(chatChannelUser, content));
+    });
   }
 
   @Handler
@@ -478,6 +497,10 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
       return;
     }
 
+    chatModelDispatcher.dispatch(() -> processMessage(event, user));
+  }
+
+  private void processMessage(ActorMessageEvent<?> event, User user) {
     String senderNick = user.getNick();
     boolean hideFoeMessages = chatPrefs.isHideFoeMessages();
     ChatChannelUser sender = switch (event) {
@@ -586,6 +609,10 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
 
   @Handler
   public void onChannelCTCP(ChannelCtcpEvent event) {
+    chatModelDispatcher.dispatch(() -> processChannelCtcp(event));
+  }
+
+  private void processChannelCtcp(ChannelCtcpEvent event) {
     User user = event.getActor();
 
     String channelName = event.getChannel().getName();
@@ -616,19 +643,20 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
 
   @Handler
   public void onChannelModeChanged(ChannelModeEvent event) {
-    event.getStatusList().getAll().forEach(channelModeStatus -> channelModeStatus.getParameter().ifPresent(username -> {
-      Mode changedMode = channelModeStatus.getMode();
-      Action modeAction = channelModeStatus.getAction();
-      if (changedMode instanceof ChannelUserMode channelUserMode && MODERATOR_PREFIXES.contains(
-          channelUserMode.getNickPrefix())) {
-        ChatChannelUser chatChannelUser = getOrCreateChatUser(username, event.getChannel().getName());
-        if (modeAction == Action.ADD) {
-          chatChannelUser.setModerator(true);
-        } else if (modeAction == Action.REMOVE) {
-          chatChannelUser.setModerator(false);
-        }
-      }
-    }));
+    chatModelDispatcher.dispatch(() -> event.getStatusList().getAll().forEach(
+        channelModeStatus -> channelModeStatus.getParameter().ifPresent(username -> {
+          Mode changedMode = channelModeStatus.getMode();
+          Action modeAction = channelModeStatus.getAction();
+          if (changedMode instanceof ChannelUserMode channelUserMode && MODERATOR_PREFIXES.contains(
+              channelUserMode.getNickPrefix())) {
+            ChatChannelUser chatChannelUser = getOrCreateChatUser(username, event.getChannel().getName());
+            if (modeAction == Action.ADD) {
+              chatChannelUser.setModerator(true);
+            } else if (modeAction == Action.REMOVE) {
+              chatChannelUser.setModerator(false);
+            }
+          }
+        })));
   }
 
   private void joinAutoChannels() {
@@ -672,8 +700,12 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
   @Handler
   public void onDisconnect(ClientConnectionEndedEvent event) {
     client.getEventManager().unregisterEventListener(this);
-    channels.values().forEach(ChatChannel::clearUsers);
-    List.copyOf(channels.keySet()).forEach(this::removeChannel);
+    chatModelDispatcher.log();
+    // Queued behind the changes of events received before the disconnect, so these can't add users again afterwards
+    chatModelDispatcher.dispatch(() -> {
+      channels.values().forEach(ChatChannel::clearUsers);
+      List.copyOf(channels.keySet()).forEach(this::removeChannel);
+    });
     connectionState.set(ConnectionState.DISCONNECTED);
     client.shutdown();
     event.getCause().ifPresent(throwable -> log.error("Chat disconnected with cause", throwable));
@@ -24,6 +24,7 @@ public class ClientProperties {
   private Server server = new Server();
   private Vault vault = new Vault();
   private Replay replay = new Replay();
+  private Download download = new Download();
   private Imgur imgur = new Imgur();
   private TrueSkill trueSkill = new TrueSkill();
   private Api api = new Api();
@@ -104,6 +105,27 @@ public class ClientProperties {
     private String replayFileGlob = "*.fafreplay";
     // TODO this should acutally be reported by the server
     private int watchDelaySeconds = 300;
+    /**
+     * Maximum number of replay data chunks held in memory while waiting for the remote replay server.
+     */
+    private int relayBufferChunks = 1024;
+  }
+
+  @Data
+  public static class Download {
+    /**
+     * Number of bytes requested by the first request of a download. The rest of larger files is downloaded in
+     * parallel ranged segments.
+     */
+    private long segmentSize = 8 * 1024 * 1024;
+    /**
+     * Maximum number of segments downloaded in parallel.
+     */
+    private int maxSegments = 4;
+    /**
+     * Number of attempts for a download, every attempt resumes where the previous one stopped.
+     */
+    private int maxAttempts = 3;
   }
 
   @Data
@@ -145,6 +167,14 @@ public class ClientProperties {
     private int retryAttempts = 5;
     private double retryJitter = .5;
     private int maxPageSize = 10000;
+    /**
+     * How many pages of a collection are fetched at the same time when retrieving all of its entities.
+     */
+    private int pageConcurrency = 4;
+    /**
+     * Maximum number of bytes of API responses kept in the HTTP cache on disk.
+     */
+    private long responseCacheSize = 128 * 1024 * 1024;
   }
 
   @Data
@@ -189,6 +219,10 @@ public class ClientProperties {
     private String queryVersionsUrl;
     private int maxSupportedMajorVersion;
     private int minSupportedMajorVersion;
+    /**
+     * Maximum number of bytes of generated maps kept on disk, so they don't have to be generated again.
+     */
+    private long generatedMapCacheSize = 512L * 1024 * 1024;
   }
 
   @Data
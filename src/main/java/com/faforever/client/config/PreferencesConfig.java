@@ -3,6 +3,7 @@ package com.faforever.client.config;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
 import com.faforever.client.os.OperatingSystem;
 import com.faforever.client.preferences.ChatPrefs;
+import com.faforever.client.preferences.CompactPreferencesStore;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.DeveloperPrefs;
 import com.faforever.client.preferences.FiltersPrefs;
@@ -16,6 +17,7 @@ import com.faforever.client.preferences.LoginPrefs;
 import com.faforever.client.preferences.MatchmakerPrefs;
 import com.faforever.client.preferences.NotificationPrefs;
 import com.faforever.client.preferences.Preferences;
+import com.faforever.client.preferences.PreferencesChangeTracker;
 import com.faforever.client.preferences.ReplayHistoryPrefs;
 import com.faforever.client.preferences.UserPrefs;
 import com.faforever.client.preferences.VaultPrefs;
@@ -53,26 +55,37 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @Slf4j
 public class PreferencesConfig implements DisposableBean {
 
   private static final String PREFS_FILE_NAME = "client.prefs";
+  /**
+   * Changes made within this delay after a change are written together.
+   */
+  private static final Duration WRITE_DELAY = Duration.ofSeconds(2);
+  private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(5);
 
   private final Path preferencesFilePath;
   private final ObjectMapper preferencesObjectMapper;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  private final CompactPreferencesStore compactPreferencesStore;
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private final AtomicInteger failedWrites = new AtomicInteger();
 
   private final Preferences preferences;
 
@@ -84,6 +97,14 @@ public class PreferencesConfig implements DisposableBean {
     preferencesFilePath = operatingSystem.getPreferencesDirectory().resolve(PREFS_FILE_NAME);
 
     preferences = readExistingPreferences(preferencesFilePath, operatingSystem);
+
+    compactPreferencesStore = new CompactPreferencesStore(operatingSystem.getPreferencesDirectory(),
+                                                          preferencesObjectMapper.copy()
+                                                                                 .disable(SerializationFeature.INDENT_OUTPUT));
+    if (compactPreferencesStore.attach(preferences.getReplayHistory(), preferences.getChat())) {
+      onPreferencesChanged();
+    }
+    PreferencesChangeTracker.track(preferences, this::onPreferencesChanged);
   }
 
   @Bean
@@ -200,7 +221,8 @@ public class PreferencesConfig implements DisposableBean {
   }
 
   /**
-   * It may happen that the file is empty when the process is forcibly killed, so remove the file if that happened.
+   * Previous versions wrote the file in place, so it may be empty if the process was forcibly killed while writing.
+   * Remove the file if that happened.
    *
    * @return true if the file was deleted
    */
@@ -262,7 +284,26 @@ public class PreferencesConfig implements DisposableBean {
 
   }
 
-  @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+  private void onPreferencesChanged() {
+    scheduleStore(WRITE_DELAY);
+  }
+
+  private void scheduleStore(Duration delay) {
+    if (dirty.compareAndSet(false, true)) {
+      Schedulers.boundedElastic().schedule(this::storeIfDirty, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void storeIfDirty() {
+    if (dirty.getAndSet(false)) {
+      store();
+    }
+  }
+
+  /**
+   * Writes the preferences to a temporary file which then replaces the preferences file, so a crash never leaves a
+   * partially written file behind. Failed writes are retried with an increasing delay.
+   */
   private void store() {
     Path parent = preferencesFilePath.getParent();
     try {
@@ -274,17 +315,43 @@ public class PreferencesConfig implements DisposableBean {
       return;
     }
 
-    try (Writer writer = Files.newBufferedWriter(preferencesFilePath, StandardCharsets.UTF_8)) {
+    Path temporaryFile = null;
+    try {
       log.info("Writing preferences file `{}`", preferencesFilePath.toAbsolutePath());
-      preferencesObjectMapper.writeValue(writer, preferences);
-    } catch (IOException e) {
-      log.error("Preferences file `{}` could not be written", preferencesFilePath.toAbsolutePath(), e);
+      temporaryFile = Files.createTempFile(parent, PREFS_FILE_NAME, null);
+      preferencesObjectMapper.writeValue(temporaryFile.toFile(), preferences);
+      Files.move(temporaryFile, preferencesFilePath, StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+      failedWrites.set(0);
+    } catch (IOException | RuntimeException e) {
+      int failures = failedWrites.incrementAndGet();
+      Duration retryDelay = WRITE_DELAY.multipliedBy(1L << Math.min(failures, 10));
+      if (retryDelay.compareTo(MAX_RETRY_DELAY) > 0) {
+        retryDelay = MAX_RETRY_DELAY;
+      }
+      if (failures == 1) {
+        log.error("Preferences file `{}` could not be written, retrying in {}", preferencesFilePath.toAbsolutePath(),
+                  retryDelay, e);
+      } else {
+        log.warn("Preferences file `{}` could not be written {} times, retrying in {}",
+                 preferencesFilePath.toAbsolutePath(), failures, retryDelay, e);
+      }
+      scheduleStore(retryDelay);
+    } finally {
+      if (temporaryFile != null) {
+        try {
+          Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+          log.warn("Could not delete temporary preferences file `{}`", temporaryFile, e);
+        }
+      }
     }
   }
 
 
   @Override
   public void destroy() throws Exception {
-    store();
+    storeIfDirty();
+    compactPreferencesStore.flush();
   }
 }
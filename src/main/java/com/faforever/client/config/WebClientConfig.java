@@ -1,6 +1,7 @@
 package com.faforever.client.config;
 
 import com.faforever.client.api.HmacTokenFilter;
+import com.faforever.client.api.HttpResponseCache;
 import com.faforever.client.api.OAuthTokenFilter;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -19,8 +20,11 @@ public class WebClientConfig {
   @Bean
   @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
   public WebClient apiWebClient(WebClient.Builder webClientBuilder, OAuthTokenFilter oAuthTokenFilter,
-                                HmacTokenFilter hmacTokenFilter, ClientProperties clientProperties) {
+                                HmacTokenFilter hmacTokenFilter, HttpResponseCache httpResponseCache,
+                                ClientProperties clientProperties) {
+    // The cache comes first so fresh responses are served without acquiring tokens
     return webClientBuilder.baseUrl(clientProperties.getApi().getBaseUrl())
+                           .filter(httpResponseCache)
                            .filter(oAuthTokenFilter)
                            .filter(hmacTokenFilter)
                            .build();
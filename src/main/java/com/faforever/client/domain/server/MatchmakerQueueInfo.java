@@ -30,6 +30,7 @@ public class MatchmakerQueueInfo {
   private final BooleanProperty selected = new SimpleBooleanProperty(true);
   private final ObjectProperty<MatchingStatus> matchingStatus = new SimpleObjectProperty<>();
   private final ObjectProperty<Leaderboard> leaderboard = new SimpleObjectProperty<>();
+  private final BooleanProperty mapPoolReady = new SimpleBooleanProperty();
 
   public Integer getId() {
     return id.get();
@@ -138,4 +139,19 @@ public class MatchmakerQueueInfo {
   public BooleanProperty selectedProperty() {
     return selected;
   }
+
+  /**
+   * Whether all maps of the player's rating bracket of this queue are installed.
+   */
+  public boolean isMapPoolReady() {
+    return mapPoolReady.get();
+  }
+
+  public void setMapPoolReady(boolean mapPoolReady) {
+    this.mapPoolReady.set(mapPoolReady);
+  }
+
+  public BooleanProperty mapPoolReadyProperty() {
+    return mapPoolReady;
+  }
 }
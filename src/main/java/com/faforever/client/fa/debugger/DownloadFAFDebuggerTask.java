@@ -5,7 +5,10 @@ import com.faforever.client.fa.ForgedAllianceLaunchService;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.update.GitHubRelease;
 import com.faforever.commons.io.ByteCopier;
 import lombok.extern.slf4j.Slf4j;
@@ -36,18 +39,20 @@ public class DownloadFAFDebuggerTask extends CompletableTask<Void> {
   private final PlatformService platformService;
   private final ForgedAllianceLaunchService forgedAllianceLaunchService;
   private final WebClient defaultWebClient;
+  private final IoArbiter ioArbiter;
 
   @Autowired
   public DownloadFAFDebuggerTask(ClientProperties clientProperties, I18n i18n, PlatformService platformService,
                                  ForgedAllianceLaunchService forgedAllianceLaunchService,
-                                 WebClient defaultWebClient) {
-    super(Priority.HIGH);
+                                 WebClient defaultWebClient, IoArbiter ioArbiter) {
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.clientProperties = clientProperties;
     this.i18n = i18n;
     this.platformService = platformService;
     this.forgedAllianceLaunchService = forgedAllianceLaunchService;
     this.defaultWebClient = defaultWebClient;
+    this.ioArbiter = ioArbiter;
   }
 
   @Override
@@ -70,8 +75,8 @@ public class DownloadFAFDebuggerTask extends CompletableTask<Void> {
     Path targetFile = forgedAllianceLaunchService.getDebuggerExecutablePath();
     Path tempFile = Files.createTempFile(targetFile.getParent(), "debugger", null);
 
-    ResourceLocks.acquireDownloadLock();
-    try (InputStream inputStream = url.openStream(); OutputStream outputStream = Files.newOutputStream(tempFile)) {
+    try (Permit _ = ioArbiter.acquire(IoResource.download(url));
+         InputStream inputStream = url.openStream(); OutputStream outputStream = Files.newOutputStream(tempFile)) {
       ByteCopier.from(inputStream)
           .to(outputStream)
           .totalBytes(urlConnection.getContentLength())
@@ -80,7 +85,6 @@ public class DownloadFAFDebuggerTask extends CompletableTask<Void> {
 
       Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
     } finally {
-      ResourceLocks.freeDownloadLock();
       try {
         Files.deleteIfExists(tempFile);
       } catch (IOException e) {
@@ -0,0 +1,237 @@
+package com.faforever.client.io;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches the direct children of a directory (e.g. map or mod folders) and reports their creation and deletion in
+ * batches. Events are coalesced per child until it has been quiet for the configured period; created children are
+ * only reported once their content stopped changing, so that folders which are still being extracted are not read
+ * prematurely. Events are processed on a virtual thread.
+ */
+@Slf4j
+public final class DirectoryWatcher implements AutoCloseable {
+
+  public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(500);
+  public static final Duration DEFAULT_SETTLE_TIMEOUT = Duration.ofSeconds(30);
+
+  private final Path directory;
+  private final Duration quietPeriod;
+  private final Duration settleTimeout;
+  private final Listener listener;
+  private final WatchService watchService;
+  private final Map<Path, PendingChange> pendingChanges = new LinkedHashMap<>();
+  private final Thread thread;
+
+  private DirectoryWatcher(Path directory, Duration quietPeriod, Duration settleTimeout, Listener listener,
+                           String name) throws IOException {
+    this.directory = directory;
+    this.quietPeriod = quietPeriod;
+    this.settleTimeout = settleTimeout;
+    this.listener = listener;
+    this.watchService = directory.getFileSystem().newWatchService();
+    try {
+      directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+    } catch (IOException e) {
+      watchService.close();
+      throw e;
+    }
+    this.thread = Thread.ofVirtual().name(name).start(this::run);
+  }
+
+  public static DirectoryWatcher start(Path directory, String name, Listener listener) throws IOException {
+    return start(directory, name, DEFAULT_QUIET_PERIOD, DEFAULT_SETTLE_TIMEOUT, listener);
+  }
+
+  public static DirectoryWatcher start(Path directory, String name, Duration quietPeriod, Duration settleTimeout,
+                                       Listener listener) throws IOException {
+    return new DirectoryWatcher(directory, quietPeriod, settleTimeout, listener, name);
+  }
+
+  private void run() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey key = pendingChanges.isEmpty() ? watchService.take() : watchService.poll(quietPeriod.toMillis(),
+                                                                                           TimeUnit.MILLISECONDS);
+        while (key != null) {
+          collectEvents(key);
+          key = watchService.poll();
+        }
+        processSettledChanges();
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      log.debug("Watcher for `{}` terminated", directory);
+    }
+  }
+
+  private void collectEvents(WatchKey key) {
+    long now = System.nanoTime();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        log.warn("Events for `{}` were lost", directory);
+        continue;
+      }
+
+      Path path = directory.resolve((Path) event.context());
+      PendingChange pendingChange = pendingChanges.get(path);
+      boolean deleted = event.kind() == ENTRY_DELETE;
+      if (pendingChange == null) {
+        pendingChanges.put(path, new PendingChange(deleted, now));
+      } else {
+        pendingChange.deleted = deleted;
+        pendingChange.lastEventNanos = now;
+      }
+    }
+    key.reset();
+  }
+
+  private void processSettledChanges() {
+    long now = System.nanoTime();
+    Set<Path> created = new HashSet<>();
+    Set<Path> deleted = new HashSet<>();
+
+    Iterator<Map.Entry<Path, PendingChange>> iterator = pendingChanges.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Path, PendingChange> entry = iterator.next();
+      Path path = entry.getKey();
+      PendingChange pendingChange = entry.getValue();
+      if (now - pendingChange.lastEventNanos < quietPeriod.toNanos()) {
+        continue;
+      }
+
+      if (pendingChange.deleted || !Files.exists(path)) {
+        deleted.add(path);
+        iterator.remove();
+        continue;
+      }
+
+      Fingerprint fingerprint = Fingerprint.of(path);
+      boolean timedOut = now - pendingChange.firstEventNanos >= settleTimeout.toNanos();
+      if (fingerprint != null && fingerprint.equals(pendingChange.fingerprint) || timedOut) {
+        created.add(path);
+      } else {
+        pendingChange.fingerprint = fingerprint;
+        pendingChange.lastEventNanos = now;
+      }
+    }
+
+    if (created.isEmpty() && deleted.isEmpty()) {
+      return;
+    }
+
+    Set<Path> unprocessed;
+    try {
+      unprocessed = listener.onChanges(created, deleted);
+    } catch (RuntimeException e) {
+      log.error("Could not process changes in `{}`", directory, e);
+      unprocessed = created;
+    }
+
+    for (Path path : created) {
+      PendingChange pendingChange = pendingChanges.get(path);
+      if (!unprocessed.contains(path)) {
+        pendingChanges.remove(path);
+      } else if (now - pendingChange.firstEventNanos >= settleTimeout.toNanos()) {
+        pendingChanges.remove(path);
+        listener.onGiveUp(path);
+      } else {
+        // Retry after another quiet period, the content might not be complete yet
+        pendingChange.fingerprint = null;
+        pendingChange.lastEventNanos = now;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    thread.interrupt();
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      log.warn("Could not close watch service for `{}`", directory, e);
+    }
+  }
+
+  /**
+   * Receives the batched changes of a watched directory. Called on the watcher's thread.
+   */
+  public interface Listener {
+
+    /**
+     * @param created children that were created and whose content settled
+     * @param deleted children that were deleted
+     *
+     * @return the created children that could not be processed yet and should be reported again later
+     */
+    Set<Path> onChanges(Set<Path> created, Set<Path> deleted);
+
+    /**
+     * Called for a created child that still could not be processed after the settle timeout.
+     */
+    default void onGiveUp(Path path) {
+      log.warn("Giving up on `{}`", path);
+    }
+  }
+
+  private static final class PendingChange {
+    private final long firstEventNanos;
+    private boolean deleted;
+    private long lastEventNanos;
+    private Fingerprint fingerprint;
+
+    private PendingChange(boolean deleted, long eventNanos) {
+      this.deleted = deleted;
+      this.firstEventNanos = eventNanos;
+      this.lastEventNanos = eventNanos;
+    }
+  }
+
+  /**
+   * Summarizes the content of a file or folder, so that consecutive checks can tell whether it is still being
+   * written.
+   */
+  private record Fingerprint(long fileCount, long totalSize, long lastModified) {
+
+    private static Fingerprint of(Path path) {
+      try (Stream<Path> files = Files.walk(path)) {
+        long[] summary = new long[3];
+        files.forEach(file -> {
+          try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            summary[0]++;
+            summary[1] += attributes.size();
+            summary[2] = Math.max(summary[2], attributes.lastModifiedTime().toMillis());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+        return new Fingerprint(summary[0], summary[1], summary[2]);
+      } catch (IOException | UncheckedIOException e) {
+        // Files vanished or are locked while being written, so the content is not settled
+        return null;
+      }
+    }
+  }
+}
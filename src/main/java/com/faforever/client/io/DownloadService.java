@@ -1,69 +1,195 @@
 package com.faforever.client.io;
 
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
 import com.faforever.commons.io.ByteCopier;
 import com.faforever.commons.io.ByteCountListener;
+import com.google.common.util.concurrent.Striped;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+/**
+ * Downloads files over HTTP into a partial file next to the target file, which is only moved to the target once its
+ * checksum has been verified. Interrupted downloads are resumed with range requests, either within the configured
+ * number of attempts or the next time the same file is downloaded. Resumed ranges are only accepted if the file did not
+ * change on the server since the partial file was started, as told by its ETag or Last-Modified date. Files larger than the configured segment size are
+ * downloaded in parallel ranged segments. URLs of other protocols are read with a plain {@link URLConnection}.
+ */
 @Service
 @Lazy
 @Slf4j
 @RequiredArgsConstructor
 public class DownloadService {
 
-  /*
-   * Download a file from a URL using a temporary path and copy it to targetFile if it downloaded and the checksum
+  private static final String PARTIAL_FILE_SUFFIX = ".part";
+  private static final String VALIDATOR_FILE_SUFFIX = ".validator";
+  private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+  private static final Pattern UNSATISFIED_CONTENT_RANGE_PATTERN = Pattern.compile("bytes \\*/(\\d+)");
+  private static final Pattern SEGMENT_SUFFIX_PATTERN = Pattern.compile("(\\d+)-(\\d+)");
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final WebClient defaultWebClient;
+  private final ClientProperties clientProperties;
+  private final IoArbiter ioArbiter;
+
+  /**
+   * Two downloads to the same target would write the same partial files.
+   */
+  private final Striped<Lock> targetLocks = Striped.lock(64);
+
+  /**
+   * Download a file from a URL using a partial file and move it to targetFile if it downloaded and the checksum
    * matched.
    */
-  public void downloadFile(URL url, Map<String, String> requestProperties, Path targetFile, ByteCountListener progressListener, String md5sum) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
-    Path tempFile = Files.createTempFile(targetFile.getParent(), "download", null);
+  public DownloadStatistics downloadFile(URL url, Map<String, String> requestProperties, Path targetFile,
+                                         ByteCountListener progressListener,
+                                         String md5sum) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    return download(url, requestProperties, targetFile, progressListener, md5sum);
+  }
+
+  /**
+   * Download a file from a URL for which no checksum is known using a partial file and move it to targetFile once it
+   * is complete.
+   */
+  public DownloadStatistics downloadFile(URL url, Map<String, String> requestProperties, Path targetFile,
+                                         ByteCountListener progressListener) throws IOException {
+    try {
+      return download(url, requestProperties, targetFile, progressListener, null);
+    } catch (NoSuchAlgorithmException | ChecksumMismatchException e) {
+      throw new IllegalStateException("No checksum to verify", e);
+    }
+  }
+
+  private DownloadStatistics download(URL url, Map<String, String> requestProperties, Path targetFile,
+                                      ByteCountListener progressListener,
+                                      @Nullable String md5sum) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    Lock targetLock = targetLocks.get(targetFile.toAbsolutePath().normalize());
+    targetLock.lock();
+    try (Permit _ = ioArbiter.acquire(IoResource.download(url))) {
+      DownloadStatistics statistics;
+      if (isHttp(url)) {
+        statistics = downloadWithRanges(url, requestProperties, targetFile, progressListener, md5sum, true);
+      } else {
+        statistics = downloadWithUrlConnection(url, requestProperties, targetFile, progressListener, md5sum);
+      }
+      log.info("Downloaded `{}` to `{}`: {} bytes ({} resumed) in {} segment(s), {} KiB/s, first byte after {}, took {}",
+               url, targetFile, statistics.transferredBytes(), statistics.resumedBytes(), statistics.segments(),
+               statistics.bytesPerSecond() / 1024, statistics.timeToFirstByte(), statistics.duration());
+      return statistics;
+    } finally {
+      targetLock.unlock();
+    }
+  }
+
+  private DownloadStatistics downloadWithRanges(URL url, Map<String, String> requestProperties, Path targetFile,
+                                                ByteCountListener progressListener, @Nullable String md5sum,
+                                                boolean restartOnMismatch) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    Files.createDirectories(targetFile.getParent());
+    RangedDownload download = new RangedDownload(toUri(url), requestProperties, targetFile, progressListener,
+                                                 md5sum != null);
+    log.info("Downloading file from `{}` to `{}`", url, download.partialFile);
 
+    download.run();
+    String checksum = download.assemble();
+
+    // NOTE: It is crucial that we verify the checksum before using the file when downloading from mirrors! We don't
+    // want to be running unverified executables!
+    if (md5sum != null && !Objects.equals(md5sum, checksum)) {
+      download.deletePartialFiles();
+      if (restartOnMismatch && download.resumedBytes > 0) {
+        log.info("Checksum of resumed download from `{}` did not match, downloading it again", url);
+        return downloadWithRanges(url, requestProperties, targetFile, progressListener, md5sum, false);
+      }
+      throw new ChecksumMismatchException(url, md5sum, checksum);
+    }
+
+    Files.move(download.partialFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+    Files.deleteIfExists(download.validatorFile);
+    return download.statistics();
+  }
+
+  private DownloadStatistics downloadWithUrlConnection(URL url, Map<String, String> requestProperties, Path targetFile,
+                                                       ByteCountListener progressListener,
+                                                       @Nullable String md5sum) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    Path tempFile = Files.createTempFile(targetFile.getParent(), "download", null);
+    long startNanos = System.nanoTime();
 
     URLConnection urlConnection = url.openConnection();
     requestProperties.forEach(urlConnection::setRequestProperty);
 
     log.info("Downloading file from `{}` to `{}`", url, tempFile);
 
-    ResourceLocks.acquireDownloadLock();
     MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+    AtomicLong transferredBytes = new AtomicLong();
     try (InputStream inputStream = urlConnection.getInputStream();
          DigestInputStream digestInputStream = new DigestInputStream(inputStream, messageDigest);
          OutputStream outputStream = Files.newOutputStream(tempFile)) {
+      Duration timeToFirstByte = Duration.ofNanos(System.nanoTime() - startNanos);
 
       ByteCopier.from(digestInputStream)
           .to(outputStream)
           .totalBytes(urlConnection.getContentLength())
-          .listener(progressListener)
+          .listener((written, total) -> {
+            transferredBytes.set(written);
+            progressListener.updateBytesProcessed(written, total);
+          })
           .copy();
 
-      // NOTE: It is crucial that we verify the checksum before using the file when downloading from mirrors! We don't
-      // want to be running unverified executables!
       String checksum = HexFormat.of().formatHex(messageDigest.digest()).toLowerCase();
-      if (!Objects.equals(md5sum, checksum)) {
-        throw new ChecksumMismatchException(url, checksum, md5sum);
+      if (md5sum != null && !Objects.equals(md5sum, checksum)) {
+        throw new ChecksumMismatchException(url, md5sum, checksum);
       }
 
       Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+      return new DownloadStatistics(Files.size(targetFile), 0, 1, timeToFirstByte,
+                                    Duration.ofNanos(System.nanoTime() - startNanos));
     } finally {
-      ResourceLocks.freeDownloadLock();
       try {
         Files.deleteIfExists(tempFile);
       } catch (IOException e) {
@@ -71,4 +197,500 @@ public class DownloadService {
       }
     }
   }
+
+  private static boolean isHttp(URL url) {
+    return "http".equalsIgnoreCase(url.getProtocol()) || "https".equalsIgnoreCase(url.getProtocol());
+  }
+
+  private static URI toUri(URL url) throws IOException {
+    try {
+      return url.toURI();
+    } catch (URISyntaxException e) {
+      throw new IOException("Invalid download URL: " + url, e);
+    }
+  }
+
+  private static long sizeOf(Path file) throws IOException {
+    return Files.exists(file) ? Files.size(file) : 0;
+  }
+
+  private static IOException toIOException(Throwable throwable) {
+    Throwable cause = Exceptions.unwrap(throwable);
+    if (cause instanceof IOException ioException) {
+      return ioException;
+    }
+    return new IOException(cause.getMessage(), cause);
+  }
+
+  private static boolean isRetryable(IOException exception) {
+    return !(exception.getCause() instanceof WebClientResponseException responseException)
+        || responseException.getStatusCode().is5xxServerError();
+  }
+
+  /**
+   * A download into {@code <target>.part}. If the server supports range requests and the file is larger than the
+   * segment size, the rest of the file is split into segments which are downloaded in parallel into
+   * {@code <target>.part<start>-<end>} files and appended to the partial file once all of them are complete. The file
+   * names describe the plan of the download, so that it can be resumed by a later download.
+   * <p>
+   * The validator of the file, its strong ETag or else its Last-Modified date, is stored in
+   * {@code <target>.part.validator} and sent as {@code If-Range} with every range request, so that a server which has a
+   * different version of the file answers with all of it. Without a validator, the partial files of a download which
+   * has no checksum to verify the result are discarded instead of resumed.
+   */
+  private class RangedDownload {
+
+    private final URI uri;
+    private final Map<String, String> requestProperties;
+    private final ByteCountListener progressListener;
+    private final Path partialFile;
+    private final Path validatorFile;
+    private final boolean verified;
+    private final long segmentSize;
+    private final int maxSegments;
+    private final int maxAttempts;
+
+    /** Digest of the first {@link #digestedBytes} bytes of the partial file. */
+    private final MessageDigest messageDigest;
+    private long digestedBytes;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final AtomicLong downloadedBytes = new AtomicLong();
+    private final AtomicLong transferredBytes = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private volatile long totalBytes = -1;
+    private long resumedBytes;
+    private int segmentCount = 1;
+    private long firstResponseNanos = -1;
+    @Nullable
+    private volatile String validator;
+    /** Set by a segment whose response shows that the file changed on the server. */
+    private volatile boolean stale;
+
+    /**
+     * @param verified whether the checksum of the downloaded file is verified
+     */
+    private RangedDownload(URI uri, Map<String, String> requestProperties, Path targetFile,
+                           ByteCountListener progressListener,
+                           boolean verified) throws IOException, NoSuchAlgorithmException {
+      ClientProperties.Download settings = clientProperties.getDownload();
+      this.uri = uri;
+      this.requestProperties = requestProperties;
+      this.progressListener = progressListener;
+      this.partialFile = targetFile.resolveSibling(targetFile.getFileName() + PARTIAL_FILE_SUFFIX);
+      this.validatorFile = partialFile.resolveSibling(partialFile.getFileName() + VALIDATOR_FILE_SUFFIX);
+      this.verified = verified;
+      this.segmentSize = settings.getSegmentSize();
+      this.maxSegments = settings.getMaxSegments();
+      this.maxAttempts = Math.max(settings.getMaxAttempts(), 1);
+      this.messageDigest = MessageDigest.getInstance("MD5");
+
+      loadSegments();
+      validator = Files.exists(validatorFile) ? Files.readString(validatorFile) : null;
+      if (validator == null && !verified && (Files.exists(partialFile) || !segments.isEmpty())) {
+        log.debug("Discarding partial download `{}` which can't be validated", partialFile);
+        deletePartialFiles();
+      }
+      resumedBytes = sizeOf(partialFile);
+      for (Segment segment : segments) {
+        resumedBytes += segment.size();
+      }
+      downloadedBytes.set(resumedBytes);
+    }
+
+    private boolean isSegmented() {
+      return maxSegments > 1 && segmentSize > 0;
+    }
+
+    void run() throws IOException {
+      for (int attempt = 1; ; attempt++) {
+        try {
+          downloadFirstSegment();
+          downloadSegments();
+          return;
+        } catch (IOException e) {
+          if (attempt >= maxAttempts || !isRetryable(e)) {
+            // The partial files are kept so that the next download of this file can resume
+            throw e;
+          }
+          log.info("Download from `{}` interrupted after {} bytes, resuming (attempt {}/{})", uri,
+                   downloadedBytes.get(), attempt + 1, maxAttempts, e);
+          if (validator == null && !verified) {
+            restart();
+          }
+        }
+      }
+    }
+
+    private void downloadFirstSegment() throws IOException {
+      long offset = sizeOf(partialFile);
+      long end;
+      if (!segments.isEmpty()) {
+        end = segments.getFirst().start() - 1;
+        if (offset > end + 1) {
+          // Left over from an interrupted assembly
+          truncate(partialFile, end + 1);
+          offset = end + 1;
+        }
+        if (offset == end + 1) {
+          digestPartialFile(offset);
+          return;
+        }
+      } else if (isSegmented()) {
+        if (offset >= segmentSize) {
+          // Complete first segment without the files of the other segments, the plan of the download is lost
+          truncate(partialFile, 0);
+          offset = 0;
+        }
+        end = segmentSize - 1;
+      } else {
+        end = -1;
+      }
+
+      digestPartialFile(offset);
+      String range = end >= 0 ? "bytes=" + offset + "-" + end : offset > 0 ? "bytes=" + offset + "-" : null;
+      ResponseEntity<Flux<DataBuffer>> response = request(range);
+      Flux<DataBuffer> body = Objects.requireNonNull(response.getBody());
+      HttpHeaders headers = response.getHeaders();
+      int status = response.getStatusCode().value();
+
+      if (status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+        discard(body);
+        Matcher matcher = UNSATISFIED_CONTENT_RANGE_PATTERN.matcher(Objects.toString(headers.getFirst(HttpHeaders.CONTENT_RANGE), ""));
+        if (segments.isEmpty() && matcher.matches() && Long.parseLong(matcher.group(1)) == offset) {
+          // The partial file already is complete
+          totalBytes = offset;
+          return;
+        }
+        truncate(partialFile, 0);
+        throw new IOException("Could not resume download from " + uri + " at " + offset);
+      }
+
+      if (status == HttpStatus.PARTIAL_CONTENT.value()) {
+        Matcher matcher = CONTENT_RANGE_PATTERN.matcher(Objects.toString(headers.getFirst(HttpHeaders.CONTENT_RANGE), ""));
+        if (!matcher.matches() || Long.parseLong(matcher.group(1)) != offset) {
+          discard(body);
+          truncate(partialFile, 0);
+          throw new IOException("Unexpected content range from " + uri + ": " + headers.getFirst(HttpHeaders.CONTENT_RANGE));
+        }
+        long rangeEnd = Long.parseLong(matcher.group(2));
+        if (!"*".equals(matcher.group(3))) {
+          long total = Long.parseLong(matcher.group(3));
+          if (!segments.isEmpty() && total != totalBytes) {
+            discard(body);
+            log.info("Size of `{}` changed from {} to {} bytes, downloading it again", uri, totalBytes, total);
+            restart();
+            downloadFirstSegment();
+            return;
+          }
+          totalBytes = total;
+          if (segments.isEmpty() && isSegmented() && totalBytes > rangeEnd + 1) {
+            planSegments(rangeEnd + 1, totalBytes);
+          }
+        }
+      } else {
+        if (offset > 0 || !segments.isEmpty()) {
+          log.debug("Server ignored range request for `{}` or the file changed, downloading it from the start", uri);
+          restart();
+        }
+        long contentLength = headers.getContentLength();
+        totalBytes = contentLength >= 0 ? contentLength : -1;
+      }
+      saveValidator(headers);
+
+      write(body, partialFile, true);
+      long expectedSize = segments.isEmpty() ? totalBytes : segments.getFirst().start();
+      if (expectedSize >= 0 && sizeOf(partialFile) != expectedSize) {
+        throw new IOException("Download from " + uri + " ended prematurely");
+      }
+    }
+
+    private void saveValidator(HttpHeaders headers) throws IOException {
+      String eTag = headers.getETag();
+      // Weak ETags must not be used with If-Range
+      validator = eTag != null && !eTag.startsWith("W/") ? eTag : headers.getFirst(HttpHeaders.LAST_MODIFIED);
+      if (validator != null) {
+        Files.writeString(validatorFile, validator);
+      } else {
+        Files.deleteIfExists(validatorFile);
+      }
+    }
+
+    /**
+     * Deletes the partial files, so the download starts from the beginning.
+     */
+    private void restart() throws IOException {
+      deletePartialFiles();
+      messageDigest.reset();
+      digestedBytes = 0;
+      resumedBytes = 0;
+      totalBytes = -1;
+      downloadedBytes.set(0);
+      stale = false;
+    }
+
+    private void downloadSegments() throws IOException {
+      List<Segment> incompleteSegments = new ArrayList<>();
+      for (Segment segment : segments) {
+        if (segment.size() < segment.length()) {
+          incompleteSegments.add(segment);
+        }
+      }
+      if (incompleteSegments.isEmpty()) {
+        return;
+      }
+
+      try {
+        // Errors are delayed until all segments stopped, so that a retry never writes to a file concurrently
+        Flux.fromIterable(incompleteSegments)
+            .flatMapDelayError(segment -> Mono.fromCallable(() -> {
+              downloadSegment(segment);
+              return segment;
+            }).subscribeOn(Schedulers.boundedElastic()), maxSegments, 1)
+            .then()
+            .block();
+      } catch (RuntimeException e) {
+        if (stale) {
+          log.info("File at `{}` changed on the server, downloading it again", uri);
+          restart();
+        }
+        throw toIOException(e);
+      }
+    }
+
+    private void downloadSegment(Segment segment) throws IOException {
+      long offset = segment.size();
+      if (offset > segment.length()) {
+        truncate(segment.file(), 0);
+        offset = 0;
+      }
+
+      ResponseEntity<Flux<DataBuffer>> response = request(
+          "bytes=" + (segment.start() + offset) + "-" + segment.end());
+      Flux<DataBuffer> body = Objects.requireNonNull(response.getBody());
+      Matcher matcher = CONTENT_RANGE_PATTERN.matcher(
+          Objects.toString(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE), ""));
+      if (response.getStatusCode().value() == HttpStatus.OK.value() && validator != null
+          || matcher.matches() && !"*".equals(matcher.group(3)) && Long.parseLong(matcher.group(3)) != totalBytes) {
+        // Either answer means that the file differs from the one the segments were planned for
+        discard(body);
+        stale = true;
+        throw new IOException("File changed on the server while downloading segment " + segment.file().getFileName());
+      }
+      if (response.getStatusCode().value() != HttpStatus.PARTIAL_CONTENT.value()
+          || !matcher.matches() || Long.parseLong(matcher.group(1)) != segment.start() + offset) {
+        discard(body);
+        throw new IOException("Server did not honor range request for segment " + segment.file().getFileName());
+      }
+
+      write(body, segment.file(), false);
+      if (segment.size() != segment.length()) {
+        throw new IOException("Segment " + segment.file().getFileName() + " is incomplete");
+      }
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> request(@Nullable String range) throws IOException {
+      try {
+        ResponseEntity<Flux<DataBuffer>> response = defaultWebClient.get()
+            .uri(uri)
+            .headers(headers -> {
+              requestProperties.forEach(headers::set);
+              if (range != null) {
+                headers.set(HttpHeaders.RANGE, range);
+                String currentValidator = validator;
+                if (currentValidator != null) {
+                  headers.set(HttpHeaders.IF_RANGE, currentValidator);
+                }
+              }
+            })
+            .retrieve()
+            .onStatus(status -> status.value() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(),
+                      _ -> Mono.empty())
+            .toEntityFlux(DataBuffer.class)
+            .block();
+        synchronized (this) {
+          if (firstResponseNanos < 0) {
+            firstResponseNanos = System.nanoTime();
+          }
+        }
+        return Objects.requireNonNull(response);
+      } catch (RuntimeException e) {
+        throw toIOException(e);
+      }
+    }
+
+    private void write(Flux<DataBuffer> body, Path file, boolean digest) throws IOException {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                  StandardOpenOption.APPEND);
+           Stream<DataBuffer> buffers = body.toStream()) {
+        Iterator<DataBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+          DataBuffer buffer = iterator.next();
+          try (DataBuffer.ByteBufferIterator byteBuffers = buffer.readableByteBuffers()) {
+            while (byteBuffers.hasNext()) {
+              ByteBuffer byteBuffer = byteBuffers.next();
+              ByteBuffer written = byteBuffer.duplicate();
+              int length = byteBuffer.remaining();
+              while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+              }
+              if (digest) {
+                messageDigest.update(written);
+                digestedBytes += length;
+              }
+              transferredBytes.addAndGet(length);
+              progressListener.updateBytesProcessed(downloadedBytes.addAndGet(length), totalBytes);
+            }
+          } finally {
+            DataBufferUtils.release(buffer);
+          }
+        }
+      } catch (RuntimeException e) {
+        throw toIOException(e);
+      }
+    }
+
+    /**
+     * Brings the digest up to the given length of the partial file, which only reads the bytes of the partial file
+     * that were written by an earlier attempt or download.
+     */
+    private void digestPartialFile(long length) throws IOException {
+      if (digestedBytes > length) {
+        messageDigest.reset();
+        digestedBytes = 0;
+      }
+      if (digestedBytes == length) {
+        return;
+      }
+
+      try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.READ)) {
+        channel.position(digestedBytes);
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        while (digestedBytes < length) {
+          buffer.clear().limit((int) Math.min(buffer.capacity(), length - digestedBytes));
+          int read = channel.read(buffer);
+          if (read < 0) {
+            throw new IOException("Partial file " + partialFile + " is shorter than expected");
+          }
+          messageDigest.update(buffer.flip());
+          digestedBytes += read;
+        }
+      }
+    }
+
+    /**
+     * Appends the segments to the partial file while completing its digest, and deletes them afterward.
+     *
+     * @return the MD5 checksum of the complete file
+     */
+    String assemble() throws IOException {
+      segmentCount = segments.size() + 1;
+      digestPartialFile(sizeOf(partialFile));
+      if (!segments.isEmpty()) {
+        try (FileChannel target = FileChannel.open(partialFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                   StandardOpenOption.APPEND)) {
+          ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+          for (Segment segment : segments) {
+            try (FileChannel source = FileChannel.open(segment.file(), StandardOpenOption.READ)) {
+              while (source.read(buffer.clear()) >= 0) {
+                buffer.flip();
+                messageDigest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                  target.write(buffer);
+                }
+              }
+            }
+          }
+        }
+        // Only deleted once the partial file is complete, so an interrupted assembly can be repeated
+        deleteSegmentFiles();
+      }
+      return HexFormat.of().formatHex(messageDigest.digest()).toLowerCase();
+    }
+
+    private void planSegments(long start, long total) throws IOException {
+      long remaining = total - start;
+      int count = (int) Math.min(maxSegments, (remaining + segmentSize - 1) / segmentSize);
+      long length = (remaining + count - 1) / count;
+      for (long segmentStart = start; segmentStart < total; segmentStart += length) {
+        long segmentEnd = Math.min(segmentStart + length, total) - 1;
+        Path file = partialFile.resolveSibling(partialFile.getFileName().toString() + segmentStart + "-" + segmentEnd);
+        Files.deleteIfExists(file);
+        Files.createFile(file);
+        segments.add(new Segment(file, segmentStart, segmentEnd));
+      }
+    }
+
+    private void loadSegments() throws IOException {
+      String prefix = partialFile.getFileName().toString();
+      try (Stream<Path> files = Files.list(partialFile.getParent())) {
+        files.forEach(file -> {
+          String fileName = file.getFileName().toString();
+          if (!fileName.startsWith(prefix)) {
+            return;
+          }
+          Matcher matcher = SEGMENT_SUFFIX_PATTERN.matcher(fileName.substring(prefix.length()));
+          if (matcher.matches()) {
+            segments.add(new Segment(file, Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))));
+          }
+        });
+      }
+      segments.sort(Comparator.comparingLong(Segment::start));
+
+      boolean contiguous = segments.isEmpty() || segments.getFirst().start() > 0;
+      for (int i = 1; i < segments.size() && contiguous; i++) {
+        contiguous = segments.get(i).start() == segments.get(i - 1).end() + 1;
+      }
+      if (!contiguous) {
+        log.debug("Discarding inconsistent segments of `{}`", partialFile);
+        deleteSegmentFiles();
+      }
+      if (!segments.isEmpty()) {
+        totalBytes = segments.getLast().end() + 1;
+      }
+    }
+
+    void deletePartialFiles() throws IOException {
+      deleteSegmentFiles();
+      Files.deleteIfExists(partialFile);
+      Files.deleteIfExists(validatorFile);
+      validator = null;
+    }
+
+    private void deleteSegmentFiles() throws IOException {
+      for (Segment segment : segments) {
+        Files.deleteIfExists(segment.file());
+      }
+      segments.clear();
+    }
+
+    private void truncate(Path file, long size) throws IOException {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        channel.truncate(size);
+      }
+    }
+
+    private void discard(Flux<DataBuffer> body) {
+      // Cancelling the body releases the connection without reading a possibly large response
+      body.take(0, true).subscribe(DataBufferUtils::release);
+    }
+
+    DownloadStatistics statistics() {
+      long now = System.nanoTime();
+      Duration timeToFirstByte = Duration.ofNanos(firstResponseNanos < 0 ? 0 : firstResponseNanos - startNanos);
+      return new DownloadStatistics(transferredBytes.get(), resumedBytes, segmentCount, timeToFirstByte,
+                                    Duration.ofNanos(now - startNanos));
+    }
+  }
+
+  private record Segment(Path file, long start, long end) {
+
+    long length() {
+      return end - start + 1;
+    }
+
+    long size() throws IOException {
+      return sizeOf(file);
+    }
+  }
 }
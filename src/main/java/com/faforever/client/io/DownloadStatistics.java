@@ -0,0 +1,26 @@
+package com.faforever.client.io;
+
+import java.time.Duration;
+
+/**
+ * Describes a finished download.
+ *
+ * @param transferredBytes bytes received during this download
+ * @param resumedBytes bytes of a previously interrupted download that did not need to be downloaded again
+ * @param segments number of ranged segments the file was downloaded in
+ * @param timeToFirstByte time until the response of the first request arrived
+ * @param duration total time of the download, including the checksum verification
+ */
+public record DownloadStatistics(
+    long transferredBytes,
+    long resumedBytes,
+    int segments,
+    Duration timeToFirstByte,
+    Duration duration
+) {
+
+  public long bytesPerSecond() {
+    long millis = Math.max(duration.toMillis(), 1);
+    return transferredBytes * 1000 / millis;
+  }
+}
@@ -2,10 +2,12 @@ package com.faforever.client.io;
 
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.Preferences;
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
 import com.faforever.client.util.UpdaterUtil;
 import com.faforever.commons.api.dto.FeaturedModFile;
-import com.google.common.hash.Hashing;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -22,8 +24,6 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.stream.Stream;
 
-import static com.google.common.io.Files.hash;
-
 
 @Service
 @Slf4j
@@ -31,13 +31,26 @@ import static com.google.common.io.Files.hash;
 public class FeaturedModFileCacheService implements InitializingBean {
   private final DataPrefs dataPrefs;
   private final Preferences preferences;
+  private final FileHashManifest fileHashManifest;
+  private final IoArbiter ioArbiter;
 
   public boolean isCached(FeaturedModFile featuredModFile) throws IOException {
     return Files.exists(getCachedFilePath(featuredModFile));
   }
 
+  /**
+   * Returns the MD5 hash of the given file. Unless {@link Preferences#isGameDataDeepVerify() deep verification} is
+   * enabled, the hash is taken from the {@link FileHashManifest} if the file did not change since it was last hashed.
+   */
   public String readHashFromFile(Path filePath) throws IOException {
-    return hash(filePath.toFile(), Hashing.md5()).toString();
+    if (preferences.isGameDataDeepVerify()) {
+      return fileHashManifest.computeMd5(filePath);
+    }
+    return fileHashManifest.getMd5(filePath);
+  }
+
+  public void saveHashManifest() {
+    fileHashManifest.save();
   }
 
   private Path getCachedFilePath(String hash, String group) {
@@ -56,17 +69,14 @@ public class FeaturedModFileCacheService implements InitializingBean {
 
   public void copyFeaturedModFileFromCache(FeaturedModFile featuredModFile, Path targetPath) throws IOException {
     Files.createDirectories(targetPath.getParent());
-    ResourceLocks.acquireDiskLock();
 
-    try {
+    try (Permit _ = ioArbiter.acquire(IoResource.disk(targetPath.getParent()))) {
       if (Files.exists(targetPath) && preferences.isGameDataCacheActivated()) {
         //We want to keep the old file for now in case it is needed again for example for old replays
         moveFeaturedModFileToCache(targetPath);
       }
       Files.copy(getCachedFilePath(featuredModFile), targetPath, StandardCopyOption.REPLACE_EXISTING);
       UpdaterUtil.extractMoviesAndSoundsIfPresent(targetPath, dataPrefs.getBaseDataDirectory());
-    } finally {
-      ResourceLocks.freeDiskLock();
     }
   }
 
@@ -106,9 +116,8 @@ public class FeaturedModFileCacheService implements InitializingBean {
    * Per directory cleanup old files.
    */
   private void deleteCachedFileIfNeeded(Path filePath) {
-    try {
-      ResourceLocks.acquireDiskLock();
-
+    // Cleaning up must never delay copying game files
+    try (Permit _ = ioArbiter.acquire(IoResource.disk(filePath.getParent()), Priority.LOW)) {
       FileTime lastAccessTime = Files.readAttributes(filePath, BasicFileAttributes.class).lastAccessTime();
       OffsetDateTime comparableLastAccessTime = OffsetDateTime.ofInstant(lastAccessTime.toInstant(), ZoneId.systemDefault());
       final boolean olderThanCacheTime = comparableLastAccessTime.plusDays(preferences.getCacheLifeTimeInDays()).isBefore(OffsetDateTime.now());
@@ -119,8 +128,6 @@ public class FeaturedModFileCacheService implements InitializingBean {
       }
     } catch (Exception e) {
       log.error("Exception during deleting the cache files", e);
-    } finally {
-      ResourceLocks.freeDiskLock();
     }
   }
 }
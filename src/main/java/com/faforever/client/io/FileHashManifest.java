@@ -0,0 +1,88 @@
+package com.faforever.client.io;
+
+import com.faforever.client.cache.PersistentIndex;
+import com.faforever.client.preferences.DataPrefs;
+import com.google.common.hash.Hashing;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.google.common.io.Files.hash;
+
+/**
+ * Persistent manifest of the MD5 hashes of game data files, stored in the cache directory. Entries are keyed by the
+ * file and validated against its size, last modified time and file key, so unchanged files don't need to be hashed
+ * again on every game start.
+ */
+@Lazy
+@Component
+public class FileHashManifest {
+
+  private static final String MANIFEST_FILE_NAME = "file-hash-manifest.json";
+  private static final int FORMAT_VERSION = 1;
+
+  private final DataPrefs dataPrefs;
+  private final PersistentIndex<FileHashManifestEntry> index;
+
+  public FileHashManifest(DataPrefs dataPrefs) {
+    this.dataPrefs = dataPrefs;
+    this.index = new PersistentIndex<>(this::getManifestFile, FileHashManifestEntry.class, FORMAT_VERSION);
+  }
+
+  /**
+   * Returns the MD5 hash of the given file, which is only computed if the file changed since it was last hashed.
+   */
+  public String getMd5(Path file) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    Optional<String> md5 = index.get(toKey(file))
+        .filter(entry -> entry.matches(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                                       toFileKey(attributes)))
+        .map(FileHashManifestEntry::md5);
+    if (md5.isPresent()) {
+      return md5.get();
+    }
+    return computeMd5(file, attributes);
+  }
+
+  /**
+   * Hashes the given file regardless of whether a valid entry exists, and updates the entry.
+   */
+  public String computeMd5(Path file) throws IOException {
+    return computeMd5(file, Files.readAttributes(file, BasicFileAttributes.class));
+  }
+
+  private String computeMd5(Path file, BasicFileAttributes attributes) throws IOException {
+    // The attributes are read before hashing, so a file modified while being hashed does not match its entry anymore
+    String md5 = hash(file.toFile(), Hashing.md5()).toString();
+    index.put(toKey(file), new FileHashManifestEntry(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                                                     toFileKey(attributes), md5));
+    return md5;
+  }
+
+  /**
+   * Removes the entries of files that don't exist anymore and writes the manifest to disk if it changed.
+   */
+  public void save() {
+    index.removeIf(key -> !Files.exists(Path.of(key)));
+    index.save();
+  }
+
+  private Path getManifestFile() {
+    return dataPrefs.getCacheDirectory().resolve(MANIFEST_FILE_NAME);
+  }
+
+  private static String toFileKey(BasicFileAttributes attributes) {
+    // Identifies the inode on unix systems, not available on Windows
+    return Objects.toString(attributes.fileKey(), null);
+  }
+
+  private static String toKey(Path file) {
+    return file.toAbsolutePath().normalize().toString();
+  }
+}
@@ -0,0 +1,19 @@
+package com.faforever.client.io;
+
+import java.util.Objects;
+
+/**
+ * The MD5 hash of a file as stored in the {@link FileHashManifest}, valid as long as the size, last modified time and
+ * file key (if the file system provides one) of the file did not change.
+ */
+public record FileHashManifestEntry(
+    long size,
+    long lastModified,
+    String fileKey,
+    String md5
+) {
+
+  public boolean matches(long size, long lastModified, String fileKey) {
+    return this.size == size && this.lastModified == lastModified && Objects.equals(this.fileKey, fileKey);
+  }
+}
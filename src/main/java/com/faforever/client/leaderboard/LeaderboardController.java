@@ -23,8 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.format.FormatStyle;
 import java.util.List;
 
@@ -35,6 +38,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LeaderboardController extends NodeController<StackPane> {
 
+  private static final Duration STANDINGS_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
   private final I18n i18n;
   private final LeaderboardService leaderboardService;
   private final NotificationService notificationService;
@@ -54,6 +59,10 @@ public class LeaderboardController extends NodeController<StackPane> {
   private final ObjectProperty<LeagueSeason> leagueSeason = new SimpleObjectProperty<>();
   private final ObjectProperty<List<LeagueSeason>> leagueSeasons = new SimpleObjectProperty<>(List.of());
 
+  private volatile LeagueStandings leagueStandings = LeagueStandings.EMPTY;
+  private Disposable standingsRefresh;
+  private Disposable seasonLoad;
+
   @Override
   protected void onInitialize() {
     JavaFxUtil.bindManagedToVisible(contentPane, connectionProgressPane);
@@ -78,9 +87,11 @@ public class LeaderboardController extends NodeController<StackPane> {
     leaderboardPlayerDetailsController.leagueSeasonProperty().bind(leagueSeason);
 
     leagueSeason.when(showing).subscribe(newSeason -> {
+      // Replies for the previously selected season must neither be shown nor start refreshing its standings
+      cancelSeasonLoad();
+      stopStandingsRefresh();
       if (newSeason == null) {
-        leaderboardRankingsController.setLeagueEntries(List.of());
-        leaderboardDistributionController.setLeagueEntries(List.of());
+        setLeagueStandings(LeagueStandings.EMPTY);
         leaderboardRankingsController.setSubdivisions(List.of());
         leaderboardDistributionController.setSubdivisions(List.of());
         leaderboardPlayerDetailsController.setLeagueEntry(null);
@@ -102,22 +113,18 @@ public class LeaderboardController extends NodeController<StackPane> {
                                                                         throwable, "leaderboard.failedToLoadEntry");
                                                                   });
 
-      Mono<List<LeagueEntry>> activeEntries = leaderboardService.getActiveEntries(newSeason)
-                                                                .collectList()
-                                                                .publishOn(
-                                                                        fxApplicationThreadExecutor.asScheduler())
-                                                                .doOnNext(leagueEntries -> {
-                                                                      leaderboardRankingsController.setLeagueEntries(
-                                                                          leagueEntries);
-                                                                      leaderboardDistributionController.setLeagueEntries(
-                                                                          leagueEntries);
-                                                                    })
-                                                                .doOnError(throwable -> {
-                                                                      log.error("Error while loading league entries",
-                                                                                throwable);
-                                                                      notificationService.addImmediateErrorNotification(
-                                                                          throwable, "leaderboard.failedToLoadEntries");
-                                                                    });
+      Mono<LeagueStandings> standings = leaderboardService.getStandings(newSeason)
+                                                          .publishOn(fxApplicationThreadExecutor.asScheduler())
+                                                          .doOnNext(leagueStandings -> {
+                                                            setLeagueStandings(leagueStandings);
+                                                            startStandingsRefresh(newSeason);
+                                                          })
+                                                          .doOnError(throwable -> {
+                                                            log.error("Error while loading league entries",
+                                                                      throwable);
+                                                            notificationService.addImmediateErrorNotification(
+                                                                throwable, "leaderboard.failedToLoadEntries");
+                                                          });
 
       Mono<List<Subdivision>> subdivisions = leaderboardService.getAllSubdivisions(newSeason)
                                                                .collectList()
@@ -137,10 +144,63 @@ public class LeaderboardController extends NodeController<StackPane> {
                                                                          "leaderboard.failedToLoadDivisions");
                                                                    });
 
-      Mono.when(playerLeagueEntry, activeEntries, subdivisions).subscribe();
+      seasonLoad = Mono.when(playerLeagueEntry, standings, subdivisions).subscribe();
     });
   }
 
+  private void cancelSeasonLoad() {
+    if (seasonLoad != null) {
+      seasonLoad.dispose();
+      seasonLoad = null;
+    }
+  }
+
+  @Override
+  protected void onShow() {
+    LeagueSeason season = leagueSeason.get();
+    if (season != null && leagueStandings != LeagueStandings.EMPTY) {
+      startStandingsRefresh(season);
+    }
+  }
+
+  @Override
+  protected void onHide() {
+    stopStandingsRefresh();
+  }
+
+  /**
+   * Periodically reloads the standings of the season while they are displayed. Players who are already known are not
+   * fetched again and the views are only updated if the standings changed.
+   */
+  private void startStandingsRefresh(LeagueSeason season) {
+    stopStandingsRefresh();
+    standingsRefresh = Flux.interval(STANDINGS_REFRESH_INTERVAL)
+                           .concatMap(_ -> leaderboardService.refreshStandings(season, leagueStandings)
+                                                             .onErrorResume(throwable -> {
+                                                               log.warn("Could not refresh league standings",
+                                                                        throwable);
+                                                               return Mono.empty();
+                                                             }))
+                           .publishOn(fxApplicationThreadExecutor.asScheduler())
+                           .subscribe(this::setLeagueStandings);
+  }
+
+  private void stopStandingsRefresh() {
+    if (standingsRefresh != null) {
+      standingsRefresh.dispose();
+      standingsRefresh = null;
+    }
+  }
+
+  private void setLeagueStandings(LeagueStandings leagueStandings) {
+    if (leagueStandings.getEntries().equals(this.leagueStandings.getEntries())) {
+      return;
+    }
+    this.leagueStandings = leagueStandings;
+    leaderboardRankingsController.setLeagueStandings(leagueStandings);
+    leaderboardDistributionController.setLeagueEntries(leagueStandings.getEntries());
+  }
+
   public void setLeagueSeasons(List<LeagueSeason> leagueSeasons) {
     this.leagueSeasons.set(leagueSeasons);
   }
@@ -18,7 +18,6 @@ import com.faforever.client.fx.contextmenu.ShowPlayerInfoMenuItem;
 import com.faforever.client.fx.contextmenu.ViewReplaysMenuItem;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.player.PlayerService;
-import impl.org.controlsfx.autocompletion.SuggestionProvider;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
@@ -45,8 +44,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 
 @Slf4j
@@ -55,6 +53,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LeaderboardRankingsController extends NodeController<VBox> {
 
+  private static final int MAX_USERNAME_SUGGESTIONS = 20;
+
   private final I18n i18n;
   private final PlayerService playerService;
   private final ContextMenuBuilder contextMenuBuilder;
@@ -70,10 +70,9 @@ public class LeaderboardRankingsController extends NodeController<VBox> {
   public TableColumn<LeagueEntry, Integer> scoreColumn;
   public TableView<LeagueEntry> ratingTable;
 
-  private final ObjectProperty<List<LeagueEntry>> leagueEntries = new SimpleObjectProperty<>(List.of());
+  private final ObjectProperty<LeagueStandings> leagueStandings = new SimpleObjectProperty<>(LeagueStandings.EMPTY);
   private final ObjectProperty<List<Subdivision>> subdivisions = new SimpleObjectProperty<>(List.of());
   private final ObjectProperty<LeagueEntry> selectedLeagueEntry = new SimpleObjectProperty<>();
-  private final SuggestionProvider<String> usernameSuggestionProvider = SuggestionProvider.create(List.of());
   private final Map<Toggle, Subdivision> toggleSubdivisionMap = new HashMap<>();
   private final Map<Subdivision, Toggle> subdivisionToggleMap = new HashMap<>();
 
@@ -99,15 +98,11 @@ public class LeaderboardRankingsController extends NodeController<VBox> {
     });
 
     AutoCompletionBinding<String> usernamesAutoCompletion = TextFields.bindAutoCompletion(searchTextField,
-                                                                                          usernameSuggestionProvider);
+                                                                                          request -> getUsernameSuggestions(
+                                                                                              request.getUserText()));
     usernamesAutoCompletion.setDelay(0);
     usernamesAutoCompletion.setOnAutoCompleted(event -> processSearchInput());
 
-    leagueEntries.map(this::getPlayerNames).when(showing).subscribe(newNames -> {
-      usernameSuggestionProvider.clearSuggestions();
-      usernameSuggestionProvider.addPossibleSuggestions(newNames);
-    });
-
     ObservableValue<List<Subdivision>> selectedSubdivisions = subdivisions.flatMap(
         subdivisions -> divisionPicker.getSelectionModel()
                                       .selectedItemProperty()
@@ -124,30 +119,26 @@ public class LeaderboardRankingsController extends NodeController<VBox> {
       }
     });
 
-    leagueEntries.flatMap(leagueEntries -> subdivisionToggleGroup.selectedToggleProperty()
-                                                                 .map(toggleSubdivisionMap::get)
-                                                                 .map(subdivision -> leagueEntries.stream()
-                                                                                                  .filter(
-                                                                                                      leagueEntry1 -> leagueEntry1.subdivision()
-                                                                                                                                  .equals(
-                                                                                                                                      subdivision))
-                                                                                                  .toList()))
-                 .orElse(List.of())
-                 .map(FXCollections::observableList)
-                 .when(showing)
-                 .subscribe(leagueEntries -> {
-                   ratingTable.setItems(leagueEntries);
-                   ratingTable.getSelectionModel().select(selectedLeagueEntry.get());
-                 });
-
-    leagueEntries.when(showing)
-                 .subscribe(leagueEntries -> leagueEntries.stream()
-                                                          .filter(leagueEntry -> playerService.getCurrentPlayer()
-                                                                                              .equals(
-                                                                                                  leagueEntry.player()))
-                                                          .findFirst()
-                                                          .ifPresentOrElse(selectedLeagueEntry::set,
-                                                                           () -> selectedLeagueEntry.set(null)));
+    leagueStandings.flatMap(standings -> subdivisionToggleGroup.selectedToggleProperty()
+                                                               .map(toggleSubdivisionMap::get)
+                                                               .map(standings::getEntries))
+                   .orElse(List.of())
+                   .map(FXCollections::observableList)
+                   .when(showing)
+                   .subscribe(leagueEntries -> {
+                     ratingTable.setItems(leagueEntries);
+                     ratingTable.getSelectionModel().select(selectedLeagueEntry.get());
+                   });
+
+    leagueStandings.when(showing).subscribe(standings -> {
+      // Keeps the selected player selected when the standings are refreshed
+      LeagueEntry previouslySelectedEntry = selectedLeagueEntry.get();
+      Optional<LeagueEntry> selectedEntry = Optional.ofNullable(previouslySelectedEntry)
+                                                    .flatMap(leagueEntry -> standings.findByPlayerId(
+                                                        leagueEntry.player().getId()));
+      selectedLeagueEntry.set(selectedEntry.or(
+          () -> standings.findByPlayerId(playerService.getCurrentPlayer().getId())).orElse(null));
+    });
 
     selectedLeagueEntry.when(showing).subscribe(leagueEntry -> {
       if (leagueEntry != null) {
@@ -230,8 +221,15 @@ public class LeaderboardRankingsController extends NodeController<VBox> {
     return row;
   }
 
-  private Set<String> getPlayerNames(List<LeagueEntry> entries) {
-    return entries.stream().map(LeagueEntry::player).map(PlayerInfo::getUsername).collect(Collectors.toSet());
+  private List<String> getUsernameSuggestions(String userText) {
+    if (userText.isBlank()) {
+      return List.of();
+    }
+    return leagueStandings.get()
+                          .findByUsernamePrefix(userText, MAX_USERNAME_SUGGESTIONS)
+                          .stream()
+                          .map(leagueEntry -> leagueEntry.player().getUsername())
+                          .toList();
   }
 
   private List<Division> getDivisions(List<Subdivision> subdivisions) {
@@ -248,10 +246,7 @@ public class LeaderboardRankingsController extends NodeController<VBox> {
       return;
     }
 
-    leagueEntries.getValue()
-                 .stream().filter(leagueEntry -> leagueEntry.player().getUsername().equals(searchedUsername))
-                 .findFirst()
-                 .ifPresent(selectedLeagueEntry::set);
+    leagueStandings.get().findByUsername(searchedUsername).ifPresent(selectedLeagueEntry::set);
   }
 
   @Override
@@ -259,16 +254,16 @@ public class LeaderboardRankingsController extends NodeController<VBox> {
     return rankingsRoot;
   }
 
-  public List<LeagueEntry> getLeagueEntries() {
-    return leagueEntries.get();
+  public LeagueStandings getLeagueStandings() {
+    return leagueStandings.get();
   }
 
-  public ObjectProperty<List<LeagueEntry>> leagueEntriesProperty() {
-    return leagueEntries;
+  public ObjectProperty<LeagueStandings> leagueStandingsProperty() {
+    return leagueStandings;
   }
 
-  public void setLeagueEntries(List<LeagueEntry> leagueEntries) {
-    this.leagueEntries.set(leagueEntries);
+  public void setLeagueStandings(LeagueStandings leagueStandings) {
+    this.leagueStandings.set(leagueStandings);
   }
 
   public List<Subdivision> getSubdivisions() {
@@ -25,15 +25,14 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
 
 import java.net.URL;
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
@@ -190,7 +189,15 @@ public class LeaderboardService {
   }
 
   @Cacheable(value = CacheNames.LEAGUE_ENTRIES, sync = true)
-  public Flux<LeagueEntry> getActiveEntries(LeagueSeason leagueSeason) {
+  public Mono<LeagueStandings> getStandings(LeagueSeason leagueSeason) {
+    return refreshStandings(leagueSeason, LeagueStandings.EMPTY).cache();
+  }
+
+  /**
+   * Loads the current standings of the season. Only the players who are not part of the previous standings are
+   * fetched, so refreshing standings which are already displayed only costs the season scores themselves.
+   */
+  public Mono<LeagueStandings> refreshStandings(LeagueSeason leagueSeason, LeagueStandings previousStandings) {
     Condition<?> filter = qBuilder().intNum("leagueSeason.id").eq(leagueSeason.id()).and().intNum("score").gte(0);
 
     ElideNavigatorOnCollection<LeagueSeasonScore> navigator = ElideNavigator.of(LeagueSeasonScore.class)
@@ -204,19 +211,32 @@ public class LeaderboardService {
                                                                                 false).addSortingRule("score", false)
                                                                             .pageSize(fafApiAccessor.getMaxPageSize());
 
-    return fafApiAccessor.getMany(navigator).index().collectList().flatMapMany(this::mapLeagueEntryDtoToBean).cache();
+    return fafApiAccessor.getAll(navigator)
+                         .collectList()
+                         .flatMap(seasonScores -> mapLeagueEntryDtosToStandings(seasonScores, previousStandings));
   }
 
-  private Flux<LeagueEntry> mapLeagueEntryDtoToBean(List<Tuple2<Long, LeagueSeasonScore>> seasonScoresWithRank) {
-    Map<Integer, Tuple2<Long, LeagueSeasonScore>> scoresByPlayer = seasonScoresWithRank.stream()
-                                                                                       .collect(Collectors.toMap(
-                                                                                           tuple -> tuple.getT2()
-                                                                                                         .getLoginId(),
-                                                                                           Function.identity()));
-    return playerService.getPlayersByIds(scoresByPlayer.keySet()).map(player -> {
-      Tuple2<Long, LeagueSeasonScore> seasonScoreWithRank = scoresByPlayer.get(player.getId());
-      return leaderboardMapper.map(seasonScoreWithRank.getT2(), player, seasonScoreWithRank.getT1());
-    }).sort(Comparator.comparing(LeagueEntry::rank));
+  private Mono<LeagueStandings> mapLeagueEntryDtosToStandings(List<LeagueSeasonScore> seasonScoresByRank,
+                                                              LeagueStandings previousStandings) {
+    Set<Integer> unknownPlayerIds = seasonScoresByRank.stream()
+                                                      .map(LeagueSeasonScore::getLoginId)
+                                                      .filter(playerId -> previousStandings.findByPlayerId(playerId)
+                                                                                           .isEmpty())
+                                                      .collect(Collectors.toSet());
+    return playerService.getPlayersByIds(unknownPlayerIds).collectMap(PlayerInfo::getId).map(fetchedPlayers -> {
+      List<LeagueEntry> leagueEntries = new ArrayList<>(seasonScoresByRank.size());
+      for (int rank = 0; rank < seasonScoresByRank.size(); rank++) {
+        LeagueSeasonScore seasonScore = seasonScoresByRank.get(rank);
+        PlayerInfo player = fetchedPlayers.get(seasonScore.getLoginId());
+        if (player == null) {
+          player = previousStandings.findByPlayerId(seasonScore.getLoginId()).map(LeagueEntry::player).orElse(null);
+        }
+        if (player != null) {
+          leagueEntries.add(leaderboardMapper.map(seasonScore, player, (long) rank));
+        }
+      }
+      return LeagueStandings.of(leagueEntries);
+    });
   }
 
   @Cacheable(value = CacheNames.DIVISIONS, sync = true)
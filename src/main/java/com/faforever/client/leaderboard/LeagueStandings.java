@@ -0,0 +1,107 @@
+package com.faforever.client.leaderboard;
+
+import com.faforever.client.domain.api.LeagueEntry;
+import com.faforever.client.domain.api.Subdivision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable standings of a league season. Entries are kept in an array in rank order, together with an index of the
+ * lower case usernames sorted alphabetically, which allows finding players by their name or a prefix of it with a
+ * binary search.
+ */
+public final class LeagueStandings {
+
+  public static final LeagueStandings EMPTY = of(List.of());
+
+  private final List<LeagueEntry> entries;
+  private final String[] sortedUsernames;
+  private final LeagueEntry[] entriesBySortedUsername;
+  private final Map<Subdivision, List<LeagueEntry>> entriesBySubdivision;
+  private final Map<Integer, LeagueEntry> entriesByPlayerId;
+
+  private LeagueStandings(LeagueEntry[] entriesByRank) {
+    this.entries = Arrays.asList(entriesByRank);
+
+    entriesBySortedUsername = entriesByRank.clone();
+    Arrays.sort(entriesBySortedUsername, Comparator.comparing(LeagueStandings::toKey));
+    sortedUsernames = new String[entriesBySortedUsername.length];
+    for (int i = 0; i < entriesBySortedUsername.length; i++) {
+      sortedUsernames[i] = toKey(entriesBySortedUsername[i]);
+    }
+
+    entriesBySubdivision = new HashMap<>();
+    entriesByPlayerId = new HashMap<>(entriesByRank.length);
+    for (LeagueEntry entry : entriesByRank) {
+      if (entry.subdivision() != null) {
+        entriesBySubdivision.computeIfAbsent(entry.subdivision(), _ -> new ArrayList<>()).add(entry);
+      }
+      entriesByPlayerId.put(entry.player().getId(), entry);
+    }
+  }
+
+  /**
+   * @param entriesByRank entries ordered by rank, best first
+   */
+  public static LeagueStandings of(List<LeagueEntry> entriesByRank) {
+    return new LeagueStandings(entriesByRank.toArray(LeagueEntry[]::new));
+  }
+
+  /**
+   * Returns all entries ordered by rank, best first.
+   */
+  public List<LeagueEntry> getEntries() {
+    return Collections.unmodifiableList(entries);
+  }
+
+  /**
+   * Returns the entries of the given subdivision ordered by rank, best first.
+   */
+  public List<LeagueEntry> getEntries(Subdivision subdivision) {
+    return Collections.unmodifiableList(entriesBySubdivision.getOrDefault(subdivision, List.of()));
+  }
+
+  public Optional<LeagueEntry> findByPlayerId(int playerId) {
+    return Optional.ofNullable(entriesByPlayerId.get(playerId));
+  }
+
+  /**
+   * Finds the entry of the player with the given name, ignoring case.
+   */
+  public Optional<LeagueEntry> findByUsername(String username) {
+    int index = Arrays.binarySearch(sortedUsernames, username.toLowerCase(Locale.ROOT));
+    return index >= 0 ? Optional.of(entriesBySortedUsername[index]) : Optional.empty();
+  }
+
+  /**
+   * Returns the entries of players whose names start with the given prefix, ignoring case, in alphabetical order.
+   */
+  public List<LeagueEntry> findByUsernamePrefix(String prefix, int limit) {
+    String key = prefix.toLowerCase(Locale.ROOT);
+    int index = Arrays.binarySearch(sortedUsernames, key);
+    // The first username which is not smaller than the prefix
+    int start = index >= 0 ? index : -index - 1;
+    while (start > 0 && sortedUsernames[start - 1].equals(key)) {
+      start--;
+    }
+
+    List<LeagueEntry> matches = new ArrayList<>(Math.min(limit, sortedUsernames.length - start));
+    for (int i = start; i < sortedUsernames.length && matches.size() < limit && sortedUsernames[i].startsWith(key); i++) {
+      matches.add(entriesBySortedUsername[i]);
+    }
+    return matches;
+  }
+
+  private static String toKey(LeagueEntry entry) {
+    String username = entry.player().getUsername();
+    return username == null ? "" : username.toLowerCase(Locale.ROOT);
+  }
+}
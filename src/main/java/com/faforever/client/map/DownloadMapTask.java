@@ -1,20 +1,29 @@
 package com.faforever.client.map;
 
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import com.faforever.commons.io.Unzipper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
@@ -23,16 +32,22 @@ public class DownloadMapTask extends CompletableTask<Void> {
 
   private final I18n i18n;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
+  private final DataPrefs dataPrefs;
+  private final DownloadService downloadService;
 
   private URL mapUrl;
   private String folderName;
+  private volatile boolean prefetch;
 
   @Autowired
-  public DownloadMapTask(I18n i18n, ForgedAlliancePrefs forgedAlliancePrefs) {
-    super(Priority.HIGH);
+  public DownloadMapTask(I18n i18n, ForgedAlliancePrefs forgedAlliancePrefs, DataPrefs dataPrefs,
+                         DownloadService downloadService) {
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.forgedAlliancePrefs = forgedAlliancePrefs;
     this.i18n = i18n;
+    this.dataPrefs = dataPrefs;
+    this.downloadService = downloadService;
   }
 
   @Override
@@ -43,23 +58,47 @@ public class DownloadMapTask extends CompletableTask<Void> {
     updateTitle(i18n.get("mapDownloadTask.title", folderName));
     log.info("Downloading map `{}` from `{}`", folderName, mapUrl);
 
-    URLConnection urlConnection = mapUrl.openConnection();
-    int bytesToRead = urlConnection.getContentLength();
+    // Downloaded to a fixed path, so an interrupted download is resumed by the next download of the map
+    Path archive = dataPrefs.getCacheDirectory().resolve("maps").resolve(folderName + ".zip");
+    Files.createDirectories(archive.getParent());
+    downloadService.downloadFile(mapUrl, Map.of(), archive, this::updateProgress);
 
-    Path targetDirectory = forgedAlliancePrefs.getMapsDirectory();
+    Path mapsDirectory = forgedAlliancePrefs.getMapsDirectory();
+    // Extracted next to the maps directory and moved into it once complete, so a partially extracted map is never
+    // mistaken for an installed one
+    Path stagingDirectory = Files.createTempDirectory(mapsDirectory.toAbsolutePath().getParent(), ".map-download");
+    try {
+      try (InputStream inputStream = Files.newInputStream(archive)) {
+        Unzipper.from(inputStream)
+            .zipBombByteCountThreshold(100_000_000)
+            .to(stagingDirectory)
+            .totalBytes(Files.size(archive))
+            .listener(this::updateProgress)
+            .unzip();
+      }
 
-    try (InputStream inputStream = urlConnection.getInputStream()) {
-      Unzipper.from(inputStream)
-          .zipBombByteCountThreshold(100_000_000)
-          .to(targetDirectory)
-          .totalBytes(bytesToRead)
-          .listener(this::updateProgress)
-          .unzip();
+      try (Stream<Path> extractedFolders = Files.list(stagingDirectory)) {
+        for (Path extractedFolder : extractedFolders.toList()) {
+          moveIntoPlace(extractedFolder, mapsDirectory.resolve(extractedFolder.getFileName().toString()));
+        }
+      }
+    } finally {
+      FileSystemUtils.deleteRecursively(stagingDirectory);
+      Files.deleteIfExists(archive);
     }
 
     return null;
   }
 
+  private static void moveIntoPlace(Path source, Path target) throws IOException {
+    FileSystemUtils.deleteRecursively(target);
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      FileSystemUtils.copyRecursively(source, target);
+    }
+  }
+
   public void setMapUrl(URL mapUrl) {
     this.mapUrl = mapUrl;
   }
@@ -67,4 +106,26 @@ public class DownloadMapTask extends CompletableTask<Void> {
   public void setFolderName(String folderName) {
     this.folderName = folderName;
   }
+
+  /**
+   * Prefetched maps aren't needed right now, so they are downloaded with low priority and may be dropped from the
+   * queue when a game is launched. A queued prefetch gets its normal priority back once the map is needed.
+   */
+  public void setPrefetch(boolean prefetch) {
+    this.prefetch = prefetch;
+  }
+
+  public boolean isPrefetch() {
+    return prefetch;
+  }
+
+  @Override
+  public Priority getPriority() {
+    return prefetch ? Priority.LOW : super.getPriority();
+  }
+
+  @Override
+  public boolean isPreemptible() {
+    return prefetch;
+  }
 }
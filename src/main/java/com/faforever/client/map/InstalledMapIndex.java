@@ -0,0 +1,104 @@
+package com.faforever.client.map;
+
+import com.faforever.client.cache.PersistentIndex;
+import com.faforever.client.domain.api.Map;
+import com.faforever.client.domain.api.MapType;
+import com.faforever.client.domain.api.MapVersion;
+import com.faforever.client.preferences.DataPrefs;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Persistent index of the scenario information of installed maps, stored in the cache directory. Entries are keyed by
+ * the map folder and validated against the size and last modified time of the map's scenario file, so only maps which
+ * changed since the last start need to be read with LuaJ.
+ */
+@Slf4j
+@Lazy
+@Component
+public class InstalledMapIndex {
+
+  private static final String INDEX_FILE_NAME = "installed-maps-index.json";
+  private static final int FORMAT_VERSION = 1;
+
+  private final DataPrefs dataPrefs;
+  private final PersistentIndex<InstalledMapIndexEntry> index;
+
+  public InstalledMapIndex(DataPrefs dataPrefs) {
+    this.dataPrefs = dataPrefs;
+    this.index = new PersistentIndex<>(this::getIndexFile, InstalledMapIndexEntry.class, FORMAT_VERSION);
+  }
+
+  public Optional<MapVersion> get(Path mapFolder) {
+    return index.get(toKey(mapFolder)).filter(entry -> isUpToDate(mapFolder, entry)).map(entry -> {
+      Map map = new Map(null, entry.name(), 0, null, false, MapType.fromValue(entry.type()), null);
+      ComparableVersion version = entry.version() == null ? null : new ComparableVersion(entry.version());
+      return new MapVersion(null, mapFolder.getFileName().toString(), 0, entry.description(), entry.maxPlayers(),
+                            new MapSize(entry.width(), entry.height()), version, false, false, null, null, null, map,
+                            null);
+    });
+  }
+
+  public void put(Path mapFolder, Path scenarioFile, MapVersion mapVersion) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(scenarioFile, BasicFileAttributes.class);
+      Map map = mapVersion.map();
+      MapSize size = mapVersion.size();
+      index.put(toKey(mapFolder), new InstalledMapIndexEntry(scenarioFile.getFileName().toString(), attributes.size(),
+                                                             attributes.lastModifiedTime().toMillis(),
+                                                             map.displayName(), map.mapType().getValue(),
+                                                             mapVersion.description(), mapVersion.maxPlayers(),
+                                                             size.widthInPixels(), size.heightInPixels(),
+                                                             mapVersion.version() == null ? null : mapVersion.version()
+                                                                                                             .toString()));
+    } catch (IOException e) {
+      log.debug("Could not index map `{}`", mapFolder, e);
+    }
+  }
+
+  public void remove(Path mapFolder) {
+    index.remove(toKey(mapFolder));
+  }
+
+  /**
+   * Removes all entries whose map folder is not part of the given collection anymore.
+   */
+  public void retainAll(Collection<Path> mapFolders) {
+    index.retainAll(mapFolders.stream().map(InstalledMapIndex::toKey).toList());
+  }
+
+  public void save() {
+    index.save();
+  }
+
+  private boolean isUpToDate(Path mapFolder, InstalledMapIndexEntry entry) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(mapFolder.resolve(entry.scenarioFileName()),
+                                                            BasicFileAttributes.class);
+      return entry.matches(attributes.size(), attributes.lastModifiedTime().toMillis());
+    } catch (NoSuchFileException e) {
+      return false;
+    } catch (IOException e) {
+      log.debug("Could not read attributes of scenario file in `{}`", mapFolder, e);
+      return false;
+    }
+  }
+
+  private Path getIndexFile() {
+    return dataPrefs.getCacheDirectory().resolve(INDEX_FILE_NAME);
+  }
+
+  private static String toKey(Path mapFolder) {
+    return mapFolder.toAbsolutePath().normalize().toString();
+  }
+}
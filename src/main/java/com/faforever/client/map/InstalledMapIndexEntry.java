@@ -0,0 +1,23 @@
+package com.faforever.client.map;
+
+/**
+ * Scenario information of an installed map as stored in the {@link InstalledMapIndex}, valid as long as the size and
+ * last modified time of its scenario file did not change.
+ */
+public record InstalledMapIndexEntry(
+    String scenarioFileName,
+    long size,
+    long lastModified,
+    String name,
+    String type,
+    String description,
+    int maxPlayers,
+    int width,
+    int height,
+    String version
+) {
+
+  public boolean matches(long size, long lastModified) {
+    return this.size == size && this.lastModified == lastModified;
+  }
+}
@@ -1,5 +1,6 @@
 package com.faforever.client.map;
 
+import com.faforever.client.api.BatchLoader;
 import com.faforever.client.api.FafApiAccessor;
 import com.faforever.client.config.CacheNames;
 import com.faforever.client.config.ClientProperties;
@@ -15,19 +16,24 @@ import com.faforever.client.fa.FaStrings;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DirectoryWatcher;
+import com.faforever.client.io.DirectoryWatcher.Listener;
+import com.faforever.client.map.generator.GeneratedMapStore;
 import com.faforever.client.map.generator.MapGeneratorService;
 import com.faforever.client.mapstruct.MapMapper;
 import com.faforever.client.mapstruct.MatchmakerMapper;
-import com.faforever.client.notification.NotificationService;
 import com.faforever.client.player.PlayerService;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.preferences.Preferences;
 import com.faforever.client.remote.AssetService;
 import com.faforever.client.task.CompletableTask;
 import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.theme.ThemeService;
 import com.faforever.client.util.FileSizeReader;
+import com.faforever.client.util.ScenarioLuaParser;
+import com.faforever.client.util.ScenarioLuaParser.ScenarioInfo;
 import com.faforever.client.vault.search.SearchController.SearchConfig;
 import com.faforever.client.vault.search.SearchController.SortConfig;
 import com.faforever.client.vault.search.SearchController.SortOrder;
@@ -63,9 +69,10 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
-import reactor.util.retry.Retry;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -74,15 +81,17 @@ import java.net.URL;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.WatchKey;
-import java.nio.file.WatchService;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -92,8 +101,6 @@ import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 import static com.google.common.net.UrlEscapers.urlFragmentEscaper;
 import static java.lang.String.format;
 import static java.nio.file.Files.list;
-import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
-import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
 import static java.util.stream.Collectors.toCollection;
 
 
@@ -105,8 +112,10 @@ public class MapService implements InitializingBean, DisposableBean {
 
   public static final String DEBUG = "debug";
   private static final String MAP_VERSION_REGEX = ".*[.v](\\d{4})$"; // Matches to an string like 'adaptive_twin_rivers.v0031'
+  private static final int MAP_SCAN_CONCURRENCY = Math.max(2, Runtime.getRuntime().availableProcessors());
+  private static final int MAP_PUBLISH_BATCH_SIZE = 200;
+  private static final Duration MAP_PUBLISH_BATCH_INTERVAL = Duration.ofMillis(250);
 
-  private final NotificationService notificationService;
   private final TaskService taskService;
   private final FafApiAccessor fafApiAccessor;
   private final AssetService assetService;
@@ -124,8 +133,13 @@ public class MapService implements InitializingBean, DisposableBean {
   private final ObjectFactory<DownloadMapTask> downloadMapTaskFactory;
   private final ObjectFactory<UninstallMapTask> uninstallMapTaskFactory;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  private final InstalledMapIndex installedMapIndex;
+  private final GeneratedMapStore generatedMapStore;
 
   private final ObservableMap<String, MapVersion> mapsByFolderName = FXCollections.observableHashMap();
+  private final java.util.Map<String, DownloadMapTask> downloadMapTasksByFolderName = new HashMap<>();
+  private final BatchLoader<String, com.faforever.commons.api.dto.MapVersion> mapVersionLoader = new BatchLoader<>(
+      "MapVersion", this::fetchMapVersions, mapVersion -> mapVersion.getFolderName().toLowerCase(Locale.ROOT));
   @Getter
   private final ObservableList<MapVersion> installedMaps = JavaFxUtil.attachListToMap(
       FXCollections.synchronizedObservableList(FXCollections.observableArrayList()), mapsByFolderName);
@@ -141,7 +155,7 @@ public class MapService implements InitializingBean, DisposableBean {
                                     "SCMP_036", "SCMP_037", "SCMP_038", "SCMP_039", "SCMP_040", "X1MP_001", "X1MP_002",
                                     "X1MP_003", "X1MP_004", "X1MP_005", "X1MP_006", "X1MP_007", "X1MP_008", "X1MP_009",
                                     "X1MP_010", "X1MP_011", "X1MP_012", "X1MP_014", "X1MP_017");
-  private Thread directoryWatcherThread;
+  private DirectoryWatcher directoryWatcher;
 
   private static URL getDownloadUrl(String mapName, String baseUrl) throws MalformedURLException {
     return new URL(format(baseUrl, urlFragmentEscaper().escape(mapName).toLowerCase(Locale.US)));
@@ -177,8 +191,18 @@ public class MapService implements InitializingBean, DisposableBean {
 
     try {
       Files.createDirectories(mapsDirectory);
-      Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
-      directoryWatcherThread = startDirectoryWatcher(mapsDirectory);
+      Optional.ofNullable(directoryWatcher).ifPresent(DirectoryWatcher::close);
+      directoryWatcher = DirectoryWatcher.start(mapsDirectory, "maps-directory-watcher", new Listener() {
+        @Override
+        public Set<Path> onChanges(Set<Path> created, Set<Path> deleted) {
+          return applyMapsDirectoryChanges(created, deleted);
+        }
+
+        @Override
+        public void onGiveUp(Path mapFolder) {
+          log.error("Map could not be read: `{}`", mapFolder);
+        }
+      });
     } catch (IOException e) {
       log.warn("Could not start map directory watcher", e);
     }
@@ -187,42 +211,8 @@ public class MapService implements InitializingBean, DisposableBean {
     loadInstalledMaps();
   }
 
-  private Thread startDirectoryWatcher(Path mapsDirectory) {
-    Thread thread = new Thread(() -> {
-      try (WatchService watcher = mapsDirectory.getFileSystem().newWatchService()) {
-        forgedAlliancePrefs.getMapsDirectory().register(watcher, ENTRY_DELETE, ENTRY_CREATE);
-        while (!Thread.interrupted()) {
-          WatchKey key = watcher.take();
-          key.pollEvents()
-             .stream()
-             .filter(event -> event.kind() == ENTRY_DELETE || event.kind() == ENTRY_CREATE)
-             .forEach(event -> {
-               Path mapPath = mapsDirectory.resolve((Path) event.context());
-               if (event.kind() == ENTRY_DELETE) {
-                 removeMap(mapPath);
-               } else if (event.kind() == ENTRY_CREATE) {
-                 Mono.just(mapPath)
-                     .filter(Files::exists)
-                     .doOnNext(this::addInstalledMap)
-                     .retryWhen(Retry.fixedDelay(30, Duration.ofSeconds(1)).filter(MapLoadException.class::isInstance))
-                     .subscribe(null, throwable -> log.error("Map could not be read: `{}`", mapPath, throwable));
-               }
-             });
-          key.reset();
-        }
-      } catch (IOException e) {
-        log.warn("Could not start maps directory watcher for `{}`", mapsDirectory);
-      } catch (InterruptedException e) {
-        log.info("Watcher terminated ({})", e.getMessage());
-      }
-    });
-    thread.setDaemon(true);
-    thread.start();
-    return thread;
-  }
-
   private void loadInstalledMaps() {
-    taskService.submitTask(new CompletableTask<Void>(Priority.LOW) {
+    taskService.submitTask(new CompletableTask<Void>(Priority.LOW, TaskLane.DISK) {
 
       @Override
       protected Void call() {
@@ -232,20 +222,25 @@ public class MapService implements InitializingBean, DisposableBean {
           List<Path> mapPaths = new ArrayList<>();
           customMapsDirectoryStream.collect(toCollection(() -> mapPaths));
           officialMaps.stream().map(officialMapsPath::resolve).collect(toCollection(() -> mapPaths));
+          mapPaths.removeIf(mapPath -> mapPath.getFileName().toString().equals(DEBUG));
 
           long totalMaps = mapPaths.size();
-          long mapsRead = 0;
-          for (Path mapPath : mapPaths) {
-            if (mapPath.getFileName().toString().equals(DEBUG)) {
-              continue;
-            }
-            updateProgress(++mapsRead, totalMaps);
-            try {
-              addInstalledMap(mapPath);
-            } catch (MapLoadException exception) {
-              log.error("Map could not be read: `{}`", mapPath, exception);
-            }
-          }
+          AtomicLong mapsRead = new AtomicLong();
+          Flux.fromIterable(mapPaths)
+              .flatMap(mapPath -> Mono.fromCallable(() -> readInstalledMap(mapPath))
+                                      .subscribeOn(Schedulers.boundedElastic())
+                                      .doOnError(MapLoadException.class,
+                                                 exception -> log.error("Map could not be read: `{}`", mapPath,
+                                                                        exception))
+                                      .onErrorComplete(MapLoadException.class)
+                                      .doFinally(_ -> updateProgress(mapsRead.incrementAndGet(), totalMaps)),
+                       MAP_SCAN_CONCURRENCY)
+              .bufferTimeout(MAP_PUBLISH_BATCH_SIZE, MAP_PUBLISH_BATCH_INTERVAL)
+              .toStream()
+              .forEach(MapService.this::publishInstalledMaps);
+
+          installedMapIndex.retainAll(mapPaths);
+          installedMapIndex.save();
         } catch (IOException e) {
           log.error("Maps could not be read from: `{}`", forgedAlliancePrefs.getMapsDirectory(), e);
         }
@@ -254,43 +249,107 @@ public class MapService implements InitializingBean, DisposableBean {
     });
   }
 
-  private void removeMap(Path mapFolder) {
-    fxApplicationThreadExecutor.execute(
-      () -> mapsByFolderName.remove(mapFolder.getFileName().toString().toLowerCase(Locale.ROOT))
-    );
+  /**
+   * Adds all given maps which are not yet installed in a single pass on the application thread.
+   */
+  private void publishInstalledMaps(List<MapVersion> mapVersions) {
+    fxApplicationThreadExecutor.execute(() -> mapVersions.forEach(
+        mapVersion -> mapsByFolderName.putIfAbsent(mapVersion.folderName().toLowerCase(Locale.ROOT), mapVersion)));
+    log.debug("Added {} installed maps", mapVersions.size());
   }
 
-  private void addInstalledMap(Path mapFolder) throws MapLoadException {
-    MapVersion mapVersion = readMap(mapFolder);
-    if (!isInstalled(mapVersion.folderName())) {
-      fxApplicationThreadExecutor.execute(
-          () -> mapsByFolderName.put(mapVersion.folderName().toLowerCase(Locale.ROOT), mapVersion));
-      log.debug("Added map from {}", mapFolder);
+  /**
+   * Reads the settled map folders reported by the directory watcher and applies them, together with the removed
+   * folders, to the installed maps in a single pass on the application thread.
+   *
+   * @return the folders that could not be read yet
+   */
+  private Set<Path> applyMapsDirectoryChanges(Set<Path> createdFolders, Set<Path> deletedFolders) {
+    Set<Path> unreadableFolders = new HashSet<>();
+    List<MapVersion> addedMaps = new ArrayList<>();
+    for (Path mapFolder : createdFolders) {
+      try {
+        addedMaps.add(readInstalledMap(mapFolder));
+      } catch (MapLoadException e) {
+        log.debug("Map in `{}` could not be read yet", mapFolder, e);
+        unreadableFolders.add(mapFolder);
+      }
     }
+    deletedFolders.forEach(installedMapIndex::remove);
+
+    fxApplicationThreadExecutor.execute(() -> {
+      deletedFolders.forEach(
+          mapFolder -> mapsByFolderName.remove(mapFolder.getFileName().toString().toLowerCase(Locale.ROOT)));
+      // A folder that was deleted and created again within the quiet period is only reported as created, so it
+      // replaces the map installed before
+      addedMaps.forEach(
+          mapVersion -> mapsByFolderName.put(mapVersion.folderName().toLowerCase(Locale.ROOT), mapVersion));
+    });
+    log.debug("Applied {} added and {} removed maps", addedMaps.size(), deletedFolders.size());
+    return unreadableFolders;
+  }
+
+  /**
+   * Returns the map from the installed map index if its scenario file did not change, otherwise reads and indexes it.
+   */
+  private MapVersion readInstalledMap(Path mapFolder) throws MapLoadException {
+    Optional<MapVersion> indexedMapVersion = installedMapIndex.get(mapFolder);
+    if (indexedMapVersion.isPresent()) {
+      return indexedMapVersion.get();
+    }
+
+    Path scenarioLuaPath = findScenarioFile(mapFolder);
+    MapVersion mapVersion = readMap(mapFolder, scenarioLuaPath);
+    installedMapIndex.put(mapFolder, scenarioLuaPath, mapVersion);
+    return mapVersion;
   }
 
   @NotNull
   public MapVersion readMap(Path mapFolder) throws MapLoadException {
+    return readMap(mapFolder, findScenarioFile(mapFolder));
+  }
+
+  private Path findScenarioFile(Path mapFolder) throws MapLoadException {
     if (!Files.isDirectory(mapFolder)) {
       throw new MapLoadException("Not a folder: " + mapFolder.toAbsolutePath(), null, "map.load.notAFolder",
                                  mapFolder.toAbsolutePath());
     }
 
     try (Stream<Path> mapFolderFilesStream = list(mapFolder)) {
-      Path scenarioLuaPath = mapFolderFilesStream.filter(
-                                                     file -> file.getFileName().toString().endsWith("_scenario.lua"))
-                                                 .findFirst()
-                                                 .orElseThrow(() -> new MapLoadException(
-                                                     "Map folder does not contain a *_scenario.lua: " + mapFolder.toAbsolutePath(),
-                                                     null, "map.load.noScenario", mapFolder.toAbsolutePath()));
+      return mapFolderFilesStream.filter(file -> file.getFileName().toString().endsWith("_scenario.lua"))
+                                 .findFirst()
+                                 .orElseThrow(() -> new MapLoadException(
+                                     "Map folder does not contain a *_scenario.lua: " + mapFolder.toAbsolutePath(),
+                                     null, "map.load.noScenario", mapFolder.toAbsolutePath()));
+    } catch (IOException e) {
+      throw new MapLoadException("Could not load map due to IO error" + mapFolder.toAbsolutePath(), e,
+                                 "map.load.ioError", mapFolder.toAbsolutePath());
+    }
+  }
+
+  private MapVersion readMap(Path mapFolder, Path scenarioLuaPath) throws MapLoadException {
+    String folderName = mapFolder.getFileName().toString();
+    try {
+      Optional<ScenarioInfo> parsedScenarioInfo = ScenarioLuaParser.parse(scenarioLuaPath);
+      if (parsedScenarioInfo.isPresent()) {
+        ScenarioInfo scenarioInfo = parsedScenarioInfo.get();
+        Map map = new Map(null, scenarioInfo.name(), 0, null, false, MapType.fromValue(scenarioInfo.type()), null);
+        String description = FaStrings.removeLocalizationTag(scenarioInfo.description());
+        MapSize mapSize = new MapSize(scenarioInfo.width(), scenarioInfo.height());
+        ComparableVersion comparableVersion = scenarioInfo.mapVersion() == null ? null : new ComparableVersion(
+            scenarioInfo.mapVersion());
+
+        return new MapVersion(null, folderName, 0, description, scenarioInfo.maxPlayers(), mapSize, comparableVersion,
+                              false, false, null, null, null, map, null);
+      }
 
+      log.trace("Scenario file `{}` is not supported by the lightweight parser, executing it", scenarioLuaPath);
       LuaValue luaRoot = loadFile(scenarioLuaPath);
       LuaValue scenarioInfo = luaRoot.get("ScenarioInfo");
       LuaValue size = scenarioInfo.get("size");
 
       Map map = new Map(null, scenarioInfo.get("name").toString(), 0, null, false,
                         MapType.fromValue(scenarioInfo.get("type").toString()), null);
-      String folderName = mapFolder.getFileName().toString();
       String description = FaStrings.removeLocalizationTag(scenarioInfo.get("description").toString());
       MapSize mapSize = new MapSize(size.get(1).toint(), size.get(2).toint());
       int maxPlayers = scenarioInfo.get("Configurations").get("standard").get("teams").get(1).get("armies").length();
@@ -384,11 +443,28 @@ public class MapService implements InitializingBean, DisposableBean {
     return Bindings.createBooleanBinding(() -> isInstalled(mapFolderName), installedMaps);
   }
 
+  /**
+   * Installs the generated map with the given name, restoring it from the {@link GeneratedMapStore} if it has been
+   * generated before.
+   */
   public Mono<String> generateIfNotInstalled(String mapName) {
     if (isInstalled(mapName)) {
       return Mono.just(mapName);
     }
-    return mapGeneratorService.generateMap(mapName);
+    Path mapsDirectory = forgedAlliancePrefs.getMapsDirectory();
+    return Mono.fromCallable(() -> generatedMapStore.restore(mapName, mapsDirectory.resolve(mapName)))
+               .subscribeOn(Schedulers.boundedElastic())
+               .flatMap(restored -> restored ? Mono.just(mapName) : mapGeneratorService.generateMap(mapName)
+                                                                                       .doOnNext(
+                                                                                           generatedMapName -> storeGeneratedMap(
+                                                                                               generatedMapName,
+                                                                                               mapsDirectory)));
+  }
+
+  private void storeGeneratedMap(String mapName, Path mapsDirectory) {
+    Mono.fromRunnable(() -> generatedMapStore.store(mapName, mapsDirectory.resolve(mapName)))
+        .subscribeOn(Schedulers.boundedElastic())
+        .subscribe(null, throwable -> log.warn("Could not store generated map `{}`", mapName, throwable));
   }
 
   public Mono<Void> downloadIfNecessary(String technicalMapName) {
@@ -397,7 +473,7 @@ public class MapService implements InitializingBean, DisposableBean {
     }
     try {
       URL mapUrl = getDownloadUrl(technicalMapName, mapDownloadUrlFormat);
-      return downloadAndInstallMap(technicalMapName, mapUrl, null, null);
+      return downloadAndInstallMap(technicalMapName, mapUrl, null, null, false);
     } catch (MalformedURLException e) {
       throw new AssetLoadException("Could not download map", e, "map.download.error", technicalMapName);
     }
@@ -406,7 +482,16 @@ public class MapService implements InitializingBean, DisposableBean {
 
   public Mono<Void> downloadAndInstallMap(MapVersion mapVersion, @Nullable DoubleProperty progressProperty,
                                           @Nullable StringProperty titleProperty) {
-    return downloadAndInstallMap(mapVersion.folderName(), mapVersion.downloadUrl(), progressProperty, titleProperty);
+    return downloadAndInstallMap(mapVersion.folderName(), mapVersion.downloadUrl(), progressProperty, titleProperty,
+                                 false);
+  }
+
+  /**
+   * Downloads and installs the map ahead of time, with low priority. The download is dropped from the task queue if a
+   * game is launched before it started.
+   */
+  public Mono<Void> prefetchMap(MapVersion mapVersion) {
+    return downloadAndInstallMap(mapVersion.folderName(), mapVersion.downloadUrl(), null, null, true);
   }
 
   /**
@@ -513,7 +598,7 @@ public class MapService implements InitializingBean, DisposableBean {
 
   private Mono<Void> downloadAndInstallMap(String folderName, URL downloadUrl,
                                            @Nullable DoubleProperty progressProperty,
-                                           @Nullable StringProperty titleProperty) {
+                                           @Nullable StringProperty titleProperty, boolean prefetch) {
     if (mapGeneratorService.isGeneratedMap(folderName)) {
       return generateIfNotInstalled(folderName).then();
     }
@@ -523,9 +608,21 @@ public class MapService implements InitializingBean, DisposableBean {
       return Mono.empty();
     }
 
-    DownloadMapTask task = downloadMapTaskFactory.getObject();
-    task.setMapUrl(downloadUrl);
-    task.setFolderName(folderName);
+    // A map which is being downloaded already, e.g. by a prefetch, must not be extracted a second time
+    String downloadKey = folderName.toLowerCase(Locale.ROOT);
+    DownloadMapTask task;
+    boolean running;
+    synchronized (downloadMapTasksByFolderName) {
+      task = downloadMapTasksByFolderName.get(downloadKey);
+      running = task != null && !task.isCancelled() && !task.getFuture().isDone();
+      if (!running) {
+        task = downloadMapTaskFactory.getObject();
+        task.setMapUrl(downloadUrl);
+        task.setFolderName(folderName);
+        task.setPrefetch(prefetch);
+        downloadMapTasksByFolderName.put(downloadKey, task);
+      }
+    }
 
     if (progressProperty != null) {
       progressProperty.bind(task.progressProperty());
@@ -534,12 +631,52 @@ public class MapService implements InitializingBean, DisposableBean {
       titleProperty.bind(task.titleProperty());
     }
 
-    return taskService.submitTask(task).getMono();
+    if (running) {
+      if (!prefetch && task.isPrefetch()) {
+        log.info("Map `{}` is being prefetched already, raising the priority of its download", folderName);
+        task.setPrefetch(false);
+      }
+    } else {
+      DownloadMapTask startedTask = task;
+      task.getFuture().whenComplete((_, _) -> {
+        synchronized (downloadMapTasksByFolderName) {
+          downloadMapTasksByFolderName.remove(downloadKey, startedTask);
+        }
+      });
+      taskService.submitTask(task);
+    }
+    // The download may be shared with other callers, so one of them unsubscribing must not cancel it
+    Mono<Void> download = Mono.fromFuture(task.getFuture(), true);
+    if (running && !prefetch) {
+      // A game launch may have dropped the prefetch from the task queue before it could be promoted
+      download = download.onErrorResume(CancellationException.class, _ -> {
+        log.info("Prefetch of map `{}` was cancelled, downloading it again", folderName);
+        return downloadAndInstallMap(folderName, downloadUrl, progressProperty, titleProperty, false);
+      });
+    }
+    return download.then(addDownloadedMap(folderName));
+  }
+
+  /**
+   * Adds a downloaded map to the installed maps right away, so it counts as installed once its download completed and
+   * not only once the directory watcher reports its folder.
+   */
+  private Mono<Void> addDownloadedMap(String folderName) {
+    Path mapFolder = forgedAlliancePrefs.getMapsDirectory().resolve(folderName);
+    return Mono.fromCallable(() -> readInstalledMap(mapFolder))
+               .subscribeOn(Schedulers.boundedElastic())
+               .publishOn(fxApplicationThreadExecutor.asScheduler())
+               .doOnNext(mapVersion -> mapsByFolderName.put(folderName.toLowerCase(Locale.ROOT), mapVersion))
+               .doOnError(MapLoadException.class,
+                          exception -> log.warn("Downloaded map could not be read: `{}`", mapFolder, exception))
+               .onErrorComplete(MapLoadException.class)
+               .then();
   }
 
   @Override
   public void destroy() {
-    Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
+    Optional.ofNullable(directoryWatcher).ifPresent(DirectoryWatcher::close);
+    installedMapIndex.save();
   }
 
   public String convertMapFolderNameToHumanNameIfPossible(String mapFolderName) {
@@ -575,19 +712,25 @@ public class MapService implements InitializingBean, DisposableBean {
     if (mapGeneratorService.isGeneratedMap(folderName)) {
       apiMapVersion = Mono.empty();
     } else {
-      ElideNavigatorOnCollection<com.faforever.commons.api.dto.MapVersion> navigator = ElideNavigator.of(
-                                                                                                         com.faforever.commons.api.dto.MapVersion.class)
-                                                                                                     .collection()
-                                                                                                     .setFilter(
-                                                                                                         qBuilder().string(
-                                                                                                                       "folderName")
-                                                                                                                   .eq(folderName));
-      apiMapVersion = fafApiAccessor.getMany(navigator).next().map(mapMapper::map);
+      // Folder names are matched case-insensitively by the API
+      apiMapVersion = mapVersionLoader.load(folderName.toLowerCase(Locale.ROOT)).map(mapMapper::map);
     }
 
     return Mono.justOrEmpty(getMapLocallyFromName(folderName)).switchIfEmpty(apiMapVersion);
   }
 
+  private Flux<com.faforever.commons.api.dto.MapVersion> fetchMapVersions(Set<String> folderNames) {
+    ElideNavigatorOnCollection<com.faforever.commons.api.dto.MapVersion> navigator = ElideNavigator.of(
+                                                                                                       com.faforever.commons.api.dto.MapVersion.class)
+                                                                                                   .collection()
+                                                                                                   .setFilter(
+                                                                                                       qBuilder().string(
+                                                                                                                     "folderName")
+                                                                                                                 .in(folderNames))
+                                                                                                   .pageSize(folderNames.size());
+    return fafApiAccessor.getMany(navigator);
+  }
+
   @VisibleForTesting
   Mono<MapVersion> getMapLatestVersion(MapVersion mapVersion) {
     String folderName = mapVersion.folderName();
@@ -612,25 +755,6 @@ public class MapService implements InitializingBean, DisposableBean {
 
   }
 
-  public Mono<Void> downloadAllMatchmakerMaps(MatchmakerQueueInfo matchmakerQueue) {
-    ElideNavigatorOnCollection<MapPoolAssignment> navigator = ElideNavigator.of(MapPoolAssignment.class)
-                                                                            .collection()
-                                                                            .setFilter(qBuilder().intNum(
-                                                                                                     "mapPool.matchmakerQueueMapPool.matchmakerQueue.id")
-                                                                                                 .eq(matchmakerQueue.getId()));
-    return fafApiAccessor.getMany(navigator).map(mapMapper::mapFromPoolAssignment)
-                         .distinct()
-                         .filter(mapVersion -> !mapGeneratorService.isGeneratedMap(mapVersion.folderName()))
-                         .flatMap(
-                             mapVersion -> downloadAndInstallMap(mapVersion, null, null).onErrorResume(throwable -> {
-                               log.warn("Unable to download map `{}`", mapVersion.folderName(), throwable);
-                               notificationService.addPersistentErrorNotification("map.download.error",
-                                                                                  mapVersion.folderName());
-                               return Mono.empty();
-                             }))
-                         .then();
-  }
-
   @Cacheable(value = CacheNames.MATCHMAKER_POOLS, sync = true)
   public Mono <java.util.Map<MatchmakerQueueMapPool, List<MapVersion>>> getMatchmakerBrackets(MatchmakerQueueInfo matchmakerQueue) {
     ElideNavigatorOnCollection<MapPoolAssignment> navigator = ElideNavigator
@@ -4,7 +4,10 @@ import com.faforever.client.api.FafApiAccessor;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.util.Validator;
 import com.faforever.commons.io.ByteCountListener;
 import com.faforever.commons.io.Zipper;
@@ -33,16 +36,18 @@ public class MapUploadTask extends CompletableTask<Void> implements Initializing
   private final FafApiAccessor fafApiAccessor;
   private final I18n i18n;
   private final DataPrefs dataPrefs;
+  private final IoArbiter ioArbiter;
 
   private Path mapPath;
   private Boolean isRanked;
 
   @Autowired
-  public MapUploadTask(FafApiAccessor fafApiAccessor, I18n i18n, DataPrefs dataPrefs) {
-    super(Priority.HIGH);
+  public MapUploadTask(FafApiAccessor fafApiAccessor, I18n i18n, DataPrefs dataPrefs, IoArbiter ioArbiter) {
+    super(Priority.HIGH, TaskLane.NETWORK);
     this.fafApiAccessor = fafApiAccessor;
     this.i18n = i18n;
     this.dataPrefs = dataPrefs;
+    this.ioArbiter = ioArbiter;
   }
 
   @Override
@@ -55,35 +60,35 @@ public class MapUploadTask extends CompletableTask<Void> implements Initializing
     Validator.notNull(mapPath, "mapPath must not be null");
     Validator.notNull(isRanked, "isRanked must not be null");
 
-    ResourceLocks.acquireUploadLock();
-    Path cacheDirectory = dataPrefs.getCacheDirectory();
-    Files.createDirectories(cacheDirectory);
-    Path tmpFile = createTempFile(cacheDirectory, "map", ".zip");
-
-    try {
-      log.info("Zipping map `{}` to `{}`", mapPath, tmpFile);
-      updateTitle(i18n.get("mapVault.upload.compressing"));
-
-      Locale locale = i18n.getUserSpecificLocale();
-      ByteCountListener byteListener = (written, total) -> {
-        updateMessage(i18n.get("bytesProgress", formatSize(written, locale), formatSize(total, locale)));
-        updateProgress(written, total);
-      };
-
-      try (OutputStream outputStream = newOutputStream(tmpFile)) {
-        Zipper.of(mapPath)
-            .to(outputStream)
-            .listener(byteListener)
-            .zip();
+    try (Permit _ = ioArbiter.acquire(IoResource.UPLOADS)) {
+      Path cacheDirectory = dataPrefs.getCacheDirectory();
+      Files.createDirectories(cacheDirectory);
+      Path tmpFile = createTempFile(cacheDirectory, "map", ".zip");
+
+      try {
+        log.info("Zipping map `{}` to `{}`", mapPath, tmpFile);
+        updateTitle(i18n.get("mapVault.upload.compressing"));
+
+        Locale locale = i18n.getUserSpecificLocale();
+        ByteCountListener byteListener = (written, total) -> {
+          updateMessage(i18n.get("bytesProgress", formatSize(written, locale), formatSize(total, locale)));
+          updateProgress(written, total);
+        };
+
+        try (OutputStream outputStream = newOutputStream(tmpFile)) {
+          Zipper.of(mapPath)
+              .to(outputStream)
+              .listener(byteListener)
+              .zip();
+        }
+
+        log.info("Uploading map `{}` as `{}`", mapPath, tmpFile);
+        updateTitle(i18n.get("mapVault.upload.uploading"));
+
+        return fafApiAccessor.uploadFile("/maps/upload", tmpFile, byteListener, Map.of("metadata", Map.of("isRanked", isRanked))).block();
+      } finally {
+        Files.deleteIfExists(tmpFile);
       }
-
-      log.info("Uploading map `{}` as `{}`", mapPath, tmpFile);
-      updateTitle(i18n.get("mapVault.upload.uploading"));
-
-      return fafApiAccessor.uploadFile("/maps/upload", tmpFile, byteListener, Map.of("metadata", Map.of("isRanked", isRanked))).block();
-    } finally {
-      Files.delete(tmpFile);
-      ResourceLocks.freeUploadLock();
     }
   }
 
@@ -2,6 +2,7 @@ package com.faforever.client.map;
 
 import com.faforever.client.domain.api.MapVersion;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -23,7 +24,7 @@ public class UninstallMapTask extends CompletableTask<Void> {
 
   @Autowired
   public UninstallMapTask(MapService mapService) {
-    super(Priority.LOW);
+    super(Priority.LOW, TaskLane.DISK);
     this.mapService = mapService;
   }
 
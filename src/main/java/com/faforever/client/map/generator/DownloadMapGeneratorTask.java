@@ -4,6 +4,7 @@ import com.faforever.client.config.ClientProperties;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import com.faforever.commons.io.ByteCopier;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Getter;
@@ -43,7 +44,7 @@ public class DownloadMapGeneratorTask extends CompletableTask<Void> {
 
   @Autowired
   public DownloadMapGeneratorTask(MapGeneratorService mapGeneratorService, ClientProperties clientProperties, I18n i18n, PlatformService platformService) {
-    super(Priority.HIGH);
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.mapGeneratorService = mapGeneratorService;
     this.clientProperties = clientProperties;
@@ -3,7 +3,6 @@ package com.faforever.client.map.generator;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.notification.NotificationService;
 import com.faforever.client.os.OperatingSystem;
-import com.faforever.client.os.OsUtils;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.task.CompletableTask;
 import lombok.Setter;
@@ -17,9 +16,8 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Path;
-import java.util.List;
+import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 
 @Slf4j
@@ -33,6 +31,7 @@ public class GenerateMapTask extends CompletableTask<String> {
   private final I18n i18n;
   private final OperatingSystem operatingSystem;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
+  private final MapGeneratorLauncher mapGeneratorLauncher;
 
   private Path generatorExecutableFile;
   private ComparableVersion version;
@@ -41,12 +40,13 @@ public class GenerateMapTask extends CompletableTask<String> {
 
   @Autowired
   public GenerateMapTask(NotificationService notificationService, I18n i18n, OperatingSystem operatingSystem,
-                         ForgedAlliancePrefs forgedAlliancePrefs) {
+                         ForgedAlliancePrefs forgedAlliancePrefs, MapGeneratorLauncher mapGeneratorLauncher) {
     super(Priority.HIGH);
     this.forgedAlliancePrefs = forgedAlliancePrefs;
     this.notificationService = notificationService;
     this.i18n = i18n;
     this.operatingSystem = operatingSystem;
+    this.mapGeneratorLauncher = mapGeneratorLauncher;
   }
 
   @Override
@@ -83,17 +83,7 @@ public class GenerateMapTask extends CompletableTask<String> {
     Path workingDirectory = forgedAlliancePrefs.getMapsDirectory();
 
     try {
-      List<String> command = generatorCommandBuilder.build().getCommand();
-
-      ProcessBuilder processBuilder = new ProcessBuilder();
-      processBuilder.directory(workingDirectory.toFile());
-      processBuilder.command(command);
-
-      log.info("Starting map generator in directory: `{}` with command: `{}`", processBuilder.directory(),
-               String.join(" ", processBuilder.command()));
-
-      Process process = processBuilder.start();
-      OsUtils.gobbleLines(process.getInputStream(), msg -> {
+      Process process = mapGeneratorLauncher.generate(generatorCommandBuilder.build(), workingDirectory, msg -> {
         generatorLogger.info(msg);
         if (mapName == null || mapName.isBlank()) {
           Matcher mapNameMatcher = MapGeneratorService.GENERATED_MAP_PATTERN.matcher(msg);
@@ -101,9 +91,7 @@ public class GenerateMapTask extends CompletableTask<String> {
             mapName = mapNameMatcher.group();
           }
         }
-      });
-      OsUtils.gobbleLines(process.getErrorStream(), generatorLogger::error);
-      process.waitFor(MapGeneratorService.GENERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      }, Duration.ofSeconds(MapGeneratorService.GENERATION_TIMEOUT_SECONDS));
       if (process.isAlive() && generatorOptions.commandLineArgs() != null && !generatorOptions.commandLineArgs()
                                                                                               .contains(
                                                                                                   "--visualize")) {
@@ -0,0 +1,248 @@
+package com.faforever.client.map.generator;
+
+import com.faforever.client.cache.PersistentIndex;
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps generated maps in the cache directory, so a map which is played, watched or rejoined again doesn't have to be
+ * generated again after the generated maps have been deleted from the maps directory. Files are stored once per
+ * content, by the hash of their content, and restored as hard links where possible. The least recently used maps are
+ * evicted once the stored maps exceed the {@link ClientProperties.MapGenerator#getGeneratedMapCacheSize() maximum
+ * size}.
+ */
+@Slf4j
+@Lazy
+@Component
+public class GeneratedMapStore implements DisposableBean {
+
+  private static final String STORE_SUB_FOLDER = "generated-maps";
+  private static final String OBJECTS_SUB_FOLDER = "objects";
+  private static final String INDEX_FILE_NAME = "generated-maps-index.json";
+  private static final int FORMAT_VERSION = 1;
+
+  private final DataPrefs dataPrefs;
+  private final ClientProperties clientProperties;
+  private final IoArbiter ioArbiter;
+  private final PersistentIndex<GeneratedMapStoreEntry> index;
+
+  private final LongAdder restores = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public GeneratedMapStore(DataPrefs dataPrefs, ClientProperties clientProperties, IoArbiter ioArbiter) {
+    this.dataPrefs = dataPrefs;
+    this.clientProperties = clientProperties;
+    this.ioArbiter = ioArbiter;
+    this.index = new PersistentIndex<>(this::getIndexFile, GeneratedMapStoreEntry.class, FORMAT_VERSION);
+  }
+
+  /**
+   * Restores the stored map with the given name into the given directory.
+   *
+   * @return whether the map was stored and could be restored
+   */
+  public synchronized boolean restore(String mapName, Path mapDirectory) {
+    GeneratedMapStoreEntry entry = index.get(mapName).orElse(null);
+    if (entry == null) {
+      misses.increment();
+      return false;
+    }
+
+    Path objectsDirectory = getObjectsDirectory();
+    if (!entry.files().values().stream().map(objectsDirectory::resolve).allMatch(Files::isRegularFile)) {
+      log.info("Stored generated map `{}` is incomplete, discarding it", mapName);
+      index.remove(mapName);
+      misses.increment();
+      return false;
+    }
+
+    try (Permit _ = ioArbiter.acquire(IoResource.disk(mapDirectory.getParent()))) {
+      for (Map.Entry<String, String> file : entry.files().entrySet()) {
+        Path target = mapDirectory.resolve(file.getKey());
+        Files.createDirectories(target.getParent());
+        linkOrCopy(objectsDirectory.resolve(file.getValue()), target);
+      }
+    } catch (IOException e) {
+      log.warn("Could not restore generated map `{}` into `{}`", mapName, mapDirectory, e);
+      deleteQuietly(mapDirectory);
+      misses.increment();
+      return false;
+    }
+
+    restores.increment();
+    index.put(mapName, entry.withAccess(System.currentTimeMillis()));
+    index.save();
+    log.info("Restored generated map `{}` from the store", mapName);
+    return true;
+  }
+
+  /**
+   * Stores the map in the given directory under the given name, unless it is stored already.
+   */
+  public synchronized void store(String mapName, Path mapDirectory) {
+    if (index.get(mapName).isPresent() || !Files.isDirectory(mapDirectory)) {
+      return;
+    }
+
+    Path objectsDirectory = getObjectsDirectory();
+    Map<String, String> files = new HashMap<>();
+    long size = 0;
+    try (Permit _ = ioArbiter.acquire(IoResource.disk(objectsDirectory), Priority.LOW);
+         Stream<Path> mapFiles = Files.walk(mapDirectory)) {
+      Files.createDirectories(objectsDirectory);
+      for (Path file : mapFiles.filter(Files::isRegularFile).toList()) {
+        files.put(toRelativePath(mapDirectory, file), storeObject(objectsDirectory, file));
+        size += Files.size(file);
+      }
+    } catch (IOException e) {
+      log.warn("Could not store generated map `{}`", mapName, e);
+      return;
+    }
+
+    index.put(mapName, new GeneratedMapStoreEntry(files, size, System.currentTimeMillis()));
+    evictLeastRecentlyUsed();
+    index.save();
+  }
+
+  @Override
+  public void destroy() {
+    index.save();
+    log.debug("Generated map store: {} restored, {} missed, {} evicted", restores.sum(), misses.sum(),
+              evictions.sum());
+  }
+
+  /**
+   * Copies the file into the objects directory, named by the hash of its content, and returns the hash.
+   */
+  private static String storeObject(Path objectsDirectory, Path file) throws IOException {
+    MessageDigest digest = newDigest();
+    Path temporaryFile = Files.createTempFile(objectsDirectory, file.getFileName().toString(), null);
+    try {
+      try (InputStream inputStream = Files.newInputStream(file);
+           OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(temporaryFile), digest)) {
+        inputStream.transferTo(outputStream);
+      }
+      String hash = HexFormat.of().formatHex(digest.digest());
+      Path object = objectsDirectory.resolve(hash);
+      if (Files.notExists(object)) {
+        Files.move(temporaryFile, object, StandardCopyOption.ATOMIC_MOVE);
+      }
+      return hash;
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private static void linkOrCopy(Path object, Path target) throws IOException {
+    Files.deleteIfExists(target);
+    try {
+      // The store may be on another file system than the maps directory
+      Files.createLink(target, object);
+    } catch (IOException | UnsupportedOperationException e) {
+      Files.copy(object, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void evictLeastRecentlyUsed() {
+    long maxSize = clientProperties.getMapGenerator().getGeneratedMapCacheSize();
+    long size = index.getEntries().values().stream().mapToLong(GeneratedMapStoreEntry::size).sum();
+    if (size <= maxSize) {
+      return;
+    }
+
+    List<Map.Entry<String, GeneratedMapStoreEntry>> entriesByAccess = index.getEntries()
+                                                                           .entrySet()
+                                                                           .stream()
+                                                                           .sorted(Comparator.comparingLong(
+                                                                               e -> e.getValue().lastAccess()))
+                                                                           .toList();
+    for (Map.Entry<String, GeneratedMapStoreEntry> entry : entriesByAccess) {
+      if (size <= maxSize) {
+        break;
+      }
+      index.remove(entry.getKey());
+      size -= entry.getValue().size();
+      evictions.increment();
+    }
+    deleteUnreferencedObjects(index.getEntries().values());
+  }
+
+  private void deleteUnreferencedObjects(Collection<GeneratedMapStoreEntry> entries) {
+    Set<String> referencedObjects = entries.stream()
+                                           .flatMap(entry -> entry.files().values().stream())
+                                           .collect(Collectors.toSet());
+    try (Stream<Path> objects = Files.list(getObjectsDirectory())) {
+      objects.filter(object -> !referencedObjects.contains(object.getFileName().toString())).forEach(object -> {
+        try {
+          Files.deleteIfExists(object);
+        } catch (IOException e) {
+          log.debug("Could not delete evicted generated map file `{}`", object, e);
+        }
+      });
+    } catch (IOException e) {
+      log.debug("Could not list generated map files in `{}`", getObjectsDirectory(), e);
+    }
+  }
+
+  private static String toRelativePath(Path mapDirectory, Path file) {
+    return mapDirectory.relativize(file).toString().replace('\\', '/');
+  }
+
+  private static void deleteQuietly(Path directory) {
+    try {
+      FileSystemUtils.deleteRecursively(directory);
+    } catch (IOException e) {
+      log.debug("Could not delete partially restored generated map `{}`", directory, e);
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Path getStoreDirectory() {
+    return dataPrefs.getCacheDirectory().resolve(STORE_SUB_FOLDER);
+  }
+
+  private Path getObjectsDirectory() {
+    return getStoreDirectory().resolve(OBJECTS_SUB_FOLDER);
+  }
+
+  private Path getIndexFile() {
+    return getStoreDirectory().resolve(INDEX_FILE_NAME);
+  }
+}
@@ -0,0 +1,22 @@
+package com.faforever.client.map.generator;
+
+import java.util.Map;
+
+/**
+ * A generated map stored by the {@link GeneratedMapStore}.
+ *
+ * @param files the files of the map, by their path relative to the map directory, to the hash of their content
+ * @param size total size of the files in bytes
+ * @param lastAccess time the map was last stored or restored, in milliseconds since epoch, for least recently used
+ * eviction
+ */
+public record GeneratedMapStoreEntry(
+    Map<String, String> files,
+    long size,
+    long lastAccess
+) {
+
+  public GeneratedMapStoreEntry withAccess(long lastAccess) {
+    return new GeneratedMapStoreEntry(files, size, lastAccess);
+  }
+}
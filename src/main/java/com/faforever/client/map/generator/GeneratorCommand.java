@@ -8,9 +8,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 public record GeneratorCommand(
     Path javaExecutable,
+    List<String> jvmArguments,
     Path generatorExecutableFile,
     ComparableVersion version,
     String mapName,
@@ -34,8 +35,12 @@ public record GeneratorCommand(
     if (generatorExecutableFile == null) {
       throw new IllegalStateException("Map generator path not set");
     }
-    List<String> command = new ArrayList<>(
-        List.of(javaPath, "-jar", generatorExecutableFile.toAbsolutePath().toString()));
+    List<String> command = new ArrayList<>();
+    command.add(javaPath);
+    if (jvmArguments != null) {
+      command.addAll(jvmArguments);
+    }
+    command.addAll(List.of("-jar", generatorExecutableFile.toAbsolutePath().toString()));
     if (version.compareTo(new ComparableVersion("1")) >= 0) {
       if (commandLineArgs != null) {
         command.addAll(Arrays.asList(commandLineArgs.split(" ")));
@@ -103,8 +108,8 @@ public record GeneratorCommand(
 
       return command;
     } else {
-      return Arrays.asList(javaPath, "-jar", generatorExecutableFile.toAbsolutePath().toString(), ".",
-                           String.valueOf(seed), version.toString(), mapName);
+      command.addAll(Arrays.asList(".", String.valueOf(seed), version.toString(), mapName));
+      return command;
     }
   }
 }
@@ -2,33 +2,32 @@ package com.faforever.client.map.generator;
 
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.os.OperatingSystem;
-import com.faforever.client.os.OsUtils;
 import com.faforever.client.task.CompletableTask;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.artifact.versioning.ComparableVersion;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 @Setter
 public class GeneratorOptionsTask extends CompletableTask<List<String>> {
-  private static final Logger generatorLogger = LoggerFactory.getLogger("faf-map-generator");
+  private static final Duration QUERY_TIMEOUT = Duration.ofSeconds(6);
 
   private final I18n i18n;
   private final OperatingSystem operatingSystem;
+  private final MapGeneratorLauncher mapGeneratorLauncher;
 
   private ComparableVersion version;
   private Path generatorExecutableFile;
@@ -36,11 +35,12 @@ public class GeneratorOptionsTask extends CompletableTask<List<String>> {
   private List<String> options;
 
   @Autowired
-  public GeneratorOptionsTask(I18n i18n, OperatingSystem operatingSystem) {
+  public GeneratorOptionsTask(I18n i18n, OperatingSystem operatingSystem, MapGeneratorLauncher mapGeneratorLauncher) {
     super(Priority.HIGH);
 
     this.i18n = i18n;
     this.operatingSystem = operatingSystem;
+    this.mapGeneratorLauncher = mapGeneratorLauncher;
   }
 
   @Override
@@ -58,32 +58,24 @@ public class GeneratorOptionsTask extends CompletableTask<List<String>> {
         .commandLineArgs(query)
         .build();
 
+    Process process;
     try {
-      List<String> command = generatorCommand.getCommand();
-
-      ProcessBuilder processBuilder = new ProcessBuilder();
-      processBuilder.command(command);
-
-      log.info("Starting map generator in directory: `{}` with command: `{}`",
-          processBuilder.directory(), String.join(" ", processBuilder.command()));
-
-      Process process = processBuilder.start();
-      OsUtils.gobbleLines(process.getInputStream(), msg -> {
+      process = mapGeneratorLauncher.query(generatorCommand, msg -> {
         if (!msg.contains(":")) {
           options.add(msg);
         }
-      });
-      OsUtils.gobbleLines(process.getErrorStream(), generatorLogger::error);
-      process.waitFor(6, TimeUnit.SECONDS);
-      if (process.isAlive()) {
-        process.destroyForcibly();
-        log.warn("Map generator option run timed out");
-      }
+      }, QUERY_TIMEOUT);
     } catch (Exception e) {
       log.error("Could not start map generator", e);
       throw new RuntimeException(e);
     }
 
+    if (process.isAlive()) {
+      process.destroyForcibly();
+      // The options received so far are incomplete
+      throw new TimeoutException("Map generator option query `%s` timed out after %s".formatted(query, QUERY_TIMEOUT));
+    }
+
     return options;
   }
 }
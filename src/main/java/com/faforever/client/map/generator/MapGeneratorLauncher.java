@@ -0,0 +1,178 @@
+package com.faforever.client.map.generator;
+
+import com.faforever.client.os.OsUtils;
+import com.faforever.client.preferences.DataPrefs;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs map generator processes. Every generator version gets an AppCDS archive, which is created by its first
+ * generation and lets later runs skip most of the class loading. Generations are queued so that only one of them
+ * uses the CPU at a time.
+ * <p>
+ * If a run with the archive fails right after it started, it is run again without the archive, which is not used for
+ * that version anymore if the second run succeeds.
+ */
+@Lazy
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MapGeneratorLauncher {
+
+  private static final Logger generatorLogger = LoggerFactory.getLogger("faf-map-generator");
+  private static final String ARCHIVE_FILENAME = "MapGenerator_%s.jsa";
+  /**
+   * Runs which fail within this time are assumed to have failed because the JVM could not start.
+   */
+  private static final Duration STARTUP_FAILURE_WINDOW = Duration.ofSeconds(5);
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+  private final DataPrefs dataPrefs;
+
+  private final Semaphore generationQueue = new Semaphore(1, true);
+  private final Set<ComparableVersion> versionsWithoutArchive = ConcurrentHashMap.newKeySet();
+  private final LongAdder runs = new LongAdder();
+  private final LongAdder archiveRuns = new LongAdder();
+  private final LongAdder fallbacks = new LongAdder();
+  private final LongAdder totalRunNanos = new LongAdder();
+  private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Long::max, 0);
+  private volatile long lastLogNanos = System.nanoTime();
+
+  /**
+   * Generates a map and waits until the generator exited or the timeout elapsed. Waits until previously requested
+   * generations are done.
+   *
+   * @return the generator process, which is still alive if it timed out
+   */
+  public Process generate(GeneratorCommand command, Path workingDirectory, Consumer<String> outputConsumer,
+                          Duration timeout) throws IOException, InterruptedException {
+    long queuedNanos = System.nanoTime();
+    generationQueue.acquire();
+    try {
+      long queueWaitNanos = System.nanoTime() - queuedNanos;
+      maxQueueWaitNanos.accumulate(queueWaitNanos);
+      if (queueWaitNanos >= TimeUnit.SECONDS.toNanos(1)) {
+        log.info("Map generation waited {} for previous generations", Duration.ofNanos(queueWaitNanos));
+      }
+      return run(command, workingDirectory, outputConsumer, timeout, true);
+    } finally {
+      generationQueue.release();
+    }
+  }
+
+  /**
+   * Queries options of the generator, e.g. the available styles, and waits until the generator exited or the timeout
+   * elapsed. Queries use the archive of the version if a generation created it already, but never create it.
+   *
+   * @return the generator process, which is still alive if it timed out
+   */
+  public Process query(GeneratorCommand command, Consumer<String> outputConsumer,
+                       Duration timeout) throws IOException, InterruptedException {
+    return run(command, null, outputConsumer, timeout, false);
+  }
+
+  private Process run(GeneratorCommand command, Path workingDirectory, Consumer<String> outputConsumer,
+                      Duration timeout, boolean createArchive) throws IOException, InterruptedException {
+    Path archive = getArchivePath(command.version());
+    boolean useArchive = !versionsWithoutArchive.contains(command.version())
+        && (createArchive || Files.exists(archive));
+
+    long startNanos = System.nanoTime();
+    Process process = start(useArchive ? withArchive(command, archive, createArchive) : command, workingDirectory,
+                            outputConsumer, timeout);
+
+    if (useArchive && failedOnStartup(process, startNanos)) {
+      log.warn("Map generator `{}` failed on startup with its CDS archive, retrying without it", command.version());
+      fallbacks.increment();
+      process = start(command, workingDirectory, outputConsumer, timeout);
+      if (!process.isAlive() && process.exitValue() == 0) {
+        versionsWithoutArchive.add(command.version());
+        Files.deleteIfExists(archive);
+      }
+    }
+
+    long runNanos = System.nanoTime() - startNanos;
+    runs.increment();
+    totalRunNanos.add(runNanos);
+    if (useArchive) {
+      archiveRuns.increment();
+    }
+    log.info("Map generator `{}` ran for {} (CDS archive: {})", command.version(), Duration.ofNanos(runNanos),
+             useArchive);
+    logPeriodically();
+    return process;
+  }
+
+  private Process start(GeneratorCommand command, Path workingDirectory, Consumer<String> outputConsumer,
+                        Duration timeout) throws IOException, InterruptedException {
+    ProcessBuilder processBuilder = new ProcessBuilder();
+    if (workingDirectory != null) {
+      processBuilder.directory(workingDirectory.toFile());
+    }
+    processBuilder.command(command.getCommand());
+
+    log.info("Starting map generator in directory: `{}` with command: `{}`", processBuilder.directory(),
+             String.join(" ", processBuilder.command()));
+
+    Process process = processBuilder.start();
+    OsUtils.gobbleLines(process.getInputStream(), outputConsumer);
+    OsUtils.gobbleLines(process.getErrorStream(), generatorLogger::error);
+    process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    return process;
+  }
+
+  private static boolean failedOnStartup(Process process, long startNanos) {
+    return !process.isAlive()
+        && process.exitValue() != 0
+        && System.nanoTime() - startNanos < STARTUP_FAILURE_WINDOW.toNanos();
+  }
+
+  @VisibleForTesting
+  static GeneratorCommand withArchive(GeneratorCommand command, Path archive, boolean createArchive) {
+    List<String> jvmArguments = createArchive
+        ? List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath(), "-XX:+AutoCreateSharedArchive")
+        : List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath());
+    return command.toBuilder().jvmArguments(jvmArguments).build();
+  }
+
+  private Path getArchivePath(ComparableVersion version) {
+    return dataPrefs.getMapGeneratorDirectory().resolve(ARCHIVE_FILENAME.formatted(version));
+  }
+
+  private void logPeriodically() {
+    long now = System.nanoTime();
+    if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+      lastLogNanos = now;
+      log();
+    }
+  }
+
+  public void log() {
+    long runCount = runs.sum();
+    if (runCount == 0) {
+      return;
+    }
+    log.debug("Map generator runs: {} ({} with CDS archive, {} fallbacks), average run {}, max generation queue wait {}",
+              runCount, archiveRuns.sum(), fallbacks.sum(), Duration.ofNanos(totalRunNanos.sum() / runCount),
+              Duration.ofNanos(maxQueueWaitNanos.get()));
+  }
+}
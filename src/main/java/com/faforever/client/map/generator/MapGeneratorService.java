@@ -28,6 +28,8 @@ import java.nio.file.Path;
 import java.security.InvalidParameterException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -58,6 +60,8 @@ public class MapGeneratorService implements DisposableBean {
   private final ObjectFactory<DownloadMapGeneratorTask> downloadMapGeneratorTaskFactory;
   private final ObjectFactory<GeneratorOptionsTask> generatorOptionsTaskFactory;
 
+  private final Map<String, List<String>> generatorOptionsCache = new ConcurrentHashMap<>();
+
   private ComparableVersion defaultGeneratorVersion;
 
   @Override
@@ -176,63 +180,53 @@ public class MapGeneratorService implements DisposableBean {
   }
 
   public Mono<List<String>> getGeneratorSymmetries() {
-    Assert.checkNullIllegalState(defaultGeneratorVersion, "Generator version not set");
-    GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
-    Path generatorExecutablePath = getGeneratorExecutablePath(defaultGeneratorVersion);
-    generatorOptionsTask.setVersion(defaultGeneratorVersion);
-    generatorOptionsTask.setQuery("--symmetries");
-    generatorOptionsTask.setGeneratorExecutableFile(generatorExecutablePath);
-    return taskService.submitTask(generatorOptionsTask).getMono();
+    return getGeneratorOptions("--symmetries");
   }
 
   public Mono<List<String>> getGeneratorStyles() {
-    Assert.checkNullIllegalState(defaultGeneratorVersion, "Generator version not set");
-    GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
-    Path generatorExecutablePath = getGeneratorExecutablePath(defaultGeneratorVersion);
-    generatorOptionsTask.setVersion(defaultGeneratorVersion);
-    generatorOptionsTask.setQuery("--styles");
-    generatorOptionsTask.setGeneratorExecutableFile(generatorExecutablePath);
-    return taskService.submitTask(generatorOptionsTask).getMono();
+    return getGeneratorOptions("--styles");
   }
 
   public Mono<List<String>> getGeneratorTerrainStyles() {
-    Assert.checkNullIllegalState(defaultGeneratorVersion, "Generator version not set");
-    GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
-    Path generatorExecutablePath = getGeneratorExecutablePath(defaultGeneratorVersion);
-    generatorOptionsTask.setVersion(defaultGeneratorVersion);
-    generatorOptionsTask.setQuery("--terrain-styles");
-    generatorOptionsTask.setGeneratorExecutableFile(generatorExecutablePath);
-    return taskService.submitTask(generatorOptionsTask).getMono();
+    return getGeneratorOptions("--terrain-styles");
   }
 
   public Mono<List<String>> getGeneratorTextureStyles() {
-    Assert.checkNullIllegalState(defaultGeneratorVersion, "Generator version not set");
-    GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
-    Path generatorExecutablePath = getGeneratorExecutablePath(defaultGeneratorVersion);
-    generatorOptionsTask.setVersion(defaultGeneratorVersion);
-    generatorOptionsTask.setQuery("--texture-styles");
-    generatorOptionsTask.setGeneratorExecutableFile(generatorExecutablePath);
-    return taskService.submitTask(generatorOptionsTask).getMono();
+    return getGeneratorOptions("--texture-styles");
   }
 
   public Mono<List<String>> getGeneratorResourceStyles() {
-    Assert.checkNullIllegalState(defaultGeneratorVersion, "Generator version not set");
-    GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
-    Path generatorExecutablePath = getGeneratorExecutablePath(defaultGeneratorVersion);
-    generatorOptionsTask.setVersion(defaultGeneratorVersion);
-    generatorOptionsTask.setQuery("--resource-styles");
-    generatorOptionsTask.setGeneratorExecutableFile(generatorExecutablePath);
-    return taskService.submitTask(generatorOptionsTask).getMono();
+    return getGeneratorOptions("--resource-styles");
   }
 
   public Mono<List<String>> getGeneratorPropStyles() {
+    return getGeneratorOptions("--prop-styles");
+  }
+
+  /**
+   * Options of a generator version never change, so they are only queried again if a query failed or returned no
+   * options.
+   */
+  private Mono<List<String>> getGeneratorOptions(String query) {
     Assert.checkNullIllegalState(defaultGeneratorVersion, "Generator version not set");
-    GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
-    Path generatorExecutablePath = getGeneratorExecutablePath(defaultGeneratorVersion);
-    generatorOptionsTask.setVersion(defaultGeneratorVersion);
-    generatorOptionsTask.setQuery("--prop-styles");
-    generatorOptionsTask.setGeneratorExecutableFile(generatorExecutablePath);
-    return taskService.submitTask(generatorOptionsTask).getMono();
+    ComparableVersion version = defaultGeneratorVersion;
+    String cacheKey = version + " " + query;
+    List<String> cachedOptions = generatorOptionsCache.get(cacheKey);
+    if (cachedOptions != null) {
+      return Mono.just(cachedOptions);
+    }
+
+    return Mono.defer(() -> {
+      GeneratorOptionsTask generatorOptionsTask = generatorOptionsTaskFactory.getObject();
+      generatorOptionsTask.setVersion(version);
+      generatorOptionsTask.setQuery(query);
+      generatorOptionsTask.setGeneratorExecutableFile(getGeneratorExecutablePath(version));
+      return taskService.submitTask(generatorOptionsTask).getMono();
+    }).map(List::copyOf).doOnNext(options -> {
+      if (!options.isEmpty()) {
+        generatorOptionsCache.put(cacheKey, options);
+      }
+    });
   }
 
   @NotNull
@@ -7,6 +7,8 @@ import com.faforever.client.domain.api.LeagueScoreJournal;
 import com.faforever.client.domain.api.MapVersion;
 import com.faforever.client.domain.api.Replay;
 import com.faforever.client.domain.server.PlayerInfo;
+import com.faforever.client.replay.LocalReplayIndexEntry;
+import com.faforever.client.replay.ReplayHeader;
 import com.faforever.commons.api.dto.Faction;
 import com.faforever.commons.api.dto.Game;
 import com.faforever.commons.replay.ChatMessage;
@@ -153,6 +155,48 @@ public interface ReplayMapper {
     return teams;
   }
 
+  default LocalReplayIndexEntry mapToIndexEntry(ReplayHeader header, long size, long lastModified) {
+    ReplayMetadata metadata = Objects.requireNonNull(header.metadata(), "Only FAF replays have metadata to index");
+    List<LocalReplayIndexEntry.Army> armies = new ArrayList<>();
+    header.armies().forEach(armyInfo -> {
+      if (!(boolean) armyInfo.get("Human")) {
+        armies.add(new LocalReplayIndexEntry.Army(((Float) armyInfo.get("Team")).intValue(),
+                                                  Integer.parseInt((String) armyInfo.get("OwnerID")),
+                                                  (String) armyInfo.get("PlayerName"),
+                                                  (String) armyInfo.get("Country"),
+                                                  ((Float) armyInfo.get("MEAN")).doubleValue(),
+                                                  ((Float) armyInfo.get("DEV")).doubleValue(),
+                                                  ((Float) armyInfo.get("Faction")).intValue()));
+      }
+    });
+    double startTime = metadata.getGameTime() > 0 ? metadata.getGameTime() : metadata.getLaunchedAt();
+    return new LocalReplayIndexEntry(size, lastModified, metadata.getUid(), metadata.getTitle(),
+                                     metadata.getFeaturedMod(), metadata.getMapname(), startTime,
+                                     metadata.getGameEnd(), armies, false);
+  }
+
+  default Replay map(LocalReplayIndexEntry entry, Path replayFile, FeaturedMod featuredMod, MapVersion mapVersion) {
+    Map<String, List<String>> teams = new HashMap<>();
+    Map<String, List<GamePlayerStats>> teamPlayerStats = new HashMap<>();
+    entry.armies().forEach(army -> {
+      String teamString = String.valueOf(army.team());
+      PlayerInfo player = new PlayerInfo();
+      player.setId(army.playerId());
+      player.setUsername(army.playerName());
+      player.setCountry(army.country());
+      LeaderboardRatingJournal ratingJournal = new LeaderboardRatingJournal(null, null, null, army.mean(),
+                                                                            army.deviation(), null, null);
+      GamePlayerStats stats = new GamePlayerStats(false, Faction.fromFaValue(army.faction()), (byte) 0,
+                                                  (byte) army.team(), (byte) 0, (byte) 0, null, null, player,
+                                                  List.of(ratingJournal));
+      teams.computeIfAbsent(teamString, key -> new ArrayList<>()).add(army.playerName());
+      teamPlayerStats.computeIfAbsent(teamString, key -> new ArrayList<>()).add(stats);
+    });
+    return new Replay(entry.uid(), entry.title(), true, teams, teamPlayerStats, null,
+                      fromPythonTime(entry.startTime()), fromPythonTime(entry.endTime()), featuredMod, mapVersion,
+                      replayFile, null, null, null, null, null, true);
+  }
+
   @Mapping(target = "name", source = "title")
   @Mapping(target = "playerStats", source = "teamPlayerStats")
   Game map(Replay bean);
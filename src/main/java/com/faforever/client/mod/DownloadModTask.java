@@ -1,11 +1,14 @@
 package com.faforever.client.mod;
 
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
-import com.faforever.commons.io.ByteCopier;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
+import com.faforever.client.task.TaskLane;
 import com.faforever.commons.io.Unzipper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.ArchiveException;
@@ -17,11 +20,10 @@ import org.springframework.util.FileSystemUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URL;
-import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -36,49 +38,44 @@ public class DownloadModTask extends CompletableTask<Void> {
   private final I18n i18n;
   private final DataPrefs dataPrefs;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
+  private final IoArbiter ioArbiter;
+  private final DownloadService downloadService;
 
   private URL url;
 
   @Autowired
-  public DownloadModTask(I18n i18n, DataPrefs dataPrefs, ForgedAlliancePrefs forgedAlliancePrefs) {
-    super(HIGH);
+  public DownloadModTask(I18n i18n, DataPrefs dataPrefs, ForgedAlliancePrefs forgedAlliancePrefs,
+                         IoArbiter ioArbiter, DownloadService downloadService) {
+    super(HIGH, TaskLane.NETWORK);
 
     this.i18n = i18n;
     this.dataPrefs = dataPrefs;
     this.forgedAlliancePrefs = forgedAlliancePrefs;
+    this.ioArbiter = ioArbiter;
+    this.downloadService = downloadService;
   }
 
   @Override
   protected Void call() throws Exception {
     Objects.requireNonNull(url, "url has not been set");
 
-    Path tempFile = Files.createTempFile(dataPrefs.getCacheDirectory(), "mod", null);
+    // Downloaded to a fixed path, so an interrupted download is resumed by the next download of the mod
+    String fileName = url.getPath().substring(url.getPath().lastIndexOf('/') + 1);
+    Path archive = dataPrefs.getCacheDirectory().resolve("mods").resolve(fileName);
 
-    log.info("Downloading mod from `{}` to `{}`", url, tempFile);
+    log.info("Downloading mod from `{}` to `{}`", url, archive);
     updateTitle(i18n.get("downloadingModTask.downloading", url));
 
-    Files.createDirectories(tempFile.getParent());
+    Files.createDirectories(archive.getParent());
+    downloadService.downloadFile(url, Map.of(), archive, this::updateProgress);
 
-    URLConnection urlConnection = url.openConnection();
-    int contentLength = urlConnection.getContentLength();
-
-    ResourceLocks.acquireDownloadLock();
-    try (InputStream inputStream = urlConnection.getInputStream();
-         OutputStream outputStream = Files.newOutputStream(tempFile)) {
-
-      ByteCopier.from(inputStream)
-          .to(outputStream)
-          .listener(this::updateProgress)
-          .totalBytes(contentLength)
-          .copy();
-
-      extractMod(tempFile);
+    try {
+      extractMod(archive);
     } finally {
-      ResourceLocks.freeDownloadLock();
       try {
-        Files.deleteIfExists(tempFile);
+        Files.deleteIfExists(archive);
       } catch (IOException e) {
-        log.warn("Could not delete temporary file: " + tempFile.toAbsolutePath(), e);
+        log.warn("Could not delete downloaded file: " + archive.toAbsolutePath(), e);
       }
     }
     return null;
@@ -92,18 +89,14 @@ public class DownloadModTask extends CompletableTask<Void> {
     deleteOldModIfExisting(tempFile, modsDirectory);
 
     log.info("Unzipping `{}` to `{}`", tempFile, modsDirectory);
-    try (InputStream inputStream = Files.newInputStream(tempFile)) {
-      ResourceLocks.acquireDiskLock();
-
+    try (Permit _ = ioArbiter.acquire(IoResource.disk(modsDirectory));
+         InputStream inputStream = Files.newInputStream(tempFile)) {
       Unzipper.from(inputStream)
           .to(modsDirectory)
           .zipBombByteCountThreshold(100_000_000)
           .listener(this::updateProgress)
           .totalBytes(Files.size(tempFile))
           .unzip();
-
-    } finally {
-      ResourceLocks.freeDiskLock();
     }
   }
 
@@ -1,5 +1,6 @@
 package com.faforever.client.mod;
 
+import com.faforever.client.api.BatchLoader;
 import com.faforever.client.api.FafApiAccessor;
 import com.faforever.client.config.CacheNames;
 import com.faforever.client.domain.api.ModVersion;
@@ -8,6 +9,8 @@ import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.game.GamePrefsService;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DirectoryWatcher;
+import com.faforever.client.io.DirectoryWatcher.Listener;
 import com.faforever.client.mapstruct.ModMapper;
 import com.faforever.client.notification.Action;
 import com.faforever.client.notification.NotificationService;
@@ -16,6 +19,7 @@ import com.faforever.client.preferences.Preferences;
 import com.faforever.client.remote.AssetService;
 import com.faforever.client.task.CompletableTask;
 import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.theme.ThemeService;
 import com.faforever.client.util.FileSizeReader;
@@ -51,19 +55,16 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
-import reactor.util.retry.Retry;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.WatchKey;
-import java.nio.file.WatchService;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -77,8 +78,6 @@ import java.util.stream.Stream;
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 import static java.nio.file.Files.createDirectories;
 import static java.nio.file.Files.list;
-import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
-import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
 import static java.util.stream.Collectors.toCollection;
 
 @Lazy
@@ -106,6 +105,8 @@ public class ModService implements InitializingBean, DisposableBean {
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
 
   private final ModReader modReader = new ModReader();
+  private final BatchLoader<String, com.faforever.commons.api.dto.ModVersion> modVersionLoader = new BatchLoader<>(
+      "ModVersion", this::fetchModVersions, com.faforever.commons.api.dto.ModVersion::getUid);
 
   private final Map<Path, ModVersion> pathToMod = new HashMap<>();
   private final ObservableMap<String, ModVersion> modsByUid = FXCollections.observableHashMap();
@@ -114,7 +115,7 @@ public class ModService implements InitializingBean, DisposableBean {
       FXCollections.synchronizedObservableList(FXCollections.observableArrayList()), modsByUid);
   private final InvalidationListener modDirectoryChangedListener = observable -> tryLoadMods();
 
-  private Thread directoryWatcherThread;
+  private DirectoryWatcher directoryWatcher;
 
   @Override
   public void afterPropertiesSet() {
@@ -131,8 +132,19 @@ public class ModService implements InitializingBean, DisposableBean {
 
     try {
       createDirectories(modsDirectory);
-      Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
-      directoryWatcherThread = startDirectoryWatcher(modsDirectory);
+      Optional.ofNullable(directoryWatcher).ifPresent(DirectoryWatcher::close);
+      directoryWatcher = DirectoryWatcher.start(modsDirectory, "mods-directory-watcher", new Listener() {
+        @Override
+        public Set<Path> onChanges(Set<Path> created, Set<Path> deleted) {
+          return applyModsDirectoryChanges(created, deleted);
+        }
+
+        @Override
+        public void onGiveUp(Path modFolder) {
+          log.error("Mod could not be read: `{}`", modFolder);
+          notifyCorruptedMod(modFolder);
+        }
+      });
     } catch (IOException e) {
       log.warn("Could not start mod directory watcher", e);
     }
@@ -141,46 +153,8 @@ public class ModService implements InitializingBean, DisposableBean {
     loadInstalledMods();
   }
 
-  private Thread startDirectoryWatcher(Path modsDirectory) {
-    Thread thread = new Thread(() -> {
-      try (WatchService watcher = modsDirectory.getFileSystem().newWatchService()) {
-        modsDirectory.register(watcher, ENTRY_DELETE, ENTRY_CREATE);
-        while (!Thread.interrupted()) {
-          WatchKey key = watcher.take();
-          key.pollEvents()
-             .stream()
-             .filter(event -> event.kind() == ENTRY_DELETE || event.kind() == ENTRY_CREATE)
-             .forEach(event -> {
-               Path modPath = modsDirectory.resolve((Path) event.context());
-               if (event.kind() == ENTRY_DELETE) {
-                 removeMod(modPath);
-               } else if (event.kind() == ENTRY_CREATE) {
-                 Mono.just(modPath)
-                     .filter(Files::exists)
-                     .doOnNext(this::addInstalledMod)
-                     .retryWhen(Retry.fixedDelay(30, Duration.ofSeconds(1)).filter(ModLoadException.class::isInstance))
-                     .subscribe(null, throwable -> {
-                       log.error("Mod could not be read: `{}`", modPath, throwable);
-                       notificationService.addPersistentWarnNotification(
-                           List.of(new Action(i18n.get("corruptedMods.show"), () -> platformService.reveal(modPath))),
-                           "corruptedModsError.notification", modPath.getFileName());
-                     });
-               }
-             });
-          key.reset();
-        }
-      } catch (IOException e) {
-        log.warn("Could not start mods directory watcher on {}", modsDirectory);
-      } catch (InterruptedException e) {
-        log.debug("Watcher terminated ({})", e.getMessage());
-      }
-    });
-    thread.start();
-    return thread;
-  }
-
   private void loadInstalledMods() {
-    taskService.submitTask(new CompletableTask<Void>(Priority.LOW) {
+    taskService.submitTask(new CompletableTask<Void>(Priority.LOW, TaskLane.DISK) {
 
       @Override
       protected Void call() {
@@ -381,9 +355,52 @@ public class ModService implements InitializingBean, DisposableBean {
     }
   }
 
+  /**
+   * Reads the settled mod folders reported by the directory watcher and applies them, together with the removed
+   * folders, to the installed mods in a single pass on the application thread.
+   *
+   * @return the folders that could not be read yet
+   */
+  private Set<Path> applyModsDirectoryChanges(Set<Path> createdFolders, Set<Path> deletedFolders) {
+    Set<Path> unreadableFolders = new HashSet<>();
+    Map<Path, ModVersion> addedMods = new HashMap<>();
+    for (Path modFolder : createdFolders) {
+      try {
+        addedMods.put(modFolder, extractModInfo(modFolder));
+      } catch (ModLoadException e) {
+        log.debug("Mod in `{}` could not be read yet", modFolder, e);
+        unreadableFolders.add(modFolder);
+      } catch (RuntimeException e) {
+        log.error("Mod could not be read: `{}`", modFolder, e);
+        notifyCorruptedMod(modFolder);
+      }
+    }
+
+    fxApplicationThreadExecutor.execute(() -> {
+      deletedFolders.forEach(this::removeMod);
+      // A folder that was deleted and created again within the quiet period is only reported as created, so it
+      // replaces the mod installed before
+      addedMods.forEach((modFolder, modVersion) -> {
+        ModVersion replacedModVersion = pathToMod.put(modFolder, modVersion);
+        if (replacedModVersion != null) {
+          modsByUid.remove(replacedModVersion.uid());
+        }
+        modsByUid.put(modVersion.uid(), modVersion);
+      });
+    });
+    log.debug("Applied {} added and {} removed mods", addedMods.size(), deletedFolders.size());
+    return unreadableFolders;
+  }
+
+  private void notifyCorruptedMod(Path modFolder) {
+    notificationService.addPersistentWarnNotification(
+        List.of(new Action(i18n.get("corruptedMods.show"), () -> platformService.reveal(modFolder))),
+        "corruptedModsError.notification", modFolder.getFileName());
+  }
+
   @Override
   public void destroy() {
-    Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
+    Optional.ofNullable(directoryWatcher).ifPresent(DirectoryWatcher::close);
   }
 
   public Mono<List<ModVersion>> updateAndActivateModVersions(final Collection<ModVersion> selectedModVersions) {
@@ -394,7 +411,8 @@ public class ModService implements InitializingBean, DisposableBean {
     List<Mono<ModVersion>> updatedVersions = selectedModVersions.stream().map(this::updateModIfNecessary).toList();
 
 
-    return Flux.concat(updatedVersions).collectList().doOnNext(this::overrideActivatedMods);
+    // Subscribing to all versions at once lets their lookups share a request
+    return Flux.mergeSequential(updatedVersions).collectList().doOnNext(this::overrideActivatedMods);
   }
 
   private Mono<ModVersion> updateModIfNecessary(ModVersion installedModVersion) {
@@ -412,16 +430,20 @@ public class ModService implements InitializingBean, DisposableBean {
   }
 
   private Mono<com.faforever.commons.api.dto.ModVersion> getModVersionByUid(String uid) {
+    return modVersionLoader.load(uid);
+  }
+
+  private Flux<com.faforever.commons.api.dto.ModVersion> fetchModVersions(Set<String> uids) {
     ElideNavigatorOnCollection<com.faforever.commons.api.dto.ModVersion> navigator = ElideNavigator.of(
                                                                                                        com.faforever.commons.api.dto.ModVersion.class)
                                                                                                    .collection()
                                                                                                    .setFilter(
                                                                                                        qBuilder().string(
                                                                                                                      "uid")
-                                                                                                                 .eq(uid))
-                                                                                                   .pageSize(1)
+                                                                                                                 .in(uids))
+                                                                                                   .pageSize(uids.size())
                                                                                                    .pageNumber(1);
-    return fafApiAccessor.getMany(navigator).next();
+    return fafApiAccessor.getMany(navigator);
   }
 
   @Cacheable(value = CacheNames.MODS, sync = true)
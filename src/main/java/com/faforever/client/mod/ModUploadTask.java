@@ -4,7 +4,10 @@ import com.faforever.client.api.FafApiAccessor;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.util.Validator;
 import com.faforever.commons.io.ByteCountListener;
 import com.faforever.commons.io.Zipper;
@@ -44,56 +47,59 @@ public class ModUploadTask extends CompletableTask<Void> {
   private final I18n i18n;
   private final DataPrefs dataPrefs;
   private final WebClient defaultWebClient;
+  private final IoArbiter ioArbiter;
 
   @Setter
   private Path modPath;
 
   @Autowired
-  public ModUploadTask(FafApiAccessor fafApiAccessor, I18n i18n, DataPrefs dataPrefs, WebClient defaultWebClient) {
-    super(Priority.HIGH);
+  public ModUploadTask(FafApiAccessor fafApiAccessor, I18n i18n, DataPrefs dataPrefs, WebClient defaultWebClient,
+                       IoArbiter ioArbiter) {
+    super(Priority.HIGH, TaskLane.NETWORK);
     this.dataPrefs = dataPrefs;
     this.fafApiAccessor = fafApiAccessor;
     this.i18n = i18n;
     this.defaultWebClient = defaultWebClient;
+    this.ioArbiter = ioArbiter;
   }
 
   @Override
   protected Void call() throws Exception {
     Validator.notNull(modPath, "modPath must not be null");
 
-    ResourceLocks.acquireUploadLock();
-    Path cacheDirectory = dataPrefs.getCacheDirectory();
-    Files.createDirectories(cacheDirectory);
-    Path tmpFile = createTempFile(cacheDirectory, "mod", ".zip");
-
-    try {
-      log.debug("Zipping mod `{}` to `{}`", modPath, tmpFile);
-      updateTitle(i18n.get("modVault.upload.compressing"));
-
-      Locale locale = i18n.getUserSpecificLocale();
-      ByteCountListener byteListener = (written, total) -> {
-        updateMessage(i18n.get("bytesProgress", formatSize(written, locale), formatSize(total, locale)));
-        updateProgress(written, total);
-      };
-
-      try (OutputStream outputStream = newOutputStream(tmpFile)) {
-        Zipper.of(modPath)
-            .to(outputStream)
-            .listener(byteListener)
-            .zip();
+    try (Permit _ = ioArbiter.acquire(IoResource.UPLOADS)) {
+      Path cacheDirectory = dataPrefs.getCacheDirectory();
+      Files.createDirectories(cacheDirectory);
+      Path tmpFile = createTempFile(cacheDirectory, "mod", ".zip");
+
+      try {
+        log.debug("Zipping mod `{}` to `{}`", modPath, tmpFile);
+        updateTitle(i18n.get("modVault.upload.compressing"));
+
+        Locale locale = i18n.getUserSpecificLocale();
+        ByteCountListener byteListener = (written, total) -> {
+          updateMessage(i18n.get("bytesProgress", formatSize(written, locale), formatSize(total, locale)));
+          updateProgress(written, total);
+        };
+
+        try (OutputStream outputStream = newOutputStream(tmpFile)) {
+          Zipper.of(modPath)
+              .to(outputStream)
+              .listener(byteListener)
+              .zip();
+        }
+
+        log.debug("Starting upload sequence. Uploading mod `{}` as `{}`", modPath, tmpFile);
+        updateTitle(i18n.get("modVault.upload.uploading"));
+
+        return fafApiAccessor.getApiObject(MOD_UPLOAD_START_API_GET, UploadUrlResponse.class)
+                             .flatMap(response -> uploadModToS3(response, tmpFile))
+                             .flatMap(this::completeUpload)
+                             .block();
+
+      } finally {
+        Files.deleteIfExists(tmpFile);
       }
-
-      log.debug("Starting upload sequence. Uploading mod `{}` as `{}`", modPath, tmpFile);
-      updateTitle(i18n.get("modVault.upload.uploading"));
-
-      return fafApiAccessor.getApiObject(MOD_UPLOAD_START_API_GET, UploadUrlResponse.class)
-                           .flatMap(response -> uploadModToS3(response, tmpFile))
-                           .flatMap(this::completeUpload)
-                           .block();
-
-    } finally {
-      Files.delete(tmpFile);
-      ResourceLocks.freeUploadLock();
     }
   }
 
@@ -2,6 +2,7 @@ package com.faforever.client.mod;
 
 import com.faforever.client.domain.api.ModVersion;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -23,7 +24,7 @@ public class UninstallModTask extends CompletableTask<Void> {
 
   @Autowired
   public UninstallModTask(ModService modService) {
-    super(CompletableTask.Priority.LOW);
+    super(CompletableTask.Priority.LOW, TaskLane.DISK);
 
     this.modService = modService;
   }
@@ -0,0 +1,170 @@
+package com.faforever.client.patch;
+
+import com.faforever.client.io.ChecksumMismatchException;
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.io.FeaturedModFileCacheService;
+import com.faforever.client.preferences.PreferencesService;
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.commons.api.dto.FeaturedModFile;
+import com.faforever.commons.fa.ForgedAllianceExePatcher;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Brings the files of a featured mod into the data directory. Installed files are hashed and outdated ones downloaded
+ * (or taken from the cache) concurrently, with separate limits for the CPU and disk bound hashing and the network bound
+ * downloading.
+ */
+@Slf4j
+class FeaturedModFileSynchronizer {
+
+  static final int DEFAULT_HASH_CONCURRENCY = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+  static final int DEFAULT_DOWNLOAD_CONCURRENCY = 4;
+
+  private final DownloadService downloadService;
+  private final FeaturedModFileCacheService featuredModFileCacheService;
+  private final int hashConcurrency;
+  private final int downloadConcurrency;
+
+  FeaturedModFileSynchronizer(DownloadService downloadService, FeaturedModFileCacheService featuredModFileCacheService,
+                              int hashConcurrency, int downloadConcurrency) {
+    this.downloadService = downloadService;
+    this.featuredModFileCacheService = featuredModFileCacheService;
+    this.hashConcurrency = hashConcurrency;
+    this.downloadConcurrency = downloadConcurrency;
+  }
+
+  /**
+   * @param downloadListener called with the name of every file that is about to be downloaded
+   * @param progressListener called with the overall progress between 0 and 1 of all files, files which are up to date
+   * count as complete
+   */
+  void synchronize(List<FeaturedModFile> featuredModFiles, Path dataDirectory, Consumer<String> downloadListener,
+                   DoubleConsumer progressListener) {
+    Map<Path, Double> fileProgress = new ConcurrentHashMap<>();
+    int fileCount = featuredModFiles.size();
+    // Updates run on other threads, which must schedule their disk and network access with the caller's priority
+    Priority priority = IoArbiter.currentPriority();
+
+    Flux.fromIterable(featuredModFiles)
+        .flatMap(featuredModFile -> Mono.fromCallable(() -> isOutdated(featuredModFile, dataDirectory))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .doOnNext(outdated -> {
+                                          if (!outdated) {
+                                            fileProgress.put(resolveTargetPath(featuredModFile, dataDirectory), 1d);
+                                            progressListener.accept(overallProgress(fileProgress, fileCount));
+                                          }
+                                        })
+                                        .filter(Boolean::booleanValue)
+                                        .map(_ -> featuredModFile), hashConcurrency)
+        .flatMap(featuredModFile -> Mono.fromRunnable(() -> IoArbiter.runWithPriority(priority, () -> {
+          Path targetPath = resolveTargetPath(featuredModFile, dataDirectory);
+          update(featuredModFile, targetPath, downloadListener, progress -> {
+            fileProgress.put(targetPath, progress);
+            progressListener.accept(overallProgress(fileProgress, fileCount));
+          });
+        })).subscribeOn(Schedulers.boundedElastic()), downloadConcurrency)
+        .then()
+        .doFinally(_ -> featuredModFileCacheService.saveHashManifest())
+        .block();
+  }
+
+  private static double overallProgress(Map<Path, Double> fileProgress, int fileCount) {
+    return fileProgress.values().stream().mapToDouble(Double::doubleValue).sum() / fileCount;
+  }
+
+  private static Path resolveTargetPath(FeaturedModFile featuredModFile, Path dataDirectory) {
+    return dataDirectory.resolve(featuredModFile.getGroup()).resolve(featuredModFile.getName());
+  }
+
+  private boolean isOutdated(FeaturedModFile featuredModFile, Path dataDirectory) throws IOException {
+    if (fileAlreadyLoaded(featuredModFile, resolveTargetPath(featuredModFile, dataDirectory))) {
+      log.info("Featured mod file already prepared: `{}`", featuredModFile);
+      return false;
+    }
+    return true;
+  }
+
+  private void update(FeaturedModFile featuredModFile, Path targetPath, Consumer<String> downloadListener,
+                      DoubleConsumer progressListener) {
+    try {
+      Files.createDirectories(targetPath.getParent());
+      if (!featuredModFileCacheService.isCached(featuredModFile)) {
+        Path cachedFilePath = featuredModFileCacheService.getCachedFilePath(featuredModFile);
+        Files.createDirectories(cachedFilePath.getParent());
+        if (PreferencesService.FORGED_ALLIANCE_EXE.equals(featuredModFile.getName())) {
+          patchOrDownloadForgedAllianceExe(featuredModFile, cachedFilePath, targetPath, downloadListener,
+                                           progressListener);
+        } else {
+          downloadFeaturedModFile(featuredModFile, cachedFilePath, downloadListener, progressListener);
+        }
+      }
+      featuredModFileCacheService.copyFeaturedModFileFromCache(featuredModFile, targetPath);
+      progressListener.accept(1);
+    } catch (IOException | NoSuchAlgorithmException | ChecksumMismatchException e) {
+      log.error("Error updating featured mod file: `{}`", featuredModFile, e);
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void patchOrDownloadForgedAllianceExe(FeaturedModFile featuredModFile, Path cachedFilePath, Path targetPath,
+                                                Consumer<String> downloadListener,
+                                                DoubleConsumer progressListener) throws IOException, ChecksumMismatchException, NoSuchAlgorithmException {
+    if (Files.exists(targetPath)) {
+      Files.createDirectories(cachedFilePath.getParent());
+      Path tempFile = Files.createTempFile(cachedFilePath.getParent(), "download", null);
+      // Make a copy of the currently installed ForgedAlliance.exe
+      Files.copy(targetPath, tempFile, StandardCopyOption.REPLACE_EXISTING);
+      int version = Integer.parseInt(featuredModFile.getVersion());
+      ForgedAllianceExePatcher.patchVersion(tempFile, version);
+
+      if (fileAlreadyLoaded(featuredModFile, tempFile)) {
+        // Hash matches so use the patched version
+        Files.move(tempFile, cachedFilePath, StandardCopyOption.REPLACE_EXISTING);
+        log.debug("Using locally patched `{}` for version `{}`", featuredModFile.getName(), version);
+        return;
+      }
+    }
+
+    downloadFeaturedModFile(featuredModFile, cachedFilePath, downloadListener, progressListener);
+  }
+
+  private boolean fileAlreadyLoaded(FeaturedModFile featuredModFile, Path targetPath) throws IOException {
+    return Files.exists(targetPath)
+        && Objects.equals(featuredModFile.getMd5(), featuredModFileCacheService.readHashFromFile(targetPath));
+  }
+
+  private void downloadFeaturedModFile(FeaturedModFile featuredModFile, Path targetPath,
+                                       Consumer<String> downloadListener,
+                                       DoubleConsumer progressListener) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    Files.createDirectories(targetPath.getParent());
+    downloadListener.accept(featuredModFile.getName());
+
+    String md5sum = featuredModFile.getMd5();
+
+    // We can perform cloudflare hmac verification either with a query parameter or by sending a request header hmac with the value
+    // Using a request header is preferred as this allows us to cache the url on cloudflare without the query string as the
+    // query string effectively renders the cache ineffective.
+    Map<String, String> requestParameters = Map.of(featuredModFile.getHmacParameter(), featuredModFile.getHmacToken());
+
+    downloadService.downloadFile(URI.create(featuredModFile.getCacheableUrl()).toURL(), requestParameters, targetPath,
+                                 (written, total) -> progressListener.accept(
+                                     total > 0 ? Math.min(1, (double) written / total) : 0), md5sum);
+  }
+}
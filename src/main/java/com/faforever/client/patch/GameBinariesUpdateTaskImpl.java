@@ -5,16 +5,16 @@ import com.faforever.client.fa.ForgedAllianceLaunchService;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.game.error.GameUpdateException;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
 import com.faforever.client.os.OperatingSystem;
 import com.faforever.client.os.OsWindows;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.util.Assert;
 import com.faforever.client.util.Validator;
 import com.faforever.commons.fa.ForgedAllianceExePatcher;
-import com.faforever.commons.io.ByteCopier;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.artifact.versioning.ComparableVersion;
@@ -23,14 +23,12 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.URL;
-import java.net.URLConnection;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static java.nio.file.Files.copy;
@@ -66,6 +64,7 @@ public class GameBinariesUpdateTaskImpl extends CompletableTask<Void> implements
   private final OperatingSystem operatingSystem;
   private final DataPrefs dataPrefs;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
+  private final DownloadService downloadService;
 
   private final String fafExeUrl;
 
@@ -75,8 +74,8 @@ public class GameBinariesUpdateTaskImpl extends CompletableTask<Void> implements
   public GameBinariesUpdateTaskImpl(ForgedAllianceLaunchService forgedAllianceLaunchService, I18n i18n,
                                     PlatformService platformService, OperatingSystem operatingSystem,
                                     DataPrefs dataPrefs, ForgedAlliancePrefs forgedAlliancePrefs,
-                                    ClientProperties clientProperties) {
-    super(Priority.HIGH);
+                                    ClientProperties clientProperties, DownloadService downloadService) {
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.forgedAllianceLaunchService = forgedAllianceLaunchService;
     this.i18n = i18n;
@@ -84,10 +83,16 @@ public class GameBinariesUpdateTaskImpl extends CompletableTask<Void> implements
     this.operatingSystem = operatingSystem;
     this.dataPrefs = dataPrefs;
     this.forgedAlliancePrefs = forgedAlliancePrefs;
+    this.downloadService = downloadService;
 
     this.fafExeUrl = clientProperties.getForgedAlliance().getExeUrl();
   }
 
+  @Override
+  public boolean isLaunchCritical() {
+    return true;
+  }
+
   @Override
   protected Void call() throws Exception {
     updateTitle(i18n.get("updater.binary.taskTitle"));
@@ -116,22 +121,9 @@ public class GameBinariesUpdateTaskImpl extends CompletableTask<Void> implements
       platformService.setUnixExecutableAndWritableBits(exePath);
       return;
     }
-    ResourceLocks.acquireDownloadLock();
-    try {
-      log.debug("Downloading `{}` to `{}`", fafExeUrl, exePath);
-      URLConnection urlConnection = new URL(fafExeUrl).openConnection();
-      try (InputStream inputStream = urlConnection.getInputStream();
-           OutputStream outputStream = Files.newOutputStream(exePath)) {
-        ByteCopier.from(inputStream)
-            .to(outputStream)
-            .totalBytes(urlConnection.getContentLength())
-            .listener(this::updateProgress)
-            .copy();
-      }
-      platformService.setUnixExecutableAndWritableBits(exePath);
-    } finally {
-      ResourceLocks.freeDownloadLock();
-    }
+    log.debug("Downloading `{}` to `{}`", fafExeUrl, exePath);
+    downloadService.downloadFile(URI.create(fafExeUrl).toURL(), Map.of(), exePath, this::updateProgress);
+    platformService.setUnixExecutableAndWritableBits(exePath);
   }
 
   @VisibleForTesting
@@ -3,14 +3,12 @@ package com.faforever.client.patch;
 import com.faforever.client.domain.api.FeaturedMod;
 import com.faforever.client.featuredmod.FeaturedModService;
 import com.faforever.client.i18n.I18n;
-import com.faforever.client.io.ChecksumMismatchException;
 import com.faforever.client.io.DownloadService;
 import com.faforever.client.io.FeaturedModFileCacheService;
 import com.faforever.client.preferences.DataPrefs;
-import com.faforever.client.preferences.PreferencesService;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import com.faforever.commons.api.dto.FeaturedModFile;
-import com.faforever.commons.fa.ForgedAllianceExePatcher;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.artifact.versioning.ComparableVersion;
@@ -18,15 +16,9 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
@@ -49,7 +41,7 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
       I18n i18n,
       FeaturedModFileCacheService featuredModFileCacheService,
       DataPrefs dataPrefs) {
-    super(Priority.HIGH);
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.featuredModService = featuredModService;
     this.downloadService = downloadService;
@@ -58,6 +50,11 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
     this.dataPrefs = dataPrefs;
   }
 
+  @Override
+  public boolean isLaunchCritical() {
+    return true;
+  }
+
   @Override
   protected PatchResult call() throws Exception {
     FeaturedMod featuredMod = featuredModService.getFeaturedMod(featuredModName).blockOptional().orElseThrow();
@@ -79,34 +76,12 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
                                                                .blockOptional()
                                                                .orElse(List.of());
 
-    featuredModFiles
-        .forEach(featuredModFile -> {
-          Path targetPath = fafDataDirectory
-              .resolve(featuredModFile.getGroup())
-              .resolve(featuredModFile.getName());
-
-          try {
-            Files.createDirectories(targetPath.getParent());
-            if (fileAlreadyLoaded(featuredModFile, targetPath)) {
-              log.info("Featured mod file already prepared: `{}`", featuredModFile);
-            } else {
-              if (!featuredModFileCacheService.isCached(featuredModFile)) {
-                Path cachedFilePath = featuredModFileCacheService.getCachedFilePath(featuredModFile);
-                Files.createDirectories(cachedFilePath.getParent());
-                if (PreferencesService.FORGED_ALLIANCE_EXE.equals(featuredModFile.getName())) {
-                  patchOrDownloadForgedAllianceExe(featuredModFile, cachedFilePath, targetPath);
-                } else {
-                  downloadFeaturedModFile(featuredModFile, cachedFilePath);
-                }
-              }
-              featuredModFileCacheService.copyFeaturedModFileFromCache(featuredModFile, targetPath);
-            }
-          }
-          catch (IOException | NoSuchAlgorithmException | ChecksumMismatchException e) {
-            log.error("Error updating featured mod file: `{}`", featuredModFile, e);
-            throw new RuntimeException(e);
-          }
-        });
+    new FeaturedModFileSynchronizer(downloadService, featuredModFileCacheService,
+                                    FeaturedModFileSynchronizer.DEFAULT_HASH_CONCURRENCY,
+                                    FeaturedModFileSynchronizer.DEFAULT_DOWNLOAD_CONCURRENCY)
+        .synchronize(featuredModFiles, fafDataDirectory,
+                     fileName -> updateMessage(i18n.get("updater.downloadingFile", fileName)),
+                     progress -> updateProgress(progress, 1));
 
     Path initFile = featuredModFiles.stream()
         .filter(featuredModFile -> "bin".equals(featuredModFile.getGroup()) &&
@@ -127,44 +102,4 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
 
     return new PatchResult(new ComparableVersion(String.valueOf(maxVersion)), initFile);
   }
-
-  private void patchOrDownloadForgedAllianceExe(FeaturedModFile featuredModFile, Path cachedFilePath, Path targetPath) throws IOException, ChecksumMismatchException, NoSuchAlgorithmException {
-    if (Files.exists(targetPath)) {
-      Files.createDirectories(cachedFilePath.getParent());
-      Path tempFile = Files.createTempFile(cachedFilePath.getParent(), "download", null);
-      // Make a copy of the currently installed ForgedAlliance.exe
-      Files.copy(targetPath, tempFile, StandardCopyOption.REPLACE_EXISTING);
-      int version = Integer.parseInt(featuredModFile.getVersion());
-      ForgedAllianceExePatcher.patchVersion(tempFile, version);
-
-      if (fileAlreadyLoaded(featuredModFile, tempFile)) {
-        // Hash matches so use the patched version
-        Files.move(tempFile, cachedFilePath, StandardCopyOption.REPLACE_EXISTING);
-        log.debug("Using locally patched `{}` for version `{}`", featuredModFile.getName(), version);
-        return;
-      }
-    }
-
-    downloadFeaturedModFile(featuredModFile, cachedFilePath);
-  }
-
-  private boolean fileAlreadyLoaded(FeaturedModFile featuredModFile, Path targetPath) throws IOException {
-    return Files.exists(targetPath)
-        && Objects.equals(featuredModFile.getMd5(), featuredModFileCacheService.readHashFromFile(targetPath));
-  }
-
-  private void downloadFeaturedModFile(FeaturedModFile featuredModFile, Path targetPath) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
-    Files.createDirectories(targetPath.getParent());
-    updateMessage(i18n.get("updater.downloadingFile", featuredModFile.getName()));
-
-    String md5sum = featuredModFile.getMd5();
-
-    // We can perform cloudflare hmac verification either with a query parameter or by sending a request header hmac with the value
-    // Using a request header is preferred as this allows us to cache the url on cloudflare without the query string as the
-    // query string effectively renders the cache ineffective.
-    Map<String, String> requestParameters = Map.of(featuredModFile.getHmacParameter(), featuredModFile.getHmacToken());
-
-    downloadService.downloadFile(URI.create(featuredModFile.getCacheableUrl()).toURL(), requestParameters, targetPath,
-                                 this::updateProgress, md5sum);
-  }
 }
@@ -0,0 +1,70 @@
+package com.faforever.client.player;
+
+/**
+ * Downsamples a time series with the Largest-Triangle-Three-Buckets algorithm, which keeps the visual shape of the
+ * series, including its peaks, with a fraction of the points. The points are split into buckets of equal size and of
+ * each bucket the point which forms the largest triangle with the previously selected point and the average of the
+ * next bucket is kept. The first and the last point are always kept.
+ */
+public final class LargestTriangleThreeBuckets {
+
+  private LargestTriangleThreeBuckets() {
+    throw new AssertionError("Not instantiatable");
+  }
+
+  /**
+   * @param x x values of the points, in ascending order
+   * @param y y values of the points
+   * @param threshold maximum number of points to keep
+   * @return the indices of the points to keep, in ascending order
+   */
+  public static int[] downsample(double[] x, double[] y, int threshold) {
+    int length = x.length;
+    if (threshold >= length || threshold < 3) {
+      int[] all = new int[length];
+      for (int i = 0; i < length; i++) {
+        all[i] = i;
+      }
+      return all;
+    }
+
+    int[] sampled = new int[threshold];
+    // The first and last point are not part of any bucket
+    double bucketSize = (double) (length - 2) / (threshold - 2);
+    int selected = 0;
+    sampled[0] = 0;
+
+    for (int bucket = 0; bucket < threshold - 2; bucket++) {
+      int nextBucketStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+      int nextBucketEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, length);
+      double averageX = 0;
+      double averageY = 0;
+      for (int i = nextBucketStart; i < nextBucketEnd; i++) {
+        averageX += x[i];
+        averageY += y[i];
+      }
+      int nextBucketLength = nextBucketEnd - nextBucketStart;
+      averageX /= nextBucketLength;
+      averageY /= nextBucketLength;
+
+      int bucketStart = (int) Math.floor(bucket * bucketSize) + 1;
+      double maxArea = -1;
+      int maxAreaIndex = bucketStart;
+      for (int i = bucketStart; i < nextBucketStart; i++) {
+        // Twice the area of the triangle, which is sufficient for comparison
+        double area = Math.abs((x[selected] - averageX) * (y[i] - y[selected])
+                                   - (x[selected] - x[i]) * (averageY - y[selected]));
+        if (area > maxArea) {
+          maxArea = area;
+          maxAreaIndex = i;
+        }
+      }
+
+      sampled[bucket + 1] = maxAreaIndex;
+      selected = maxAreaIndex;
+    }
+
+    sampled[threshold - 1] = length - 1;
+    return sampled;
+  }
+}
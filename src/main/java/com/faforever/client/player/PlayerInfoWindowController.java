@@ -60,13 +60,13 @@ import reactor.core.publisher.Mono;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static com.faforever.client.player.EventService.EVENT_AEON_PLAYS;
 import static com.faforever.client.player.EventService.EVENT_AEON_WINS;
@@ -90,6 +90,11 @@ import static javafx.collections.FXCollections.observableList;
 @RequiredArgsConstructor
 public class PlayerInfoWindowController extends NodeController<Node> {
 
+  /**
+   * Used if the rating chart has not been laid out yet.
+   */
+  private static final int MAX_RATING_CHART_POINTS = 1000;
+
   private final StatisticsService statisticsService;
   private final CountryFlagService countryFlagService;
   private final AchievementService achievementService;
@@ -485,19 +490,15 @@ public class PlayerInfoWindowController extends NodeController<Node> {
   public void plotPlayerRatingGraph() {
     JavaFxUtil.assertApplicationThread();
     OffsetDateTime afterDate = OffsetDateTime.of(timePeriodComboBox.getValue().getDate(), ZoneOffset.UTC);
-    List<XYChart.Data<Number, Number>> values = ratingData.stream()
-                                                          .filter(ratingJournal -> {
-                                                            OffsetDateTime scoreTime = ratingJournal
-                                                                                                    .scoreTime();
-                                                            return scoreTime != null && scoreTime.isAfter(afterDate);
-                                                          })
-                                                          .sorted(Comparator.comparing(
-                                                              LeaderboardRatingJournal::scoreTime))
-                                                          .map(ratingJournal -> new Data<>(
-                                                              (Number) ratingJournal.scoreTime()
-                                                                                    .toEpochSecond(),
-                                                              (Number) RatingUtil.getRating(ratingJournal)))
-                                                          .collect(Collectors.toList());
+    List<LeaderboardRatingJournal> ratingJournals = ratingData.stream()
+                                                              .filter(ratingJournal -> {
+                                                                OffsetDateTime scoreTime = ratingJournal.scoreTime();
+                                                                return scoreTime != null && scoreTime.isAfter(afterDate);
+                                                              })
+                                                              .sorted(Comparator.comparing(
+                                                                  LeaderboardRatingJournal::scoreTime))
+                                                              .toList();
+    List<XYChart.Data<Number, Number>> values = downsample(ratingJournals);
 
     xAxis.setTickLabelFormatter(ratingLabelFormatter());
     if (!values.isEmpty()) {
@@ -513,6 +514,30 @@ public class PlayerInfoWindowController extends NodeController<Node> {
     ratingHistoryChart.setVisible(true);
   }
 
+  /**
+   * Reduces the rating history to at most one point per horizontal pixel of the chart, as more points can't be
+   * displayed but each one costs layout time.
+   */
+  private List<XYChart.Data<Number, Number>> downsample(List<LeaderboardRatingJournal> ratingJournals) {
+    int size = ratingJournals.size();
+    double[] times = new double[size];
+    double[] ratings = new double[size];
+    for (int i = 0; i < size; i++) {
+      LeaderboardRatingJournal ratingJournal = ratingJournals.get(i);
+      times[i] = ratingJournal.scoreTime().toEpochSecond();
+      ratings[i] = RatingUtil.getRating(ratingJournal);
+    }
+
+    int chartWidth = (int) ratingHistoryChart.getWidth();
+    int maxPoints = chartWidth > 0 ? chartWidth : MAX_RATING_CHART_POINTS;
+    int[] indices = LargestTriangleThreeBuckets.downsample(times, ratings, maxPoints);
+    List<XYChart.Data<Number, Number>> values = new ArrayList<>(indices.length);
+    for (int index : indices) {
+      values.add(new Data<>((long) times[index], (int) ratings[index]));
+    }
+    return values;
+  }
+
   @NotNull
   private StringConverter<Leaderboard> leaderboardStringConverter() {
     return new StringConverter<>() {
@@ -17,9 +17,8 @@ import javafx.scene.shape.PathElement;
 import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,6 +29,7 @@ public class PlayerRatingChart extends LineChart<Number, Number> {
 
   private static final int OFFSET_TOOLTIP_FROM_CURSOR_BY_X = 20; // in px
   private static final int OFFSET_TOOLTIP_FROM_CURSOR_BY_Y = 15; // in px
+  private static final int NO_RATING = Integer.MIN_VALUE;
 
   private final Region chartBackground;
   private final Line verticalLine = new Line(0, 0, 0, 0);
@@ -38,7 +38,7 @@ public class PlayerRatingChart extends LineChart<Number, Number> {
   private boolean available = true;
 
   private boolean valid = false;
-  private final Map<Integer, Integer> ratingMap = new HashMap<>(); // key - X coordinate of chart background
+  private int[] ratingByXCoordinate = new int[0]; // index - X coordinate of chart background
 
   public PlayerRatingChart(@NamedArg("xAxis") Axis<Number> xAxis, @NamedArg("yAxis") Axis<Number> yAxis) {
     super(xAxis, yAxis);
@@ -83,8 +83,8 @@ public class PlayerRatingChart extends LineChart<Number, Number> {
     if (valid) {
       int x = (int) event.getX();
       long dateValueInSec = getDisplayedDateValue(x);
-      Integer rating = ratingMap.get(x);
-      if (rating != null && dateValueInSec != Long.MIN_VALUE) {
+      int rating = x >= 0 && x < ratingByXCoordinate.length ? ratingByXCoordinate[x] : NO_RATING;
+      if (rating != NO_RATING && dateValueInSec != Long.MIN_VALUE) {
         tooltipController.setDateAndRating(dateValueInSec, rating);
       } else {
         tooltipController.clear();
@@ -99,7 +99,11 @@ public class PlayerRatingChart extends LineChart<Number, Number> {
   }
 
   private void recalculateData() {
-    ratingMap.clear();
+    int width = (int) Math.ceil(chartBackground.getWidth()) + 1;
+    if (ratingByXCoordinate.length != width) {
+      ratingByXCoordinate = new int[width];
+    }
+    Arrays.fill(ratingByXCoordinate, NO_RATING);
     for (int i = 0; i < getData().size(); i++) {
       Series<Number, Number> series = getData().get(i);
       if (series.getNode() instanceof Path path) {
@@ -133,16 +137,20 @@ public class PlayerRatingChart extends LineChart<Number, Number> {
         double augmentation = (double) (rating2 - rating1) / distance; // augmentation may be positive or negative
         double value = rating1;
         while (leftXCoordinate < rightXCoordinate) {
-          putMapRatingValue(++leftXCoordinate, value += augmentation);
+          putRatingValue(++leftXCoordinate, value += augmentation);
         }
       } else {
-        putMapRatingValue(++leftXCoordinate, rating1);
+        putRatingValue(++leftXCoordinate, rating1);
       }
     }
   }
 
-  private void putMapRatingValue(int xCoordinate, double rating) {
-    ratingMap.merge(xCoordinate, (int) rating, (currentRating, newRating) -> (currentRating + newRating) / 2); // average
+  private void putRatingValue(int xCoordinate, double rating) {
+    if (xCoordinate < 0 || xCoordinate >= ratingByXCoordinate.length) {
+      return;
+    }
+    int currentRating = ratingByXCoordinate[xCoordinate];
+    ratingByXCoordinate[xCoordinate] = currentRating == NO_RATING ? (int) rating : (currentRating + (int) rating) / 2; // average
   }
 
   private long getDisplayedDateValue(double displayPosition) {
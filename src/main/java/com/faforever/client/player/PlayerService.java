@@ -1,5 +1,6 @@
 package com.faforever.client.player;
 
+import com.faforever.client.api.BatchLoader;
 import com.faforever.client.api.FafApiAccessor;
 import com.faforever.client.domain.api.NameRecord;
 import com.faforever.client.domain.server.GameInfo;
@@ -12,6 +13,7 @@ import com.faforever.client.util.RatingUtil;
 import com.faforever.commons.api.dto.Player;
 import com.faforever.commons.api.elide.ElideNavigator;
 import com.faforever.commons.api.elide.ElideNavigatorOnCollection;
+import com.google.common.annotations.VisibleForTesting;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.value.ObservableValue;
@@ -23,8 +25,11 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.function.TupleUtils;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -34,6 +39,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -44,12 +52,18 @@ import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 @RequiredArgsConstructor
 public class PlayerService implements InitializingBean {
 
+  private static final Duration PLAYER_LIST_FIRST_BATCH_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration PLAYER_LIST_SETTLE_TIME = Duration.ofSeconds(2);
+
   private final Map<String, PlayerInfo> playersByName = new ConcurrentHashMap<>();
   private final Map<Integer, PlayerInfo> playersById = new ConcurrentHashMap<>();
   private final Map<PlayerInfo, Set<Subscription>> playerSubscriptions = new ConcurrentHashMap<>();
   private final ReadOnlyObjectWrapper<PlayerInfo> currentPlayer = new ReadOnlyObjectWrapper<>();
   private final List<Consumer<PlayerInfo>> playerOnlineListeners = new ArrayList<>();
   private final List<Consumer<PlayerInfo>> playerOfflineListeners = new ArrayList<>();
+  private final Sinks.Many<Integer> appliedPlayerBatches = Sinks.many().multicast().directBestEffort();
+  private final BatchLoader<Integer, Player> playerLoader = new BatchLoader<>("Player", this::fetchPlayers,
+                                                                              player -> Integer.valueOf(player.getId()));
 
   private final FafServerAccessor fafServerAccessor;
   private final FafApiAccessor fafApiAccessor;
@@ -61,16 +75,66 @@ public class PlayerService implements InitializingBean {
   public void afterPropertiesSet() {
     fafServerAccessor.getEvents(com.faforever.commons.lobby.PlayerInfo.class)
                      .map(com.faforever.commons.lobby.PlayerInfo::getPlayers)
-                     .flatMap(Flux::fromIterable)
-                     .flatMap(player -> Mono.zip(Mono.just(player), Mono.justOrEmpty(playersById.get(player.getId()))
-                                                                        .switchIfEmpty(initializePlayer(player))))
+                     .map(this::preparePlayerUpdates)
                      .publishOn(fxApplicationThreadExecutor.asScheduler())
-                     .map(TupleUtils.function(playerMapper::update))
+                     .doOnNext(this::applyPlayerUpdates)
                      .doOnError(throwable -> log.error("Error processing player", throwable))
                      .retry()
                      .subscribe();
 
     currentPlayer.bind(loginService.ownPlayerProperty().map(this::createOrUpdateFromOwnPlayer));
+    loginService.loggedInProperty().subscribe(loggedIn -> {
+      if (loggedIn) {
+        measurePlayerListPopulation().doOnSuccess(population -> {
+          if (population == null) {
+            log.info("No players received within {} after login", PLAYER_LIST_FIRST_BATCH_TIMEOUT);
+          } else {
+            log.info("Player list populated with {} players from {} messages {} after login",
+                     population.playerCount(), population.messageCount(), population.duration());
+          }
+        }).subscribe();
+      }
+    });
+  }
+
+  /**
+   * Looks up or initializes the players of a single server message, so that only the property updates are left for
+   * the application thread.
+   */
+  private List<PlayerUpdate> preparePlayerUpdates(List<com.faforever.commons.lobby.Player> players) {
+    return players.stream()
+                  .map(player -> new PlayerUpdate(player, Optional.ofNullable(playersById.get(player.getId()))
+                                                                  .orElseGet(() -> initializePlayer(player))))
+                  .toList();
+  }
+
+  private void applyPlayerUpdates(List<PlayerUpdate> playerUpdates) {
+    playerUpdates.forEach(playerUpdate -> playerMapper.update(playerUpdate.player(), playerUpdate.playerInfo()));
+    appliedPlayerBatches.tryEmitNext(playerUpdates.size());
+  }
+
+  /**
+   * Measures how long it took after login until the server stopped sending the initial player list, which is
+   * considered complete once no player updates arrived for {@link #PLAYER_LIST_SETTLE_TIME}. Completes empty if no
+   * players arrived within {@link #PLAYER_LIST_FIRST_BATCH_TIMEOUT}.
+   */
+  @VisibleForTesting
+  Mono<PlayerListPopulation> measurePlayerListPopulation() {
+    return Mono.defer(() -> {
+      Scheduler clock = Schedulers.parallel();
+      long loginNanos = clock.now(TimeUnit.NANOSECONDS);
+      AtomicLong lastBatchNanos = new AtomicLong(loginNanos);
+      return appliedPlayerBatches.asFlux()
+                                 .timeout(Mono.delay(PLAYER_LIST_FIRST_BATCH_TIMEOUT),
+                                          _ -> Mono.delay(PLAYER_LIST_SETTLE_TIME))
+                                 .onErrorComplete(TimeoutException.class)
+                                 .doOnNext(_ -> lastBatchNanos.set(clock.now(TimeUnit.NANOSECONDS)))
+                                 .collectList()
+                                 .filter(batchSizes -> !batchSizes.isEmpty())
+                                 .map(batchSizes -> new PlayerListPopulation(
+                                     batchSizes.stream().mapToInt(Integer::intValue).sum(), batchSizes.size(),
+                                     Duration.ofNanos(lastBatchNanos.get() - loginNanos)));
+    });
   }
 
   public ObservableValue<Double> getAverageRatingPropertyForGame(GameInfo gameInfo) {
@@ -122,24 +186,20 @@ public class PlayerService implements InitializingBean {
     });
   }
 
-  private Mono<PlayerInfo> initializePlayer(com.faforever.commons.lobby.Player player) {
-    return Mono.fromCallable(() -> {
-                 PlayerInfo newPlayer = new PlayerInfo();
-                 newPlayer.setId(player.getId());
-                 newPlayer.setUsername(player.getLogin());
-                 Subscription removeSubscription = newPlayer.serverStatusProperty().subscribe(serverStatus -> {
-                   if (serverStatus == ServerStatus.OFFLINE) {
-                     removePlayer(newPlayer);
-                   }
-                 });
-                 playerSubscriptions.computeIfAbsent(newPlayer, _ -> ConcurrentHashMap.newKeySet()).add(removeSubscription);
-                 return newPlayer;
-               })
-               .doOnNext(playerBean -> {
-                 playersById.put(playerBean.getId(), playerBean);
-                 playersByName.put(playerBean.getUsername(), playerBean);
-               })
-               .doOnNext(playerBean -> playerOnlineListeners.forEach(listener -> listener.accept(playerBean)));
+  private PlayerInfo initializePlayer(com.faforever.commons.lobby.Player player) {
+    PlayerInfo newPlayer = new PlayerInfo();
+    newPlayer.setId(player.getId());
+    newPlayer.setUsername(player.getLogin());
+    Subscription removeSubscription = newPlayer.serverStatusProperty().subscribe(serverStatus -> {
+      if (serverStatus == ServerStatus.OFFLINE) {
+        removePlayer(newPlayer);
+      }
+    });
+    playerSubscriptions.computeIfAbsent(newPlayer, _ -> ConcurrentHashMap.newKeySet()).add(removeSubscription);
+    playersById.put(newPlayer.getId(), newPlayer);
+    playersByName.put(newPlayer.getUsername(), newPlayer);
+    playerOnlineListeners.forEach(listener -> listener.accept(newPlayer));
+    return newPlayer;
   }
 
   public Set<String> getPlayerNames() {
@@ -174,17 +234,17 @@ public class PlayerService implements InitializingBean {
 
     Set<Integer> onlineIds = onlinePlayers.stream().map(PlayerInfo::getId).collect(Collectors.toSet());
 
-    return Flux.fromIterable(playerIds)
-               .filter(playerId -> !onlineIds.contains(playerId))
-               .window(100)
-               .flatMap(Flux::collectList)
-               .flatMap(offlineIds -> {
-                 ElideNavigatorOnCollection<Player> navigator = ElideNavigator.of(Player.class)
-                                                                              .collection()
-                                                                              .setFilter(qBuilder().intNum("id")
-                                                                                                   .in(offlineIds));
-                 return fafApiAccessor.getMany(navigator).map(playerMapper::map);
-               }).concatWithValues(onlinePlayers.toArray(new PlayerInfo[0]));
+    List<Integer> offlineIds = playerIds.stream().filter(playerId -> !onlineIds.contains(playerId)).toList();
+    return playerLoader.loadMany(offlineIds)
+                       .map(playerMapper::map)
+                       .concatWithValues(onlinePlayers.toArray(new PlayerInfo[0]));
+  }
+
+  private Flux<Player> fetchPlayers(Set<Integer> playerIds) {
+    ElideNavigatorOnCollection<Player> navigator = ElideNavigator.of(Player.class)
+                                                                 .collection()
+                                                                 .setFilter(qBuilder().intNum("id").in(playerIds));
+    return fafApiAccessor.getMany(navigator);
   }
 
   public Mono<PlayerInfo> getPlayerByName(String playerName) {
@@ -226,4 +286,9 @@ public class PlayerService implements InitializingBean {
   public void addPlayerOfflineListener(Consumer<PlayerInfo> listener) {
     playerOfflineListeners.add(listener);
   }
+
+  @VisibleForTesting
+  record PlayerListPopulation(int playerCount, int messageCount, Duration duration) {}
+
+  private record PlayerUpdate(com.faforever.commons.lobby.Player player, PlayerInfo playerInfo) {}
 }
@@ -2,6 +2,8 @@ package com.faforever.client.preferences;
 
 import com.faforever.client.chat.ChatColorMode;
 import com.faforever.client.chat.ChatUserCategory;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.google.common.annotations.VisibleForTesting;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
@@ -41,6 +43,10 @@ public class ChatPrefs {
   private final BooleanProperty previewImageUrls = new SimpleBooleanProperty(true);
   private final IntegerProperty maxMessages = new SimpleIntegerProperty(500);
   private final ObjectProperty<ChatColorMode> chatColorMode = new SimpleObjectProperty<>(DEFAULT);
+  /**
+   * Stored in the {@link CompactPreferencesStore}, only read from the preferences file to migrate it.
+   */
+  @JsonProperty(access = Access.WRITE_ONLY)
   private final MapProperty<String, Color> userToColor = new SimpleMapProperty<>(FXCollections.observableHashMap());
   private final MapProperty<ChatUserCategory, Color> groupToColor = new SimpleMapProperty<>(
       FXCollections.observableHashMap());
@@ -0,0 +1,248 @@
+package com.faforever.client.preferences;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+import javafx.scene.paint.Color;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores preferences which grow large over time in files next to the preferences file, so they don't have to be
+ * serialized with every change of the preferences file:
+ * <ul>
+ *   <li>Watched replays are appended to a binary file of replay ids, it is only rewritten if ids are removed.</li>
+ *   <li>Chat user colors are written to an unindented JSON file whenever they change.</li>
+ * </ul>
+ * Entries found in the preferences file, as written by previous versions, are moved to this store.
+ */
+@Slf4j
+public class CompactPreferencesStore {
+
+  static final String WATCHED_REPLAYS_FILE_NAME = "watched-replays.dat";
+  static final String USER_COLORS_FILE_NAME = "chat-user-colors.json";
+  private static final Duration WRITE_DELAY = Duration.ofSeconds(2);
+
+  private final Path watchedReplaysFile;
+  private final Path userColorsFile;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Copies of the preferences, maintained by their change listeners under this store's lock. The preferences are
+   * changed on the JavaFX application thread, so they can't be read safely while writing.
+   */
+  private final Set<Integer> watchedReplays = new LinkedHashSet<>();
+  private final Map<String, Color> userColors = new HashMap<>();
+
+  private List<Integer> pendingWatchedReplays = new ArrayList<>();
+  private boolean rewriteWatchedReplays;
+  private boolean userColorsDirty;
+  private boolean writeScheduled;
+
+  /**
+   * @param directory directory to store the files in, usually the preferences directory
+   * @param objectMapper object mapper which is able to serialize colors
+   */
+  public CompactPreferencesStore(Path directory, ObjectMapper objectMapper) {
+    this.watchedReplaysFile = directory.resolve(WATCHED_REPLAYS_FILE_NAME);
+    this.userColorsFile = directory.resolve(USER_COLORS_FILE_NAME);
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Loads the stored entries into the given preferences and starts tracking their changes.
+   *
+   * @return whether entries were moved from the preferences file, which therefore needs to be written again
+   */
+  public boolean attach(ReplayHistoryPrefs replayHistory, ChatPrefs chat) {
+    ObservableSet<Integer> watchedReplaysPrefs = replayHistory.getWatchedReplays();
+    ObservableMap<String, Color> userColorsPrefs = chat.getUserToColor();
+
+    boolean migrated = false;
+    synchronized (this) {
+      if (!watchedReplaysPrefs.isEmpty()) {
+        migrated = true;
+        rewriteWatchedReplays = true;
+      }
+      watchedReplaysPrefs.addAll(readWatchedReplays());
+      watchedReplays.addAll(watchedReplaysPrefs);
+
+      if (!userColorsPrefs.isEmpty()) {
+        migrated = true;
+        userColorsDirty = true;
+      }
+      readUserColors().forEach(userColorsPrefs::putIfAbsent);
+      userColors.putAll(userColorsPrefs);
+
+      if (migrated) {
+        scheduleWrite();
+      }
+    }
+
+    replayHistory.watchedReplaysProperty().addListener((SetChangeListener<Integer>) change -> {
+      synchronized (this) {
+        if (change.wasRemoved()) {
+          watchedReplays.remove(change.getElementRemoved());
+          rewriteWatchedReplays = true;
+        }
+        if (change.wasAdded()) {
+          watchedReplays.add(change.getElementAdded());
+          pendingWatchedReplays.add(change.getElementAdded());
+        }
+        scheduleWrite();
+      }
+    });
+    chat.userToColorProperty().addListener((MapChangeListener<String, Color>) change -> {
+      synchronized (this) {
+        if (change.wasAdded()) {
+          userColors.put(change.getKey(), change.getValueAdded());
+        } else {
+          userColors.remove(change.getKey());
+        }
+        userColorsDirty = true;
+        scheduleWrite();
+      }
+    });
+    return migrated;
+  }
+
+  /**
+   * Writes all pending changes.
+   */
+  public void flush() {
+    List<Integer> appendedWatchedReplays;
+    List<Integer> allWatchedReplays = null;
+    Map<String, Color> allUserColors = null;
+    synchronized (this) {
+      writeScheduled = false;
+      appendedWatchedReplays = pendingWatchedReplays;
+      pendingWatchedReplays = new ArrayList<>();
+      if (rewriteWatchedReplays) {
+        rewriteWatchedReplays = false;
+        allWatchedReplays = List.copyOf(watchedReplays);
+      }
+      if (userColorsDirty) {
+        userColorsDirty = false;
+        allUserColors = new HashMap<>(userColors);
+      }
+    }
+
+    try {
+      if (allWatchedReplays != null) {
+        writeAtomically(watchedReplaysFile, toBytes(allWatchedReplays));
+      } else if (!appendedWatchedReplays.isEmpty()) {
+        appendWatchedReplays(appendedWatchedReplays);
+      }
+    } catch (IOException e) {
+      log.warn("Could not write watched replays to `{}`", watchedReplaysFile, e);
+      synchronized (this) {
+        rewriteWatchedReplays = true;
+      }
+    }
+
+    if (allUserColors != null) {
+      try {
+        writeAtomically(userColorsFile, objectMapper.writeValueAsBytes(allUserColors));
+      } catch (IOException e) {
+        log.warn("Could not write chat user colors to `{}`", userColorsFile, e);
+        synchronized (this) {
+          userColorsDirty = true;
+        }
+      }
+    }
+  }
+
+  private void scheduleWrite() {
+    if (!writeScheduled) {
+      writeScheduled = true;
+      Schedulers.boundedElastic().schedule(this::flush, WRITE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private List<Integer> readWatchedReplays() {
+    if (Files.notExists(watchedReplaysFile)) {
+      return List.of();
+    }
+
+    try {
+      // A partially written id at the end, e.g. after a crash, is ignored
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(watchedReplaysFile));
+      List<Integer> replayIds = new ArrayList<>(buffer.remaining() / Integer.BYTES);
+      while (buffer.remaining() >= Integer.BYTES) {
+        replayIds.add(buffer.getInt());
+      }
+      if (buffer.hasRemaining()) {
+        // Ids appended later would be misaligned otherwise
+        try (FileChannel channel = FileChannel.open(watchedReplaysFile, StandardOpenOption.WRITE)) {
+          channel.truncate(buffer.position());
+        }
+      }
+      return replayIds;
+    } catch (IOException e) {
+      log.warn("Could not read watched replays from `{}`", watchedReplaysFile, e);
+      return List.of();
+    }
+  }
+
+  private Map<String, Color> readUserColors() {
+    if (Files.notExists(userColorsFile)) {
+      return Map.of();
+    }
+
+    try {
+      return objectMapper.readValue(userColorsFile.toFile(), new TypeReference<Map<String, Color>>() {});
+    } catch (IOException e) {
+      log.warn("Could not read chat user colors from `{}`", userColorsFile, e);
+      return Map.of();
+    }
+  }
+
+  private void appendWatchedReplays(List<Integer> replayIds) throws IOException {
+    Files.createDirectories(watchedReplaysFile.getParent());
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(watchedReplaysFile,
+                                                                                    StandardOpenOption.CREATE,
+                                                                                    StandardOpenOption.APPEND))) {
+      outputStream.write(toBytes(replayIds));
+    }
+  }
+
+  private static byte[] toBytes(List<Integer> replayIds) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(replayIds.size() * Integer.BYTES);
+    try (DataOutputStream dataOutputStream = new DataOutputStream(bytes)) {
+      for (int replayId : replayIds) {
+        dataOutputStream.writeInt(replayId);
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void writeAtomically(Path file, byte[] content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), null);
+    Files.write(temporaryFile, content);
+    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -89,6 +89,7 @@ public class Preferences {
   private final BooleanProperty advancedIceLogEnabled = new SimpleBooleanProperty(false);
   private final IntegerProperty cacheLifeTimeInDays = new SimpleIntegerProperty(30);
   private final BooleanProperty gameDataCacheActivated = new SimpleBooleanProperty(false);
+  private final BooleanProperty gameDataDeepVerify = new SimpleBooleanProperty(false);
 
 
   public TilesSortingOrder getGameTileSortingOrder() {
@@ -244,6 +245,18 @@ public class Preferences {
     return gameDataCacheActivated;
   }
 
+  public boolean isGameDataDeepVerify() {
+    return gameDataDeepVerify.get();
+  }
+
+  public void setGameDataDeepVerify(boolean gameDataDeepVerify) {
+    this.gameDataDeepVerify.set(gameDataDeepVerify);
+  }
+
+  public BooleanProperty gameDataDeepVerifyProperty() {
+    return gameDataDeepVerify;
+  }
+
   public boolean isMapAndModAutoUpdate() {
     return mapAndModAutoUpdate.get();
   }
@@ -0,0 +1,108 @@
+package com.faforever.client.preferences;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Notifies a listener whenever anything in a preferences object graph changes, by registering listeners on all the
+ * JavaFX properties and observable collections it contains. Nested preferences objects are tracked recursively.
+ * Properties which are not written to the preferences file, i.e. {@link JsonIgnore ignored} or
+ * {@link Access#WRITE_ONLY write only} ones, are not tracked.
+ */
+@Slf4j
+public final class PreferencesChangeTracker {
+
+  private static final String PREFERENCES_PACKAGE = Preferences.class.getPackageName();
+
+  private PreferencesChangeTracker() {
+    throw new AssertionError("Not instantiatable");
+  }
+
+  public static void track(Object preferences, Runnable changeListener) {
+    InvalidationListener invalidationListener = observable -> {
+      // Validates the value again, otherwise properties only report their first change
+      if (observable instanceof ObservableValue<?> observableValue) {
+        observableValue.getValue();
+      }
+      changeListener.run();
+    };
+    track(preferences, invalidationListener, Collections.newSetFromMap(new IdentityHashMap<>()));
+  }
+
+  private static void track(Object preferences, InvalidationListener listener, Set<Object> visited) {
+    if (!visited.add(preferences)) {
+      return;
+    }
+
+    for (Class<?> type = preferences.getClass(); type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || !isPersisted(field)) {
+          continue;
+        }
+
+        Object value;
+        try {
+          field.setAccessible(true);
+          value = field.get(preferences);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+          log.warn("Could not track preference `{}.{}`", type.getSimpleName(), field.getName(), e);
+          continue;
+        }
+
+        if (value instanceof Observable observable) {
+          observable.addListener(listener);
+          if (value instanceof ObservableMap<?, ?> map) {
+            trackValues(map, listener);
+          }
+        } else if (value != null && isPreferencesType(value.getClass())) {
+          track(value, listener, visited);
+        }
+      }
+    }
+  }
+
+  /**
+   * Tracks observable values of a map, e.g. sets of hidden categories per channel, whose changes are not reported by
+   * the map itself.
+   */
+  private static <K, V> void trackValues(ObservableMap<K, V> map, InvalidationListener listener) {
+    map.values().forEach(value -> {
+      if (value instanceof Observable observable) {
+        observable.addListener(listener);
+      }
+    });
+    map.addListener((MapChangeListener<K, V>) change -> {
+      if (change.wasRemoved() && change.getValueRemoved() instanceof Observable observable) {
+        observable.removeListener(listener);
+      }
+      if (change.wasAdded() && change.getValueAdded() instanceof Observable observable) {
+        observable.addListener(listener);
+      }
+    });
+  }
+
+  private static boolean isPersisted(Field field) {
+    if (field.isAnnotationPresent(JsonIgnore.class)) {
+      return false;
+    }
+    JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+    return jsonProperty == null || jsonProperty.access() != Access.WRITE_ONLY;
+  }
+
+  private static boolean isPreferencesType(Class<?> type) {
+    return !type.isEnum() && !type.isRecord() && type.getPackageName().startsWith(PREFERENCES_PACKAGE);
+  }
+}
@@ -1,5 +1,7 @@
 package com.faforever.client.preferences;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import javafx.beans.property.SetProperty;
 import javafx.beans.property.SimpleSetProperty;
 import javafx.collections.FXCollections;
@@ -7,6 +9,10 @@ import javafx.collections.ObservableSet;
 
 public class ReplayHistoryPrefs {
 
+  /**
+   * Stored in the {@link CompactPreferencesStore}, only read from the preferences file to migrate it.
+   */
+  @JsonProperty(access = Access.WRITE_ONLY)
   private final SetProperty<Integer> watchedReplays = new SimpleSetProperty<>(
       FXCollections.observableSet());
 
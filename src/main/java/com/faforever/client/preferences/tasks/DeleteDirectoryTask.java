@@ -3,6 +3,7 @@ package com.faforever.client.preferences.tasks;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.notification.NotificationService;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +29,7 @@ public class DeleteDirectoryTask extends CompletableTask<Void> {
 
   @Autowired
   public DeleteDirectoryTask(I18n i18n, NotificationService notificationService) {
-    super(Priority.HIGH);
+    super(Priority.HIGH, TaskLane.DISK);
     this.i18n = i18n;
     this.notificationService = notificationService;
   }
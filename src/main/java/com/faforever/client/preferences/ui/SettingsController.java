@@ -173,6 +173,7 @@ public class SettingsController extends NodeController<Node> {
   public Button clearCacheButton;
   public CheckBox gameDataCacheCheckBox;
   public Spinner<Integer> gameDataCacheTimeSpinner;
+  public CheckBox gameDataDeepVerifyCheckBox;
   public ComboBox<Level> logLevelComboBox;
   public CheckBox mapAndModAutoUpdateCheckBox;
   public ListView<IceServer> preferredCoturnListView;
@@ -425,6 +426,7 @@ public class SettingsController extends NodeController<Node> {
     gameDataCacheTimeSpinner.getValueFactory().valueProperty()
         .addListener((observable, oldValue, newValue) -> preferences
             .setCacheLifeTimeInDays(newValue));
+    gameDataDeepVerifyCheckBox.selectedProperty().bindBidirectional(preferences.gameDataDeepVerifyProperty());
   }
 
   private void initNotifyMeOnAtMention() {
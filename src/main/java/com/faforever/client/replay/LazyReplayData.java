@@ -0,0 +1,29 @@
+package com.faforever.client.replay;
+
+import com.faforever.commons.replay.ReplayDataParser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Handle on the data of a replay file which decodes and parses the replay body only when it is first needed and keeps
+ * the result afterwards. Failed reads are not kept, so the next call reads the file again.
+ */
+final class LazyReplayData {
+
+  private final Path path;
+  private final ReplayFileReader replayFileReader;
+  private ReplayDataParser replayDataParser;
+
+  LazyReplayData(Path path, ReplayFileReader replayFileReader) {
+    this.path = path;
+    this.replayFileReader = replayFileReader;
+  }
+
+  synchronized ReplayDataParser get() throws IOException {
+    if (replayDataParser == null) {
+      replayDataParser = replayFileReader.parseReplay(path);
+    }
+    return replayDataParser;
+  }
+}
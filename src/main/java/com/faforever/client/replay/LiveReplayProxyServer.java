@@ -11,7 +11,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.netty.DisposableServer;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.websocket.WebsocketInbound;
+import reactor.netty.http.websocket.WebsocketOutbound;
 import reactor.netty.tcp.TcpServer;
 
 @Lazy
@@ -52,13 +56,11 @@ public class LiveReplayProxyServer {
                                                                                                  .websocket()
                                                                                                  .uri(url)
                                                                                                  .handle(
-                                                                                                     ((websocketInbound, websocketOutbound) -> Flux.merge(
-                                                                                                         outbound.sendByteArray(
-                                                                                                             websocketInbound.receive()
-                                                                                                                             .asByteArray()),
-                                                                                                         websocketOutbound.sendByteArray(
-                                                                                                             inbound.receive()
-                                                                                                                    .asByteArray()))))
+                                                                                                     ((websocketInbound, websocketOutbound) -> relay(
+                                                                                                         inbound,
+                                                                                                         outbound,
+                                                                                                         websocketInbound,
+                                                                                                         websocketOutbound)))
                                                                                                  .doOnError(
                                                                                                      throwable -> log.warn(
                                                                                                          "Error sending data to local replay server",
@@ -67,4 +69,26 @@ public class LiveReplayProxyServer {
 
     return tcpServer.port();
   }
+
+  /**
+   * Forwards the retained buffers in both directions without copying them to the heap, the outbound side releases them
+   * once written. Chunks are not buffered in between, so only the throughput of the connection is tracked.
+   */
+  private Flux<Void> relay(NettyInbound inbound, NettyOutbound outbound, WebsocketInbound websocketInbound,
+                           WebsocketOutbound websocketOutbound) {
+    ReplayRelayMetrics downstreamMetrics = new ReplayRelayMetrics("Live replay proxy (server to game)");
+    ReplayRelayMetrics upstreamMetrics = new ReplayRelayMetrics("Live replay proxy (game to server)");
+    return Flux.merge(outbound.send(websocketInbound.receive()
+                                                    .retain()
+                                                    .doOnNext(buffer -> downstreamMetrics.onReceived(
+                                                        buffer.readableBytes()))),
+                      websocketOutbound.send(inbound.receive()
+                                                    .retain()
+                                                    .doOnNext(buffer -> upstreamMetrics.onReceived(
+                                                        buffer.readableBytes()))))
+               .doFinally(_ -> {
+                 downstreamMetrics.log();
+                 upstreamMetrics.log();
+               });
+  }
 }
@@ -0,0 +1,63 @@
+package com.faforever.client.replay;
+
+import com.faforever.client.cache.PersistentIndex;
+import com.faforever.client.preferences.DataPrefs;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Persistent index of local replay metadata, stored in the cache directory. Entries are keyed by the replay file path
+ * and are only valid as long as the size and last modified time of the file did not change, which allows the local
+ * replay vault to page through thousands of replays without parsing them on every start.
+ */
+@Lazy
+@Component
+public class LocalReplayIndex {
+
+  private static final String INDEX_FILE_NAME = "replay-index.json";
+  private static final int FORMAT_VERSION = 1;
+
+  private final DataPrefs dataPrefs;
+  private final PersistentIndex<LocalReplayIndexEntry> index;
+
+  public LocalReplayIndex(DataPrefs dataPrefs) {
+    this.dataPrefs = dataPrefs;
+    this.index = new PersistentIndex<>(this::getIndexFile, LocalReplayIndexEntry.class, FORMAT_VERSION);
+  }
+
+  public Optional<LocalReplayIndexEntry> get(Path replayFile, BasicFileAttributes attributes) {
+    return index.get(toKey(replayFile))
+                .filter(entry -> entry.matches(attributes.size(), attributes.lastModifiedTime().toMillis()));
+  }
+
+  public void put(Path replayFile, LocalReplayIndexEntry entry) {
+    index.put(toKey(replayFile), entry);
+  }
+
+  /**
+   * Removes all entries whose replay file is not part of the given collection anymore.
+   */
+  public void retainAll(Collection<Path> replayFiles) {
+    index.retainAll(replayFiles.stream().map(LocalReplayIndex::toKey).toList());
+  }
+
+  /**
+   * Writes the index to disk if it has been modified since it was last loaded or saved.
+   */
+  public void save() {
+    index.save();
+  }
+
+  private Path getIndexFile() {
+    return dataPrefs.getCacheDirectory().resolve(INDEX_FILE_NAME);
+  }
+
+  private static String toKey(Path replayFile) {
+    return replayFile.toAbsolutePath().normalize().toString();
+  }
+}
@@ -0,0 +1,47 @@
+package com.faforever.client.replay;
+
+import java.util.List;
+
+/**
+ * Metadata of a local replay file as stored in the {@link LocalReplayIndex}. Holds everything needed to display a
+ * replay card so the replay file itself does not have to be parsed again as long as its size and last modified time
+ * did not change. Replay files without FAF metadata are indexed as well, so they are skipped without reading them again.
+ */
+public record LocalReplayIndexEntry(
+    long size,
+    long lastModified,
+    Integer uid,
+    String title,
+    String featuredMod,
+    String mapFolderName,
+    double startTime,
+    double endTime,
+    List<Army> armies,
+    boolean metadataMissing
+) {
+
+  public LocalReplayIndexEntry {
+    armies = armies == null ? List.of() : List.copyOf(armies);
+  }
+
+  /**
+   * Creates an entry for a replay file which has no FAF metadata and therefore can't be shown in the local vault.
+   */
+  public static LocalReplayIndexEntry withoutMetadata(long size, long lastModified) {
+    return new LocalReplayIndexEntry(size, lastModified, null, null, null, null, 0, 0, List.of(), true);
+  }
+
+  public boolean matches(long size, long lastModified) {
+    return this.size == size && this.lastModified == lastModified;
+  }
+
+  public record Army(
+      int team,
+      Integer playerId,
+      String playerName,
+      String country,
+      double mean,
+      double deviation,
+      int faction
+  ) {}
+}
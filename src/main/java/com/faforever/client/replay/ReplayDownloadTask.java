@@ -4,6 +4,7 @@ import com.faforever.client.config.ClientProperties;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import com.faforever.commons.io.ByteCopier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,7 +36,7 @@ public class ReplayDownloadTask extends CompletableTask<Path> {
 
   @Autowired
   public ReplayDownloadTask(I18n i18n, ClientProperties clientProperties, DataPrefs dataPrefs) {
-    super(Priority.HIGH);
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.i18n = i18n;
     this.clientProperties = clientProperties;
@@ -2,6 +2,7 @@ package com.faforever.client.replay;
 
 
 import com.faforever.commons.replay.ReplayDataParser;
+import com.faforever.commons.replay.ReplayMetadata;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -12,4 +13,15 @@ public interface ReplayFileReader {
    * executed commands and so on.
    */
   ReplayDataParser parseReplay(Path path) throws IOException;
+
+  /**
+   * Reads only the metadata line of the specified FAF replay file, without touching the replay data.
+   */
+  ReplayMetadata readMetadata(Path path) throws IOException;
+
+  /**
+   * Reads the metadata and the header of the specified replay file. Only as much of the replay data is decompressed as
+   * is needed to reach the end of the header.
+   */
+  ReplayHeader readHeader(Path path) throws IOException;
 }
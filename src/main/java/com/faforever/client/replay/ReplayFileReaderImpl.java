@@ -1,20 +1,38 @@
 package com.faforever.client.replay;
 
 import com.faforever.commons.replay.ReplayDataParser;
+import com.faforever.commons.replay.ReplayMetadata;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.InflaterInputStream;
 
 @Lazy
 @Component
 @Slf4j
 public class ReplayFileReaderImpl implements ReplayFileReader {
 
+  /**
+   * Length of the big endian uncompressed size which qCompress puts in front of the zlib stream.
+   */
+  private static final int QT_COMPRESS_SIZE_PREFIX_LENGTH = 4;
+
   private final ObjectMapper objectMapper = new ObjectMapper()
       .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
@@ -22,4 +40,48 @@ public class ReplayFileReaderImpl implements ReplayFileReader {
   public ReplayDataParser parseReplay(Path path) throws IOException {
     return new ReplayDataParser(path, objectMapper);
   }
+
+  @Override
+  public ReplayMetadata readMetadata(Path path) throws IOException {
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+      return objectMapper.treeToValue(readMetadataLine(inputStream), ReplayMetadata.class);
+    }
+  }
+
+  @Override
+  public ReplayHeader readHeader(Path path) throws IOException {
+    String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+      if (fileName.endsWith(ReplayService.SUP_COM_REPLAY_FILE_ENDING)) {
+        return ReplayHeaderParser.parse(null, inputStream);
+      }
+
+      JsonNode metadataNode = readMetadataLine(inputStream);
+      ReplayMetadata metadata = objectMapper.treeToValue(metadataNode, ReplayMetadata.class);
+      CompressionType compression = CompressionType.fromString(metadataNode.path("compression").textValue());
+      if (compression != CompressionType.QTCOMPRESS) {
+        log.trace("Replay `{}` uses compression `{}`, falling back to full parse", path, compression);
+        return toReplayHeader(parseReplay(path));
+      }
+
+      InputStream replayData = Base64.getMimeDecoder().wrap(inputStream);
+      replayData.skipNBytes(QT_COMPRESS_SIZE_PREFIX_LENGTH);
+      return ReplayHeaderParser.parse(metadata, new BufferedInputStream(new InflaterInputStream(replayData)));
+    }
+  }
+
+  private JsonNode readMetadataLine(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream metadataLine = new ByteArrayOutputStream();
+    int value;
+    while ((value = inputStream.read()) != '\n' && value != -1) {
+      metadataLine.write(value);
+    }
+    return objectMapper.readTree(metadataLine.toByteArray());
+  }
+
+  private ReplayHeader toReplayHeader(ReplayDataParser parser) {
+    List<Map<String, Object>> armies = new ArrayList<>();
+    parser.getArmies().values().forEach(armyInfo -> armies.add(new HashMap<>(armyInfo)));
+    return new ReplayHeader(parser.getMetadata(), parser.getReplayPatchFieldId(), parser.getMap(), armies);
+  }
 }
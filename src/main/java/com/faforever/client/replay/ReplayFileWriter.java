@@ -2,10 +2,15 @@ package com.faforever.client.replay;
 
 import com.faforever.commons.replay.ReplayMetadata;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 public interface ReplayFileWriter {
 
-  void writeReplayDataToFile(ByteArrayOutputStream replayData, ReplayMetadata replayInfo) throws IOException;
+  /**
+   * Creates a recorder which spools incoming replay data to a temporary file until it is written using
+   * {@link #writeReplayDataToFile(ReplayRecorder, ReplayMetadata)}.
+   */
+  ReplayRecorder startRecording();
+
+  void writeReplayDataToFile(ReplayRecorder replayRecorder, ReplayMetadata replayInfo) throws IOException;
 }
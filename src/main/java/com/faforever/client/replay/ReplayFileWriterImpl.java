@@ -3,27 +3,24 @@ package com.faforever.client.replay;
 import com.faforever.client.config.ClientProperties;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.commons.io.Bytes;
-import com.faforever.commons.replay.QtCompress;
 import com.faforever.commons.replay.ReplayMetadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.Ints;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Base64;
 import java.util.Locale;
-
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.StandardOpenOption.APPEND;
+import java.util.zip.DeflaterOutputStream;
 
 @Lazy
 @Component
@@ -38,25 +35,33 @@ public class ReplayFileWriterImpl implements ReplayFileWriter {
   private final DataPrefs dataPrefs;
 
   @Override
-  public void writeReplayDataToFile(ByteArrayOutputStream replayData, ReplayMetadata replayInfo) throws IOException {
+  public ReplayRecorder startRecording() {
+    return new ReplayRecorder(dataPrefs.getCacheDirectory());
+  }
+
+  @Override
+  public void writeReplayDataToFile(ReplayRecorder replayRecorder, ReplayMetadata replayInfo) throws IOException {
+    replayRecorder.close();
+
     String fileName = String.format(clientProperties.getReplay().getReplayFileFormat(), replayInfo.getUid(), replayInfo.getRecorder());
     Path replayFile = dataPrefs.getReplaysDirectory().resolve(fileName);
     Path temporaryReplayFile = Files.createTempFile(dataPrefs.getCacheDirectory(), fileName, "fafreplay");
+    long replayDataSize = replayRecorder.size();
 
-    log.info("Writing replay file to `{}` ({})", replayFile, Bytes.formatSize(replayData.size(), Locale.ROOT));
+    log.info("Writing replay file to `{}` ({})", replayFile, Bytes.formatSize(replayDataSize, Locale.ROOT));
 
     Files.createDirectories(replayFile.getParent());
 
-    try (BufferedWriter writer = Files.newBufferedWriter(temporaryReplayFile, UTF_8, APPEND)) {
-      byte[] compressedBytes = QtCompress.qCompress(replayData.toByteArray());
-      String base64ReplayData = BaseEncoding.base64().encode(compressedBytes);
-
-      StringWriter replayInfoWriter = new StringWriter();
+    try (OutputStream fileStream = new BufferedOutputStream(Files.newOutputStream(temporaryReplayFile))) {
+      fileStream.write(objectMapper.writeValueAsBytes(replayInfo));
+      fileStream.write('\n');
 
-      objectMapper.writeValue(replayInfoWriter, replayInfo);
-      writer.write(replayInfoWriter.toString());
-      writer.write('\n');
-      writer.write(base64ReplayData);
+      // Same format as QtCompress.qCompress, but streamed: the uncompressed size followed by the zlib stream
+      OutputStream base64Stream = Base64.getEncoder().wrap(fileStream);
+      base64Stream.write(Ints.toByteArray(Math.toIntExact(replayDataSize)));
+      try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(base64Stream)) {
+        replayRecorder.transferTo(deflaterStream);
+      }
     }
 
     Files.move(temporaryReplayFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
@@ -0,0 +1,24 @@
+package com.faforever.client.replay;
+
+import com.faforever.commons.replay.ReplayMetadata;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The metadata and header of a replay file, read without decompressing or parsing the replay's command stream.
+ *
+ * @param metadata the FAF metadata, {@code null} for plain SCFA replays
+ * @param armies the army tables in the same format as {@link com.faforever.commons.replay.ReplayDataParser#getArmies()}
+ */
+public record ReplayHeader(
+    ReplayMetadata metadata,
+    String replayPatchFieldId,
+    String map,
+    List<Map<String, Object>> armies
+) {
+
+  public ReplayHeader {
+    armies = armies == null ? List.of() : List.copyOf(armies);
+  }
+}
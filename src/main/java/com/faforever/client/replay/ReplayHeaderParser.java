@@ -0,0 +1,130 @@
+package com.faforever.client.replay;
+
+import com.faforever.commons.replay.ReplayMetadata;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the header of a raw SCFA replay stream (version, map, game options and armies) and stops right after it, so
+ * that the command stream which makes up the bulk of a replay never has to be read or decompressed.
+ */
+final class ReplayHeaderParser {
+
+  private static final int LUA_NUMBER = 0;
+  private static final int LUA_STRING = 1;
+  private static final int LUA_NIL = 2;
+  private static final int LUA_BOOL = 3;
+  private static final int LUA_TABLE_START = 4;
+  private static final int LUA_TABLE_END = 5;
+  private static final int CIVILIAN_SOURCE = 255;
+
+  private final DataInputStream dataStream;
+
+  private ReplayHeaderParser(InputStream inputStream) {
+    this.dataStream = new DataInputStream(
+        inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream));
+  }
+
+  static ReplayHeader parse(ReplayMetadata metadata, InputStream inputStream) throws IOException {
+    return new ReplayHeaderParser(inputStream).parse(metadata);
+  }
+
+  private ReplayHeader parse(ReplayMetadata metadata) throws IOException {
+    String replayPatchFieldId = readString();
+    readString();
+    String[] replayAndMap = readString().split("\r\n");
+    String map = replayAndMap.length > 1 ? replayAndMap[1] : null;
+    readString();
+
+    skipFully(readInt());
+    skipFully(readInt());
+
+    int numberOfSources = dataStream.readUnsignedByte();
+    for (int i = 0; i < numberOfSources; i++) {
+      readString();
+      readInt();
+    }
+
+    dataStream.readUnsignedByte();
+
+    int numberOfArmies = dataStream.readUnsignedByte();
+    List<Map<String, Object>> armies = new ArrayList<>(numberOfArmies);
+    for (int i = 0; i < numberOfArmies; i++) {
+      readInt();
+      Object playerData = readLua();
+      int playerSource = dataStream.readUnsignedByte();
+      if (playerData instanceof Map<?, ?> table) {
+        Map<String, Object> army = new HashMap<>();
+        table.forEach((key, value) -> army.put(String.valueOf(key), value));
+        armies.add(army);
+      }
+      if (playerSource != CIVILIAN_SOURCE) {
+        skipFully(1);
+      }
+    }
+
+    return new ReplayHeader(metadata, replayPatchFieldId, map, armies);
+  }
+
+  private Object readLua() throws IOException {
+    int type = dataStream.readUnsignedByte();
+    return switch (type) {
+      case LUA_NUMBER -> Float.intBitsToFloat(readInt());
+      case LUA_STRING -> readString();
+      case LUA_NIL -> {
+        skipFully(1);
+        yield null;
+      }
+      // Inverted on purpose, this is how ReplayDataParser reads booleans and what ReplayMapper expects
+      case LUA_BOOL -> dataStream.readUnsignedByte() == 0;
+      case LUA_TABLE_START -> {
+        Map<Object, Object> table = new HashMap<>();
+        while (true) {
+          dataStream.mark(1);
+          if (dataStream.readUnsignedByte() == LUA_TABLE_END) {
+            break;
+          }
+          dataStream.reset();
+          Object key = readLua();
+          table.put(key, readLua());
+        }
+        yield table;
+      }
+      default -> throw new IOException("Unexpected lua type: " + type);
+    };
+  }
+
+  private String readString() throws IOException {
+    byte[] buffer = new byte[64];
+    int length = 0;
+    int value;
+    while ((value = dataStream.read()) != 0) {
+      if (value == -1) {
+        throw new EOFException("Unterminated string in replay header");
+      }
+      if (length == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      buffer[length++] = (byte) value;
+    }
+    return new String(buffer, 0, length, StandardCharsets.UTF_8);
+  }
+
+  private int readInt() throws IOException {
+    return Integer.reverseBytes(dataStream.readInt());
+  }
+
+  private void skipFully(int bytes) throws IOException {
+    dataStream.skipNBytes(bytes);
+  }
+}
@@ -0,0 +1,121 @@
+package com.faforever.client.replay;
+
+import com.google.common.primitives.Bytes;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spools the raw replay stream of a running game to a temporary file as it arrives, so that the replay does not need
+ * to be held in memory until the game ends. The spool file is created on the first write.
+ */
+@Slf4j
+public class ReplayRecorder implements Closeable {
+
+  /**
+   * This is a prefix used in the FA live replay protocol that needs to be stripped away when storing to a file.
+   */
+  private static final byte[] LIVE_REPLAY_PREFIX = new byte[]{'P', '/'};
+
+  private final Path spoolDirectory;
+
+  private Path spoolFile;
+  private OutputStream outputStream;
+  private long size;
+
+  ReplayRecorder(Path spoolDirectory) {
+    this.spoolDirectory = spoolDirectory;
+  }
+
+  public synchronized void write(byte[] buffer) {
+    if (size == 0 && Bytes.indexOf(buffer, LIVE_REPLAY_PREFIX) != -1) {
+      int dataBeginIndex = Bytes.indexOf(buffer, (byte) 0x00) + 1;
+      write(buffer, dataBeginIndex, buffer.length - dataBeginIndex);
+    } else {
+      write(buffer, 0, buffer.length);
+    }
+  }
+
+  /**
+   * Writes the readable bytes of the given buffer without changing its reader index or reference count.
+   */
+  public synchronized void write(ByteBuf buffer) {
+    if (size == 0) {
+      write(ByteBufUtil.getBytes(buffer));
+      return;
+    }
+
+    try {
+      ensureOpen();
+      int length = buffer.readableBytes();
+      buffer.getBytes(buffer.readerIndex(), outputStream, length);
+      size += length;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write replay data to spool file", e);
+    }
+  }
+
+  private void write(byte[] buffer, int offset, int length) {
+    try {
+      ensureOpen();
+      outputStream.write(buffer, offset, length);
+      size += length;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write replay data to spool file", e);
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (outputStream == null) {
+      Files.createDirectories(spoolDirectory);
+      spoolFile = Files.createTempFile(spoolDirectory, "replay", ".scfareplay.part");
+      outputStream = new BufferedOutputStream(Files.newOutputStream(spoolFile));
+    }
+  }
+
+  /**
+   * Returns the number of replay bytes recorded so far.
+   */
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Copies all recorded replay bytes to the given output stream. The recorder needs to be closed before.
+   */
+  synchronized void transferTo(OutputStream target) throws IOException {
+    if (spoolFile == null) {
+      return;
+    }
+    Files.copy(spoolFile, target);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (outputStream != null) {
+      outputStream.close();
+    }
+  }
+
+  /**
+   * Closes the recorder and deletes the spool file.
+   */
+  public synchronized void discard() {
+    try {
+      close();
+      if (spoolFile != null) {
+        Files.deleteIfExists(spoolFile);
+      }
+    } catch (IOException e) {
+      log.warn("Could not delete replay spool file `{}`", spoolFile, e);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.faforever.client.replay;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency counters of a single replay relay connection. Latency is the time a chunk spent buffered
+ * between being received and being picked up by the forwarding side. It is only logged for connections which report
+ * {@link #onBuffered() buffered} chunks, connections which forward chunks directly only log their throughput.
+ */
+@Slf4j
+final class ReplayRelayMetrics {
+
+  private final String connectionName;
+  private final long startNanos = System.nanoTime();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder chunks = new LongAdder();
+  private final Queue<Long> pendingReceiveNanos = new ConcurrentLinkedQueue<>();
+  private final AtomicLong bufferedChunks = new AtomicLong();
+  private final LongAccumulator maxBufferedChunks = new LongAccumulator(Long::max, 0);
+  private final LongAdder forwardedChunks = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0);
+
+  ReplayRelayMetrics(String connectionName) {
+    this.connectionName = connectionName;
+  }
+
+  void onReceived(int byteCount) {
+    bytes.add(byteCount);
+    chunks.increment();
+  }
+
+  void onBuffered() {
+    pendingReceiveNanos.add(System.nanoTime());
+    maxBufferedChunks.accumulate(bufferedChunks.incrementAndGet());
+  }
+
+  void onForwarded() {
+    Long receiveNanos = pendingReceiveNanos.poll();
+    if (receiveNanos == null) {
+      return;
+    }
+    bufferedChunks.decrementAndGet();
+    long latencyNanos = System.nanoTime() - receiveNanos;
+    forwardedChunks.increment();
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulate(latencyNanos);
+  }
+
+  void log() {
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+    long totalBytes = bytes.sum();
+    long bytesPerSecond = elapsed.toMillis() > 0 ? totalBytes * 1000 / elapsed.toMillis() : totalBytes;
+    if (maxBufferedChunks.get() == 0) {
+      log.info("{} relayed {} bytes in {} chunks within {} ({} bytes/s)", connectionName, totalBytes, chunks.sum(),
+               elapsed, bytesPerSecond);
+      return;
+    }
+
+    long forwarded = forwardedChunks.sum();
+    Duration averageLatency = Duration.ofNanos(forwarded > 0 ? totalLatencyNanos.sum() / forwarded : 0);
+    log.info("{} relayed {} bytes in {} chunks within {} ({} bytes/s), average latency {}, max latency {}, "
+                 + "max buffered chunks {}", connectionName, totalBytes, chunks.sum(), elapsed, bytesPerSecond,
+             averageLatency, Duration.ofNanos(maxLatencyNanos.get()), maxBufferedChunks.get());
+  }
+}
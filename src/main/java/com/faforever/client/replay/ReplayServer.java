@@ -9,8 +9,9 @@ import com.faforever.client.remote.HmacAccess;
 import com.faforever.client.update.Version;
 import com.faforever.client.user.LoginService;
 import com.faforever.commons.replay.ReplayMetadata;
-import com.google.common.primitives.Bytes;
+import io.netty.buffer.ByteBuf;
 import io.netty.resolver.DefaultAddressResolverGroup;
+import io.netty.util.ReferenceCountUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectFactory;
@@ -18,15 +19,16 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
 import reactor.netty.Connection;
 import reactor.netty.DisposableServer;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.tcp.TcpServer;
+import reactor.util.concurrent.Queues;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
@@ -41,11 +43,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReplayServer {
 
-  /**
-   * This is a prefix used in the FA live replay protocol that needs to be stripped away when storing to a file.
-   */
-  private static final byte[] LIVE_REPLAY_PREFIX = new byte[]{'P', '/'};
-
   private final ClientProperties clientProperties;
   private final LoginService loginService;
   private final ReplayFileWriter replayFileWriter;
@@ -84,8 +81,13 @@ public class ReplayServer {
                     })
                     .doOnUnbound(server -> log.debug("Closing local replay server on port {}", server.port()))
                     .handle((inbound, _) -> {
-                      ByteArrayOutputStream replayData = new ByteArrayOutputStream();
-                      Flux<byte[]> incomingReplayData = inbound.receive().asByteArray().replay().refCount();
+                      ReplayRecorder replayRecorder = replayFileWriter.startRecording();
+                      ReplayRelayMetrics relayMetrics = new ReplayRelayMetrics("Replay server for game " + gameId);
+                      Sinks.Many<ByteBuf> remoteReplaySink = Sinks.many()
+                                                                  .unicast()
+                                                                  .onBackpressureBuffer(Queues.<ByteBuf>get(
+                                                                      clientProperties.getReplay()
+                                                                                      .getRelayBufferChunks()).get());
 
                       Mono<Void> remoteReplayData = userWebClientFactory.getObject()
                                                                         .get()
@@ -105,45 +107,64 @@ public class ReplayServer {
                                                                                                   .websocket()
                                                                                                   .uri(url)
                                                                                                   .handle(
-                                                                                                      (_, outbound) -> outbound.sendByteArray(
-                                                                                                          incomingReplayData))
+                                                                                                      (_, outbound) -> outbound.send(
+                                                                                                          remoteReplaySink.asFlux()
+                                                                                                                          .doOnNext(
+                                                                                                                              _ -> relayMetrics.onForwarded())
+                                                                                                                          .doOnDiscard(
+                                                                                                                              ByteBuf.class,
+                                                                                                                              ReferenceCountUtil::safeRelease)))
                                                                                                   .then()
                                                                                                   .doOnError(
                                                                                                       throwable -> log.warn(
                                                                                                           "Error sending data to remote replay server",
                                                                                                           throwable))
-                                                                                                  .onErrorComplete());
-
-                      Mono<Void> localReplayData = incomingReplayData.doOnNext(buffer -> {
-                                                                       if (replayData.size() == 0 && Bytes.indexOf(buffer, LIVE_REPLAY_PREFIX) != -1) {
-                                                                         int dataBeginIndex = Bytes.indexOf(buffer, (byte) 0x00) + 1;
-                                                                         replayData.write(buffer, dataBeginIndex, buffer.length - dataBeginIndex);
-                                                                       } else {
-                                                                         replayData.writeBytes(buffer);
-                                                                       }
-                                                                     })
-                                                                     .then()
-                                                                     .doOnError(
-                                                                         throwable -> log.warn("Error in replay server",
-                                                                                               throwable))
-                                                                     .doFinally(signalType -> {
-                                                                       if (signalType == SignalType.ON_ERROR) {
-                                                                         return;
-                                                                       }
-
-                                                                       log.info(
-                                                                           "FAF disconnected, writing replay data to file");
-                                                                       GameInfo game = gameService.getByUid(gameId)
-                                                                                                  .orElseThrow();
-                                                                       finishReplayInfo(game, replayInfo);
-                                                                       try {
-                                                                         replayFileWriter.writeReplayDataToFile(
-                                                                             replayData, replayInfo);
-                                                                       } catch (IOException e) {
-                                                                         log.warn("Unable to write replay data to file",
-                                                                                  e);
-                                                                       }
-                                                                     });
+                                                                                                  .onErrorComplete())
+                                                                        .doOnError(throwable -> log.warn(
+                                                                            "Could not connect to remote replay server",
+                                                                            throwable))
+                                                                        .onErrorComplete()
+                                                                        .doFinally(_ -> releaseUnsentReplayData(
+                                                                            remoteReplaySink));
+
+                      Mono<Void> localReplayData = inbound.receive()
+                                                          .retain()
+                                                          .doOnNext(buffer -> {
+                                                            relayMetrics.onReceived(buffer.readableBytes());
+                                                            try {
+                                                              replayRecorder.write(buffer);
+                                                            } catch (RuntimeException e) {
+                                                              buffer.release();
+                                                              throw e;
+                                                            }
+                                                            relayToRemote(remoteReplaySink, buffer, relayMetrics);
+                                                          })
+                                                          .then()
+                                                          .doOnError(
+                                                              throwable -> log.warn("Error in replay server",
+                                                                                    throwable))
+                                                          .doFinally(signalType -> {
+                                                            remoteReplaySink.tryEmitComplete();
+                                                            relayMetrics.log();
+
+                                                            if (signalType == SignalType.ON_ERROR) {
+                                                              replayRecorder.discard();
+                                                              return;
+                                                            }
+
+                                                            log.info("FAF disconnected, writing replay data to file");
+                                                            try {
+                                                              GameInfo game = gameService.getByUid(gameId)
+                                                                                         .orElseThrow();
+                                                              finishReplayInfo(game, replayInfo);
+                                                              replayFileWriter.writeReplayDataToFile(replayRecorder,
+                                                                                                     replayInfo);
+                                                            } catch (IOException e) {
+                                                              log.warn("Unable to write replay data to file", e);
+                                                            } finally {
+                                                              replayRecorder.discard();
+                                                            }
+                                                          });
 
                       return Mono.when(remoteReplayData, localReplayData);
                     })
@@ -152,6 +173,31 @@ public class ReplayServer {
                     .toFuture();
   }
 
+  /**
+   * Hands the retained buffer over to the remote replay stream, which releases it once sent. If the remote side can't
+   * keep up, the remote stream is completed rather than silently dropping chunks in the middle of it.
+   */
+  private void relayToRemote(Sinks.Many<ByteBuf> remoteReplaySink, ByteBuf buffer, ReplayRelayMetrics relayMetrics) {
+    EmitResult emitResult = remoteReplaySink.tryEmitNext(buffer);
+    if (emitResult.isSuccess()) {
+      relayMetrics.onBuffered();
+      return;
+    }
+
+    buffer.release();
+    if (emitResult == EmitResult.FAIL_OVERFLOW) {
+      log.warn("Remote replay server does not keep up, stopping live replay relay");
+      remoteReplaySink.tryEmitComplete();
+    }
+  }
+
+  /**
+   * Releases buffered replay data if the remote replay stream never subscribed or has already gone away.
+   */
+  private void releaseUnsentReplayData(Sinks.Many<ByteBuf> remoteReplaySink) {
+    remoteReplaySink.asFlux().subscribe(ReferenceCountUtil::safeRelease, _ -> {});
+  }
+
   private ReplayMetadata initReplayInfo(int uid) {
     ReplayMetadata replayInfo = new ReplayMetadata();
     replayInfo.setUid(uid);
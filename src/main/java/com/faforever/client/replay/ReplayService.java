@@ -58,7 +58,7 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
@@ -106,10 +106,15 @@ public class ReplayService {
   private final DataPrefs dataPrefs;
   private final ObjectFactory<ReplayDownloadTask> replayDownloadTaskFactory;
   private final ReplayHistoryPrefs replayHistory;
+  private final LocalReplayIndex localReplayIndex;
   private final Cache<@NotNull Path, @NotNull Replay> replayCache = CacheBuilder.newBuilder()
                                                                                 .maximumSize(500)
                                                                                 .expireAfterWrite(20, TimeUnit.MINUTES)
                                                                                 .build();
+  private final Cache<@NotNull Path, @NotNull LazyReplayData> replayDataCache = CacheBuilder.newBuilder()
+                                                                                        .maximumSize(2)
+                                                                                        .expireAfterAccess(5, TimeUnit.MINUTES)
+                                                                                        .build();
 
   @VisibleForTesting
   static Integer parseSupComVersion(ReplayDataParser parser) {
@@ -166,16 +171,15 @@ public class ReplayService {
     int skippedReplays = pageSize * (page - 1);
 
     try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(replaysDirectory, replayFileGlob)) {
-      List<Path> filesList = StreamSupport.stream(directoryStream.spliterator(), false)
-                                          .sorted(Comparator.comparing(path -> {
-                                            try {
-                                              return Files.getLastModifiedTime((Path) path);
-                                            } catch (IOException e) {
-                                              log.warn("Could not get last modified time of file {}", path, e);
-                                              return FileTime.from(Instant.EPOCH);
-                                            }
-                                          }).reversed())
-                                          .toList();
+      List<LocalReplayFile> filesList = StreamSupport.stream(directoryStream.spliterator(), false)
+                                                     .map(this::readLocalReplayFile)
+                                                     .filter(Objects::nonNull)
+                                                     .sorted(Comparator.comparing(
+                                                         (LocalReplayFile file) -> file.attributes()
+                                                                                       .lastModifiedTime()).reversed())
+                                                     .toList();
+
+      localReplayIndex.retainAll(filesList.stream().map(LocalReplayFile::path).toList());
 
       int numPages = filesList.size() / pageSize;
 
@@ -186,6 +190,8 @@ public class ReplayService {
                                                                .filter(e -> !e.isCompletedExceptionally())
                                                                .toList();
 
+      localReplayIndex.save();
+
       return Mono.fromFuture(CompletableFuture.allOf(replayFutures.toArray(new CompletableFuture[0]))
                                               .thenApply(_ -> replayFutures.stream()
                                                                            .map(CompletableFuture::join)
@@ -195,20 +201,45 @@ public class ReplayService {
     }
   }
 
-  private CompletableFuture<Replay> tryLoadingLocalReplay(Path replayFile) {
+  private LocalReplayFile readLocalReplayFile(Path path) {
+    try {
+      return new LocalReplayFile(path, Files.readAttributes(path, BasicFileAttributes.class));
+    } catch (IOException e) {
+      log.warn("Could not read attributes of file {}", path, e);
+      return null;
+    }
+  }
+
+  private CompletableFuture<Replay> tryLoadingLocalReplay(LocalReplayFile localReplayFile) {
+    Path replayFile = localReplayFile.path();
     try {
       final Replay cachedReplay = this.replayCache.getIfPresent(replayFile);
       if (cachedReplay != null) {
         return CompletableFuture.completedFuture(cachedReplay);
       }
 
-      ReplayDataParser replayData = replayFileReader.parseReplay(replayFile);
-      ReplayMetadata replayMetadata = replayData.getMetadata();
+      LocalReplayIndexEntry indexEntry = localReplayIndex.get(replayFile, localReplayFile.attributes())
+                                                         .orElse(null);
+      if (indexEntry == null) {
+        long size = localReplayFile.attributes().size();
+        long lastModified = localReplayFile.attributes().lastModifiedTime().toMillis();
+        ReplayHeader replayHeader = replayFileReader.readHeader(replayFile);
+        indexEntry = replayHeader.metadata() == null
+            ? LocalReplayIndexEntry.withoutMetadata(size, lastModified)
+            : replayMapper.mapToIndexEntry(replayHeader, size, lastModified);
+        localReplayIndex.put(replayFile, indexEntry);
+      }
+      if (indexEntry.metadataMissing()) {
+        // Replays written by the game itself don't have the metadata the vault shows
+        log.debug("Skipping replay file `{}` without metadata", replayFile);
+        return CompletableFuture.completedFuture(null);
+      }
+      LocalReplayIndexEntry replayIndexEntry = indexEntry;
 
       CompletableFuture<FeaturedMod> featuredModFuture = featuredModService.getFeaturedMod(
-          replayMetadata.getFeaturedMod()).toFuture();
-      CompletableFuture<MapVersion> mapVersionFuture = mapService.findByMapFolderName(replayMetadata.getMapname())
-                                                                 .toFuture();
+          replayIndexEntry.featuredMod()).toFuture();
+      CompletableFuture<MapVersion> mapVersionFuture = mapService.findByMapFolderName(
+          replayIndexEntry.mapFolderName()).toFuture();
 
       return CompletableFuture.allOf(featuredModFuture, mapVersionFuture).thenApply(_ -> {
         MapVersion mapVersion = mapVersionFuture.join();
@@ -217,7 +248,7 @@ public class ReplayService {
           log.warn("Could not find map for replay file `{}`", replayFile);
         }
 
-        final Replay replay = replayMapper.map(replayData, replayFile, featuredMod, mapVersion);
+        final Replay replay = replayMapper.map(replayIndexEntry, replayFile, featuredMod, mapVersion);
         this.replayCache.put(replayFile, replay);
         return replay;
       }).exceptionally(throwable -> {
@@ -299,7 +330,7 @@ public class ReplayService {
    * Reads the specified replay file in order to add more information to the specified replay instance.
    */
   public ReplayDetails loadReplayDetails(Path path) throws IOException {
-    ReplayDataParser replayDataParser = replayFileReader.parseReplay(path);
+    ReplayDataParser replayDataParser = getReplayData(path);
     List<ChatMessage> chatMessages = replayDataParser.getChatMessages().stream().map(replayMapper::map).toList();
     List<GameOption> gameOptions = Stream.concat(
         Stream.of(new GameOption("FAF Version", String.valueOf(parseSupComVersion(replayDataParser)))),
@@ -316,6 +347,14 @@ public class ReplayService {
     return new ReplayDetails(chatMessages, gameOptions, mapVersion);
   }
 
+  /**
+   * Returns the parsed replay data of the specified file. The data of recently used files is kept, so showing the
+   * details of a replay and running it afterwards only decode the replay body once.
+   */
+  private ReplayDataParser getReplayData(Path path) throws IOException {
+    return replayDataCache.asMap().computeIfAbsent(path, _ -> new LazyReplayData(path, replayFileReader)).get();
+  }
+
   public CompletableFuture<Integer> getFileSize(Replay replay) {
     try {
       return fileSizeReader.getFileSize(
@@ -351,6 +390,8 @@ public class ReplayService {
   private void runOnlineReplay(int replayId) {
     downloadReplay(replayId).thenAccept((path) -> {
       try {
+        // Online replays are always downloaded to the same file
+        replayDataCache.invalidate(path);
         runReplayFile(path);
         replayHistory.getWatchedReplays().add(replayId);
       } catch (IOException e) {
@@ -369,13 +410,13 @@ public class ReplayService {
   }
 
   private void runFafReplayFile(Path path) throws IOException {
-    ReplayDataParser replayData = replayFileReader.parseReplay(path);
+    ReplayDataParser replayData = getReplayData(path);
     ByteBuffer rawReplayByteBuffer = replayData.getData();
 
     Path tempSupComReplayFile = dataPrefs.getCacheDirectory().resolve(TEMP_SCFA_REPLAY_FILE_NAME);
 
     Files.createDirectories(tempSupComReplayFile.getParent());
-    Files.copy(new ByteBufferBackedInputStream(rawReplayByteBuffer), tempSupComReplayFile,
+    Files.copy(new ByteBufferBackedInputStream(rawReplayByteBuffer.duplicate()), tempSupComReplayFile,
                StandardCopyOption.REPLACE_EXISTING);
 
     ReplayMetadata replayMetadata = replayData.getMetadata();
@@ -392,7 +433,7 @@ public class ReplayService {
   }
 
   private void runSupComReplayFile(Path path) throws IOException {
-    ReplayDataParser replayData = replayFileReader.parseReplay(path);
+    ReplayDataParser replayData = getReplayData(path);
 
     Integer version = parseSupComVersion(replayData);
     String mapName = parseMapFolderName(replayData);
@@ -495,4 +536,6 @@ public class ReplayService {
                                                                                                                          .eq(replay.id()));
     return fafApiAccessor.getMany(navigator).map(replayMapper::map).cache();
   }
+
+  private record LocalReplayFile(Path path, BasicFileAttributes attributes) {}
 }
@@ -0,0 +1,141 @@
+package com.faforever.client.stats;
+
+import com.faforever.client.domain.api.Leaderboard;
+import com.faforever.client.domain.api.LeaderboardRatingJournal;
+import com.faforever.client.preferences.DataPrefs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores the rating journal of players in the cache directory, one file per player and leaderboard, so only journal
+ * entries which are newer than the stored ones need to be fetched. Entries are appended as fixed size records in
+ * ascending id order; a partially written record at the end of a file is ignored.
+ */
+@Slf4j
+@Lazy
+@Component
+@RequiredArgsConstructor
+public class RatingHistoryStore {
+
+  private static final String RATING_HISTORY_SUB_FOLDER = "rating-history";
+  private static final int FORMAT_VERSION = 1;
+  /**
+   * Id, score time in seconds since epoch, mean and deviation before and after.
+   */
+  private static final int RECORD_SIZE = Integer.BYTES + Long.BYTES + 4 * Double.BYTES;
+
+  private final DataPrefs dataPrefs;
+
+  /**
+   * Returns the stored journal entries of the player in the given leaderboard, in ascending id order.
+   */
+  public synchronized List<LeaderboardRatingJournal> load(int playerId, Leaderboard leaderboard) {
+    Path file = getFile(playerId, leaderboard);
+    if (Files.notExists(file)) {
+      return List.of();
+    }
+
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+      if (buffer.remaining() < Integer.BYTES || buffer.getInt() != FORMAT_VERSION) {
+        log.info("Discarding rating history `{}` with outdated format", file);
+        Files.delete(file);
+        return List.of();
+      }
+
+      List<LeaderboardRatingJournal> entries = new ArrayList<>(buffer.remaining() / RECORD_SIZE);
+      while (buffer.remaining() >= RECORD_SIZE) {
+        int id = buffer.getInt();
+        OffsetDateTime scoreTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(buffer.getLong()), ZoneOffset.UTC);
+        Double meanBefore = fromStored(buffer.getDouble());
+        Double deviationBefore = fromStored(buffer.getDouble());
+        Double meanAfter = fromStored(buffer.getDouble());
+        Double deviationAfter = fromStored(buffer.getDouble());
+        entries.add(new LeaderboardRatingJournal(id, meanAfter, deviationAfter, meanBefore, deviationBefore, scoreTime,
+                                                 leaderboard));
+      }
+      if (buffer.hasRemaining()) {
+        // Further records would be misaligned otherwise
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+          channel.truncate(buffer.position());
+        }
+      }
+      return entries;
+    } catch (IOException e) {
+      log.warn("Could not read rating history from `{}`", file, e);
+      return List.of();
+    }
+  }
+
+  /**
+   * Appends the given entries, which must be newer than all stored entries of the player in the leaderboard. Entries
+   * without id or score time are not stored.
+   */
+  public synchronized void append(int playerId, Leaderboard leaderboard,
+                                  Collection<LeaderboardRatingJournal> entries) {
+    List<LeaderboardRatingJournal> storableEntries = entries.stream()
+        .filter(entry -> entry.id() != null && entry.scoreTime() != null)
+        .toList();
+    if (storableEntries.isEmpty()) {
+      return;
+    }
+
+    Path file = getFile(playerId, leaderboard);
+    try {
+      Files.createDirectories(file.getParent());
+      boolean newFile = Files.notExists(file);
+      try (DataOutputStream outputStream = new DataOutputStream(
+          new BufferedOutputStream(openForAppend(file)))) {
+        if (newFile) {
+          outputStream.writeInt(FORMAT_VERSION);
+        }
+        for (LeaderboardRatingJournal entry : storableEntries) {
+          outputStream.writeInt(entry.id());
+          outputStream.writeLong(entry.scoreTime().toEpochSecond());
+          outputStream.writeDouble(toStored(entry.meanBefore()));
+          outputStream.writeDouble(toStored(entry.deviationBefore()));
+          outputStream.writeDouble(toStored(entry.meanAfter()));
+          outputStream.writeDouble(toStored(entry.deviationAfter()));
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Could not write rating history to `{}`", file, e);
+    }
+  }
+
+  private static OutputStream openForAppend(Path file) throws IOException {
+    return Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  private static double toStored(Double value) {
+    return value == null ? Double.NaN : value;
+  }
+
+  private static Double fromStored(double value) {
+    return Double.isNaN(value) ? null : value;
+  }
+
+  private Path getFile(int playerId, Leaderboard leaderboard) {
+    return dataPrefs.getCacheDirectory()
+                    .resolve(RATING_HISTORY_SUB_FOLDER)
+                    .resolve(playerId + "-" + leaderboard.id() + ".bin");
+  }
+}
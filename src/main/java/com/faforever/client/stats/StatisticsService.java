@@ -13,6 +13,11 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 
@@ -24,9 +29,29 @@ public class StatisticsService {
 
   private final FafApiAccessor fafApiAccessor;
   private final LeaderboardMapper leaderboardMapper;
+  private final RatingHistoryStore ratingHistoryStore;
 
+  /**
+   * Returns the complete rating history of the player in the given leaderboard. Journal entries which were fetched
+   * before are read from the {@link RatingHistoryStore}, only newer ones are fetched from the API.
+   */
   @Cacheable(value = CacheNames.RATING_HISTORY, sync = true)
   public Flux<LeaderboardRatingJournal> getRatingHistory(PlayerInfo player, Leaderboard leaderboard) {
+    return Mono.fromCallable(() -> ratingHistoryStore.load(player.getId(), leaderboard))
+               .subscribeOn(Schedulers.boundedElastic())
+               .flatMapMany(storedEntries -> {
+                 int lastKnownId = storedEntries.isEmpty() ? 0 : storedEntries.getLast().id();
+                 return fetchRatingHistory(player, leaderboard, lastKnownId)
+                     .collectList()
+                     .publishOn(Schedulers.boundedElastic())
+                     .doOnNext(newEntries -> ratingHistoryStore.append(player.getId(), leaderboard, newEntries))
+                     .flatMapIterable(newEntries -> concat(storedEntries, newEntries));
+               })
+               .cache();
+  }
+
+  private Flux<LeaderboardRatingJournal> fetchRatingHistory(PlayerInfo player, Leaderboard leaderboard,
+                                                            int lastKnownId) {
     ElideNavigatorOnCollection<com.faforever.commons.api.dto.LeaderboardRatingJournal> navigator = ElideNavigator.of(
                                                                                                                      com.faforever.commons.api.dto.LeaderboardRatingJournal.class)
                                                                                                                  .collection()
@@ -37,9 +62,24 @@ public class StatisticsService {
                                                                                                                                .and()
                                                                                                                                .intNum(
                                                                                                                                    "leaderboard.id")
-                             .eq(leaderboard.id()))
+                                                                                                                               .eq(leaderboard.id())
+                                                                                                                               .and()
+                                                                                                                               .intNum(
+                                                                                                                                   "id")
+                                                                                                                               .gt(lastKnownId))
+                                                                                                                 .addSortingRule(
+                                                                                                                     "id",
+                                                                                                                     true)
                                                                                                                  .pageSize(
                                                                                                                      fafApiAccessor.getMaxPageSize());
-    return fafApiAccessor.getMany(navigator).map(leaderboardMapper::map).cache();
+    return fafApiAccessor.getAll(navigator).map(leaderboardMapper::map);
+  }
+
+  private static List<LeaderboardRatingJournal> concat(List<LeaderboardRatingJournal> storedEntries,
+                                                       List<LeaderboardRatingJournal> newEntries) {
+    if (newEntries.isEmpty()) {
+      return storedEntries;
+    }
+    return Stream.concat(storedEntries.stream(), newEntries.stream()).toList();
   }
 }
@@ -10,10 +10,16 @@ import java.util.concurrent.CompletableFuture;
 public abstract class CompletableTask<V> extends Task<V> implements PrioritizedCompletableTask<V> {
 
   private final CompletableFuture<V> future;
+  private final TaskLane lane;
   private Priority priority;
 
   public CompletableTask(Priority priority) {
+    this(priority, TaskLane.CPU);
+  }
+
+  public CompletableTask(Priority priority, TaskLane lane) {
     this.priority = priority;
+    this.lane = lane;
     this.future = new CompletableFuture<>();
     setOnCancelled(event -> future.cancel(true));
     setOnFailed(event -> future.completeExceptionally(getException()));
@@ -35,6 +41,26 @@ public abstract class CompletableTask<V> extends Task<V> implements PrioritizedC
     return priority.compareTo(other.priority);
   }
 
+  @Override
+  public Priority getPriority() {
+    return priority;
+  }
+
+  @Override
+  public TaskLane getLane() {
+    return lane;
+  }
+
+  @Override
+  public boolean isPreemptible() {
+    return false;
+  }
+
+  @Override
+  public boolean isLaunchCritical() {
+    return false;
+  }
+
   public void setPriority(Priority priority) {
     Assert.checkNotNullIllegalState(this.priority, "Priority has already been set");
     this.priority = priority;
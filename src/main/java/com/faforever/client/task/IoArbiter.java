@@ -0,0 +1,248 @@
+package com.faforever.client.task;
+
+import com.faforever.client.task.CompletableTask.Priority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules disk and network work. Every {@link IoResource} (a directory, a download host or the upload bandwidth)
+ * has its own permits, so work on unrelated resources never waits for each other. Operations waiting for the same
+ * resource are granted its permits in the order of their priority and, within the same priority, in the order they
+ * arrived, so that a background download never delays a high priority game update.
+ * <p>
+ * The priority of an operation is the priority of the task it runs in, see {@link #currentPriority()}.
+ */
+@Lazy
+@Service
+@Slf4j
+public class IoArbiter {
+
+  private static final ScopedValue<Priority> PRIORITY = ScopedValue.newInstance();
+  private static final Priority DEFAULT_PRIORITY = Priority.MEDIUM;
+  private static final long SLOW_WAIT_NANOS = Duration.ofSeconds(1).toNanos();
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+  private final Map<IoResource, ResourceQueue> queues = new ConcurrentHashMap<>();
+  private final Map<IoResource.Kind, KindStatistics> statistics = new EnumMap<>(IoResource.Kind.class);
+  private final AtomicLong sequence = new AtomicLong();
+  private volatile long lastLogNanos = System.nanoTime();
+
+  public IoArbiter() {
+    for (IoResource.Kind kind : IoResource.Kind.values()) {
+      statistics.put(kind, new KindStatistics());
+    }
+  }
+
+  /**
+   * Returns the priority of the task the current thread works for, or {@code MEDIUM} outside of tasks.
+   */
+  public static Priority currentPriority() {
+    return PRIORITY.orElse(DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Runs the given operation with the given priority, e.g. to carry the priority of a task over to the threads the
+   * task uses.
+   */
+  public static <T, X extends Throwable> T callWithPriority(Priority priority,
+                                                             ScopedValue.CallableOp<? extends T, X> operation) throws X {
+    return ScopedValue.where(PRIORITY, priority).call(operation);
+  }
+
+  public static void runWithPriority(Priority priority, Runnable runnable) {
+    ScopedValue.where(PRIORITY, priority).run(runnable);
+  }
+
+  /**
+   * Waits for a permit of the given resource with the {@link #currentPriority() current priority}.
+   *
+   * @throws InterruptedIOException if the thread was interrupted while waiting
+   */
+  public Permit acquire(IoResource resource) throws InterruptedIOException {
+    return acquire(resource, currentPriority());
+  }
+
+  /**
+   * Waits for a permit of the given resource. The permit must be closed once the resource is not used anymore.
+   *
+   * @throws InterruptedIOException if the thread was interrupted while waiting
+   */
+  public Permit acquire(IoResource resource, Priority priority) throws InterruptedIOException {
+    ResourceQueue queue = queues.computeIfAbsent(resource, ResourceQueue::new);
+    KindStatistics kindStatistics = statistics.get(resource.kind());
+    long startNanos = System.nanoTime();
+
+    Waiter waiter = new Waiter(priority, sequence.getAndIncrement());
+    synchronized (queue) {
+      queue.waiters.add(waiter);
+      kindStatistics.maxQueueDepth.accumulate(queue.waiters.size());
+      queue.grant();
+      try {
+        while (!waiter.granted) {
+          queue.wait();
+        }
+      } catch (InterruptedException e) {
+        if (waiter.granted) {
+          queue.release();
+        } else {
+          queue.waiters.remove(waiter);
+        }
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for " + resource);
+      }
+    }
+
+    long waitNanos = System.nanoTime() - startNanos;
+    kindStatistics.record(waitNanos);
+    if (waitNanos >= SLOW_WAIT_NANOS) {
+      log.debug("Waited {} for `{}` with priority {}", Duration.ofNanos(waitNanos), resource.key(), priority);
+    }
+    logPeriodically();
+    return new Permit(queue);
+  }
+
+  /**
+   * Returns the number of operations which currently wait for or hold a permit of the given resource.
+   */
+  public int getQueueDepth(IoResource resource) {
+    ResourceQueue queue = queues.get(resource);
+    if (queue == null) {
+      return 0;
+    }
+    synchronized (queue) {
+      return queue.waiters.size() + queue.resource.capacity() - queue.available;
+    }
+  }
+
+  public long getAcquisitionCount(IoResource.Kind kind) {
+    return statistics.get(kind).acquisitions.sum();
+  }
+
+  public Duration getMaxWait(IoResource.Kind kind) {
+    return Duration.ofNanos(statistics.get(kind).maxWaitNanos.get());
+  }
+
+  private void logPeriodically() {
+    long now = System.nanoTime();
+    if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+      lastLogNanos = now;
+      log();
+    }
+  }
+
+  public void log() {
+    statistics.forEach((kind, kindStatistics) -> {
+      long acquisitions = kindStatistics.acquisitions.sum();
+      if (acquisitions == 0) {
+        return;
+      }
+      log.debug("{} permits: {} acquired, average wait {}, max wait {}, max queue depth {}", kind, acquisitions,
+                Duration.ofNanos(kindStatistics.totalWaitNanos.sum() / acquisitions),
+                Duration.ofNanos(kindStatistics.maxWaitNanos.get()), kindStatistics.maxQueueDepth.get());
+    });
+  }
+
+  /**
+   * A permit of a resource, which is released when closed.
+   */
+  public static final class Permit implements AutoCloseable {
+
+    private final ResourceQueue queue;
+    private boolean released;
+
+    private Permit(ResourceQueue queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public void close() {
+      synchronized (queue) {
+        if (released) {
+          return;
+        }
+        released = true;
+        queue.release();
+      }
+    }
+  }
+
+  private static final class ResourceQueue {
+
+    private static final Comparator<Waiter> WAITER_ORDER = Comparator.comparing(Waiter::priority)
+        .reversed()
+        .thenComparingLong(Waiter::sequence);
+
+    private final IoResource resource;
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(WAITER_ORDER);
+    private int available;
+
+    private ResourceQueue(IoResource resource) {
+      this.resource = resource;
+      this.available = resource.capacity();
+    }
+
+    /**
+     * Grants the available permits to the waiters with the highest priority. Must hold the monitor.
+     */
+    private void grant() {
+      boolean granted = false;
+      while (available > 0 && !waiters.isEmpty()) {
+        waiters.poll().granted = true;
+        available--;
+        granted = true;
+      }
+      if (granted) {
+        notifyAll();
+      }
+    }
+
+    private void release() {
+      available++;
+      grant();
+    }
+  }
+
+  private static final class Waiter {
+    private final Priority priority;
+    private final long sequence;
+    private boolean granted;
+
+    private Waiter(Priority priority, long sequence) {
+      this.priority = priority;
+      this.sequence = sequence;
+    }
+
+    private Priority priority() {
+      return priority;
+    }
+
+    private long sequence() {
+      return sequence;
+    }
+  }
+
+  private static final class KindStatistics {
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Long::max, 0);
+
+    private void record(long waitNanos) {
+      acquisitions.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulate(waitNanos);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.faforever.client.task;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * A resource whose use is scheduled by the {@link IoArbiter}. Resources are equal if they are of the same kind and
+ * have the same key, e.g. the same directory or host.
+ *
+ * @param capacity number of permits of the resource, i.e. how many operations may use it at the same time
+ */
+public record IoResource(Kind kind, String key, int capacity) {
+
+  public static final int DISK_CAPACITY = 1;
+  public static final int DOWNLOADS_PER_HOST = 4;
+
+  /**
+   * All uploads share one resource so that they don't compete for the usually small upstream bandwidth.
+   */
+  public static final IoResource UPLOADS = new IoResource(Kind.UPLOAD, "uploads", 1);
+
+  /**
+   * Writes into the given directory.
+   */
+  public static IoResource disk(Path directory) {
+    return new IoResource(Kind.DISK, directory.toAbsolutePath().normalize().toString(), DISK_CAPACITY);
+  }
+
+  /**
+   * Downloads from the host of the given URL.
+   */
+  public static IoResource download(URL url) {
+    return download(url.getHost());
+  }
+
+  public static IoResource download(URI uri) {
+    return download(uri.getHost());
+  }
+
+  private static IoResource download(String host) {
+    return new IoResource(Kind.DOWNLOAD, host == null ? "" : host.toLowerCase(Locale.ROOT), DOWNLOADS_PER_HOST);
+  }
+
+  public enum Kind {
+    DISK,
+    DOWNLOAD,
+    UPLOAD
+  }
+}
@@ -22,5 +22,20 @@ public interface PrioritizedCompletableTask<V> extends Comparable<CompletableTas
 
   CompletableFuture<V> getFuture();
 
+  CompletableTask.Priority getPriority();
+
+  TaskLane getLane();
+
+  /**
+   * Whether the task may be cancelled while it is still queued because a launch critical task was submitted.
+   */
+  boolean isPreemptible();
+
+  /**
+   * Whether the task has to finish before a game can be started. Submitting such a task cancels all queued
+   * {@link #isPreemptible() preemptible} tasks of low priority.
+   */
+  boolean isLaunchCritical();
+
   Mono<V> getMono();
 }
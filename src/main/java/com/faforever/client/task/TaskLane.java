@@ -0,0 +1,20 @@
+package com.faforever.client.task;
+
+/**
+ * The kind of work a task mostly does. Each lane has its own queue and its own limit of concurrently running tasks,
+ * so that e.g. a slow download never keeps a map from being installed.
+ */
+public enum TaskLane {
+  /**
+   * Computations, run on the platform threads of the task executor.
+   */
+  CPU,
+  /**
+   * Reading and writing files, run on virtual threads.
+   */
+  DISK,
+  /**
+   * Downloads, uploads and API calls, run on virtual threads.
+   */
+  NETWORK
+}
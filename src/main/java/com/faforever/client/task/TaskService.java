@@ -1,34 +1,70 @@
 package com.faforever.client.task;
 
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.task.CompletableTask.Priority;
+import com.google.common.annotations.VisibleForTesting;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Worker;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Enqueues and runs tasks in background. Services that need to run a task (tasks that finish, not long-running
  * background jobs) in background should always submit them to this service.
  * <p>
- * There are different queues for different kind of tasks. For every queue, only one task is executed at a time.
+ * Every {@link TaskLane} has its own queue and a limit of tasks it runs at the same time. Within a lane, tasks with
+ * higher priority run first. To keep low priority tasks from starving, a queued task is treated as one priority
+ * higher for every {@link #AGING_INTERVAL} it waited. Submitting a {@link PrioritizedCompletableTask#isLaunchCritical()
+ * launch critical} task cancels all queued, preemptible tasks of low priority.
  */
 @Lazy
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class TaskService {
+public class TaskService implements DisposableBean {
+
+  @VisibleForTesting
+  static final Duration AGING_INTERVAL = Duration.ofSeconds(10);
+  private static final int DISK_CONCURRENCY = 2;
+  private static final int NETWORK_CONCURRENCY = 8;
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
 
-  private final ExecutorService taskExecutor;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<TaskLane, Lane> lanes = new EnumMap<>(TaskLane.class);
+  private final Map<Class<?>, TypeStatistics> statistics = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private volatile long lastLogNanos = System.nanoTime();
 
   private final ObservableList<Worker<?>> activeTasks = FXCollections.synchronizedObservableList(FXCollections.observableArrayList());
   private final ObservableList<Worker<?>> unmodifiableObservableList = FXCollections.unmodifiableObservableList(activeTasks);
 
+  public TaskService(ExecutorService taskExecutor, FxApplicationThreadExecutor fxApplicationThreadExecutor) {
+    this.fxApplicationThreadExecutor = fxApplicationThreadExecutor;
+    int processors = Runtime.getRuntime().availableProcessors();
+    lanes.put(TaskLane.CPU, new Lane(TaskLane.CPU, taskExecutor, Math.max(2, processors)));
+    lanes.put(TaskLane.DISK, new Lane(TaskLane.DISK, virtualThreadExecutor, DISK_CONCURRENCY));
+    lanes.put(TaskLane.NETWORK, new Lane(TaskLane.NETWORK, virtualThreadExecutor, NETWORK_CONCURRENCY));
+  }
+
   /**
    * Submits a task for execution in background.
    *
@@ -36,16 +72,18 @@ public class TaskService {
    * @param task the task to execute
    */
   public <T extends PrioritizedCompletableTask<?>> T submitTask(T task) {
+    fxApplicationThreadExecutor.execute(() -> activeTasks.add(task));
     task.getFuture().whenComplete((o, throwable) -> {
-      activeTasks.remove(task);
-      if (throwable != null) {
+      fxApplicationThreadExecutor.execute(() -> activeTasks.remove(task));
+      if (throwable != null && !(throwable instanceof CancellationException)) {
         log.error("Task failed", throwable);
       }
     });
-    fxApplicationThreadExecutor.execute(() -> {
-      activeTasks.add(task);
-      taskExecutor.execute(task);
-    });
+
+    if (task.isLaunchCritical()) {
+      cancelPreemptibleTasks();
+    }
+    lanes.get(task.getLane()).enqueue(new QueuedTask(task, sequence.getAndIncrement(), System.nanoTime()));
 
     return task;
   }
@@ -53,4 +91,184 @@ public class TaskService {
   public ObservableList<Worker<?>> getActiveWorkers() {
     return unmodifiableObservableList;
   }
+
+  /**
+   * Returns the number of tasks waiting in the given lane.
+   */
+  public int getQueueLength(TaskLane lane) {
+    return lanes.get(lane).getQueueLength();
+  }
+
+  /**
+   * Returns queue wait and run time of every type of task that ran so far.
+   */
+  public List<TaskStatistics> getStatistics() {
+    return statistics.entrySet().stream()
+        .map(entry -> entry.getValue().toTaskStatistics(entry.getKey().getName()))
+        .sorted(Comparator.comparing(TaskStatistics::taskType))
+        .toList();
+  }
+
+  public void log() {
+    lanes.values().forEach(lane -> log.debug("{} lane: {} running, {} queued", lane.type, lane.getRunning(),
+                                             lane.getQueueLength()));
+    getStatistics().forEach(taskStatistics -> log.debug(
+        "{} ({}): {} runs, average wait {}, max wait {}, average run time {}, max run time {}",
+        taskStatistics.taskType(), taskStatistics.lane(), taskStatistics.count(), taskStatistics.averageQueueWait(),
+        taskStatistics.maxQueueWait(), taskStatistics.averageRunTime(), taskStatistics.maxRunTime()));
+  }
+
+  @Override
+  public void destroy() {
+    virtualThreadExecutor.shutdownNow();
+  }
+
+  private void cancelPreemptibleTasks() {
+    List<PrioritizedCompletableTask<?>> cancelled = new ArrayList<>();
+    lanes.values().forEach(lane -> cancelled.addAll(lane.removePreemptible()));
+    if (!cancelled.isEmpty()) {
+      log.info("Cancelling {} queued background tasks in favor of a launch critical task", cancelled.size());
+      cancelled.forEach(task -> task.cancel(false));
+    }
+  }
+
+  private void logPeriodically() {
+    long now = System.nanoTime();
+    if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+      lastLogNanos = now;
+      log();
+    }
+  }
+
+  private record QueuedTask(PrioritizedCompletableTask<?> task, long sequence, long enqueuedNanos) {
+
+    /**
+     * The task's priority raised by one level for every aging interval it has been waiting.
+     */
+    private int effectivePriority(long nowNanos) {
+      long aged = (nowNanos - enqueuedNanos) / AGING_INTERVAL.toNanos();
+      return (int) Math.min(Priority.HIGH.ordinal(), task.getPriority().ordinal() + aged);
+    }
+  }
+
+  private final class Lane {
+
+    private final TaskLane type;
+    private final Executor executor;
+    private final int concurrency;
+    private final List<QueuedTask> queue = new ArrayList<>();
+    private int running;
+
+    private Lane(TaskLane type, Executor executor, int concurrency) {
+      this.type = type;
+      this.executor = executor;
+      this.concurrency = concurrency;
+    }
+
+    private synchronized void enqueue(QueuedTask queuedTask) {
+      queue.add(queuedTask);
+      dispatch();
+    }
+
+    private synchronized int getQueueLength() {
+      return queue.size();
+    }
+
+    private synchronized int getRunning() {
+      return running;
+    }
+
+    private synchronized List<PrioritizedCompletableTask<?>> removePreemptible() {
+      List<PrioritizedCompletableTask<?>> removed = new ArrayList<>();
+      queue.removeIf(queuedTask -> {
+        PrioritizedCompletableTask<?> task = queuedTask.task();
+        if (task.getPriority() == Priority.LOW && task.isPreemptible()) {
+          removed.add(task);
+          return true;
+        }
+        return false;
+      });
+      return removed;
+    }
+
+    /**
+     * Starts queued tasks until the lane's concurrency is reached. Must hold the monitor.
+     */
+    private void dispatch() {
+      while (running < concurrency) {
+        QueuedTask next = pollNext();
+        if (next == null) {
+          return;
+        }
+        running++;
+        executor.execute(() -> run(next));
+      }
+    }
+
+    private QueuedTask pollNext() {
+      long now = System.nanoTime();
+      QueuedTask next = null;
+      int nextPriority = -1;
+      for (Iterator<QueuedTask> iterator = queue.iterator(); iterator.hasNext(); ) {
+        QueuedTask candidate = iterator.next();
+        if (candidate.task().isDone()) {
+          iterator.remove();
+          continue;
+        }
+        int priority = candidate.effectivePriority(now);
+        if (priority > nextPriority || (priority == nextPriority && candidate.sequence() < next.sequence())) {
+          next = candidate;
+          nextPriority = priority;
+        }
+      }
+      queue.remove(next);
+      return next;
+    }
+
+    private void run(QueuedTask queuedTask) {
+      PrioritizedCompletableTask<?> task = queuedTask.task();
+      long startNanos = System.nanoTime();
+      try {
+        // Disk and network work of the task is scheduled with the task's priority
+        IoArbiter.runWithPriority(task.getPriority(), task);
+      } finally {
+        long endNanos = System.nanoTime();
+        statistics.computeIfAbsent(task.getClass(), _ -> new TypeStatistics(type))
+            .record(startNanos - queuedTask.enqueuedNanos(), endNanos - startNanos);
+        synchronized (this) {
+          running--;
+          dispatch();
+        }
+        logPeriodically();
+      }
+    }
+  }
+
+  private static final class TypeStatistics {
+    private final TaskLane lane;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final LongAccumulator maxRunNanos = new LongAccumulator(Long::max, 0);
+
+    private TypeStatistics(TaskLane lane) {
+      this.lane = lane;
+    }
+
+    private void record(long waitNanos, long runNanos) {
+      count.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulate(waitNanos);
+      totalRunNanos.add(runNanos);
+      maxRunNanos.accumulate(runNanos);
+    }
+
+    private TaskStatistics toTaskStatistics(String taskType) {
+      long runs = Math.max(1, count.sum());
+      return new TaskStatistics(taskType, lane, count.sum(), Duration.ofNanos(totalWaitNanos.sum() / runs),
+                                Duration.ofNanos(maxWaitNanos.get()), Duration.ofNanos(totalRunNanos.sum() / runs),
+                                Duration.ofNanos(maxRunNanos.get()));
+    }
+  }
 }
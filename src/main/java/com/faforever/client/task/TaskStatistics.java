@@ -0,0 +1,19 @@
+package com.faforever.client.task;
+
+import java.time.Duration;
+
+/**
+ * How long the tasks of one type waited in their lane's queue and how long they ran.
+ *
+ * @param taskType class name of the task
+ * @param count number of tasks of this type that ran
+ */
+public record TaskStatistics(
+    String taskType,
+    TaskLane lane,
+    long count,
+    Duration averageQueueWait,
+    Duration maxQueueWait,
+    Duration averageRunTime,
+    Duration maxRunTime
+) {}
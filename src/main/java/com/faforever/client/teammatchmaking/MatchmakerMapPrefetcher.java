@@ -0,0 +1,132 @@
+package com.faforever.client.teammatchmaking;
+
+import com.faforever.client.domain.api.MapVersion;
+import com.faforever.client.domain.api.MatchmakerQueueMapPool;
+import com.faforever.client.domain.server.MatchmakerQueueInfo;
+import com.faforever.client.domain.server.PlayerInfo;
+import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.map.MapService;
+import com.faforever.client.map.generator.MapGeneratorService;
+import com.faforever.client.player.PlayerService;
+import com.faforever.client.util.RatingUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Downloads the maps of matchmaker queues before the player joins them, so joining a queue doesn't have to wait for
+ * downloads. The maps of the player's rating bracket are downloaded first, followed by the other brackets ordered by
+ * their distance to the player's bracket.
+ */
+@Lazy
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MatchmakerMapPrefetcher {
+
+  private static final int DOWNLOAD_CONCURRENCY = 2;
+  private static final Comparator<MatchmakerQueueMapPool> MAP_POOL_COMPARATOR = Comparator.comparing(
+      MatchmakerQueueMapPool::minRating, Comparator.nullsFirst(Double::compare)).thenComparing(
+      MatchmakerQueueMapPool::maxRating, Comparator.nullsLast(Double::compare));
+
+  private final MapService mapService;
+  private final MapGeneratorService mapGeneratorService;
+  private final PlayerService playerService;
+  private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+
+  /**
+   * Downloads the maps of the player's bracket of the queue and updates whether the queue's
+   * {@link MatchmakerQueueInfo#mapPoolReadyProperty() map pool is ready}.
+   */
+  public Mono<Void> prefetchBracket(MatchmakerQueueInfo queue) {
+    return prefetch(queue, false);
+  }
+
+  /**
+   * Downloads the maps of all brackets of the queue, starting with the player's bracket.
+   */
+  public Mono<Void> prefetchPool(MatchmakerQueueInfo queue) {
+    return prefetch(queue, true);
+  }
+
+  private Mono<Void> prefetch(MatchmakerQueueInfo queue, boolean allBrackets) {
+    return mapService.getMatchmakerBrackets(queue).flatMap(brackets -> {
+      List<List<MapVersion>> bracketsByDistance = sortByDistanceToPlayerBracket(queue, brackets);
+      if (bracketsByDistance.isEmpty()) {
+        return Mono.empty();
+      }
+
+      List<MapVersion> playerBracket = bracketsByDistance.getFirst();
+      Mono<Void> prefetchPlayerBracket = download(playerBracket).then(
+          Mono.fromRunnable(() -> updateMapPoolReady(queue, playerBracket)));
+      if (!allBrackets) {
+        return prefetchPlayerBracket;
+      }
+      return prefetchPlayerBracket.then(download(bracketsByDistance.stream().skip(1).flatMap(List::stream).toList()));
+    }).onErrorResume(throwable -> {
+      log.warn("Could not prefetch maps of queue `{}`", queue.getTechnicalName(), throwable);
+      return Mono.empty();
+    });
+  }
+
+  private List<List<MapVersion>> sortByDistanceToPlayerBracket(MatchmakerQueueInfo queue,
+                                                              Map<MatchmakerQueueMapPool, List<MapVersion>> brackets) {
+    List<MatchmakerQueueMapPool> pools = brackets.keySet().stream().sorted(MAP_POOL_COMPARATOR).toList();
+    int playerPoolIndex = getPlayerPoolIndex(queue, pools);
+    return pools.stream()
+                .sorted(Comparator.comparingInt(pool -> Math.abs(pools.indexOf(pool) - playerPoolIndex)))
+                .map(brackets::get)
+                .toList();
+  }
+
+  private int getPlayerPoolIndex(MatchmakerQueueInfo queue, List<MatchmakerQueueMapPool> pools) {
+    PlayerInfo player = playerService.getCurrentPlayer();
+    if (player == null || queue.getLeaderboard() == null) {
+      return 0;
+    }
+
+    int rating = RatingUtil.getLeaderboardRating(player, queue.getLeaderboard());
+    for (int i = 0; i < pools.size(); i++) {
+      MatchmakerQueueMapPool pool = pools.get(i);
+      if ((pool.minRating() == null || pool.minRating() < rating) && (pool.maxRating() == null
+          || pool.maxRating() > rating)) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  private Mono<Void> download(List<MapVersion> mapVersions) {
+    return Flux.fromIterable(mapVersions)
+               .distinct(MapVersion::folderName)
+               .filter(mapVersion -> !mapGeneratorService.isGeneratedMap(mapVersion.folderName()))
+               .filter(mapVersion -> !mapService.isInstalled(mapVersion))
+               .flatMap(this::downloadMap, DOWNLOAD_CONCURRENCY)
+               .then();
+  }
+
+  /**
+   * Downloads the map. Failed downloads are tried again by the next prefetch.
+   */
+  private Mono<Void> downloadMap(MapVersion mapVersion) {
+    return mapService.prefetchMap(mapVersion).onErrorResume(throwable -> {
+      log.info("Could not prefetch map `{}`", mapVersion.folderName(), throwable);
+      return Mono.empty();
+    });
+  }
+
+  private void updateMapPoolReady(MatchmakerQueueInfo queue, List<MapVersion> playerBracket) {
+    boolean ready = playerBracket.stream()
+                                 .allMatch(mapVersion -> mapGeneratorService.isGeneratedMap(mapVersion.folderName())
+                                     || mapService.isInstalled(mapVersion));
+    log.debug("Map pool of queue `{}` is {}", queue.getTechnicalName(), ready ? "ready" : "not ready");
+    fxApplicationThreadExecutor.execute(() -> queue.setMapPoolReady(ready));
+  }
+}
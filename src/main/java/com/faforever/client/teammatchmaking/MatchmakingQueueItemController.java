@@ -50,6 +50,7 @@ public class MatchmakingQueueItemController extends NodeController<VBox> {
   public VBox queueItemRoot;
   public Label playersInQueueLabel;
   public Label activeGamesLabel;
+  public Label mapPoolReadyLabel;
   public Label queuePopTimeLabel;
   public ToggleButton selectButton;
   public Label searchingLabel;
@@ -65,7 +66,7 @@ public class MatchmakingQueueItemController extends NodeController<VBox> {
 
   @Override
   protected void onInitialize() {
-    JavaFxUtil.bindManagedToVisible(matchFoundLabel, matchStartingLabel, matchCancelledLabel);
+    JavaFxUtil.bindManagedToVisible(matchFoundLabel, matchStartingLabel, matchCancelledLabel, mapPoolReadyLabel);
 
     queue.when(showing).subscribe(((oldValue, newValue) -> {
       if (oldValue != null) {
@@ -79,6 +80,9 @@ public class MatchmakingQueueItemController extends NodeController<VBox> {
 
     selectButton.setTextOverrun(OverrunStyle.WORD_ELLIPSIS);
     mapPoolButton.setText(i18n.get("teammatchmaking.mapPool").toUpperCase());
+    mapPoolReadyLabel.setText(i18n.get("teammatchmaking.mapPoolReady").toUpperCase());
+    mapPoolReadyLabel.visibleProperty()
+                     .bind(queue.flatMap(MatchmakerQueueInfo::mapPoolReadyProperty).orElse(false).when(showing));
 
     ObservableValue<MatchingStatus> matchingStatus = queue.flatMap(MatchmakerQueueInfo::matchingStatusProperty);
     searchingLabel.visibleProperty()
@@ -18,7 +18,6 @@ import com.faforever.client.game.GameService;
 import com.faforever.client.game.PlayerGameStatus;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.main.event.OpenTeamMatchmakingEvent;
-import com.faforever.client.map.MapService;
 import com.faforever.client.mapstruct.MatchmakerMapper;
 import com.faforever.client.navigation.NavigationHandler;
 import com.faforever.client.net.ConnectionState;
@@ -93,7 +92,6 @@ import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 @RequiredArgsConstructor
 public class TeamMatchmakingService implements InitializingBean {
 
-  private final MapService mapService;
   private final FeaturedModService featuredModService;
   private final PlayerService playerService;
   private final NotificationService notificationService;
@@ -112,6 +110,7 @@ public class TeamMatchmakingService implements InitializingBean {
   private final MatchmakerPrefs matchmakerPrefs;
   private final GamePathHandler gamePathHandler;
   private final AudioService audioService;
+  private final MatchmakerMapPrefetcher matchmakerMapPrefetcher;
 
   @Getter
   private final PartyInfo party = new PartyInfo();
@@ -382,7 +381,8 @@ public class TeamMatchmakingService implements InitializingBean {
                          .doOnNext(queue -> queue.setSelected(
                              !matchmakerPrefs.getUnselectedQueueIds().contains(queue.getId())))
                          .doOnNext(queue -> gameService.getGames().subscribe(() -> updateMatchmakerGameCount(queue)))
-                         .doOnNext(queue -> nameToQueue.put(queue.getTechnicalName(), queue));
+                         .doOnNext(queue -> nameToQueue.put(queue.getTechnicalName(), queue))
+                         .doOnNext(queue -> matchmakerMapPrefetcher.prefetchBracket(queue).subscribe());
   }
 
   public CompletableFuture<Boolean> joinQueues() {
@@ -432,8 +432,9 @@ public class TeamMatchmakingService implements InitializingBean {
   }
 
   private CompletableFuture<Boolean> joinQueue(MatchmakerQueueInfo queue) {
-    return mapService.downloadAllMatchmakerMaps(queue)
-                     .then(Mono.fromRunnable(() -> fafServerAccessor.gameMatchmaking(queue, MatchmakerState.START)))
+    // Maps which are still missing when a match is found are downloaded when the game is launched
+    matchmakerMapPrefetcher.prefetchPool(queue).subscribe();
+    return Mono.fromRunnable(() -> fafServerAccessor.gameMatchmaking(queue, MatchmakerState.START))
                      .thenReturn(true)
                      .onErrorResume(throwable -> {
                        log.error("Unable to join queue `{}`", queue.getTechnicalName(), throwable);
@@ -4,6 +4,7 @@ import com.faforever.client.i18n.I18n;
 import com.faforever.client.os.OperatingSystem;
 import com.faforever.client.preferences.PreferencesService;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.maven.artifact.versioning.ComparableVersion;
@@ -29,13 +30,21 @@ public class CheckForBetaUpdateTask extends CompletableTask<UpdateInfo> {
 
   public CheckForBetaUpdateTask(OperatingSystem operatingSystem, PreferencesService preferencesService, I18n i18n,
                                 WebClient defaultWebClient) {
-    super(Priority.LOW);
+    super(Priority.LOW, TaskLane.NETWORK);
     this.operatingSystem = operatingSystem;
     this.preferencesService = preferencesService;
     this.i18n = i18n;
     defaulWebClient = defaultWebClient;
   }
 
+  /**
+   * The pre-release check only results in a notification, so it can wait for the next login if a game is started.
+   */
+  @Override
+  public boolean isPreemptible() {
+    return true;
+  }
+
   @Override
   protected UpdateInfo call() throws Exception {
     updateTitle(i18n.get("clientUpdateCheckTask.title"));
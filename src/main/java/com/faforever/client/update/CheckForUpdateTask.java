@@ -7,6 +7,7 @@ import com.faforever.client.os.OsUnknown;
 import com.faforever.client.os.OsWindows;
 import com.faforever.client.preferences.PreferencesService;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.TaskLane;
 import com.faforever.client.update.ClientConfiguration.ReleaseInfo;
 import com.faforever.client.util.FileSizeReader;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +28,7 @@ public class CheckForUpdateTask extends CompletableTask<UpdateInfo> {
   private final OperatingSystem operatingSystem;
 
   public CheckForUpdateTask(I18n i18n, PreferencesService preferencesService, FileSizeReader fileSizeReader, OperatingSystem operatingSystem) {
-    super(Priority.LOW);
+    super(Priority.LOW, TaskLane.NETWORK);
     this.i18n = i18n;
     this.preferencesService = preferencesService;
     this.fileSizeReader  = fileSizeReader;
@@ -23,6 +23,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 import static com.faforever.client.notification.Severity.INFO;
@@ -126,7 +127,11 @@ public class ClientUpdateService implements InitializingBean {
           INFO, actions)
       );
     }).exceptionally(throwable -> {
-      log.error("Client update check failed", throwable);
+      if (throwable.getCause() instanceof CancellationException) {
+        log.info("Client update check was cancelled");
+      } else {
+        log.error("Client update check failed", throwable);
+      }
       return null;
     });
   }
@@ -1,23 +1,20 @@
 package com.faforever.client.update;
 
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
-import com.faforever.commons.io.ByteCopier;
+import com.faforever.client.task.TaskLane;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.Map;
 
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
@@ -26,15 +23,17 @@ public class DownloadUpdateTask extends CompletableTask<Path> {
 
   private final I18n i18n;
   private final DataPrefs dataPrefs;
+  private final DownloadService downloadService;
 
   private UpdateInfo updateInfo;
 
   @Autowired
-  public DownloadUpdateTask(I18n i18n, DataPrefs dataPrefs) {
-    super(Priority.MEDIUM);
+  public DownloadUpdateTask(I18n i18n, DataPrefs dataPrefs, DownloadService downloadService) {
+    super(Priority.MEDIUM, TaskLane.NETWORK);
 
     this.i18n = i18n;
     this.dataPrefs = dataPrefs;
+    this.downloadService = downloadService;
   }
 
   @Override
@@ -46,25 +45,7 @@ public class DownloadUpdateTask extends CompletableTask<Path> {
     Path targetFile = updateDirectory.resolve(updateInfo.fileName());
     Files.createDirectories(targetFile.getParent());
 
-    Path tempFile = Files.createTempFile(targetFile.getParent(), "update", null);
-
-      ResourceLocks.acquireDownloadLock();
-    try (InputStream inputStream = url.openStream(); OutputStream outputStream = Files.newOutputStream(tempFile)) {
-      ByteCopier.from(inputStream)
-          .to(outputStream)
-                .totalBytes(updateInfo.size())
-          .listener(this::updateProgress)
-          .copy();
-
-      Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
-    } finally {
-      ResourceLocks.freeDownloadLock();
-      try {
-        Files.deleteIfExists(tempFile);
-      } catch (IOException e) {
-        log.warn("Could not delete temporary file: " + tempFile.toAbsolutePath(), e);
-      }
-    }
+    downloadService.downloadFile(url, Map.of(), targetFile, this::updateProgress);
 
     return targetFile;
   }
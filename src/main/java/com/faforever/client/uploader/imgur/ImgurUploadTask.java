@@ -4,7 +4,10 @@ import com.faforever.client.config.ClientProperties;
 import com.faforever.client.config.ClientProperties.Imgur.Upload;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.task.CompletableTask;
-import com.faforever.client.task.ResourceLocks;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.task.IoResource;
+import com.faforever.client.task.TaskLane;
 import com.faforever.commons.io.ByteCopier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.io.BaseEncoding;
@@ -40,6 +43,7 @@ public class ImgurUploadTask extends CompletableTask<String> implements Initiali
 
   private final I18n i18n;
   private final ClientProperties clientProperties;
+  private final IoArbiter ioArbiter;
 
   private Image image;
   private int maxUploadSize;
@@ -47,12 +51,14 @@ public class ImgurUploadTask extends CompletableTask<String> implements Initiali
   private String clientId;
 
   @Autowired
-  public ImgurUploadTask(I18n i18n, ClientProperties clientProperties, ObjectMapper objectMapper) {
-    super(Priority.HIGH);
+  public ImgurUploadTask(I18n i18n, ClientProperties clientProperties, ObjectMapper objectMapper,
+                         IoArbiter ioArbiter) {
+    super(Priority.HIGH, TaskLane.NETWORK);
 
     this.i18n = i18n;
     this.clientProperties = clientProperties;
     this.objectMapper = objectMapper;
+    this.ioArbiter = ioArbiter;
   }
 
   @Override
@@ -90,16 +96,14 @@ public class ImgurUploadTask extends CompletableTask<String> implements Initiali
     urlConnection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
     urlConnection.connect();
 
-    ResourceLocks.acquireUploadLock();
-    try (OutputStream outputStream = urlConnection.getOutputStream()) {
+    try (Permit _ = ioArbiter.acquire(IoResource.UPLOADS);
+         OutputStream outputStream = urlConnection.getOutputStream()) {
       byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
       ByteCopier.from(new ByteArrayInputStream(bytes))
           .to(outputStream)
           .totalBytes(bytes.length)
           .listener(this::updateProgress)
           .copy();
-    } finally {
-      ResourceLocks.freeUploadLock();
     }
 
     StringBuilder stringBuilder = new StringBuilder();
@@ -0,0 +1,424 @@
+package com.faforever.client.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the {@code ScenarioInfo} of a map's {@code *_scenario.lua} without executing it. Scenario files are plain
+ * assignments of table constructors, which this parser understands directly; anything beyond that (expressions, local
+ * variables, function definitions, ...) is reported as unsupported so that callers can fall back to
+ * {@link LuaUtil#loadFile(Path)}.
+ */
+public final class ScenarioLuaParser {
+
+  private final String source;
+  private int position;
+
+  private ScenarioLuaParser(String source) {
+    this.source = source;
+  }
+
+  /**
+   * Returns the scenario info of the given file, or an empty optional if the file uses syntax this parser does not
+   * support or lacks one of the required fields.
+   */
+  public static Optional<ScenarioInfo> parse(Path scenarioFile) throws IOException {
+    return parse(new String(Files.readAllBytes(scenarioFile), StandardCharsets.UTF_8));
+  }
+
+  public static Optional<ScenarioInfo> parse(String source) {
+    try {
+      return Optional.ofNullable(new ScenarioLuaParser(source).parseScenarioInfo());
+    } catch (UnsupportedSyntaxException e) {
+      return Optional.empty();
+    }
+  }
+
+  private ScenarioInfo parseScenarioInfo() {
+    Object scenarioInfo = null;
+    skipWhitespaceAndComments();
+    while (position < source.length()) {
+      String name = readIdentifier();
+      skipWhitespaceAndComments();
+      expect('=');
+      Object value = readValue();
+      if ("ScenarioInfo".equals(name)) {
+        scenarioInfo = value;
+      }
+      skipWhitespaceAndComments();
+      if (peek() == ';') {
+        position++;
+        skipWhitespaceAndComments();
+      }
+    }
+
+    if (!(scenarioInfo instanceof Map<?, ?> info)) {
+      return null;
+    }
+
+    Map<?, ?> size = info.get("size") instanceof Map<?, ?> sizeTable ? sizeTable : Map.of();
+    Object armies = path(info, "Configurations", "standard", "teams", 1.0, "armies");
+    if (!(armies instanceof Map<?, ?> armiesTable)) {
+      return null;
+    }
+
+    return new ScenarioInfo(toLuaString(info.get("name")), toLuaString(info.get("type")),
+                            toLuaString(info.get("description")), toInt(size.get(1.0)), toInt(size.get(2.0)),
+                            info.get("map_version") == null ? null : toLuaString(info.get("map_version")),
+                            sequenceLength(armiesTable));
+  }
+
+  private Object readValue() {
+    skipWhitespaceAndComments();
+    char c = peek();
+    Object value;
+    if (c == '{') {
+      value = readTable();
+    } else if (c == '\'' || c == '"') {
+      value = readQuotedString();
+    } else if (c == '[' && isLongBracketStart()) {
+      value = readLongString();
+    } else if (c == '-' || c == '.' || Character.isDigit(c)) {
+      value = readNumber();
+    } else if (isIdentifierStart(c)) {
+      String identifier = readIdentifier();
+      value = switch (identifier) {
+        case "true" -> Boolean.TRUE;
+        case "false" -> Boolean.FALSE;
+        case "nil" -> null;
+        default -> readTypeConstructorCall();
+      };
+    } else {
+      throw new UnsupportedSyntaxException();
+    }
+
+    skipWhitespaceAndComments();
+    char next = peek();
+    if (next != ',' && next != ';' && next != '}' && next != ']' && next != ')' && !isIdentifierStart(next)
+        && next != 0) {
+      // Operators like concatenation or arithmetic need a real interpreter
+      throw new UnsupportedSyntaxException();
+    }
+    return value;
+  }
+
+  /**
+   * Handles calls like {@code STRING('ARMY_9')} or {@code FLOAT(1.0)} which are used to type custom properties, by
+   * returning their single argument.
+   */
+  private Object readTypeConstructorCall() {
+    skipWhitespaceAndComments();
+    if (peek() != '(') {
+      throw new UnsupportedSyntaxException();
+    }
+    position++;
+    Object argument = readValue();
+    skipWhitespaceAndComments();
+    expect(')');
+    return argument;
+  }
+
+  private Map<Object, Object> readTable() {
+    expect('{');
+    Map<Object, Object> table = new HashMap<>();
+    double arrayIndex = 1;
+    while (true) {
+      skipWhitespaceAndComments();
+      char c = peek();
+      if (c == '}') {
+        position++;
+        return table;
+      }
+
+      Object key;
+      if (c == '[' && !isLongBracketStart()) {
+        position++;
+        key = readValue();
+        skipWhitespaceAndComments();
+        expect(']');
+        skipWhitespaceAndComments();
+        expect('=');
+        table.put(key, readValue());
+      } else if (isIdentifierStart(c) && isFieldAssignment()) {
+        key = readIdentifier();
+        skipWhitespaceAndComments();
+        expect('=');
+        table.put(key, readValue());
+      } else {
+        Object value = readValue();
+        if (value != null) {
+          table.put(arrayIndex, value);
+        }
+        arrayIndex++;
+      }
+
+      skipWhitespaceAndComments();
+      c = peek();
+      if (c == ',' || c == ';') {
+        position++;
+      } else if (c != '}') {
+        throw new UnsupportedSyntaxException();
+      }
+    }
+  }
+
+  private boolean isFieldAssignment() {
+    int start = position;
+    readIdentifier();
+    skipWhitespaceAndComments();
+    boolean assignment = peek() == '=' && (position + 1 >= source.length() || source.charAt(position + 1) != '=');
+    position = start;
+    return assignment;
+  }
+
+  private String readQuotedString() {
+    char quote = source.charAt(position++);
+    StringBuilder builder = null;
+    int start = position;
+    while (true) {
+      if (position >= source.length()) {
+        throw new UnsupportedSyntaxException();
+      }
+      char c = source.charAt(position);
+      if (c == quote) {
+        String value = builder == null ? source.substring(start, position) : builder.append(source, start, position)
+                                                                                    .toString();
+        position++;
+        return value;
+      }
+      if (c == '\n') {
+        throw new UnsupportedSyntaxException();
+      }
+      if (c == '\\') {
+        if (builder == null) {
+          builder = new StringBuilder();
+        }
+        builder.append(source, start, position);
+        position++;
+        builder.append(readEscape());
+        start = position;
+        continue;
+      }
+      position++;
+    }
+  }
+
+  private char readEscape() {
+    if (position >= source.length()) {
+      throw new UnsupportedSyntaxException();
+    }
+    char c = source.charAt(position++);
+    return switch (c) {
+      case 'n' -> '\n';
+      case 't' -> '\t';
+      case 'r' -> '\r';
+      case '\\', '"', '\'' -> c;
+      case '\n' -> '\n';
+      default -> throw new UnsupportedSyntaxException();
+    };
+  }
+
+  private boolean isLongBracketStart() {
+    int index = position + 1;
+    while (index < source.length() && source.charAt(index) == '=') {
+      index++;
+    }
+    return index < source.length() && source.charAt(index) == '[';
+  }
+
+  private String readLongString() {
+    int level = readLongBracketLevel();
+    String terminator = "]" + "=".repeat(level) + "]";
+    int end = source.indexOf(terminator, position);
+    if (end == -1) {
+      throw new UnsupportedSyntaxException();
+    }
+    int start = position;
+    // A newline directly after the opening bracket is skipped
+    if (start < end && source.charAt(start) == '\r') {
+      start++;
+    }
+    if (start < end && source.charAt(start) == '\n') {
+      start++;
+    }
+    position = end + terminator.length();
+    return source.substring(start, end);
+  }
+
+  private int readLongBracketLevel() {
+    position++;
+    int level = 0;
+    while (peek() == '=') {
+      level++;
+      position++;
+    }
+    expect('[');
+    return level;
+  }
+
+  private Double readNumber() {
+    int start = position;
+    if (peek() == '-') {
+      position++;
+      skipWhitespaceAndComments();
+    }
+    int digitsStart = position;
+    if (source.startsWith("0x", position) || source.startsWith("0X", position)) {
+      position += 2;
+      int hexStart = position;
+      while (position < source.length() && Character.digit(source.charAt(position), 16) != -1) {
+        position++;
+      }
+      if (hexStart == position) {
+        throw new UnsupportedSyntaxException();
+      }
+      try {
+        long value = Long.parseLong(source, hexStart, position, 16);
+        return source.charAt(start) == '-' ? (double) -value : (double) value;
+      } catch (NumberFormatException e) {
+        // Literals which don't fit into a long are left to the interpreter
+        throw new UnsupportedSyntaxException();
+      }
+    }
+
+    while (position < source.length()) {
+      char c = source.charAt(position);
+      if (Character.isDigit(c) || c == '.') {
+        position++;
+      } else if ((c == 'e' || c == 'E')) {
+        position++;
+        if (peek() == '+' || peek() == '-') {
+          position++;
+        }
+      } else {
+        break;
+      }
+    }
+    if (digitsStart == position) {
+      throw new UnsupportedSyntaxException();
+    }
+    try {
+      double value = Double.parseDouble(source.substring(digitsStart, position));
+      return source.charAt(start) == '-' ? -value : value;
+    } catch (NumberFormatException e) {
+      throw new UnsupportedSyntaxException();
+    }
+  }
+
+  private String readIdentifier() {
+    skipWhitespaceAndComments();
+    int start = position;
+    if (!isIdentifierStart(peek())) {
+      throw new UnsupportedSyntaxException();
+    }
+    while (position < source.length() && isIdentifierPart(source.charAt(position))) {
+      position++;
+    }
+    return source.substring(start, position);
+  }
+
+  private void skipWhitespaceAndComments() {
+    while (position < source.length()) {
+      char c = source.charAt(position);
+      if (Character.isWhitespace(c)) {
+        position++;
+      } else if (source.startsWith("--", position)) {
+        position += 2;
+        if (peek() == '[' && isLongBracketStart()) {
+          readLongString();
+        } else {
+          int lineEnd = source.indexOf('\n', position);
+          position = lineEnd == -1 ? source.length() : lineEnd + 1;
+        }
+      } else {
+        return;
+      }
+    }
+  }
+
+  private void expect(char expected) {
+    if (peek() != expected) {
+      throw new UnsupportedSyntaxException();
+    }
+    position++;
+  }
+
+  private char peek() {
+    return position < source.length() ? source.charAt(position) : 0;
+  }
+
+  private static boolean isIdentifierStart(char c) {
+    return Character.isLetter(c) || c == '_';
+  }
+
+  private static boolean isIdentifierPart(char c) {
+    return Character.isLetterOrDigit(c) || c == '_';
+  }
+
+  private static Object path(Map<?, ?> table, Object... keys) {
+    Object current = table;
+    for (Object key : keys) {
+      if (!(current instanceof Map<?, ?> currentTable)) {
+        return null;
+      }
+      current = currentTable.get(key);
+    }
+    return current;
+  }
+
+  private static int sequenceLength(Map<?, ?> table) {
+    int length = 0;
+    while (table.containsKey((double) (length + 1))) {
+      length++;
+    }
+    return length;
+  }
+
+  private static int toInt(Object value) {
+    return value instanceof Double number ? number.intValue() : 0;
+  }
+
+  /**
+   * Mirrors {@code LuaValue.toString()}, which prints integral numbers without a fraction.
+   */
+  private static String toLuaString(Object value) {
+    if (value == null) {
+      return "nil";
+    }
+    if (value instanceof Double number) {
+      double doubleValue = number;
+      if (doubleValue == Math.rint(doubleValue) && !Double.isInfinite(doubleValue)) {
+        return String.valueOf((long) doubleValue);
+      }
+    }
+    return value.toString();
+  }
+
+  /**
+   * The subset of {@code ScenarioInfo} the client needs to list a map.
+   *
+   * @param mapVersion the {@code map_version} as string or {@code null} if not set
+   * @param maxPlayers the number of armies in the first team of the standard configuration
+   */
+  public record ScenarioInfo(
+      String name,
+      String type,
+      String description,
+      int width,
+      int height,
+      String mapVersion,
+      int maxPlayers
+  ) {}
+
+  private static class UnsupportedSyntaxException extends RuntimeException {
+
+    UnsupportedSyntaxException() {
+      super(null, null, false, false);
+    }
+  }
+}
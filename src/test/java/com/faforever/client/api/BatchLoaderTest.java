@@ -0,0 +1,99 @@
+package com.faforever.client.api;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class BatchLoaderTest extends ServiceTest {
+
+  private List<Set<Integer>> requestedBatches;
+  private RuntimeException failure;
+
+  private BatchLoader<Integer, String> instance;
+
+  @BeforeEach
+  public void setUp() {
+    requestedBatches = new CopyOnWriteArrayList<>();
+    instance = new BatchLoader<>("Test", Duration.ofMillis(20), 3, this::fetch, value -> Integer.valueOf(value.substring(1)));
+  }
+
+  private Flux<String> fetch(Set<Integer> keys) {
+    requestedBatches.add(Set.copyOf(keys));
+    if (failure != null) {
+      return Flux.error(failure);
+    }
+    // Key 0 does not exist
+    return Flux.fromIterable(keys).filter(key -> key != 0).map(key -> "v" + key).delayElements(Duration.ofMillis(5));
+  }
+
+  @Test
+  public void testLoadsWithinWindowAreBatched() {
+    StepVerifier.create(Mono.zip(instance.load(1), instance.load(2)))
+                .assertNext(values -> {
+                  assertThat(values.getT1(), is("v1"));
+                  assertThat(values.getT2(), is("v2"));
+                })
+                .verifyComplete();
+
+    assertThat(requestedBatches, contains(Set.of(1, 2)));
+    assertThat(instance.getRequestsSaved(), is(1L));
+  }
+
+  @Test
+  public void testInFlightKeysAreDeduplicated() {
+    StepVerifier.create(Flux.merge(instance.load(1), instance.load(1), instance.load(1)))
+                .expectNext("v1", "v1", "v1")
+                .verifyComplete();
+
+    assertThat(requestedBatches, contains(Set.of(1)));
+    assertThat(instance.getLoadCount(), is(3L));
+  }
+
+  @Test
+  public void testLoadManyKeepsOrderAndSplitsAtMaxBatchSize() {
+    StepVerifier.create(instance.loadMany(List.of(5, 4, 3, 2, 1)))
+                .expectNext("v5", "v4", "v3", "v2", "v1")
+                .verifyComplete();
+
+    assertThat(requestedBatches, hasSize(2));
+    assertThat(requestedBatches, containsInAnyOrder(Set.of(5, 4, 3), Set.of(2, 1)));
+  }
+
+  @Test
+  public void testMissingKeyCompletesEmpty() {
+    StepVerifier.create(instance.loadMany(List.of(0, 1))).expectNext("v1").verifyComplete();
+  }
+
+  @Test
+  public void testErrorIsPropagatedToAllLoads() {
+    failure = new IllegalStateException("API down");
+
+    StepVerifier.create(instance.load(1)).verifyErrorMessage("API down");
+    StepVerifier.create(instance.load(1)).verifyErrorMessage("API down");
+
+    assertThat(requestedBatches, hasSize(2));
+  }
+
+  @Test
+  public void testKeyIsRequestedAgainAfterCompletion() {
+    StepVerifier.create(instance.load(1)).expectNext("v1").verifyComplete();
+    StepVerifier.create(instance.load(1)).expectNext("v1").verifyComplete();
+
+    assertThat(requestedBatches, hasSize(2));
+    assertThat(instance.getBatchCount(), is(2L));
+  }
+}
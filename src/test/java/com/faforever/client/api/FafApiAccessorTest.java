@@ -21,8 +21,10 @@ import com.github.rutledgepaulv.qbuilders.builders.QBuilder;
 import com.github.rutledgepaulv.qbuilders.visitors.RSQLVisitor;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +44,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
@@ -316,6 +319,43 @@ public class FafApiAccessorTest extends ServiceTest {
     assertThat(requestedUrl.queryParameter("filter"), containsString("MyVeryOwnFilter"));
   }
 
+  @Test
+  public void testGetAllFetchesRemainingPagesInOrder() throws Exception {
+    mockApi.setDispatcher(new PagedGamesDispatcher(3));
+
+    StepVerifier.create(instance.getAll(ElideNavigator.of(Game.class).collection().pageSize(2)).map(Game::getId))
+        .expectNext("1", "2", "3", "4", "5", "6")
+        .verifyComplete();
+
+    assertEquals(3, mockApi.getRequestCount());
+    HttpUrl firstRequestUrl = mockApi.takeRequest().getRequestUrl();
+    assertEquals("1", firstRequestUrl.queryParameter("page[number]"));
+    assertThat(firstRequestUrl.query(), containsString("page[totals]"));
+  }
+
+  @Test
+  public void testGetAllStopsFetchingWhenCancelled() throws Exception {
+    mockApi.setDispatcher(new PagedGamesDispatcher(3));
+
+    StepVerifier.create(instance.getAll(ElideNavigator.of(Game.class).collection().pageSize(2)).take(2))
+        .expectNextCount(2)
+        .verifyComplete();
+
+    assertEquals(1, mockApi.getRequestCount());
+  }
+
+  @Test
+  public void testGetAllWithCustomFilter() throws Exception {
+    mockApi.setDispatcher(new PagedGamesDispatcher(2));
+
+    StepVerifier.create(instance.getAll(ElideNavigator.of(Game.class).collection().pageSize(2), "MyVeryOwnFilter"))
+        .expectNextCount(4)
+        .verifyComplete();
+
+    assertThat(mockApi.takeRequest().getRequestUrl().queryParameter("filter"), containsString("MyVeryOwnFilter"));
+    assertThat(mockApi.takeRequest().getRequestUrl().queryParameter("filter"), containsString("MyVeryOwnFilter"));
+  }
+
   @Test
   public void testGetManyBadRequest() throws Exception {
     Error error = new Error();
@@ -417,4 +457,30 @@ public class FafApiAccessorTest extends ServiceTest {
     StepVerifier.create(instance.getMany(ElideNavigator.of(Game.class).collection()))
         .verifyError();
   }
+
+  /**
+   * Serves pages of two games each, delaying the second page so that it completes after the later ones.
+   */
+  private static class PagedGamesDispatcher extends Dispatcher {
+
+    private final int totalPages;
+
+    private PagedGamesDispatcher(int totalPages) {
+      this.totalPages = totalPages;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+      int page = Integer.parseInt(request.getRequestUrl().queryParameter("page[number]"));
+      String body = """
+          {"data": [{"type": "game", "id": "%d"}, {"type": "game", "id": "%d"}],
+           "meta": {"page": {"number": %d, "totalPages": %d}}}""".formatted(page * 2 - 1, page * 2, page, totalPages);
+      MockResponse response = new MockResponse().setBody(body)
+          .addHeader("Content-Type", "application/vnd.api+json;charset=utf-8");
+      if (page == 2) {
+        response.setBodyDelay(200, TimeUnit.MILLISECONDS);
+      }
+      return response;
+    }
+  }
 }
@@ -0,0 +1,195 @@
+package com.faforever.client.api;
+
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.config.JsonApiConfig;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.test.ServiceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.ResourceConverter;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class HttpResponseCacheTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+
+  private MockWebServer mockApi;
+  private ClientProperties clientProperties;
+  private DataPrefs dataPrefs;
+  private JsonApiReader jsonApiReader;
+  private JsonApiWriter jsonApiWriter;
+
+  private HttpResponseCache instance;
+  private WebClient webClient;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    mockApi = new MockWebServer();
+    mockApi.start();
+    clientProperties = new ClientProperties();
+    dataPrefs = new DataPrefs();
+    dataPrefs.setBaseDataDirectory(tempDirectory);
+    ResourceConverter resourceConverter = new JsonApiConfig().resourceConverter(new ObjectMapper());
+    jsonApiReader = new JsonApiReader(resourceConverter);
+    jsonApiWriter = new JsonApiWriter(resourceConverter);
+
+    createInstance();
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    mockApi.shutdown();
+  }
+
+  private void createInstance() {
+    instance = new HttpResponseCache(dataPrefs, clientProperties, jsonApiReader, jsonApiWriter);
+    webClient = WebClient.builder()
+                         .baseUrl(String.format("http://localhost:%s", mockApi.getPort()))
+                         .filter(instance)
+                         .build();
+  }
+
+  private void get(String path, String expectedBody) {
+    StepVerifier.create(webClient.get().uri(path).retrieve().bodyToMono(String.class))
+                .expectNext(expectedBody)
+                .verifyComplete();
+  }
+
+  @Test
+  public void testFreshResponseIsServedFromCache() {
+    mockApi.enqueue(new MockResponse().setBody("leaderboards").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+    get("/data/leaderboard", "leaderboards");
+    get("/data/leaderboard", "leaderboards");
+
+    assertThat(mockApi.getRequestCount(), is(1));
+    assertThat(instance.getHitCount(), is(1L));
+    assertThat(instance.getMissCount(), is(1L));
+  }
+
+  @Test
+  public void testStaleResponseIsRevalidated() throws Exception {
+    mockApi.enqueue(new MockResponse().setBody("pools")
+                                      .addHeader(HttpHeaders.CACHE_CONTROL, "no-cache")
+                                      .addHeader(HttpHeaders.ETAG, "\"1\""));
+    mockApi.enqueue(new MockResponse().setResponseCode(304));
+
+    get("/data/matchmakerQueue", "pools");
+    get("/data/matchmakerQueue", "pools");
+
+    mockApi.takeRequest(1, TimeUnit.SECONDS);
+    RecordedRequest revalidation = mockApi.takeRequest(1, TimeUnit.SECONDS);
+    assertThat(revalidation.getHeader(HttpHeaders.IF_NONE_MATCH), is("\"1\""));
+    assertThat(instance.getRevalidationCount(), is(1L));
+  }
+
+  @Test
+  public void testChangedResponseReplacesCachedOne() {
+    mockApi.enqueue(new MockResponse().setBody("old").addHeader(HttpHeaders.ETAG, "\"1\""));
+    mockApi.enqueue(new MockResponse().setBody("new").addHeader(HttpHeaders.ETAG, "\"2\""));
+    mockApi.enqueue(new MockResponse().setResponseCode(304));
+
+    get("/data/featuredMod", "old");
+    get("/data/featuredMod", "new");
+    get("/data/featuredMod", "new");
+
+    assertThat(instance.getMissCount(), is(2L));
+    assertThat(instance.getRevalidationCount(), is(1L));
+  }
+
+  @Test
+  public void testNoStoreAndCurrentUserAreNotCached() throws Exception {
+    mockApi.enqueue(new MockResponse().setBody("secret").addHeader(HttpHeaders.CACHE_CONTROL, "no-store, max-age=60"));
+    mockApi.enqueue(new MockResponse().setBody("secret"));
+    mockApi.enqueue(new MockResponse().setBody("me").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+    mockApi.enqueue(new MockResponse().setBody("me"));
+
+    get("/data/secret", "secret");
+    get("/data/secret", "secret");
+    get("/me", "me");
+    get("/me", "me");
+
+    assertThat(mockApi.getRequestCount(), is(4));
+    assertThat(instance.getSize(), is(0L));
+    mockApi.takeRequest(1, TimeUnit.SECONDS);
+    assertThat(mockApi.takeRequest(1, TimeUnit.SECONDS).getHeader(HttpHeaders.IF_NONE_MATCH), is(nullValue()));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedResponseIsEvicted() throws Exception {
+    clientProperties.getApi().setResponseCacheSize(10);
+    mockApi.enqueue(new MockResponse().setBody("12345").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+    mockApi.enqueue(new MockResponse().setBody("67890").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+    mockApi.enqueue(new MockResponse().setBody("abcde").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+    mockApi.enqueue(new MockResponse().setBody("67890").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+    get("/first", "12345");
+    Thread.sleep(5);
+    get("/second", "67890");
+    Thread.sleep(5);
+    get("/first", "12345");
+    Thread.sleep(5);
+    get("/third", "abcde");
+    get("/first", "12345");
+    get("/second", "67890");
+
+    assertThat(mockApi.getRequestCount(), is(4));
+    assertThat(instance.getSize(), is(10L));
+  }
+
+  @Test
+  public void testResponsesSurviveRestart() {
+    mockApi.enqueue(new MockResponse().setBody("maps").addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+    get("/data/map", "maps");
+    instance.destroy();
+    createInstance();
+    get("/data/map", "maps");
+
+    assertThat(mockApi.getRequestCount(), is(1));
+    assertThat(instance.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void testExpireAllForcesRevalidation() {
+    mockApi.enqueue(new MockResponse().setBody("maps")
+                                      .addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                                      .addHeader(HttpHeaders.LAST_MODIFIED, "Sat, 17 Oct 2026 10:00:00 GMT"));
+    mockApi.enqueue(new MockResponse().setResponseCode(304));
+
+    get("/data/map", "maps");
+    instance.expireAll();
+    get("/data/map", "maps");
+
+    assertThat(mockApi.getRequestCount(), is(2));
+    assertThat(instance.getRevalidationCount(), is(1L));
+  }
+
+  @Test
+  public void testExpiry() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setCacheControl("public, max-age=30");
+    assertThat(HttpResponseCache.getExpiry(headers, 1000), is(31_000L));
+
+    headers.setCacheControl("max-age=30, no-cache");
+    assertThat(HttpResponseCache.getExpiry(headers, 1000), is(1000L));
+
+    assertThat(HttpResponseCache.getExpiry(new HttpHeaders(), 1000), is(1000L));
+  }
+}
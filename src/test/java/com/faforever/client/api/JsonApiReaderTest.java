@@ -0,0 +1,94 @@
+package com.faforever.client.api;
+
+import com.faforever.client.config.JsonApiConfig;
+import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.api.dto.Player;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jasminb.jsonapi.JSONAPIDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+public class JsonApiReaderTest extends ServiceTest {
+
+  private static final String PLAYERS = """
+      {"data": [
+        {"type": "player", "id": "1", "attributes": {"login": "Alpha"}},
+        {"type": "player", "id": "2", "attributes": {"login": "Bravo"}},
+        {"type": "player", "id": "3", "attributes": {"login": "Charlie"}}
+      ]}""";
+
+  private JsonApiReader instance;
+
+  @BeforeEach
+  public void setUp() {
+    instance = new JsonApiReader(new JsonApiConfig().resourceConverter(new ObjectMapper()));
+  }
+
+  @Test
+  public void testReadCollectionSplitIntoManyBuffers() {
+    StepVerifier.create(instance.read(ResolvableType.forClass(Player.class), response(PLAYERS, 7), Map.of())
+                                .cast(Player.class)
+                                .map(Player::getLogin))
+                .expectNext("Alpha", "Bravo", "Charlie")
+                .verifyComplete();
+  }
+
+  @Test
+  public void testReadSingleEntity() {
+    String player = """
+        {"data": {"type": "player", "id": "1", "attributes": {"login": "Alpha"}}}""";
+
+    StepVerifier.create(instance.readMono(ResolvableType.forClass(Player.class), response(player, 16), Map.of()))
+                .assertNext(entity -> assertThat(((Player) entity).getLogin(), is("Alpha")))
+                .verifyComplete();
+  }
+
+  @Test
+  public void testReadDocument() {
+    StepVerifier.create(instance.readMono(ResolvableType.forClass(JSONAPIDocument.class), response(PLAYERS, 64),
+                                          Map.of()))
+                .assertNext(document -> {
+                  assertThat(document, instanceOf(JSONAPIDocument.class));
+                  List<?> players = (List<?>) ((JSONAPIDocument<?>) document).get();
+                  assertThat(players.stream().map(player -> ((Player) player).getLogin()).toList(),
+                             contains("Alpha", "Bravo", "Charlie"));
+                })
+                .verifyComplete();
+  }
+
+  @Test
+  public void testEmptyBody() {
+    StepVerifier.create(instance.read(ResolvableType.forClass(Player.class), response("", 1), Map.of()))
+                .verifyComplete();
+  }
+
+  private MockClientHttpResponse response(String body, int chunkSize) {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    List<DataBuffer> buffers = new ArrayList<>();
+    for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+      byte[] chunk = new byte[Math.min(chunkSize, bytes.length - offset)];
+      System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+      buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+    }
+    MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+    response.setBody(Flux.fromIterable(buffers));
+    return response;
+  }
+}
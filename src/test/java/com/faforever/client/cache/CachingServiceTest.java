@@ -1,5 +1,6 @@
 package com.faforever.client.cache;
 
+import com.faforever.client.api.HttpResponseCache;
 import com.faforever.client.test.ServiceTest;
 import com.faforever.client.user.LoginService;
 import javafx.beans.property.BooleanProperty;
@@ -26,6 +27,8 @@ public class CachingServiceTest extends ServiceTest {
   private LoginService loginService;
   @Mock
   private CacheManager cacheManager;
+  @Mock
+  private HttpResponseCache httpResponseCache;
 
   @Test
   public void testOnLoginStatusChange() throws Exception {
@@ -41,5 +44,6 @@ public class CachingServiceTest extends ServiceTest {
     loggedIn.set(false);
 
     verify(cache).clear();
+    verify(httpResponseCache).expireAll();
   }
 }
@@ -13,6 +13,7 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
@@ -60,6 +61,28 @@ public class ChatChannelTest extends DomainTest {
     assertThat(channel.getMessages(), contains(message3));
   }
 
+  @Test
+  public void testMessageMaxPrunesOldestRegardlessOfInsertionOrder() {
+    ChatChannel channel = new ChatChannel("#test");
+    ChatChannelUser sender = ChatChannelUserBuilder.create("", channel).defaultValues().get();
+    channel.setMaxNumMessages(2);
+    Instant now = Instant.now();
+    ChatMessage newest = new ChatMessage("1", now, sender, "1", Type.MESSAGE, null);
+    ChatMessage oldest = new ChatMessage("2", now.minusSeconds(2), sender, "2", Type.MESSAGE, null);
+    ChatMessage middle = new ChatMessage("3", now.minusSeconds(1), sender, "3", Type.MESSAGE, null);
+    channel.addMessage(newest);
+    channel.addMessage(oldest);
+    channel.addMessage(middle);
+
+    assertThat(channel.getMessages(), containsInAnyOrder(newest, middle));
+    assertTrue(channel.getMessage("2").isEmpty());
+
+    channel.removeMessage("3");
+    channel.addMessage(oldest);
+
+    assertThat(channel.getMessages(), containsInAnyOrder(newest, oldest));
+  }
+
   @Test
   public void testTypingUsers() {
     ChatChannel channel = new ChatChannel("#test");
@@ -0,0 +1,83 @@
+package com.faforever.client.chat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class ChatModelDispatcherTest {
+
+  private final List<Runnable> scheduledDrains = new ArrayList<>();
+  private final ChatModelDispatcher instance = new ChatModelDispatcher(scheduledDrains::add);
+
+  @Test
+  public void testMutationsAreAppliedInOneBatch() {
+    List<Integer> applied = new ArrayList<>();
+
+    instance.dispatch(() -> applied.add(1));
+    instance.dispatch(() -> applied.add(2));
+    instance.dispatch(() -> applied.add(3));
+
+    assertThat(scheduledDrains, hasSize(1));
+    assertThat(applied, empty());
+
+    scheduledDrains.removeFirst().run();
+
+    assertThat(applied, contains(1, 2, 3));
+    assertThat(instance.getBatchCount(), is(1L));
+    assertThat(instance.getMutationCount(), is(3L));
+    assertThat(instance.getMaxBatchSize(), is(3L));
+  }
+
+  @Test
+  public void testNewDrainIsScheduledAfterBatch() {
+    instance.dispatch(() -> {});
+    scheduledDrains.removeFirst().run();
+
+    instance.dispatch(() -> {});
+
+    assertThat(scheduledDrains, hasSize(1));
+    scheduledDrains.removeFirst().run();
+    assertThat(instance.getBatchCount(), is(2L));
+  }
+
+  @Test
+  public void testLargeBatchIsSplitAcrossDrains() {
+    List<Integer> applied = new ArrayList<>();
+    for (int i = 0; i < ChatModelDispatcher.MAX_BATCH_SIZE + 1; i++) {
+      int value = i;
+      instance.dispatch(() -> applied.add(value));
+    }
+
+    scheduledDrains.removeFirst().run();
+
+    assertThat(applied.size(), lessThanOrEqualTo(ChatModelDispatcher.MAX_BATCH_SIZE));
+    assertThat(scheduledDrains, hasSize(1));
+
+    while (!scheduledDrains.isEmpty()) {
+      scheduledDrains.removeFirst().run();
+    }
+    assertThat(applied, hasSize(ChatModelDispatcher.MAX_BATCH_SIZE + 1));
+    assertThat(applied.getLast(), is(ChatModelDispatcher.MAX_BATCH_SIZE));
+  }
+
+  @Test
+  public void testFailingMutationDoesNotDropBatch() {
+    List<Integer> applied = new ArrayList<>();
+
+    instance.dispatch(() -> {
+      throw new IllegalStateException("test");
+    });
+    instance.dispatch(() -> applied.add(1));
+    scheduledDrains.removeFirst().run();
+
+    assertThat(applied, contains(1));
+  }
+}
@@ -79,6 +79,7 @@ import java.net.InetAddress;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +106,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -801,6 +803,24 @@ public class KittehChatServiceTest extends ServiceTest {
     assertThat(instance.getOrCreateChannel(DEFAULT_CHANNEL_NAME).getUsers(), empty());
   }
 
+  @Test
+  public void testOnDisconnectedAfterQueuedJoin() {
+    connect();
+    List<Runnable> fxRunnables = new ArrayList<>();
+    doAnswer(invocation -> {
+      fxRunnables.add(invocation.getArgument(0));
+      return null;
+    }).when(fxApplicationThreadExecutor).execute(any());
+
+    join(defaultChannel, user1);
+    eventManager.callEvent(new ClientConnectionClosedEvent(realClient, false, null, null));
+    for (int i = 0; i < fxRunnables.size(); i++) {
+      fxRunnables.get(i).run();
+    }
+
+    assertThat(instance.getOrCreateChannel(DEFAULT_CHANNEL_NAME).getUsers(), empty());
+  }
+
   @Test
   public void testClose() {
     instance.destroy();
@@ -0,0 +1,94 @@
+package com.faforever.client.io;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class DirectoryWatcherTest {
+
+  private static final Duration QUIET_PERIOD = Duration.ofMillis(100);
+
+  @TempDir
+  public Path directory;
+
+  private final BlockingQueue<Changes> changes = new LinkedBlockingQueue<>();
+  private DirectoryWatcher instance;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    instance = DirectoryWatcher.start(directory, "test-watcher", QUIET_PERIOD, Duration.ofSeconds(5),
+                                      (created, deleted) -> {
+                                        changes.add(new Changes(created, deleted));
+                                        return Set.of();
+                                      });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    instance.close();
+  }
+
+  @Test
+  public void testCreatedFolderIsReportedOnceSettled() throws Exception {
+    Path mapFolder = Files.createDirectory(directory.resolve("map"));
+    for (int i = 0; i < 5; i++) {
+      Files.writeString(mapFolder.resolve("file" + i), "content");
+      Thread.sleep(QUIET_PERIOD.toMillis() / 2);
+    }
+
+    Changes reported = changes.poll(5, TimeUnit.SECONDS);
+    assertThat(reported.created(), is(Set.of(mapFolder)));
+    assertThat(reported.deleted(), empty());
+    assertThat(changes.poll(QUIET_PERIOD.toMillis() * 3, TimeUnit.MILLISECONDS), nullValue());
+  }
+
+  @Test
+  public void testChangesAreBatched() throws Exception {
+    Path first = Files.createDirectory(directory.resolve("first"));
+    Path second = Files.createDirectory(directory.resolve("second"));
+
+    Changes reported = changes.poll(5, TimeUnit.SECONDS);
+    assertThat(reported.created(), is(Set.of(first, second)));
+
+    Files.delete(first);
+    Files.delete(second);
+
+    reported = changes.poll(5, TimeUnit.SECONDS);
+    assertThat(reported.created(), empty());
+    assertThat(reported.deleted(), is(Set.of(first, second)));
+  }
+
+  @Test
+  public void testUnprocessedFolderIsRetried() throws Exception {
+    instance.close();
+    AtomicInteger attempts = new AtomicInteger();
+    instance = DirectoryWatcher.start(directory, "test-watcher", QUIET_PERIOD, Duration.ofSeconds(5),
+                                      (created, deleted) -> {
+                                        changes.add(new Changes(created, deleted));
+                                        return attempts.incrementAndGet() == 1 ? created : Set.of();
+                                      });
+
+    Path mapFolder = Files.createDirectory(directory.resolve("map"));
+
+    assertThat(changes.poll(5, TimeUnit.SECONDS).created(), is(Set.of(mapFolder)));
+    assertThat(changes.poll(5, TimeUnit.SECONDS).created(), is(Set.of(mapFolder)));
+    assertThat(changes.poll(QUIET_PERIOD.toMillis() * 3, TimeUnit.MILLISECONDS), nullValue());
+  }
+
+  private record Changes(Set<Path> created, Set<Path> deleted) {}
+}
@@ -1,26 +1,90 @@
 package com.faforever.client.io;
 
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.task.IoArbiter;
 import com.faforever.client.test.ServiceTest;
+import com.google.common.hash.Hashing;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
+import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class DownloadServiceTest extends ServiceTest {
   private static final ClassPathResource SAMPLE_FILE = new ClassPathResource("/io/sample-file.txt");
   private static final String SAMPLE_FILE_CHECKSUM = "b53227da4280f0e18270f21dd77c91d0";
+  private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
 
+  @TempDir
+  public Path tempDirectory;
 
+  private MockWebServer mockServer;
+  private ClientProperties clientProperties;
+  private byte[] content;
+  private String contentChecksum;
+  private Path targetFile;
+  private List<String> requestedRanges;
+  private String eTag;
 
-  @InjectMocks
   private DownloadService instance;
 
+  @BeforeEach
+  public void setUp() throws Exception {
+    mockServer = new MockWebServer();
+    mockServer.start();
+
+    content = new byte[100_000];
+    new Random(42).nextBytes(content);
+    contentChecksum = Hashing.md5().hashBytes(content).toString();
+    targetFile = tempDirectory.resolve("file.dat");
+    requestedRanges = new CopyOnWriteArrayList<>();
+    eTag = "\"v1\"";
+
+    clientProperties = new ClientProperties();
+    clientProperties.getDownload().setSegmentSize(30_000);
+    clientProperties.getDownload().setMaxSegments(4);
+
+    HttpClient httpClient = HttpClient.create().resolver(DefaultAddressResolverGroup.INSTANCE);
+    WebClient webClient = WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    instance = new DownloadService(webClient, clientProperties, new IoArbiter());
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    mockServer.shutdown();
+  }
+
   @Test
   public void testDownloadFile() throws Exception {
     Path temp = Files.createTempFile("download", ".dat");
@@ -36,4 +100,207 @@ public class DownloadServiceTest extends ServiceTest {
     assertThrows(ChecksumMismatchException.class, () -> instance.downloadFile(SAMPLE_FILE.getURL(), Map.of(), temp, (processed, total) -> {
     }, "00000000000000000000000000000000"));
   }
+
+  @Test
+  public void testDownloadFileOverHttpInSegments() throws Exception {
+    mockServer.setDispatcher(new RangeDispatcher(false));
+    List<Long> progress = new CopyOnWriteArrayList<>();
+
+    DownloadStatistics statistics = instance.downloadFile(url(), Map.of("hmac", "token"), targetFile,
+                                                          (processed, total) -> progress.add(processed),
+                                                          contentChecksum);
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    // The first request reveals the size, the remaining 70.000 bytes are split into three segments
+    assertThat(statistics.segments(), is(4));
+    assertThat(statistics.transferredBytes(), is((long) content.length));
+    assertThat(requestedRanges, hasItem("bytes=0-29999"));
+    assertThat(requestedRanges.size(), is(4));
+    assertThat(mockServer.takeRequest().getHeader("hmac"), is("token"));
+    assertThat(progress.getLast(), is((long) content.length));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testSmallFileIsDownloadedWithSingleRequest() throws Exception {
+    content = Arrays.copyOf(content, 1000);
+    contentChecksum = Hashing.md5().hashBytes(content).toString();
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    DownloadStatistics statistics = instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {},
+                                                          contentChecksum);
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(statistics.segments(), is(1));
+    assertThat(mockServer.getRequestCount(), is(1));
+  }
+
+  @Test
+  public void testPartialFileIsResumed() throws Exception {
+    clientProperties.getDownload().setMaxSegments(1);
+    Files.write(tempDirectory.resolve("file.dat.part"), Arrays.copyOf(content, 40_000));
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    DownloadStatistics statistics = instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {},
+                                                          contentChecksum);
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(requestedRanges, contains("bytes=40000-"));
+    assertThat(statistics.resumedBytes(), is(40_000L));
+    assertThat(statistics.transferredBytes(), is(60_000L));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testInterruptedDownloadIsResumed() throws Exception {
+    clientProperties.getDownload().setMaxSegments(1);
+    mockServer.setDispatcher(new RangeDispatcher(true));
+
+    instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {}, contentChecksum);
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(mockServer.getRequestCount(), is(2));
+    assertThat(requestedRanges.getFirst(), is(nullValue()));
+    assertThat(requestedRanges.get(1).startsWith("bytes="), is(true));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testServerIgnoringRangeRestartsDownload() throws Exception {
+    Files.write(tempDirectory.resolve("file.dat.part"), new byte[]{1, 2, 3});
+    mockServer.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse().setBody(new Buffer().write(content));
+      }
+    });
+
+    instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {}, contentChecksum);
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testPartialFileIsResumedWithoutChecksumIfValidatorMatches() throws Exception {
+    clientProperties.getDownload().setMaxSegments(1);
+    Files.write(tempDirectory.resolve("file.dat.part"), Arrays.copyOf(content, 40_000));
+    Files.writeString(tempDirectory.resolve("file.dat.part.validator"), eTag);
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    DownloadStatistics statistics = instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {});
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(requestedRanges, contains("bytes=40000-"));
+    assertThat(mockServer.takeRequest().getHeader("If-Range"), is(eTag));
+    assertThat(statistics.resumedBytes(), is(40_000L));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testPartialFileOfChangedFileIsDownloadedAgain() throws Exception {
+    clientProperties.getDownload().setMaxSegments(1);
+    Files.write(tempDirectory.resolve("file.dat.part"), new byte[40_000]);
+    Files.writeString(tempDirectory.resolve("file.dat.part.validator"), "\"v0\"");
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {});
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(mockServer.getRequestCount(), is(1));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testPartialFileWithoutValidatorIsNotResumedWithoutChecksum() throws Exception {
+    clientProperties.getDownload().setMaxSegments(1);
+    Files.write(tempDirectory.resolve("file.dat.part"), new byte[40_000]);
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {});
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(requestedRanges, contains((String) null));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testSegmentsPlannedForDifferentSizeAreDownloadedAgain() throws Exception {
+    Files.write(tempDirectory.resolve("file.dat.part"), Arrays.copyOf(content, 30_000));
+    Files.createFile(tempDirectory.resolve("file.dat.part30000-149999"));
+    Files.writeString(tempDirectory.resolve("file.dat.part.validator"), eTag);
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    instance.downloadFile(url(), Map.of(), targetFile, (processed, total) -> {});
+
+    assertArrayEquals(content, Files.readAllBytes(targetFile));
+    assertThat(requestedRanges, hasItem("bytes=0-29999"));
+    assertNoPartialFiles();
+  }
+
+  @Test
+  public void testBadChecksumOverHttpDeletesPartialFiles() throws Exception {
+    mockServer.setDispatcher(new RangeDispatcher(false));
+
+    assertThrows(ChecksumMismatchException.class, () -> instance.downloadFile(url(), Map.of(), targetFile,
+                                                                              (processed, total) -> {},
+                                                                              "00000000000000000000000000000000"));
+
+    assertThat(Files.exists(targetFile), is(false));
+    assertNoPartialFiles();
+  }
+
+  private URL url() throws Exception {
+    return mockServer.url("/file.dat").url();
+  }
+
+  private void assertNoPartialFiles() throws IOException {
+    try (var files = Files.list(tempDirectory)) {
+      assertThat(files.filter(file -> file.getFileName().toString().contains(".part")).toList().isEmpty(), is(true));
+    }
+  }
+
+  /**
+   * Serves {@link #content} with the ETag {@link #eTag}, honoring range requests like a CDN would.
+   */
+  private class RangeDispatcher extends Dispatcher {
+
+    private final AtomicBoolean disconnectOnce;
+
+    private RangeDispatcher(boolean disconnectOnce) {
+      this.disconnectOnce = new AtomicBoolean(disconnectOnce);
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+      String range = request.getHeader("Range");
+      requestedRanges.add(range);
+
+      String ifRange = request.getHeader("If-Range");
+      MockResponse response;
+      if (range == null || ifRange != null && !ifRange.equals(eTag)) {
+        response = new MockResponse().setBody(new Buffer().write(content));
+      } else {
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (!matcher.matches()) {
+          return new MockResponse().setResponseCode(400);
+        }
+        int start = Integer.parseInt(matcher.group(1));
+        int end = matcher.group(2).isEmpty() ? content.length - 1 : Math.min(Integer.parseInt(matcher.group(2)),
+                                                                             content.length - 1);
+        if (start >= content.length) {
+          return new MockResponse().setResponseCode(416).setHeader("Content-Range", "bytes */" + content.length);
+        }
+        response = new MockResponse().setResponseCode(206)
+            .setHeader("Content-Range", "bytes " + start + "-" + end + "/" + content.length)
+            .setBody(new Buffer().write(content, start, end - start + 1));
+      }
+
+      response.setHeader("ETag", eTag);
+      if (disconnectOnce.compareAndSet(true, false)) {
+        response.setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+      }
+      return response;
+    }
+  }
 }
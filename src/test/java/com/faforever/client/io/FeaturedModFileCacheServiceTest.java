@@ -2,20 +2,22 @@ package com.faforever.client.io;
 
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.Preferences;
+import com.faforever.client.task.IoArbiter;
 import com.faforever.client.test.ServiceTest;
 import com.faforever.commons.api.dto.FeaturedModFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.InjectMocks;
 import org.mockito.Spy;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -30,12 +32,13 @@ public class FeaturedModFileCacheServiceTest extends ServiceTest {
   @Spy
   private Preferences preferences;
 
-  @InjectMocks
   private FeaturedModFileCacheService instance;
 
   @BeforeEach
   public void setUp() throws Exception {
     dataPrefs.setBaseDataDirectory(tempDirectory);
+    instance = new FeaturedModFileCacheService(dataPrefs, preferences, new FileHashManifest(dataPrefs),
+                                               new IoArbiter());
 
     cacheDirectory = Files.createDirectories(dataPrefs.getFeaturedModCacheDirectory());
     targetDirectory = Files.createDirectories(tempDirectory.resolve("target"));
@@ -75,4 +78,19 @@ public class FeaturedModFileCacheServiceTest extends ServiceTest {
     assertTrue(Files.isRegularFile(targetPath));
     assertEquals(hashNewFile, instance.readHashFromFile(targetPath));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testReadHashFromFileWithDeepVerifyRehashesUnchangedFile() throws IOException {
+    Path file = Files.writeString(targetDirectory.resolve("test.nx2"), "aaaa");
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    String originalHash = instance.readHashFromFile(file);
+
+    // Same size and modification time, so only a deep verification notices the change
+    Files.writeString(file, "bbbb");
+    Files.setLastModifiedTime(file, lastModified);
+
+    assertEquals(originalHash, instance.readHashFromFile(file));
+    preferences.setGameDataDeepVerify(true);
+    assertThat(instance.readHashFromFile(file), is(not(originalHash)));
+  }
+}
@@ -0,0 +1,85 @@
+package com.faforever.client.io;
+
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.test.ServiceTest;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Spy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static com.google.common.io.Files.hash;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class FileHashManifestTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+  @Spy
+  private DataPrefs dataPrefs;
+
+  private FileHashManifest instance;
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    dataPrefs.setBaseDataDirectory(tempDirectory);
+    instance = new FileHashManifest(dataPrefs);
+    file = Files.writeString(tempDirectory.resolve("test.nx2"), "aaaa");
+  }
+
+  @Test
+  public void testGetMd5() throws Exception {
+    assertThat(instance.getMd5(file), is(md5(file)));
+  }
+
+  @Test
+  public void testUnchangedFileIsNotRehashed() throws Exception {
+    String originalMd5 = instance.getMd5(file);
+    replaceContentKeepingAttributes(file, "bbbb");
+
+    assertThat(instance.getMd5(file), is(originalMd5));
+  }
+
+  @Test
+  public void testModifiedFileIsRehashed() throws Exception {
+    instance.getMd5(file);
+    Files.writeString(file, "bbbbbb");
+
+    assertThat(instance.getMd5(file), is(md5(file)));
+  }
+
+  @Test
+  public void testComputeMd5RehashesUnchangedFile() throws Exception {
+    instance.getMd5(file);
+    replaceContentKeepingAttributes(file, "bbbb");
+
+    assertThat(instance.computeMd5(file), is(md5(file)));
+    assertThat(instance.getMd5(file), is(md5(file)));
+  }
+
+  @Test
+  public void testManifestIsPersisted() throws Exception {
+    String originalMd5 = instance.getMd5(file);
+    instance.save();
+    replaceContentKeepingAttributes(file, "bbbb");
+
+    assertThat(Files.exists(dataPrefs.getCacheDirectory().resolve("file-hash-manifest.json")), is(true));
+    assertThat(new FileHashManifest(dataPrefs).getMd5(file), is(originalMd5));
+  }
+
+  private static void replaceContentKeepingAttributes(Path file, String content) throws Exception {
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    Files.writeString(file, content);
+    Files.setLastModifiedTime(file, lastModified);
+  }
+
+  private static String md5(Path file) throws Exception {
+    return hash(file.toFile(), Hashing.md5()).toString();
+  }
+}
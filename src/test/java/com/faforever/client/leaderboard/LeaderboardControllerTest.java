@@ -19,16 +19,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.testfx.util.WaitForAsyncUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.util.List;
 
 import static org.instancio.Select.field;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -102,7 +106,8 @@ public class LeaderboardControllerTest extends PlatformTest {
     lenient().when(i18n.get("leaderboard.seasonDate", null, null)).thenReturn("-");
 
     lenient().when(leaderboardService.getAllSubdivisions(season)).thenReturn(Flux.just(subdivision1, subdivision2));
-    lenient().when(leaderboardService.getActiveEntries(season)).thenReturn(Flux.just(leagueEntry1, leagueEntry2));
+    lenient().when(leaderboardService.getStandings(season))
+             .thenReturn(Mono.just(LeagueStandings.of(List.of(leagueEntry1, leagueEntry2))));
     lenient().when(leaderboardService.getLeagueEntryForPlayer(player, season)).thenReturn(Mono.empty());
     lenient().when(playerService.getCurrentPlayer()).thenReturn(player);
 
@@ -136,14 +141,15 @@ public class LeaderboardControllerTest extends PlatformTest {
     verify(leaderboardDistributionController).setSubdivisions(List.of(subdivision1, subdivision2));
     verify(leaderboardRankingsController).setSubdivisions(List.of(subdivision1, subdivision2));
     verify(leaderboardDistributionController).setLeagueEntries(List.of(leagueEntry1, leagueEntry2));
-    verify(leaderboardRankingsController).setLeagueEntries(List.of(leagueEntry1, leagueEntry2));
+    verify(leaderboardRankingsController).setLeagueStandings(
+        argThat(standings -> standings.getEntries().equals(List.of(leagueEntry1, leagueEntry2))));
     verify(leaderboardPlayerDetailsController, times(2)).setLeagueEntry(null);
   }
 
   @Test
   public void testInitializeWithSeasonError() {
     when(leaderboardService.getAllSubdivisions(season)).thenReturn(Flux.error(new FakeTestException()));
-    when(leaderboardService.getActiveEntries(season)).thenReturn(Flux.error(new FakeTestException()));
+    when(leaderboardService.getStandings(season)).thenReturn(Mono.error(new FakeTestException()));
     when(leaderboardService.getLeagueEntryForPlayer(player, season)).thenReturn(Mono.error(new FakeTestException()));
 
     runOnFxThreadAndWait(() -> instance.setLeagueSeasons(List.of(season)));
@@ -153,6 +159,27 @@ public class LeaderboardControllerTest extends PlatformTest {
     verify(notificationService).addImmediateErrorNotification(any(), eq("leaderboard.failedToLoadDivisions"));
   }
 
+  @Test
+  public void testStandingsOfPreviousSeasonAreIgnored() {
+    LeagueSeason newSeason = Instancio.of(LeagueSeason.class)
+                                      .set(field(LeagueSeason::nameKey), "seasonName")
+                                      .set(field(LeagueSeason::seasonNumber), 2)
+                                      .create();
+    Sinks.One<LeagueStandings> oldStandings = Sinks.one();
+    when(leaderboardService.getStandings(season)).thenReturn(oldStandings.asMono());
+    when(leaderboardService.getStandings(newSeason)).thenReturn(Mono.just(LeagueStandings.of(List.of(leagueEntry2))));
+    when(leaderboardService.getAllSubdivisions(newSeason)).thenReturn(Flux.empty());
+    when(leaderboardService.getLeagueEntryForPlayer(player, newSeason)).thenReturn(Mono.empty());
+
+    runOnFxThreadAndWait(() -> instance.setLeagueSeasons(List.of(season, newSeason)));
+    runOnFxThreadAndWait(() -> instance.seasonPicker.getSelectionModel().select(newSeason));
+    oldStandings.tryEmitValue(LeagueStandings.of(List.of(leagueEntry1, leagueEntry2)));
+    WaitForAsyncUtils.waitForFxEvents();
+
+    verify(leaderboardDistributionController).setLeagueEntries(List.of(leagueEntry2));
+    verify(leaderboardDistributionController, never()).setLeagueEntries(List.of(leagueEntry1, leagueEntry2));
+  }
+
   @Test
   public void testGetRoot() throws Exception {
     assertEquals(instance.getRoot(), instance.leaderboardRoot);
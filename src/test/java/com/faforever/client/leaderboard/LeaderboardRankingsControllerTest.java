@@ -87,7 +87,7 @@ public class LeaderboardRankingsControllerTest extends PlatformTest {
                                        .set(field(LeagueEntry::subdivision), subdivision1)
                                        .set(field(LeagueEntry::player), player)
                                        .create();
-    instance.setLeagueEntries(List.of(leagueEntry));
+    instance.setLeagueStandings(LeagueStandings.of(List.of(leagueEntry)));
 
     assertThat(instance.divisionPicker.getItems(), contains(division2, division1));
     assertThat(instance.divisionPicker.getSelectionModel().getSelectedItem(), is(division1));
@@ -29,9 +29,13 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -215,19 +219,40 @@ public class LeaderboardServiceTest extends ServiceTest {
                                        .set(field(LeagueEntry::player), player)
                                        .create();
     Flux<ElideEntity> resultFlux = Flux.just(leaderboardMapper.map(leagueEntry));
-    when(fafApiAccessor.getMany(any())).thenReturn(resultFlux);
+    when(fafApiAccessor.getAll(any())).thenReturn(resultFlux);
     when(playerService.getPlayersByIds(anyCollection())).thenReturn(
         Flux.just(PlayerInfoBuilder.create().id(1).username("junit").get()));
 
-    StepVerifier.create(instance.getActiveEntries(leagueSeason)).expectNext(leagueEntry).verifyComplete();
+    StepVerifier.create(instance.getStandings(leagueSeason))
+                .assertNext(standings -> assertEquals(List.of(leagueEntry), standings.getEntries()))
+                .verifyComplete();
   }
 
   @Test
   public void testGetLeagueEntriesEmpty() {
     LeagueSeason leagueSeason = Instancio.create(LeagueSeason.class);
-    when(fafApiAccessor.getMany(any())).thenReturn(Flux.empty());
+    when(fafApiAccessor.getAll(any())).thenReturn(Flux.empty());
+    when(playerService.getPlayersByIds(anyCollection())).thenReturn(Flux.empty());
+    StepVerifier.create(instance.getStandings(leagueSeason))
+                .assertNext(standings -> assertTrue(standings.getEntries().isEmpty()))
+                .verifyComplete();
+  }
+
+  @Test
+  public void testRefreshStandingsOnlyFetchesUnknownPlayers() {
+    LeagueSeason leagueSeason = Instancio.create(LeagueSeason.class);
+    LeagueEntry leagueEntry = Instancio.of(LeagueEntry.class)
+                                       .set(field(LeagueEntry::rank), 0L)
+                                       .set(field(LeagueEntry::player), player)
+                                       .create();
+    when(fafApiAccessor.getAll(any())).thenReturn(Flux.just(leaderboardMapper.map(leagueEntry)));
     when(playerService.getPlayersByIds(anyCollection())).thenReturn(Flux.empty());
-    StepVerifier.create(instance.getActiveEntries(leagueSeason)).verifyComplete();
+
+    StepVerifier.create(instance.refreshStandings(leagueSeason, LeagueStandings.of(List.of(leagueEntry))))
+                .assertNext(standings -> assertEquals(List.of(leagueEntry), standings.getEntries()))
+                .verifyComplete();
+
+    verify(playerService).getPlayersByIds(Set.of());
   }
 
 
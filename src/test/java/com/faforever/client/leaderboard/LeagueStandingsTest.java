@@ -0,0 +1,86 @@
+package com.faforever.client.leaderboard;
+
+import com.faforever.client.builders.PlayerInfoBuilder;
+import com.faforever.client.domain.api.LeagueEntry;
+import com.faforever.client.domain.api.Subdivision;
+import com.faforever.client.test.ServiceTest;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LeagueStandingsTest extends ServiceTest {
+
+  private Subdivision subdivision1;
+  private Subdivision subdivision2;
+  private LeagueEntry alpha;
+  private LeagueEntry alphonse;
+  private LeagueEntry bravo;
+  private LeagueStandings instance;
+
+  @BeforeEach
+  public void setUp() {
+    subdivision1 = Instancio.of(Subdivision.class).set(field(Subdivision::id), 1).create();
+    subdivision2 = Instancio.of(Subdivision.class).set(field(Subdivision::id), 2).create();
+    alphonse = createEntry(1, "Alphonse", subdivision2, 0);
+    bravo = createEntry(2, "bravo", subdivision1, 1);
+    alpha = createEntry(3, "alpha", subdivision1, 2);
+
+    instance = LeagueStandings.of(List.of(alphonse, bravo, alpha));
+  }
+
+  @Test
+  public void testEntriesAreKeptInRankOrder() {
+    assertEquals(List.of(alphonse, bravo, alpha), instance.getEntries());
+  }
+
+  @Test
+  public void testGetEntriesOfSubdivision() {
+    assertEquals(List.of(bravo, alpha), instance.getEntries(subdivision1));
+    assertEquals(List.of(alphonse), instance.getEntries(subdivision2));
+    assertTrue(instance.getEntries(Instancio.create(Subdivision.class)).isEmpty());
+  }
+
+  @Test
+  public void testFindByUsernameIgnoresCase() {
+    assertEquals(Optional.of(bravo), instance.findByUsername("BRAVO"));
+    assertEquals(Optional.of(alpha), instance.findByUsername("alpha"));
+    assertEquals(Optional.empty(), instance.findByUsername("alph"));
+  }
+
+  @Test
+  public void testFindByUsernamePrefix() {
+    assertEquals(List.of(alpha, alphonse), instance.findByUsernamePrefix("ALPH", 10));
+    assertEquals(List.of(alpha), instance.findByUsernamePrefix("alph", 1));
+    assertEquals(List.of(alpha, alphonse), instance.findByUsernamePrefix("alpha", 10));
+    assertEquals(List.of(), instance.findByUsernamePrefix("charlie", 10));
+  }
+
+  @Test
+  public void testFindByPlayerId() {
+    assertEquals(Optional.of(bravo), instance.findByPlayerId(2));
+    assertEquals(Optional.empty(), instance.findByPlayerId(4));
+  }
+
+  @Test
+  public void testEmpty() {
+    assertTrue(LeagueStandings.EMPTY.getEntries().isEmpty());
+    assertEquals(Optional.empty(), LeagueStandings.EMPTY.findByUsername("alpha"));
+    assertEquals(List.of(), LeagueStandings.EMPTY.findByUsernamePrefix("a", 10));
+  }
+
+  private static LeagueEntry createEntry(int playerId, String username, Subdivision subdivision, long rank) {
+    return Instancio.of(LeagueEntry.class)
+                    .set(field(LeagueEntry::player),
+                         PlayerInfoBuilder.create().defaultValues().id(playerId).username(username).get())
+                    .set(field(LeagueEntry::subdivision), subdivision)
+                    .set(field(LeagueEntry::rank), rank)
+                    .create();
+  }
+}
@@ -1,19 +1,28 @@
 package com.faforever.client.map;
 
+import com.faforever.client.config.ClientProperties;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.IoArbiter;
 import com.faforever.client.test.PlatformTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -21,6 +30,8 @@ public class DownloadMapTaskTest extends PlatformTest {
 
   @TempDir
   public Path tempDirectory;
+  @TempDir
+  public Path dataDirectory;
 
   private DownloadMapTask instance;
 
@@ -29,13 +40,17 @@ public class DownloadMapTaskTest extends PlatformTest {
   private I18n i18n;
   @Spy
   private ForgedAlliancePrefs forgedAlliancePrefs;
+  @Spy
+  private DataPrefs dataPrefs;
 
   private Path mapsDirectory;
 
   @BeforeEach
   public void setUp() throws Exception {
-    instance = new DownloadMapTask(i18n, forgedAlliancePrefs);
+    DownloadService downloadService = new DownloadService(WebClient.create(), new ClientProperties(), new IoArbiter());
+    instance = new DownloadMapTask(i18n, forgedAlliancePrefs, dataPrefs, downloadService);
     forgedAlliancePrefs.setVaultBaseDirectory(tempDirectory);
+    dataPrefs.setBaseDataDirectory(dataDirectory);
     mapsDirectory = Files.createDirectory(tempDirectory.resolve("maps"));
   }
 
@@ -58,5 +73,22 @@ public class DownloadMapTaskTest extends PlatformTest {
     instance.call();
 
     assertTrue(Files.exists(mapsDirectory.resolve("theta_passage_5.v0001").resolve("theta_passage_5_scenario.lua")));
+    try (Stream<Path> vaultFiles = Files.list(tempDirectory)) {
+      assertEquals(List.of(mapsDirectory), vaultFiles.toList());
+    }
+    try (Stream<Path> downloadedFiles = Files.list(dataPrefs.getCacheDirectory().resolve("maps"))) {
+      assertEquals(List.of(), downloadedFiles.toList());
+    }
+  }
+
+  @Test
+  public void testPrefetchHasLowPriorityUntilNeeded() {
+    instance.setPrefetch(true);
+    assertEquals(Priority.LOW, instance.getPriority());
+    assertTrue(instance.isPreemptible());
+
+    instance.setPrefetch(false);
+    assertEquals(Priority.HIGH, instance.getPriority());
+    assertFalse(instance.isPreemptible());
   }
 }
@@ -10,16 +10,18 @@ import com.faforever.client.domain.server.MatchmakerQueueInfo;
 import com.faforever.client.domain.server.PlayerInfo;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.map.MapService.PreviewSize;
+import com.faforever.client.map.generator.GeneratedMapStore;
 import com.faforever.client.map.generator.MapGeneratorService;
 import com.faforever.client.mapstruct.MapMapper;
 import com.faforever.client.mapstruct.MapperSetup;
 import com.faforever.client.mapstruct.MatchmakerMapper;
-import com.faforever.client.notification.NotificationService;
 import com.faforever.client.player.PlayerService;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.preferences.Preferences;
 import com.faforever.client.remote.AssetService;
 import com.faforever.client.task.CompletableTask;
+import com.faforever.client.task.CompletableTask.Priority;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.test.ApiTestUtil;
 import com.faforever.client.test.ElideMatchers;
@@ -79,6 +81,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -108,8 +112,6 @@ public class MapServiceTest extends PlatformTest {
   @Mock
   private PlayerService playerService;
   @Mock
-  private NotificationService notificationService;
-  @Mock
   private ObjectFactory<MapUploadTask> mapUploadTaskFactory;
   @Mock
   private ObjectFactory<DownloadMapTask> downloadMapTaskFactory;
@@ -117,6 +119,10 @@ public class MapServiceTest extends PlatformTest {
   private ObjectFactory<UninstallMapTask> uninstallMapTaskFactory;
   @Mock
   private FileSizeReader fileSizeReader;
+  @Mock
+  private InstalledMapIndex installedMapIndex;
+  @Mock
+  private GeneratedMapStore generatedMapStore;
   @Spy
   private MapMapper mapMapper = Mappers.getMapper(MapMapper.class);
   @Spy
@@ -148,10 +154,11 @@ public class MapServiceTest extends PlatformTest {
       return task;
     }).when(taskService).submitTask(any());
 
-    instance = new MapService(notificationService, taskService, fafApiAccessor, assetService, i18n,
+    instance = new MapService(taskService, fafApiAccessor, assetService, i18n,
                               themeService, mapGeneratorService, playerService, mapMapper, matchmakerMapper, fileSizeReader,
                               clientProperties, forgedAlliancePrefs, preferences, mapUploadTaskFactory,
-                              downloadMapTaskFactory, uninstallMapTaskFactory, fxApplicationThreadExecutor);
+                              downloadMapTaskFactory, uninstallMapTaskFactory, fxApplicationThreadExecutor,
+                              installedMapIndex, generatedMapStore);
     instance.officialMaps = Set.of();
     instance.afterPropertiesSet();
   }
@@ -419,13 +426,14 @@ public class MapServiceTest extends PlatformTest {
 
   @Test
   public void testFindByMapFolderName() throws Exception {
-    MapVersion mapVersion = Instancio.create(MapVersion.class);
+    MapVersion mapVersion = Instancio.of(MapVersion.class).set(field(MapVersion::folderName), "Test").create();
     Flux<ElideEntity> resultFlux = Flux.just(mapMapper.map(mapVersion));
     when(fafApiAccessor.getMany(any())).thenReturn(resultFlux);
 
     StepVerifier.create(instance.findByMapFolderName("test")).expectNextCount(1).verifyComplete();
 
-    verify(fafApiAccessor).getMany(argThat(ElideMatchers.hasFilter(qBuilder().string("folderName").eq("test"))));
+    verify(fafApiAccessor).getMany(
+        argThat(ElideMatchers.hasFilter(qBuilder().string("folderName").in(List.of("test")))));
   }
 
   @Test
@@ -517,6 +525,68 @@ public class MapServiceTest extends PlatformTest {
     assertEquals("dualgap adaptive", instance.convertMapFolderNameToHumanNameIfPossible("dualgap_adaptive.v0012"));
   }
 
+  @Test
+  public void testDownloadedMapIsInstalledOnceDownloadCompleted() {
+    MapVersion mapVersion = Instancio.of(MapVersion.class)
+                                     .set(field(MapVersion::folderName), "palaneum.v0001")
+                                     .create();
+    prepareDownloadMapTask(mapVersion);
+
+    StepVerifier.create(instance.downloadAndInstallMap(mapVersion, null, null)).verifyComplete();
+
+    assertThat(instance.isInstalled(mapVersion), is(true));
+  }
+
+  @Test
+  public void testDownloadJoinsRunningPrefetchAndRaisesItsPriority() {
+    MapVersion mapVersion = Instancio.of(MapVersion.class)
+                                     .set(field(MapVersion::folderName), "palaneum.v0001")
+                                     .create();
+    DownloadMapTask task = new DownloadMapTask(i18n, forgedAlliancePrefs, new DataPrefs(), null);
+    when(downloadMapTaskFactory.getObject()).thenReturn(task);
+    // Keeps the prefetch queued
+    doAnswer(invocation -> invocation.getArgument(0)).when(taskService).submitTask(any());
+
+    instance.prefetchMap(mapVersion);
+    assertEquals(Priority.LOW, task.getPriority());
+
+    instance.downloadAndInstallMap(mapVersion, null, null);
+
+    verify(downloadMapTaskFactory).getObject();
+    verify(taskService).submitTask(task);
+    assertEquals(Priority.HIGH, task.getPriority());
+  }
+
+  @Test
+  public void testDownloadJoiningCancelledPrefetchDownloadsAgain() {
+    MapVersion mapVersion = Instancio.of(MapVersion.class)
+                                     .set(field(MapVersion::folderName), "palaneum.v0001")
+                                     .create();
+    DownloadMapTask prefetchTask = new DownloadMapTask(i18n, forgedAlliancePrefs, new DataPrefs(), null);
+    StubDownloadMapTask downloadTask = new StubDownloadMapTask(forgedAlliancePrefs, i18n, mapsDirectory);
+    downloadTask.setMapToDownload(mapVersion);
+    when(downloadMapTaskFactory.getObject()).thenReturn(prefetchTask, downloadTask);
+    // Keeps the prefetch queued
+    doAnswer(invocation -> {
+      CompletableTask<?> task = invocation.getArgument(0);
+      if (task != prefetchTask) {
+        WaitForAsyncUtils.asyncFx(task);
+        task.getFuture().join();
+      }
+      return task;
+    }).when(taskService).submitTask(any());
+
+    instance.prefetchMap(mapVersion);
+    Mono<Void> download = instance.downloadAndInstallMap(mapVersion, null, null);
+    // Dropped from the queue by a game launch just before the download joined it
+    prefetchTask.cancel(false);
+
+    StepVerifier.create(download).verifyComplete();
+
+    verify(taskService).submitTask(downloadTask);
+    assertThat(instance.isInstalled(mapVersion), is(true));
+  }
+
   private void prepareDownloadMapTask(MapVersion mapToDownload) {
     StubDownloadMapTask task = new StubDownloadMapTask(forgedAlliancePrefs, i18n, mapsDirectory);
     task.setMapToDownload(mapToDownload);
@@ -543,4 +613,27 @@ public class MapServiceTest extends PlatformTest {
           .isDirectory());
     }
   }
+
+  @Test
+  public void testGenerateIfNotInstalledRestoresStoredMap() {
+    String mapName = "neroxis_map_generator_1.0.0_abc";
+    Path mapDirectory = forgedAlliancePrefs.getMapsDirectory().resolve(mapName);
+    when(generatedMapStore.restore(mapName, mapDirectory)).thenReturn(true);
+
+    StepVerifier.create(instance.generateIfNotInstalled(mapName)).expectNext(mapName).verifyComplete();
+
+    verify(mapGeneratorService, never()).generateMap(anyString());
+  }
+
+  @Test
+  public void testGenerateIfNotInstalledStoresGeneratedMap() {
+    String mapName = "neroxis_map_generator_1.0.0_abc";
+    Path mapDirectory = forgedAlliancePrefs.getMapsDirectory().resolve(mapName);
+    when(generatedMapStore.restore(mapName, mapDirectory)).thenReturn(false);
+    when(mapGeneratorService.generateMap(mapName)).thenReturn(Mono.just(mapName));
+
+    StepVerifier.create(instance.generateIfNotInstalled(mapName)).expectNext(mapName).verifyComplete();
+
+    verify(generatedMapStore, timeout(5000)).store(mapName, mapDirectory);
+  }
 }
@@ -2,6 +2,7 @@ package com.faforever.client.map;
 
 import com.faforever.client.domain.api.MapVersion;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import org.springframework.util.FileSystemUtils;
 
@@ -14,7 +15,7 @@ public class StubDownloadMapTask extends DownloadMapTask {
   public MapVersion mapToDownload;
 
   public StubDownloadMapTask(ForgedAlliancePrefs forgedAlliancePrefs, I18n i18n, Path customMapsDirectory) {
-    super(i18n, forgedAlliancePrefs);
+    super(i18n, forgedAlliancePrefs, new DataPrefs(), null);
     this.customMapsDirectory = customMapsDirectory;
   }
 
@@ -22,7 +22,7 @@ public class GenerateMapTaskTest extends ServiceTest {
 
   @BeforeEach
   public void setup() {
-    instance = new GenerateMapTask(notificationService, i18n, null, null);
+    instance = new GenerateMapTask(notificationService, i18n, null, null, null);
   }
 
   @Test
@@ -0,0 +1,100 @@
+package com.faforever.client.map.generator;
+
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeneratedMapStoreTest extends ServiceTest {
+
+  private static final String MAP_NAME = "neroxis_map_generator_1.0.0_abc";
+  private static final String OTHER_MAP_NAME = "neroxis_map_generator_1.0.0_def";
+
+  @TempDir
+  public Path tempDirectory;
+
+  private Path mapsDirectory;
+  private ClientProperties clientProperties;
+  private GeneratedMapStore instance;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    DataPrefs dataPrefs = new DataPrefs();
+    dataPrefs.setBaseDataDirectory(tempDirectory.resolve("data"));
+    clientProperties = new ClientProperties();
+    mapsDirectory = Files.createDirectories(tempDirectory.resolve("maps"));
+
+    instance = new GeneratedMapStore(dataPrefs, clientProperties, new IoArbiter());
+  }
+
+  @Test
+  public void testRestoreStoredMap() throws Exception {
+    Path mapDirectory = createMap(MAP_NAME, "scenario");
+    instance.store(MAP_NAME, mapDirectory);
+    FileSystemUtils.deleteRecursively(mapDirectory);
+
+    assertTrue(instance.restore(MAP_NAME, mapDirectory));
+
+    assertEquals("scenario", Files.readString(mapDirectory.resolve(MAP_NAME + "_scenario.lua")));
+    assertEquals("save", Files.readString(mapDirectory.resolve("lua/" + MAP_NAME + "_save.lua")));
+  }
+
+  @Test
+  public void testRestoreUnknownMap() {
+    Path mapDirectory = mapsDirectory.resolve(MAP_NAME);
+
+    assertFalse(instance.restore(MAP_NAME, mapDirectory));
+    assertFalse(Files.exists(mapDirectory));
+  }
+
+  @Test
+  public void testIdenticalFilesAreStoredOnce() throws Exception {
+    instance.store(MAP_NAME, createMap(MAP_NAME, "scenario"));
+    instance.store(OTHER_MAP_NAME, createMap(OTHER_MAP_NAME, "scenario"));
+
+    // Both maps share the content of their scenario and save files
+    assertEquals(2, countObjects());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedMapIsEvicted() throws Exception {
+    clientProperties.getMapGenerator().setGeneratedMapCacheSize(15);
+    Path mapDirectory = createMap(MAP_NAME, "first");
+    instance.store(MAP_NAME, mapDirectory);
+    Thread.sleep(2);
+    Path otherMapDirectory = createMap(OTHER_MAP_NAME, "second");
+    instance.store(OTHER_MAP_NAME, otherMapDirectory);
+    FileSystemUtils.deleteRecursively(mapDirectory);
+    FileSystemUtils.deleteRecursively(otherMapDirectory);
+
+    assertFalse(instance.restore(MAP_NAME, mapDirectory));
+    assertTrue(instance.restore(OTHER_MAP_NAME, otherMapDirectory));
+    assertEquals(2, countObjects());
+  }
+
+  private Path createMap(String mapName, String scenario) throws Exception {
+    Path mapDirectory = Files.createDirectories(mapsDirectory.resolve(mapName));
+    Files.writeString(mapDirectory.resolve(mapName + "_scenario.lua"), scenario);
+    Files.createDirectories(mapDirectory.resolve("lua"));
+    Files.writeString(mapDirectory.resolve("lua").resolve(mapName + "_save.lua"), "save");
+    return mapDirectory;
+  }
+
+  private long countObjects() throws Exception {
+    try (Stream<Path> objects = Files.list(tempDirectory.resolve("data/cache/generated-maps/objects"))) {
+      return objects.count();
+    }
+  }
+}
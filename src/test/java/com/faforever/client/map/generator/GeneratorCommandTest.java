@@ -81,6 +81,15 @@ public class GeneratorCommandTest extends ServiceTest {
         "--map-name", "neroxis_map_generator_1.0.0_0")));
   }
 
+  @Test
+  public void testJvmArgumentsPrecedeJar() {
+    List<String> command = defaultBuilder().jvmArguments(List.of("-XX:SharedArchiveFile=generator.jsa"))
+        .build()
+        .getCommand();
+    assertEquals(List.of(JAVA_PATH.toAbsolutePath().toString(), "-XX:SharedArchiveFile=generator.jsa", "-jar",
+        Path.of("mapGenerator_1.0.0.jar").toAbsolutePath().toString()), command.subList(0, 4));
+  }
+
   @Test
   public void testSeedSet() {
     List<String> command = defaultBuilder().seed("100").build().getCommand();
@@ -0,0 +1,40 @@
+package com.faforever.client.map.generator;
+
+import com.faforever.client.test.ServiceTest;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MapGeneratorLauncherTest extends ServiceTest {
+
+  private static final Path ARCHIVE = Path.of("MapGenerator_1.0.0.jsa");
+
+  private static GeneratorCommand command() {
+    return GeneratorCommand.builder()
+        .javaExecutable(Path.of("java"))
+        .generatorExecutableFile(Path.of("MapGenerator_1.0.0.jar"))
+        .version(new ComparableVersion("1.0.0"))
+        .mapName("neroxis_map_generator_1.0.0_0")
+        .build();
+  }
+
+  @Test
+  public void testGenerationCreatesArchive() {
+    GeneratorCommand command = MapGeneratorLauncher.withArchive(command(), ARCHIVE, true);
+
+    assertEquals(List.of("-XX:SharedArchiveFile=" + ARCHIVE.toAbsolutePath(), "-XX:+AutoCreateSharedArchive"),
+                 command.jvmArguments());
+    assertEquals(command().mapName(), command.mapName());
+  }
+
+  @Test
+  public void testQueryOnlyUsesArchive() {
+    GeneratorCommand command = MapGeneratorLauncher.withArchive(command(), ARCHIVE, false);
+
+    assertEquals(List.of("-XX:SharedArchiveFile=" + ARCHIVE.toAbsolutePath()), command.jvmArguments());
+  }
+}
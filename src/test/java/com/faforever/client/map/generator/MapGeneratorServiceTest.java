@@ -29,8 +29,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 public class MapGeneratorServiceTest extends ServiceTest {
 
@@ -171,4 +173,37 @@ public class MapGeneratorServiceTest extends ServiceTest {
     verify(generatorOptionsTask).setVersion(versionGeneratorPresent);
     verify(generatorOptionsTask).setQuery("--styles");
   }
+
+  @Test
+  public void testGeneratorOptionsAreOnlyQueriedOncePerVersion() {
+    ReflectionTestUtils.setField(instance, "defaultGeneratorVersion", versionGeneratorPresent);
+    StepVerifier.create(instance.getGeneratorStyles()).expectNext(List.of("TEST")).verifyComplete();
+    StepVerifier.create(instance.getGeneratorStyles()).expectNext(List.of("TEST")).verifyComplete();
+
+    verify(taskService, times(1)).submitTask(generatorOptionsTask);
+  }
+
+  @Test
+  public void testFailedGeneratorOptionsQueryIsRetried() {
+    ReflectionTestUtils.setField(instance, "defaultGeneratorVersion", versionGeneratorPresent);
+    when(generatorOptionsTask.getMono()).thenReturn(Mono.error(new IllegalStateException()),
+                                                    Mono.just(new ArrayList<>(List.of("TEST"))));
+
+    StepVerifier.create(instance.getGeneratorStyles()).verifyError(IllegalStateException.class);
+    StepVerifier.create(instance.getGeneratorStyles()).expectNext(List.of("TEST")).verifyComplete();
+
+    verify(generatorOptionsTaskFactory, times(2)).getObject();
+  }
+
+  @Test
+  public void testEmptyGeneratorOptionsAreNotCached() {
+    ReflectionTestUtils.setField(instance, "defaultGeneratorVersion", versionGeneratorPresent);
+    when(generatorOptionsTask.getMono()).thenReturn(Mono.just(new ArrayList<>()), Mono.just(new ArrayList<>()),
+                                                    Mono.just(new ArrayList<>(List.of("TEST"))));
+
+    StepVerifier.create(instance.getGeneratorStyles()).expectNext(List.of()).verifyComplete();
+    StepVerifier.create(instance.getGeneratorStyles()).expectNext(List.of("TEST")).verifyComplete();
+
+    verify(taskService, times(2)).submitTask(generatorOptionsTask);
+  }
 }
@@ -1,14 +1,18 @@
 package com.faforever.client.mod;
 
+import com.faforever.client.config.ClientProperties;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
+import com.faforever.client.task.IoArbiter;
 import com.faforever.client.test.PlatformTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -35,7 +39,9 @@ public class DownloadModTaskTest extends PlatformTest {
 
   @BeforeEach
   public void setUp() throws Exception {
-    instance = new DownloadModTask(i18n, dataPrefs, forgedAlliancePrefs);
+    IoArbiter ioArbiter = new IoArbiter();
+    instance = new DownloadModTask(i18n, dataPrefs, forgedAlliancePrefs, ioArbiter,
+                                   new DownloadService(WebClient.create(), new ClientProperties(), ioArbiter));
     dataPrefs.setBaseDataDirectory(tempDirectory);
     forgedAlliancePrefs.setVaultBaseDirectory(tempDirectory);
 
@@ -334,7 +334,7 @@ public class ModServiceTest extends PlatformTest {
   }
 
   private DownloadModTask stubDownloadModTask() {
-    return new DownloadModTask(i18n, dataPrefs, forgedAlliancePrefs) {
+    return new DownloadModTask(i18n, dataPrefs, forgedAlliancePrefs, null, null) {
       @Override
       protected Void call() {
         return null;
@@ -3,6 +3,8 @@ package com.faforever.client.mod;
 import com.faforever.client.api.FafApiAccessor;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.task.IoArbiter;
+import com.faforever.client.task.IoResource;
 import com.faforever.client.test.PlatformTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,14 +20,17 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.UUID;
 
 import static com.faforever.client.mod.ModUploadTask.MOD_UPLOAD_COMPLETE_API_POST;
 import static com.faforever.client.mod.ModUploadTask.MOD_UPLOAD_START_API_GET;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -53,6 +58,7 @@ class ModUploadTaskTest extends PlatformTest {
   @Captor
   ArgumentCaptor<ModUploadMetadata> metadataCaptor;
 
+  IoArbiter ioArbiter;
   ModUploadTask underTest;
 
   UUID requestId;
@@ -67,7 +73,8 @@ class ModUploadTaskTest extends PlatformTest {
 
   @BeforeEach
   void setUp() throws Exception {
-    underTest = new ModUploadTask(fafApiAccessor, i18n, dataPrefs, defaultWebClient);
+    ioArbiter = new IoArbiter();
+    underTest = new ModUploadTask(fafApiAccessor, i18n, dataPrefs, defaultWebClient, ioArbiter);
 
     dataPrefs.setBaseDataDirectory(tempDirectory);
     Files.createDirectories(dataPrefs.getCacheDirectory());
@@ -124,6 +131,17 @@ class ModUploadTaskTest extends PlatformTest {
     assertThrows(IllegalStateException.class, () -> underTest.call());
   }
 
+  @Test
+  void testUploadPermitIsReleasedIfCacheDirectoryCannotBeCreated() throws Exception {
+    Files.delete(dataPrefs.getCacheDirectory());
+    Files.createFile(dataPrefs.getCacheDirectory());
+    underTest.setModPath(Files.createDirectory(tempDirectory.resolve("my-mod")));
+
+    assertThrows(IOException.class, () -> underTest.call());
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> ioArbiter.acquire(IoResource.UPLOADS).close());
+  }
+
   void stubWebClient() {
     when(fafApiAccessor.getApiObject(MOD_UPLOAD_START_API_GET, UploadUrlResponse.class)).thenReturn(
         Mono.just(new UploadUrlResponse(signedUri, requestId)));
@@ -0,0 +1,122 @@
+package com.faforever.client.patch;
+
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.io.FeaturedModFileCacheService;
+import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.api.dto.FeaturedModFile;
+import com.faforever.commons.io.ByteCountListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FeaturedModFileSynchronizerTest extends ServiceTest {
+
+  @TempDir
+  public Path dataDirectory;
+
+  @Mock
+  private DownloadService downloadService;
+  @Mock
+  private FeaturedModFileCacheService featuredModFileCacheService;
+
+  private FeaturedModFileSynchronizer instance;
+
+  @BeforeEach
+  public void setUp() {
+    instance = new FeaturedModFileSynchronizer(downloadService, featuredModFileCacheService, 2, 2);
+  }
+
+  @Test
+  public void testOnlyOutdatedFilesAreDownloaded() throws Exception {
+    FeaturedModFile upToDate = featuredModFile("upToDate.nx2", "hash1");
+    FeaturedModFile outdated = featuredModFile("outdated.nx2", "hash2");
+    Path upToDatePath = Files.createDirectories(dataDirectory.resolve("gamedata")).resolve("upToDate.nx2");
+    Files.writeString(upToDatePath, "content");
+    Path cachedFile = dataDirectory.resolve("cache").resolve("hash2");
+
+    when(featuredModFileCacheService.readHashFromFile(upToDatePath)).thenReturn("hash1");
+    when(featuredModFileCacheService.isCached(outdated)).thenReturn(false);
+    when(featuredModFileCacheService.getCachedFilePath(outdated)).thenReturn(cachedFile);
+
+    List<String> downloadedFiles = new CopyOnWriteArrayList<>();
+    List<Double> progress = new CopyOnWriteArrayList<>();
+    instance.synchronize(List.of(upToDate, outdated), dataDirectory, downloadedFiles::add, progress::add);
+
+    assertThat(downloadedFiles, contains("outdated.nx2"));
+    assertThat(progress.getLast(), is(1.0));
+    verify(downloadService).downloadFile(any(URL.class), anyMap(), eq(cachedFile), any(), eq("hash2"));
+    verify(featuredModFileCacheService).copyFeaturedModFileFromCache(outdated,
+                                                                     dataDirectory.resolve("gamedata")
+                                                                                  .resolve("outdated.nx2"));
+    verify(featuredModFileCacheService, times(1)).copyFeaturedModFileFromCache(any(), any());
+  }
+
+  @Test
+  public void testProgressNeverDecreases() throws Exception {
+    FeaturedModFile first = featuredModFile("first.nx2", "hash1");
+    FeaturedModFile second = featuredModFile("second.nx2", "hash2");
+    when(featuredModFileCacheService.isCached(any())).thenReturn(false);
+    when(featuredModFileCacheService.getCachedFilePath(any())).thenAnswer(
+        invocation -> dataDirectory.resolve("cache").resolve(invocation.<FeaturedModFile>getArgument(0).getMd5()));
+    doAnswer(invocation -> {
+      ByteCountListener listener = invocation.getArgument(3);
+      listener.updateBytesProcessed(50, 100);
+      listener.updateBytesProcessed(100, 100);
+      return null;
+    }).when(downloadService).downloadFile(any(URL.class), anyMap(), any(), any(), any());
+
+    List<Double> progress = new CopyOnWriteArrayList<>();
+    instance = new FeaturedModFileSynchronizer(downloadService, featuredModFileCacheService, 1, 1);
+    instance.synchronize(List.of(first, second), dataDirectory, _ -> {}, progress::add);
+
+    assertThat(progress.getFirst(), is(0.25));
+    for (int i = 1; i < progress.size(); i++) {
+      assertThat(progress.get(i), greaterThanOrEqualTo(progress.get(i - 1)));
+    }
+    assertThat(progress.getLast(), is(1.0));
+  }
+
+  @Test
+  public void testCachedFileIsNotDownloaded() throws Exception {
+    FeaturedModFile cached = featuredModFile("cached.nx2", "hash");
+    when(featuredModFileCacheService.isCached(cached)).thenReturn(true);
+
+    instance.synchronize(List.of(cached), dataDirectory, _ -> {}, _ -> {});
+
+    verify(downloadService, never()).downloadFile(any(), anyMap(), any(), any(), any());
+    verify(featuredModFileCacheService).copyFeaturedModFileFromCache(cached, dataDirectory.resolve("gamedata")
+                                                                                          .resolve("cached.nx2"));
+  }
+
+  private static FeaturedModFile featuredModFile(String name, String md5) {
+    FeaturedModFile featuredModFile = new FeaturedModFile();
+    featuredModFile.setName(name);
+    featuredModFile.setGroup("gamedata");
+    featuredModFile.setMd5(md5);
+    featuredModFile.setVersion("1");
+    featuredModFile.setCacheableUrl("http://localhost/" + name);
+    featuredModFile.setHmacParameter("verify");
+    featuredModFile.setHmacToken("token");
+    return featuredModFile;
+  }
+}
@@ -3,6 +3,7 @@ package com.faforever.client.patch;
 import com.faforever.client.config.ClientProperties;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.test.ServiceTest;
@@ -36,6 +37,8 @@ public class GameBinariesUpdateTaskTest extends ServiceTest {
   private PlatformService platformService;
   @Mock
   private I18n i18n;
+  @Mock
+  private DownloadService downloadService;
   @Spy
   private ClientProperties clientProperties;
   @Spy
@@ -47,7 +50,8 @@ public class GameBinariesUpdateTaskTest extends ServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
-    instance = new GameBinariesUpdateTaskImpl(null, i18n, platformService, null, dataPrefs, forgedAlliancePrefs, clientProperties);
+    instance = new GameBinariesUpdateTaskImpl(null, i18n, platformService, null, dataPrefs, forgedAlliancePrefs, clientProperties,
+                                              downloadService);
 
     Path faPath = tempDirectory.resolve("fa");
 
@@ -0,0 +1,52 @@
+package com.faforever.client.player;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LargestTriangleThreeBucketsTest extends ServiceTest {
+
+  @Test
+  public void testKeepsAllPointsBelowThreshold() {
+    double[] x = {0, 1, 2};
+    double[] y = {5, 6, 7};
+
+    assertArrayEquals(new int[]{0, 1, 2}, LargestTriangleThreeBuckets.downsample(x, y, 10));
+  }
+
+  @Test
+  public void testKeepsFirstLastAndPeaks() {
+    int length = 1000;
+    double[] x = new double[length];
+    double[] y = new double[length];
+    for (int i = 0; i < length; i++) {
+      x[i] = i;
+      y[i] = 1000;
+    }
+    y[500] = 2000;
+    y[750] = 0;
+
+    int[] indices = LargestTriangleThreeBuckets.downsample(x, y, 10);
+
+    assertEquals(10, indices.length);
+    assertEquals(0, indices[0]);
+    assertEquals(length - 1, indices[9]);
+    assertContains(indices, 500);
+    assertContains(indices, 750);
+    for (int i = 1; i < indices.length; i++) {
+      assertTrue(indices[i] > indices[i - 1]);
+    }
+  }
+
+  private static void assertContains(int[] indices, int index) {
+    for (int value : indices) {
+      if (value == index) {
+        return;
+      }
+    }
+    throw new AssertionError("Index " + index + " was dropped");
+  }
+}
@@ -17,6 +17,7 @@ import com.faforever.commons.api.elide.ElideEntity;
 import com.faforever.commons.lobby.Player;
 import com.faforever.commons.lobby.Player.Avatar;
 import com.faforever.commons.lobby.Player.LeaderboardStats;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleObjectProperty;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +31,8 @@ import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.TestPublisher;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,10 +42,12 @@ import java.util.Set;
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -95,6 +100,7 @@ public class PlayerServiceTest extends ServiceTest {
     userPrefs.getNotesByPlayerId().put(3, "junit3");
 
     lenient().when(loginService.connectionStateProperty()).thenReturn(new SimpleObjectProperty<>());
+    lenient().when(loginService.loggedInProperty()).thenReturn(new ReadOnlyBooleanWrapper(true));
 
     instance.afterPropertiesSet();
     playerInfoTestPublisher.next(new com.faforever.commons.lobby.PlayerInfo(List.of(playerInfo1, playerInfo2)));
@@ -226,4 +232,77 @@ public class PlayerServiceTest extends ServiceTest {
     assertFalse(instance.isOnline(playerInfo1.getId()));
     assertFalse(instance.isOnline(playerInfo2.getId()));
   }
+
+  @Test
+  public void testPlayerInfoMessageAppliedInOneBatch() {
+    List<Runnable> fxTasks = new ArrayList<>();
+    TestPublisher<com.faforever.commons.lobby.PlayerInfo> batchPublisher = TestPublisher.create();
+    when(fafServerAccessor.getEvents(com.faforever.commons.lobby.PlayerInfo.class)).thenReturn(batchPublisher.flux());
+    when(fxApplicationThreadExecutor.asScheduler()).thenReturn(Schedulers.fromExecutor(fxTasks::add));
+    PlayerService batchingInstance = new PlayerService(fafServerAccessor, fafApiAccessor, loginService, playerMapper,
+                                                       fxApplicationThreadExecutor);
+    batchingInstance.afterPropertiesSet();
+
+    batchPublisher.next(new com.faforever.commons.lobby.PlayerInfo(List.of(
+        new com.faforever.commons.lobby.Player(4, "junit4", "ABC", null, "", new HashMap<>(), new HashMap<>(), null),
+        new com.faforever.commons.lobby.Player(5, "junit5", "ABC", null, "", new HashMap<>(), new HashMap<>(), null),
+        new com.faforever.commons.lobby.Player(6, "junit6", "ABC", null, "", new HashMap<>(), new HashMap<>(),
+                                               null))));
+
+    assertThat(fxTasks, hasSize(1));
+    PlayerInfo player4 = batchingInstance.getPlayerByIdIfOnline(4).orElseThrow();
+    PlayerInfo player6 = batchingInstance.getPlayerByIdIfOnline(6).orElseThrow();
+    assertNull(player4.getClan());
+    assertNull(player6.getClan());
+
+    fxTasks.forEach(Runnable::run);
+
+    assertEquals("ABC", player4.getClan());
+    assertEquals("ABC", batchingInstance.getPlayerByIdIfOnline(5).orElseThrow().getClan());
+    assertEquals("ABC", player6.getClan());
+  }
+
+  @Test
+  public void testPlayerOnlineListenerCalledOncePerNewPlayer() {
+    List<PlayerInfo> onlinePlayers = new ArrayList<>();
+    instance.addPlayerOnlineListener(onlinePlayers::add);
+    com.faforever.commons.lobby.PlayerInfo message = new com.faforever.commons.lobby.PlayerInfo(List.of(
+        playerInfo1,
+        new com.faforever.commons.lobby.Player(4, "junit4", null, null, "", new HashMap<>(), new HashMap<>(), null),
+        new com.faforever.commons.lobby.Player(5, "junit5", null, null, "", new HashMap<>(), new HashMap<>(), null)));
+
+    playerInfoTestPublisher.next(message);
+    playerInfoTestPublisher.next(message);
+
+    assertThat(onlinePlayers.stream().map(PlayerInfo::getId).toList(), contains(4, 5));
+  }
+
+  @Test
+  public void testMeasurePlayerListPopulation() {
+    StepVerifier.withVirtualTime(() -> instance.measurePlayerListPopulation())
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(1))
+                .then(() -> playerInfoTestPublisher.next(new com.faforever.commons.lobby.PlayerInfo(List.of(
+                    new com.faforever.commons.lobby.Player(4, "junit4", null, null, "", new HashMap<>(),
+                                                           new HashMap<>(), null),
+                    new com.faforever.commons.lobby.Player(5, "junit5", null, null, "", new HashMap<>(),
+                                                           new HashMap<>(), null)))))
+                .thenAwait(Duration.ofSeconds(1))
+                .then(() -> playerInfoTestPublisher.next(new com.faforever.commons.lobby.PlayerInfo(List.of(
+                    new com.faforever.commons.lobby.Player(6, "junit6", null, null, "", new HashMap<>(),
+                                                           new HashMap<>(), null)))))
+                .expectNoEvent(Duration.ofMillis(1999))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext(new PlayerService.PlayerListPopulation(3, 2, Duration.ofSeconds(2)))
+                .verifyComplete();
+  }
+
+  @Test
+  public void testMeasurePlayerListPopulationWithoutPlayers() {
+    StepVerifier.withVirtualTime(() -> instance.measurePlayerListPopulation())
+                .expectSubscription()
+                .expectNoEvent(Duration.ofSeconds(29))
+                .thenAwait(Duration.ofSeconds(1))
+                .verifyComplete();
+  }
 }
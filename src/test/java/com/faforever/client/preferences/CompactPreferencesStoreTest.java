@@ -0,0 +1,128 @@
+package com.faforever.client.preferences;
+
+import com.faforever.client.serialization.ColorMixin;
+import com.faforever.client.test.ServiceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+public class CompactPreferencesStoreTest extends ServiceTest {
+
+  @TempDir
+  public Path preferencesDirectory;
+
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  public void setUp() {
+    objectMapper = new ObjectMapper().addMixIn(Color.class, ColorMixin.class);
+  }
+
+  @Test
+  public void testWatchedReplaysAreAppended() throws Exception {
+    Preferences preferences = new Preferences();
+    CompactPreferencesStore instance = attach(preferences);
+
+    preferences.getReplayHistory().getWatchedReplays().add(1);
+    instance.flush();
+    preferences.getReplayHistory().getWatchedReplays().add(2);
+    instance.flush();
+
+    assertThat(Files.size(preferencesDirectory.resolve(CompactPreferencesStore.WATCHED_REPLAYS_FILE_NAME)), is(8L));
+    assertThat(reload().getReplayHistory().getWatchedReplays(), containsInAnyOrder(1, 2));
+  }
+
+  @Test
+  public void testWatchedReplaysAreRewrittenOnRemoval() throws Exception {
+    Preferences preferences = new Preferences();
+    CompactPreferencesStore instance = attach(preferences);
+
+    preferences.getReplayHistory().getWatchedReplays().addAll(List.of(1, 2, 3));
+    instance.flush();
+    preferences.getReplayHistory().getWatchedReplays().remove(2);
+    instance.flush();
+
+    assertThat(Files.size(preferencesDirectory.resolve(CompactPreferencesStore.WATCHED_REPLAYS_FILE_NAME)), is(8L));
+    assertThat(reload().getReplayHistory().getWatchedReplays(), containsInAnyOrder(1, 3));
+  }
+
+  @Test
+  public void testPartiallyWrittenReplayIdIsIgnored() throws Exception {
+    Preferences preferences = new Preferences();
+    CompactPreferencesStore instance = attach(preferences);
+    preferences.getReplayHistory().getWatchedReplays().add(1);
+    instance.flush();
+
+    Files.write(preferencesDirectory.resolve(CompactPreferencesStore.WATCHED_REPLAYS_FILE_NAME), new byte[]{0, 0},
+                StandardOpenOption.APPEND);
+
+    assertThat(reload().getReplayHistory().getWatchedReplays(), containsInAnyOrder(1));
+  }
+
+  @Test
+  public void testPartiallyWrittenReplayIdIsTruncatedBeforeAppending() throws Exception {
+    Preferences preferences = new Preferences();
+    CompactPreferencesStore instance = attach(preferences);
+    preferences.getReplayHistory().getWatchedReplays().add(1);
+    instance.flush();
+    Files.write(preferencesDirectory.resolve(CompactPreferencesStore.WATCHED_REPLAYS_FILE_NAME), new byte[]{0, 0},
+                StandardOpenOption.APPEND);
+
+    Preferences reloaded = new Preferences();
+    CompactPreferencesStore reloadedInstance = attach(reloaded);
+    reloaded.getReplayHistory().getWatchedReplays().add(2);
+    reloadedInstance.flush();
+
+    assertThat(reload().getReplayHistory().getWatchedReplays(), containsInAnyOrder(1, 2));
+  }
+
+  @Test
+  public void testUserColorsAreStored() {
+    Preferences preferences = new Preferences();
+    CompactPreferencesStore instance = attach(preferences);
+
+    preferences.getChat().getUserToColor().put("user", Color.RED);
+    instance.flush();
+
+    assertThat(reload().getChat().getUserToColor().get("user"), is(Color.RED));
+  }
+
+  @Test
+  public void testEntriesFromPreferencesFileAreMigrated() {
+    Preferences preferences = new Preferences();
+    preferences.getReplayHistory().getWatchedReplays().add(5);
+    preferences.getChat().getUserToColor().put("user", Color.BLUE);
+
+    CompactPreferencesStore instance = new CompactPreferencesStore(preferencesDirectory, objectMapper);
+    assertThat(instance.attach(preferences.getReplayHistory(), preferences.getChat()), is(true));
+    instance.flush();
+
+    Preferences reloaded = reload();
+    assertThat(reloaded.getReplayHistory().getWatchedReplays(), containsInAnyOrder(5));
+    assertThat(reloaded.getChat().getUserToColor().get("user"), is(Color.BLUE));
+  }
+
+  private CompactPreferencesStore attach(Preferences preferences) {
+    CompactPreferencesStore instance = new CompactPreferencesStore(preferencesDirectory, objectMapper);
+    assertThat(instance.attach(preferences.getReplayHistory(), preferences.getChat()), is(false));
+    return instance;
+  }
+
+  private Preferences reload() {
+    Preferences preferences = new Preferences();
+    new CompactPreferencesStore(preferencesDirectory, objectMapper).attach(preferences.getReplayHistory(),
+                                                                           preferences.getChat());
+    return preferences;
+  }
+}
@@ -0,0 +1,62 @@
+package com.faforever.client.preferences;
+
+import com.faforever.client.chat.ChatUserCategory;
+import com.faforever.client.test.ServiceTest;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class PreferencesChangeTrackerTest extends ServiceTest {
+
+  private Preferences preferences;
+  private AtomicInteger changes;
+
+  @BeforeEach
+  public void setUp() {
+    preferences = new Preferences();
+    changes = new AtomicInteger();
+    PreferencesChangeTracker.track(preferences, changes::incrementAndGet);
+  }
+
+  @Test
+  public void testPropertyChangesAreReportedEveryTime() {
+    preferences.getChat().setZoom(2);
+    preferences.getChat().setZoom(3);
+
+    assertThat(changes.get(), is(2));
+  }
+
+  @Test
+  public void testNestedPreferencesAreTracked() {
+    preferences.getVault().getLiveReplaySearch().setHideModdedGames(true);
+    preferences.getData().setBaseDataDirectory(Path.of("data"));
+    preferences.getChat().getAutoJoinChannels().add("#aeolus");
+
+    assertThat(changes.get(), is(3));
+  }
+
+  @Test
+  public void testObservableMapValuesAreTracked() {
+    ObservableSet<ChatUserCategory> hiddenCategories = FXCollections.observableSet();
+    preferences.getChat().getChannelNameToHiddenCategories().put("#aeolus", hiddenCategories);
+    hiddenCategories.add(ChatUserCategory.FOE);
+
+    assertThat(changes.get(), is(2));
+  }
+
+  @Test
+  public void testPropertiesNotWrittenToFileAreIgnored() {
+    preferences.getReplayHistory().getWatchedReplays().add(1);
+    preferences.getChat().getUserToColor().put("user", Color.RED);
+
+    assertThat(changes.get(), is(0));
+  }
+}
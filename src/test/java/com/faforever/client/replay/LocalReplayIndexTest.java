@@ -0,0 +1,78 @@
+package com.faforever.client.replay;
+
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class LocalReplayIndexTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+
+  @Spy
+  private DataPrefs dataPrefs;
+
+  @InjectMocks
+  private LocalReplayIndex instance;
+
+  private Path replayFile;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    dataPrefs.setBaseDataDirectory(tempDirectory);
+    replayFile = Files.createDirectories(dataPrefs.getReplaysDirectory()).resolve("1-test.fafreplay");
+    Files.writeString(replayFile, "replay");
+  }
+
+  @Test
+  public void testEntryIsPersisted() throws Exception {
+    LocalReplayIndexEntry entry = createEntry(readAttributes());
+    instance.put(replayFile, entry);
+    instance.save();
+
+    LocalReplayIndex reloaded = new LocalReplayIndex(dataPrefs);
+    assertThat(reloaded.get(replayFile, readAttributes()), is(Optional.of(entry)));
+  }
+
+  @Test
+  public void testEntryIsInvalidatedWhenFileChanges() throws Exception {
+    instance.put(replayFile, createEntry(readAttributes()));
+
+    Files.writeString(replayFile, "changed replay");
+    Files.setLastModifiedTime(replayFile, FileTime.fromMillis(0));
+
+    assertThat(instance.get(replayFile, readAttributes()), is(Optional.empty()));
+  }
+
+  @Test
+  public void testRetainAllRemovesDeletedFiles() throws Exception {
+    instance.put(replayFile, createEntry(readAttributes()));
+    instance.retainAll(List.of());
+
+    assertThat(instance.get(replayFile, readAttributes()), is(Optional.empty()));
+  }
+
+  private BasicFileAttributes readAttributes() throws Exception {
+    return Files.readAttributes(replayFile, BasicFileAttributes.class);
+  }
+
+  private LocalReplayIndexEntry createEntry(BasicFileAttributes attributes) {
+    return new LocalReplayIndexEntry(attributes.size(), attributes.lastModifiedTime().toMillis(), 1, "title", "faf",
+                                     "scmp_009", 1.487796566E9, 1.487797337E9,
+                                     List.of(new LocalReplayIndexEntry.Army(2, 1, "Downlord", "DE", 1500, 100, 1)), false);
+  }
+}
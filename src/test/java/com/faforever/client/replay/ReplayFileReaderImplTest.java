@@ -2,6 +2,8 @@ package com.faforever.client.replay;
 
 
 import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.replay.ReplayDataParser;
+import com.faforever.commons.replay.ReplayMetadata;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
@@ -13,6 +15,7 @@ import java.nio.file.Path;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 
 public class ReplayFileReaderImplTest extends ServiceTest {
 
@@ -24,10 +27,40 @@ public class ReplayFileReaderImplTest extends ServiceTest {
 
   @Test
   public void readReplayData() throws Exception {
+    Path tempFile = copyTestReplay();
+    assertThat(instance.parseReplay(tempFile).getData().capacity(), is(197007));
+  }
+
+  @Test
+  public void readMetadata() throws Exception {
+    Path tempFile = copyTestReplay();
+    ReplayMetadata metadata = instance.readMetadata(tempFile);
+
+    assertThat(metadata.getUid(), is(5670811));
+    assertThat(metadata.getTitle(), is("fun"));
+    assertThat(metadata.getMapname(), is("scmp_009"));
+  }
+
+  @Test
+  public void readHeaderMatchesFullParse() throws Exception {
+    Path tempFile = copyTestReplay();
+    ReplayHeader header = instance.readHeader(tempFile);
+    ReplayDataParser parser = instance.parseReplay(tempFile);
+
+    assertThat(header.metadata().getUid(), is(parser.getMetadata().getUid()));
+    assertThat(header.replayPatchFieldId(), is(parser.getReplayPatchFieldId()));
+    assertThat(header.map(), is(parser.getMap()));
+    assertThat(header.armies(), hasSize(10));
+    assertThat(header.armies().getFirst().get("PlayerName"), is("sandwormsurfer"));
+    assertThat(header.armies().getFirst().get("Team"), is(2.0f));
+    assertThat(header.armies().getFirst().get("Human"), is(false));
+  }
+
+  private Path copyTestReplay() throws Exception {
     Path tempFile = temporaryFolder.resolve("replay.tmp");
     try (InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("/replay/test.fafreplay"))) {
       Files.copy(inputStream, tempFile);
     }
-    assertThat(instance.parseReplay(tempFile).getData().capacity(), is(197007));
+    return tempFile;
   }
 }
@@ -4,7 +4,9 @@ import com.faforever.client.config.ClientProperties;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.replay.QtCompress;
 import com.faforever.commons.replay.ReplayMetadata;
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -12,10 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -42,8 +48,6 @@ public class ReplayFileWriterImplTest extends ServiceTest {
   @Spy
   private ClientProperties clientProperties;
   @Mock
-  private ByteArrayOutputStream replayData;
-  @Mock
   private ClientProperties.Replay replay;
   @Spy
   private DataPrefs dataPrefs;
@@ -65,13 +69,31 @@ public class ReplayFileWriterImplTest extends ServiceTest {
 
   @Test
   public void writeReplayData() throws Exception {
-    when(replayData.toByteArray()).thenReturn(replayBytes);
+    ReplayRecorder replayRecorder = instance.startRecording();
+    replayRecorder.write(replayBytes);
     ReplayMetadata replayInfo = new ReplayMetadata();
     replayInfo.setUid(UID);
     replayInfo.setRecorder(RECORDER);
-    instance.writeReplayDataToFile(replayData, replayInfo);
-    assertTrue(Files.exists(replaysDirectory.resolve(REPLAY_FILE_NAME)));
-    Files.deleteIfExists(replaysDirectory.resolve(REPLAY_FILE_NAME));
+    instance.writeReplayDataToFile(replayRecorder, replayInfo);
+    replayRecorder.discard();
+
+    Path replayFile = replaysDirectory.resolve(REPLAY_FILE_NAME);
+    assertTrue(Files.exists(replayFile));
+
+    List<String> lines = Files.readAllLines(replayFile);
+    assertThat(lines, hasSize(2));
+    assertArrayEquals(replayBytes, QtCompress.qUncompress(BaseEncoding.base64().decode(lines.get(1))));
+    Files.deleteIfExists(replayFile);
+  }
+
+  @Test
+  public void writeLiveReplayDataStripsPrefix() throws Exception {
+    ReplayRecorder replayRecorder = instance.startRecording();
+    replayRecorder.write(new byte[]{'P', '/', '1', '2', '3', 0x00});
+    replayRecorder.write(replayBytes);
+
+    assertEquals(replayBytes.length, replayRecorder.size());
+    replayRecorder.discard();
   }
 }
 
@@ -58,6 +58,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
@@ -77,6 +78,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -151,6 +153,8 @@ public class ReplayServiceTest extends ServiceTest {
   @Mock
   private ReplayDataParser replayDataParser;
   @Mock
+  private LocalReplayIndex localReplayIndex;
+  @Mock
   private FileSizeReader fileSizeReader;
   @Mock
   private ObjectFactory<ReplayDownloadTask> replayDownloadTaskFactory;
@@ -244,8 +248,8 @@ public class ReplayServiceTest extends ServiceTest {
     Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
     Path file2 = Files.createFile(replayDirectory.resolve("replay2.fafreplay"));
 
-    doThrow(new FakeTestException()).when(replayFileReader).parseReplay(file1);
-    doThrow(new FakeTestException()).when(replayFileReader).parseReplay(file2);
+    doThrow(new FakeTestException()).when(replayFileReader).readHeader(file1);
+    doThrow(new FakeTestException()).when(replayFileReader).readHeader(file2);
 
     StepVerifier.create(instance.loadLocalReplayPage(2, 1)).expectNext(Tuples.of(List.of(), 0));
 
@@ -263,8 +267,8 @@ public class ReplayServiceTest extends ServiceTest {
     replayMetadata.setUid(123);
     replayMetadata.setTitle("title");
 
-    when(replayDataParser.getMetadata()).thenReturn(replayMetadata);
-    when(replayFileReader.parseReplay(file1)).thenReturn(replayDataParser);
+    when(replayFileReader.readHeader(file1)).thenReturn(
+        new ReplayHeader(replayMetadata, TEST_VERSION_STRING, TEST_MAP_PATH, List.of()));
     when(featuredModService.getFeaturedMod(any())).thenReturn(Mono.empty());
     when(mapService.findByMapFolderName(any())).thenReturn(Mono.just(Instancio.create(MapVersion.class)));
 
@@ -276,6 +280,78 @@ public class ReplayServiceTest extends ServiceTest {
     }).verifyComplete();
   }
 
+  @Test
+  public void testLoadLocalReplaysSkipsReplaysWithoutMetadata() throws Exception {
+    Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
+
+    when(replayFileReader.readHeader(file1)).thenReturn(
+        new ReplayHeader(null, TEST_VERSION_STRING, TEST_MAP_PATH, List.of()));
+
+    StepVerifier.create(instance.loadLocalReplayPage(1, 1))
+                .assertNext(result -> assertThat(result.getT1(), hasSize(0)))
+                .verifyComplete();
+
+    verify(localReplayIndex).put(eq(file1), argThat(LocalReplayIndexEntry::metadataMissing));
+    verify(notificationService, never()).addNotification(any(PersistentNotification.class));
+    assertThat(Files.exists(file1), is(true));
+  }
+
+  @Test
+  public void testLoadLocalReplaysSkipsIndexedReplaysWithoutMetadata() throws Exception {
+    Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
+
+    when(localReplayIndex.get(eq(file1), any())).thenReturn(Optional.of(LocalReplayIndexEntry.withoutMetadata(0, 0)));
+
+    StepVerifier.create(instance.loadLocalReplayPage(1, 1))
+                .assertNext(result -> assertThat(result.getT1(), hasSize(0)))
+                .verifyComplete();
+
+    verify(replayFileReader, never()).readHeader(any());
+    verify(localReplayIndex, never()).put(any(), any());
+  }
+
+  @Test
+  public void testLoadLocalReplaysFromIndex() throws Exception {
+    Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
+
+    LocalReplayIndexEntry indexEntry = new LocalReplayIndexEntry(0, 0, 123, "title", "faf", TEST_MAP_NAME, 0, 0,
+                                                                 List.of(new LocalReplayIndexEntry.Army(2, 1, "Test",
+                                                                                                        "DE", 1500,
+                                                                                                        100, 1)),
+                                                                 false);
+
+    when(localReplayIndex.get(eq(file1), any())).thenReturn(Optional.of(indexEntry));
+    when(featuredModService.getFeaturedMod(any())).thenReturn(Mono.empty());
+    when(mapService.findByMapFolderName(TEST_MAP_NAME)).thenReturn(Mono.just(Instancio.create(MapVersion.class)));
+
+    StepVerifier.create(instance.loadLocalReplayPage(1, 1)).assertNext(result -> {
+      List<Replay> localReplays = result.getT1();
+      assertThat(localReplays, hasSize(1));
+      assertThat(localReplays.getFirst().id(), is(123));
+      assertThat(localReplays.getFirst().title(), is("title"));
+      assertThat(localReplays.getFirst().teams(), is(Map.of("2", List.of("Test"))));
+    }).verifyComplete();
+
+    verify(replayFileReader, never()).readHeader(any());
+    verify(localReplayIndex, never()).put(any(), any());
+    verify(localReplayIndex).save();
+  }
+
+  @Test
+  public void testLoadLocalReplaysAddsToIndex() throws Exception {
+    Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
+
+    when(replayFileReader.readHeader(file1)).thenReturn(
+        new ReplayHeader(replayDataParser.getMetadata(), TEST_VERSION_STRING, TEST_MAP_PATH, List.of()));
+    when(featuredModService.getFeaturedMod(any())).thenReturn(Mono.empty());
+    when(mapService.findByMapFolderName(any())).thenReturn(Mono.just(Instancio.create(MapVersion.class)));
+
+    StepVerifier.create(instance.loadLocalReplayPage(1, 1)).expectNextCount(1).verifyComplete();
+
+    verify(localReplayIndex).put(eq(file1), argThat(entry -> entry.uid() == 123 && entry.size() == 0));
+    verify(localReplayIndex).save();
+  }
+
   @Test
   public void testRunFafReplayFile() throws Exception {
     Path replayFile = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
@@ -425,6 +501,20 @@ public class ReplayServiceTest extends ServiceTest {
     verifyNoMoreInteractions(gameService);
   }
 
+  @Test
+  public void testRunReplayFileAfterLoadingDetailsParsesOnce() throws Exception {
+    Path replayFile = Files.createFile(replayDirectory.resolve("replay.scfareplay"));
+
+    when(replayFileReader.parseReplay(replayFile)).thenReturn(replayDataParser);
+
+    instance.loadReplayDetails(replayFile);
+    instance.runReplayFile(replayFile);
+
+    verify(replayFileReader).parseReplay(replayFile);
+    verify(replayRunner).runWithReplay(any(), eq(null), eq("faf"), eq(3599), eq(emptyMap()), eq(emptySet()),
+                                       eq(TEST_MAP_NAME));
+  }
+
   @Test
   public void testEnrich() throws Exception {
     Path path = Path.of("foo.bar");
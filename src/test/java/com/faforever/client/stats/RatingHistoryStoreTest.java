@@ -0,0 +1,91 @@
+package com.faforever.client.stats;
+
+import com.faforever.client.domain.api.Leaderboard;
+import com.faforever.client.domain.api.LeaderboardRatingJournal;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class RatingHistoryStoreTest extends ServiceTest {
+
+  private static final int PLAYER_ID = 42;
+
+  @TempDir
+  public Path dataDirectory;
+
+  private Leaderboard leaderboard;
+  private RatingHistoryStore instance;
+
+  @BeforeEach
+  public void setUp() {
+    DataPrefs dataPrefs = new DataPrefs();
+    dataPrefs.setBaseDataDirectory(dataDirectory);
+    leaderboard = new Leaderboard(2, "description", "name", "ladder_1v1");
+    instance = new RatingHistoryStore(dataPrefs);
+  }
+
+  @Test
+  public void testLoadWithoutFile() {
+    assertThat(instance.load(PLAYER_ID, leaderboard), is(empty()));
+  }
+
+  @Test
+  public void testAppendedEntriesAreLoaded() {
+    instance.append(PLAYER_ID, leaderboard, List.of(journal(1), journal(2)));
+    instance.append(PLAYER_ID, leaderboard, List.of(journal(3)));
+
+    List<LeaderboardRatingJournal> entries = instance.load(PLAYER_ID, leaderboard);
+
+    assertThat(entries.stream().map(LeaderboardRatingJournal::id).toList(), contains(1, 2, 3));
+    LeaderboardRatingJournal entry = entries.getFirst();
+    assertThat(entry.meanBefore(), is(1000d));
+    assertThat(entry.deviationBefore(), nullValue());
+    assertThat(entry.meanAfter(), is(1010d));
+    assertThat(entry.deviationAfter(), is(90d));
+    assertThat(entry.scoreTime(), is(journal(1).scoreTime()));
+    assertThat(entry.leaderboard(), is(leaderboard));
+  }
+
+  @Test
+  public void testPartiallyWrittenEntryIsDiscarded() throws Exception {
+    instance.append(PLAYER_ID, leaderboard, List.of(journal(1)));
+    try (Stream<Path> files = Files.walk(dataDirectory)) {
+      Path file = files.filter(Files::isRegularFile).findFirst().orElseThrow();
+      Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+    }
+
+    assertThat(instance.load(PLAYER_ID, leaderboard).size(), is(1));
+    instance.append(PLAYER_ID, leaderboard, List.of(journal(2)));
+
+    assertThat(instance.load(PLAYER_ID, leaderboard).stream().map(LeaderboardRatingJournal::id).toList(),
+               contains(1, 2));
+  }
+
+  @Test
+  public void testLeaderboardsAreStoredSeparately() {
+    instance.append(PLAYER_ID, leaderboard, List.of(journal(1)));
+
+    assertThat(instance.load(PLAYER_ID, new Leaderboard(3, "description", "name", "tmm_2v2")), is(empty()));
+  }
+
+  private LeaderboardRatingJournal journal(int id) {
+    return new LeaderboardRatingJournal(id, 1010d, 90d, 1000d, null,
+                                        OffsetDateTime.of(2024, 1, id, 12, 0, 0, 0, ZoneOffset.UTC), leaderboard);
+  }
+}
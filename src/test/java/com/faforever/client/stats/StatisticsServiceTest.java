@@ -20,9 +20,13 @@ import org.mockito.Spy;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
+import static org.instancio.Select.field;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +34,8 @@ public class StatisticsServiceTest extends ServiceTest {
 
   @Mock
   private FafApiAccessor fafApiAccessor;
+  @Mock
+  private RatingHistoryStore ratingHistoryStore;
 
   @InjectMocks
   private StatisticsService instance;
@@ -49,15 +55,44 @@ public class StatisticsServiceTest extends ServiceTest {
     LeaderboardRatingJournal leaderboardRatingJournal = Instancio.create(LeaderboardRatingJournal.class);
     PlayerInfo player = PlayerInfoBuilder.create().defaultValues().username("junit").get();
     Flux<ElideEntity> resultFlux = Flux.just(leaderboardMapper.map(leaderboardRatingJournal));
-    when(fafApiAccessor.getMany(any())).thenReturn(resultFlux);
+    when(ratingHistoryStore.load(player.getId(), leaderboard)).thenReturn(List.of());
+    when(fafApiAccessor.getAll(any())).thenReturn(resultFlux);
     StepVerifier.create(instance.getRatingHistory(player, leaderboard)).expectNextCount(1)
                 .expectComplete()
                 .verify();
-    verify(fafApiAccessor).getMany(argThat(
+    verify(fafApiAccessor).getAll(argThat(
+        ElideMatchers.hasFilter(qBuilder().intNum("gamePlayerStats.player.id").eq(player.getId()).and()
+                                          .intNum("leaderboard.id")
+                                          .eq(leaderboard.id()).and()
+                                          .intNum("id")
+                                          .gt(0))
+    ));
+    verify(fafApiAccessor).getAll(argThat(ElideMatchers.hasPageSize(10000)));
+    verify(ratingHistoryStore).append(eq(player.getId()), eq(leaderboard), argThat(entries -> entries.size() == 1));
+  }
+
+  @Test
+  public void testOnlyNewerEntriesAreFetched() throws Exception {
+    LeaderboardRatingJournal storedJournal = Instancio.of(LeaderboardRatingJournal.class)
+                                                      .set(field(LeaderboardRatingJournal::id), 5)
+                                                      .create();
+    LeaderboardRatingJournal newJournal = Instancio.of(LeaderboardRatingJournal.class)
+                                                   .set(field(LeaderboardRatingJournal::id), 6)
+                                                   .create();
+    PlayerInfo player = PlayerInfoBuilder.create().defaultValues().username("junit").get();
+    when(ratingHistoryStore.load(player.getId(), leaderboard)).thenReturn(List.of(storedJournal));
+    when(fafApiAccessor.getAll(any())).thenReturn(Flux.just(leaderboardMapper.map(newJournal)));
+
+    StepVerifier.create(instance.getRatingHistory(player, leaderboard).map(LeaderboardRatingJournal::id))
+                .expectNext(5, 6)
+                .verifyComplete();
+
+    verify(fafApiAccessor).getAll(argThat(
         ElideMatchers.hasFilter(qBuilder().intNum("gamePlayerStats.player.id").eq(player.getId()).and()
                                           .intNum("leaderboard.id")
-                                          .eq(leaderboard.id()))
+                                          .eq(leaderboard.id()).and()
+                                          .intNum("id")
+                                          .gt(5))
     ));
-    verify(fafApiAccessor).getMany(argThat(ElideMatchers.hasPageSize(10000)));
   }
 }
@@ -0,0 +1,152 @@
+package com.faforever.client.task;
+
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.IoArbiter.Permit;
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class IoArbiterTest extends ServiceTest {
+
+  private static final IoResource DIRECTORY = IoResource.disk(Path.of("gamedata"));
+
+  private IoArbiter instance;
+
+  @BeforeEach
+  public void setUp() {
+    instance = new IoArbiter();
+  }
+
+  @Test
+  public void testPermitsUpToCapacityAreGrantedImmediately() throws Exception {
+    IoResource host = IoResource.download(URI.create("https://content.faforever.com/file"));
+
+    try (Permit _ = instance.acquire(host); Permit _ = instance.acquire(host); Permit _ = instance.acquire(host);
+         Permit _ = instance.acquire(host)) {
+      assertThat(instance.getQueueDepth(host), is(IoResource.DOWNLOADS_PER_HOST));
+    }
+    assertThat(instance.getQueueDepth(host), is(0));
+    assertThat(instance.getAcquisitionCount(IoResource.Kind.DOWNLOAD), is(4L));
+  }
+
+  @Test
+  public void testUnrelatedResourcesDoNotBlockEachOther() {
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      try (Permit _ = instance.acquire(DIRECTORY); Permit _ = instance.acquire(IoResource.disk(Path.of("cache")))) {
+        assertThat(instance.getQueueDepth(DIRECTORY), is(1));
+      }
+    });
+  }
+
+  @Test
+  public void testHigherPriorityIsGrantedFirst() throws Exception {
+    List<Priority> grantOrder = new CopyOnWriteArrayList<>();
+    Permit permit = instance.acquire(DIRECTORY, Priority.MEDIUM);
+
+    CompletableFuture<Void> low = acquireAsync(Priority.LOW, grantOrder);
+    awaitQueueDepth(2);
+    CompletableFuture<Void> high = acquireAsync(Priority.HIGH, grantOrder);
+    awaitQueueDepth(3);
+
+    permit.close();
+    CompletableFuture.allOf(low, high).get(5, TimeUnit.SECONDS);
+
+    assertThat(grantOrder, contains(Priority.HIGH, Priority.LOW));
+  }
+
+  @Test
+  public void testPriorityIsTakenFromScope() throws Exception {
+    List<Priority> grantOrder = new CopyOnWriteArrayList<>();
+    Permit permit = instance.acquire(DIRECTORY);
+
+    CompletableFuture<Void> low = CompletableFuture.runAsync(() -> IoArbiter.runWithPriority(Priority.LOW, () -> {
+      try (Permit _ = instance.acquire(DIRECTORY)) {
+        grantOrder.add(IoArbiter.currentPriority());
+      } catch (InterruptedIOException e) {
+        throw new RuntimeException(e);
+      }
+    }));
+    awaitQueueDepth(2);
+    CompletableFuture<Void> high = acquireAsync(Priority.HIGH, grantOrder);
+    awaitQueueDepth(3);
+
+    permit.close();
+    CompletableFuture.allOf(low, high).get(5, TimeUnit.SECONDS);
+
+    assertThat(grantOrder, contains(Priority.HIGH, Priority.LOW));
+    assertThat(IoArbiter.currentPriority(), is(Priority.MEDIUM));
+  }
+
+  @Test
+  public void testInterruptedWaiterDoesNotTakePermit() throws Exception {
+    Permit permit = instance.acquire(DIRECTORY);
+    CompletableFuture<Throwable> result = new CompletableFuture<>();
+    Thread waiter = Thread.ofPlatform().start(() -> {
+      try (Permit _ = instance.acquire(DIRECTORY)) {
+        result.complete(null);
+      } catch (Throwable e) {
+        result.complete(e);
+      }
+    });
+    awaitQueueDepth(2);
+
+    waiter.interrupt();
+
+    assertThat(result.get(5, TimeUnit.SECONDS), instanceOf(InterruptedIOException.class));
+    assertThat(instance.getQueueDepth(DIRECTORY), is(1));
+    permit.close();
+    assertThat(instance.getQueueDepth(DIRECTORY), is(0));
+  }
+
+  @Test
+  public void testClosingPermitTwiceReleasesItOnce() throws Exception {
+    Permit permit = instance.acquire(DIRECTORY);
+    Permit other = instance.acquire(IoResource.UPLOADS);
+    permit.close();
+    permit.close();
+    other.close();
+
+    try (Permit _ = instance.acquire(DIRECTORY)) {
+      CompletableFuture<Void> second = acquireAsync(Priority.HIGH, new CopyOnWriteArrayList<>());
+      awaitQueueDepth(2);
+      assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+    }
+  }
+
+  private CompletableFuture<Void> acquireAsync(Priority priority, List<Priority> grantOrder) {
+    return CompletableFuture.runAsync(() -> {
+      try (Permit _ = instance.acquire(DIRECTORY, priority)) {
+        grantOrder.add(priority);
+      } catch (InterruptedIOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private void awaitQueueDepth(int depth) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (instance.getQueueDepth(DIRECTORY) < depth) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("Queue depth " + depth + " not reached");
+      }
+      Thread.sleep(5);
+    }
+  }
+}
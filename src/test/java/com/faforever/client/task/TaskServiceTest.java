@@ -0,0 +1,144 @@
+package com.faforever.client.task;
+
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.test.PlatformTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class TaskServiceTest extends PlatformTest {
+
+  private ExecutorService taskExecutor;
+  private List<CountDownLatch> blockers;
+  private List<String> executionOrder;
+
+  private TaskService instance;
+
+  @BeforeEach
+  public void setUp() {
+    taskExecutor = Executors.newCachedThreadPool();
+    blockers = List.of(new CountDownLatch(1), new CountDownLatch(1));
+    executionOrder = new CopyOnWriteArrayList<>();
+
+    instance = new TaskService(taskExecutor, fxApplicationThreadExecutor);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    blockers.forEach(CountDownLatch::countDown);
+    instance.destroy();
+    taskExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testHigherPriorityRunsFirstWithinLane() throws Exception {
+    blockDiskLane();
+    TestTask low = instance.submitTask(new TestTask("low", Priority.LOW, TaskLane.DISK));
+    TestTask high = instance.submitTask(new TestTask("high", Priority.HIGH, TaskLane.DISK));
+    assertThat(instance.getQueueLength(TaskLane.DISK), is(2));
+
+    // Frees one of the two slots of the lane, so the queued tasks run one after the other
+    blockers.getFirst().countDown();
+    low.getFuture().get(5, TimeUnit.SECONDS);
+    high.getFuture().get(5, TimeUnit.SECONDS);
+
+    assertThat(executionOrder, contains("high", "low"));
+  }
+
+  @Test
+  public void testLanesDoNotBlockEachOther() throws Exception {
+    blockDiskLane();
+
+    TestTask network = instance.submitTask(new TestTask("network", Priority.LOW, TaskLane.NETWORK));
+
+    assertThat(network.getFuture().get(5, TimeUnit.SECONDS), is("network"));
+  }
+
+  @Test
+  public void testLaunchCriticalTaskCancelsQueuedPreemptibleTasks() throws Exception {
+    blockDiskLane();
+    TestTask preemptible = instance.submitTask(new TestTask("preemptible", Priority.LOW, TaskLane.DISK) {
+      @Override
+      public boolean isPreemptible() {
+        return true;
+      }
+    });
+    TestTask other = instance.submitTask(new TestTask("other", Priority.LOW, TaskLane.DISK));
+
+    TestTask launch = instance.submitTask(new TestTask("launch", Priority.HIGH, TaskLane.NETWORK) {
+      @Override
+      public boolean isLaunchCritical() {
+        return true;
+      }
+    });
+
+    assertThat(preemptible.getFuture().isCancelled(), is(true));
+    assertThat(instance.getQueueLength(TaskLane.DISK), is(1));
+    assertThat(launch.getFuture().get(5, TimeUnit.SECONDS), is("launch"));
+
+    blockers.forEach(CountDownLatch::countDown);
+    assertThat(other.getFuture().get(5, TimeUnit.SECONDS), is("other"));
+  }
+
+  @Test
+  public void testStatisticsAreRecordedPerTaskType() throws Exception {
+    instance.submitTask(new TestTask("first", Priority.MEDIUM, TaskLane.CPU)).getFuture().get(5, TimeUnit.SECONDS);
+    instance.submitTask(new TestTask("second", Priority.MEDIUM, TaskLane.CPU)).getFuture().get(5, TimeUnit.SECONDS);
+
+    // Statistics are recorded once the task returns, which may be after its future completed
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (instance.getStatistics().isEmpty() || instance.getStatistics().getFirst().count() < 2) {
+      assertThat(System.nanoTime() < deadline, is(true));
+      Thread.sleep(5);
+    }
+    List<TaskStatistics> statistics = instance.getStatistics();
+
+    assertThat(statistics, hasSize(1));
+    assertThat(statistics.getFirst().taskType(), is(TestTask.class.getName()));
+    assertThat(statistics.getFirst().lane(), is(TaskLane.CPU));
+    assertThat(statistics.getFirst().count(), is(2L));
+  }
+
+  private void blockDiskLane() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(2);
+    for (CountDownLatch blocker : blockers) {
+      instance.submitTask(new CompletableTask<Void>(Priority.HIGH, TaskLane.DISK) {
+        @Override
+        protected Void call() throws Exception {
+          started.countDown();
+          blocker.await();
+          return null;
+        }
+      });
+    }
+    assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  private class TestTask extends CompletableTask<String> {
+
+    private final String name;
+
+    private TestTask(String name, Priority priority, TaskLane lane) {
+      super(priority, lane);
+      this.name = name;
+    }
+
+    @Override
+    protected String call() throws Exception {
+      executionOrder.add(name);
+      return name;
+    }
+  }
+}
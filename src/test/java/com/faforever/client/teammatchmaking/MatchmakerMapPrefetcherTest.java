@@ -0,0 +1,124 @@
+package com.faforever.client.teammatchmaking;
+
+import com.faforever.client.builders.PlayerInfoBuilder;
+import com.faforever.client.domain.api.Leaderboard;
+import com.faforever.client.domain.api.MapVersion;
+import com.faforever.client.domain.api.MatchmakerQueueMapPool;
+import com.faforever.client.domain.server.MatchmakerQueueInfo;
+import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.map.MapService;
+import com.faforever.client.map.generator.MapGeneratorService;
+import com.faforever.client.player.LeaderboardRating;
+import com.faforever.client.player.PlayerService;
+import com.faforever.client.test.ServiceTest;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MatchmakerMapPrefetcherTest extends ServiceTest {
+
+  @Mock
+  private MapService mapService;
+  @Mock
+  private MapGeneratorService mapGeneratorService;
+  @Mock
+  private PlayerService playerService;
+  @Mock
+  private FxApplicationThreadExecutor fxApplicationThreadExecutor;
+
+  @InjectMocks
+  private MatchmakerMapPrefetcher instance;
+
+  private MatchmakerQueueInfo queue;
+  private MapVersion lowMap;
+  private MapVersion playerMap;
+  private MapVersion highMap;
+
+  @BeforeEach
+  public void setUp() {
+    Leaderboard leaderboard = Instancio.of(Leaderboard.class)
+                                       .set(field(Leaderboard::technicalName), "ladder_1v1")
+                                       .create();
+    queue = new MatchmakerQueueInfo();
+    queue.setId(1);
+    queue.setTechnicalName("ladder1v1");
+    queue.setLeaderboard(leaderboard);
+
+    // A rating of 1500
+    when(playerService.getCurrentPlayer()).thenReturn(PlayerInfoBuilder.create()
+                                                                        .defaultValues()
+                                                                        .leaderboardRatings(Map.of("ladder_1v1",
+                                                                                                   new LeaderboardRating(
+                                                                                                       0, 1500, 10)))
+                                                                        .get());
+
+    lowMap = createMap("low.v0001");
+    playerMap = createMap("player.v0001");
+    highMap = createMap("high.v0001");
+    when(mapService.getMatchmakerBrackets(queue)).thenReturn(Mono.just(Map.of(
+        new MatchmakerQueueMapPool(1, null, 1000d, queue), List.of(lowMap),
+        new MatchmakerQueueMapPool(2, 1000d, 2000d, queue), List.of(playerMap),
+        new MatchmakerQueueMapPool(3, 2000d, null, queue), List.of(highMap))));
+
+    lenient().when(mapService.prefetchMap(any())).thenReturn(Mono.empty());
+    lenient().doAnswer(invocation -> {
+      Runnable runnable = invocation.getArgument(0);
+      runnable.run();
+      return null;
+    }).when(fxApplicationThreadExecutor).execute(any());
+  }
+
+  @Test
+  public void testPrefetchBracketOnlyDownloadsPlayerBracket() {
+    when(mapService.isInstalled(playerMap)).thenReturn(false, true);
+
+    StepVerifier.create(instance.prefetchBracket(queue)).verifyComplete();
+
+    verify(mapService).prefetchMap(playerMap);
+    verify(mapService, never()).prefetchMap(lowMap);
+    verify(mapService, never()).prefetchMap(highMap);
+    assertTrue(queue.isMapPoolReady());
+  }
+
+  @Test
+  public void testPrefetchPoolStartsWithPlayerBracket() {
+    StepVerifier.create(instance.prefetchPool(queue)).verifyComplete();
+
+    InOrder inOrder = inOrder(mapService);
+    inOrder.verify(mapService).prefetchMap(playerMap);
+    inOrder.verify(mapService, times(2)).prefetchMap(any());
+  }
+
+  @Test
+  public void testFailedDownloadLeavesPoolNotReady() {
+    when(mapService.prefetchMap(playerMap)).thenReturn(Mono.error(new IllegalStateException()));
+
+    StepVerifier.create(instance.prefetchBracket(queue)).verifyComplete();
+
+    assertFalse(queue.isMapPoolReady());
+  }
+
+  private static MapVersion createMap(String folderName) {
+    return Instancio.of(MapVersion.class).set(field(MapVersion::folderName), folderName).create();
+  }
+}
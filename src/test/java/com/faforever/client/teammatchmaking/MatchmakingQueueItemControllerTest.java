@@ -105,6 +105,14 @@ public class MatchmakingQueueItemControllerTest extends PlatformTest {
     assertThat(instance.getQueue().isSelected(), is(false));
   }
 
+  @Test
+  public void testMapPoolReadyLabel() {
+    assertThat(instance.mapPoolReadyLabel.isVisible(), is(false));
+
+    queue.setMapPoolReady(true);
+    assertThat(instance.mapPoolReadyLabel.isVisible(), is(true));
+  }
+
   @Test
   public void testMatchStatusListeners() {
     assertThat(instance.matchFoundLabel.isVisible(), is(false));
@@ -15,7 +15,6 @@ import com.faforever.client.game.GameRunner;
 import com.faforever.client.game.GameService;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.main.event.OpenTeamMatchmakingEvent;
-import com.faforever.client.map.MapService;
 import com.faforever.client.mapstruct.MapperSetup;
 import com.faforever.client.mapstruct.MatchmakerMapper;
 import com.faforever.client.navigation.NavigationHandler;
@@ -84,6 +83,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -93,7 +93,7 @@ import static org.mockito.Mockito.when;
 public class TeamMatchmakingServiceTest extends ServiceTest {
 
   @Mock
-  private MapService mapService;
+  private MatchmakerMapPrefetcher matchmakerMapPrefetcher;
   @Mock
   private FeaturedModService featuredModService;
   @Mock
@@ -171,6 +171,8 @@ public class TeamMatchmakingServiceTest extends ServiceTest {
 
     lenient().when(preferencesService.hasValidGamePath()).thenReturn(true);
     lenient().when(playerService.getCurrentPlayer()).thenReturn(player);
+    lenient().when(matchmakerMapPrefetcher.prefetchBracket(any())).thenReturn(Mono.empty());
+    lenient().when(matchmakerMapPrefetcher.prefetchPool(any())).thenReturn(Mono.empty());
     lenient().doAnswer(invocation -> {
       Runnable runnable = invocation.getArgument(0);
       runnable.run();
@@ -310,6 +312,18 @@ public class TeamMatchmakingServiceTest extends ServiceTest {
     assertThat(instance.getQueues().getFirst().isSelected(), is(true));
   }
 
+  @Test
+  public void testMapsOfKnownQueuesArePrefetched() {
+    MatchmakerInfo matchmakerInfo = createMatchmakerInfoMessage();
+    matchmakerInfoTestPublisher.next(matchmakerInfo);
+
+    verify(matchmakerMapPrefetcher, times(2)).prefetchBracket(any());
+
+    matchmakerInfoTestPublisher.next(matchmakerInfo);
+
+    verify(matchmakerMapPrefetcher, times(2)).prefetchBracket(any());
+  }
+
   @Test
   public void testOnMatchFoundMessage() {
     matchmakerInfoTestPublisher.next(createMatchmakerInfoMessage());
@@ -470,12 +484,12 @@ public class TeamMatchmakingServiceTest extends ServiceTest {
   public void testJoinLeaveQueues() {
     matchmakerInfoTestPublisher.next(createMatchmakerInfoMessage());
 
-    when(mapService.downloadAllMatchmakerMaps(any())).thenReturn(Mono.empty());
     when(featuredModService.updateFeaturedModToLatest(anyString(), anyBoolean())).thenReturn(
         CompletableFuture.completedFuture(null));
 
     Boolean success = instance.joinQueues().join();
 
+    verify(matchmakerMapPrefetcher, times(2)).prefetchPool(any());
     verify(fafServerAccessor, times(2)).gameMatchmaking(any(), eq(MatchmakerState.START));
     assertThat(success, is(true));
 
@@ -548,14 +562,13 @@ public class TeamMatchmakingServiceTest extends ServiceTest {
   public void testJoinQueuesPartyJoinQueueFails() {
     matchmakerInfoTestPublisher.next(createMatchmakerInfoMessage());
 
-    when(mapService.downloadAllMatchmakerMaps(any())).thenReturn(Mono.error(new Exception()));
+    doThrow(new IllegalStateException()).when(fafServerAccessor).gameMatchmaking(any(), eq(MatchmakerState.START));
     when(featuredModService.updateFeaturedModToLatest(anyString(), anyBoolean())).thenReturn(
         CompletableFuture.completedFuture(null));
 
     Boolean success = instance.joinQueues().join();
 
     verify(notificationService, times(2)).addImmediateErrorNotification(any(), anyString(), anyString());
-    verify(fafServerAccessor, never()).gameMatchmaking(any(), eq(MatchmakerState.START));
     assertThat(success, is(false));
   }
 
@@ -589,8 +602,6 @@ public class TeamMatchmakingServiceTest extends ServiceTest {
     matchmakerInfoTestPublisher.next(createMatchmakerInfoMessage());
     instance.setSearching(true);
 
-    when(mapService.downloadAllMatchmakerMaps(any())).thenReturn(Mono.empty());
-
     SearchInfo message1 = new SearchInfo("queue1", MatchmakerState.START);
     SearchInfo message2 = new SearchInfo("queue2", MatchmakerState.START);
     searchInfoTestPublisher.next(message1, message2);
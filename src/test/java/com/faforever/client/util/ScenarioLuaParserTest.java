@@ -0,0 +1,77 @@
+package com.faforever.client.util;
+
+import com.faforever.client.util.ScenarioLuaParser.ScenarioInfo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+public class ScenarioLuaParserTest {
+
+  @Test
+  public void testParseScenarioFile() throws Exception {
+    ScenarioInfo scenarioInfo = ScenarioLuaParser.parse(
+        Path.of(getClass().getResource("/maps/SCMP_001/SCMP_001_scenario.lua").toURI())).orElseThrow();
+
+    assertThat(scenarioInfo.name(), is("Burial Mounds"));
+    assertThat(scenarioInfo.type(), is("skirmish"));
+    assertThat(scenarioInfo.description(), startsWith("<LOC SCMP_001_Description>Initial scans"));
+    assertThat(scenarioInfo.width(), is(1024));
+    assertThat(scenarioInfo.height(), is(1024));
+    assertThat(scenarioInfo.mapVersion(), is("1"));
+    assertThat(scenarioInfo.maxPlayers(), is(8));
+  }
+
+  @Test
+  public void testParseVersionedScenarioFile() throws Exception {
+    ScenarioInfo scenarioInfo = ScenarioLuaParser.parse(
+        Path.of(getClass().getResource("/maps/palaneum.v0002/Palaneum_scenario.lua").toURI())).orElseThrow();
+
+    assertThat(scenarioInfo.name(), is("Palaneum"));
+    assertThat(scenarioInfo.width(), is(256));
+    assertThat(scenarioInfo.mapVersion(), is("2"));
+    assertThat(scenarioInfo.maxPlayers(), is(2));
+  }
+
+  @Test
+  public void testParseSyntaxVariants() {
+    ScenarioInfo scenarioInfo = ScenarioLuaParser.parse("""
+        --[[ block
+        comment ]]
+        ScenarioInfo = {
+          name = "Escaped \\"name\\"";
+          type = [[skirmish]],
+          size = {512.0, 0x100},
+          Configurations = {
+            ["standard"] = { teams = { { armies = { 'ARMY_1', "ARMY_2", STRING('ARMY_3') } } } },
+          },
+        }
+        """).orElseThrow();
+
+    assertThat(scenarioInfo.name(), is("Escaped \"name\""));
+    assertThat(scenarioInfo.type(), is("skirmish"));
+    assertThat(scenarioInfo.description(), is("nil"));
+    assertThat(scenarioInfo.width(), is(512));
+    assertThat(scenarioInfo.height(), is(256));
+    assertThat(scenarioInfo.mapVersion(), nullValue());
+    assertThat(scenarioInfo.maxPlayers(), is(3));
+  }
+
+  @Test
+  public void testUnsupportedSyntax() {
+    assertThat(ScenarioLuaParser.parse("{\"This is invalid\", \"}"), is(Optional.empty()));
+    assertThat(ScenarioLuaParser.parse("local name = 'a' ScenarioInfo = { name = name }"), is(Optional.empty()));
+    assertThat(ScenarioLuaParser.parse("ScenarioInfo = { name = 'a' .. 'b' }"), is(Optional.empty()));
+    assertThat(ScenarioLuaParser.parse("ScenarioInfo = { size = {0x10000000000000000, 512} }"), is(Optional.empty()));
+  }
+
+  @Test
+  public void testMissingArmies() {
+    assertThat(ScenarioLuaParser.parse("ScenarioInfo = { name = 'a' }"), is(Optional.empty()));
+  }
+}